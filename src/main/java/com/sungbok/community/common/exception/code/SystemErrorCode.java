@@ -18,7 +18,8 @@ public enum SystemErrorCode implements ErrorCode {
     INTERNAL_ERROR("SYS_001", HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류가 발생했습니다"),
     FILE_UPLOAD_FAILED("SYS_002", HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다"),
     FILE_DELETE_FAILED("SYS_003", HttpStatus.INTERNAL_SERVER_ERROR, "파일 삭제에 실패했습니다"),
-    FILE_DOWNLOAD_FAILED("SYS_004", HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드에 실패했습니다");
+    FILE_DOWNLOAD_FAILED("SYS_004", HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드에 실패했습니다"),
+    VIDEO_PROBE_BUSY("SYS_005", HttpStatus.SERVICE_UNAVAILABLE, "동영상 검증 대기열이 가득 찼습니다");
 
     private final String code;
     private final HttpStatus httpStatus;
@@ -19,7 +19,8 @@ public enum ValidationErrorCode implements ErrorCode {
     INVALID_FORMAT("VAL_002", HttpStatus.BAD_REQUEST, "입력 형식이 올바르지 않습니다"),
     FILE_TOO_LARGE("VAL_003", HttpStatus.BAD_REQUEST, "파일 크기가 제한을 초과했습니다"),
     INVALID_FILE_TYPE("VAL_004", HttpStatus.BAD_REQUEST, "허용되지 않는 파일 형식입니다"),
-    INVALID_FILE_NAME("VAL_005", HttpStatus.BAD_REQUEST, "잘못된 파일 이름입니다");
+    INVALID_FILE_NAME("VAL_005", HttpStatus.BAD_REQUEST, "잘못된 파일 이름입니다"),
+    STORAGE_QUOTA_EXCEEDED("VAL_006", HttpStatus.BAD_REQUEST, "저장 공간 한도를 초과했습니다");
 
     private final String code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,77 @@
+package com.sungbok.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * FFmpeg 설정 Properties
+ * ConfigurationProperties 전용 클래스
+ *
+ * @since 2.1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "ffmpeg")
+@Getter
+@Setter
+public class FFmpegProperties {
+
+    private String path = "/usr/bin/ffmpeg";
+
+    private String probePath = "/usr/bin/ffprobe";
+
+    private Probe probe = new Probe();
+
+    /**
+     * ffprobe 프로세스 실행 제한
+     */
+    @Getter
+    @Setter
+    public static class Probe {
+
+        /**
+         * 동시에 실행할 최대 ffprobe 프로세스 수
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * 실행 대기 최대 수 (초과 시 즉시 거절)
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * 실행 대기 최대 시간 (초)
+         */
+        private long queueTimeoutSeconds = 300;
+
+        /**
+         * 프로세스 1개 최대 실행 시간 (초, 초과 시 강제 종료)
+         */
+        private long timeoutSeconds = 30;
+
+        private Limits limits = new Limits();
+    }
+
+    /**
+     * prlimit으로 프로세스를 감싸 CPU 시간 / 메모리를 제한 (util-linux 필요)
+     */
+    @Getter
+    @Setter
+    public static class Limits {
+
+        private boolean enabled = false;
+
+        private String prlimitPath = "/usr/bin/prlimit";
+
+        /**
+         * 최대 CPU 시간 (초, RLIMIT_CPU)
+         */
+        private long cpuSeconds = 20;
+
+        /**
+         * 최대 가상 메모리 (바이트, RLIMIT_AS)
+         */
+        private long memoryBytes = 1024L * 1024 * 1024;
+    }
+}
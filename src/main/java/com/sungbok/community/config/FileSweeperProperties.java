@@ -0,0 +1,57 @@
+package com.sungbok.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 정리(Sweeper) 설정 Properties
+ * ConfigurationProperties 전용 클래스
+ *
+ * @since 2.1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "file-sweeper")
+@Getter
+@Setter
+public class FileSweeperProperties {
+
+    /**
+     * 정리 작업 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 생성 후 이 시간(시간)이 지나도 업로드 완료되지 않은 PENDING 파일 정리
+     * Pre-signed Upload URL 만료 시간보다 충분히 길어야 함
+     */
+    private long pendingExpireHours = 24;
+
+    /**
+     * 삭제(소프트 삭제, 멀티파트 취소) 후 이 시간(분)이 지난 파일 정리
+     * 진행 중인 검증 작업이 끝날 여유
+     */
+    private long deletedGraceMinutes = 10;
+
+    /**
+     * 거부(REJECTED) 후 이 시간(분)이 지난 파일 정리
+     * 클라이언트가 상태 조회로 거부 사유를 확인할 여유
+     */
+    private long rejectedGraceMinutes = 60;
+
+    /**
+     * 1회 선점할 최대 행 수 (DeleteObjects는 요청당 1000개 키씩 나눠 호출)
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 1회 실행에서 처리할 최대 배치 수 (남은 파일은 다음 실행에서)
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 초당 최대 삭제 객체 수 (운영 트래픽과 Object Storage 요청 한도 보호)
+     */
+    private int maxObjectsPerSecond = 500;
+}
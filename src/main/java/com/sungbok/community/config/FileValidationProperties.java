@@ -0,0 +1,60 @@
+package com.sungbok.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 검증 작업 큐 설정 Properties
+ * ConfigurationProperties 전용 클래스
+ *
+ * @since 2.1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "file-validation")
+@Getter
+@Setter
+public class FileValidationProperties {
+
+    /**
+     * 노드당 동시에 처리할 최대 검증 작업 수
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * 1회 선점할 최대 작업 수
+     */
+    private int batchSize = 16;
+
+    /**
+     * 새 작업 폴링 간격 (ms, 같은 노드의 업로드 완료는 커밋 직후 바로 깨움)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 선점 후 완료까지 허용 시간 (초, 초과 시 다른 Worker가 재선점)
+     * ffprobe 대기열 대기 + 실행 시간보다 길어야 함
+     */
+    private long leaseSeconds = 900;
+
+    /**
+     * 최대 시도 횟수 (초과 시 REJECTED)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 재시도 지연 기본값 (초, 시도마다 두 배)
+     */
+    private long backoffBaseSeconds = 10;
+
+    /**
+     * 재시도 지연 최댓값 (초)
+     */
+    private long backoffMaxSeconds = 600;
+
+    /**
+     * 동영상 검증 대기열이 가득 찼을 때 재시도 지연 (초, 시도 횟수에 포함하지 않음)
+     */
+    private long busyRetrySeconds = 15;
+}
@@ -0,0 +1,65 @@
+package com.sungbok.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이미지 파생본(썸네일/WebP) 생성 설정 Properties
+ * ConfigurationProperties 전용 클래스
+ *
+ * @since 2.1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "image-derivative")
+@Getter
+@Setter
+public class ImageDerivativeProperties {
+
+    /**
+     * 파생본 생성 여부 (false면 검증만 하고 원본만 제공)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 파생본 이름별 긴 변 최대 픽셀 (원본보다 크게 늘리지 않음)
+     */
+    private Map<String, Integer> sizes = new LinkedHashMap<>(Map.of(
+            "thumb", 320,
+            "medium", 1080
+    ));
+
+    /**
+     * 인코딩 포맷 (webp, jpeg) - WebP ImageWriter가 없으면 jpeg로 대체
+     */
+    private String format = "webp";
+
+    /**
+     * 손실 압축 품질 (0.0~1.0)
+     */
+    private float quality = 0.8f;
+
+    /**
+     * 노드당 동시에 디코딩할 최대 이미지 수 (디코딩 버퍼가 힙을 크게 차지)
+     */
+    private int maxConcurrency = 2;
+
+    /**
+     * 파생본을 만들 최대 원본 픽셀 수 (초과 시 생략, 압축 폭탄 방지)
+     */
+    private long maxPixels = 50_000_000L;
+
+    /**
+     * BlurHash 가로 성분 수 (1~9)
+     */
+    private int blurhashComponentsX = 4;
+
+    /**
+     * BlurHash 세로 성분 수 (1~9)
+     */
+    private int blurhashComponentsY = 3;
+}
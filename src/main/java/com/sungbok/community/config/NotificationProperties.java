@@ -0,0 +1,370 @@
+package com.sungbok.community.config;
+
+import com.sungbok.community.enums.NotificationLane;
+import com.sungbok.community.enums.NotificationQueueCodec;
+import com.sungbok.community.enums.NotificationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 파이프라인 설정 Properties
+ * ConfigurationProperties 전용 클래스
+ *
+ * @since 2.1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "notification")
+@Validated
+@Getter
+@Setter
+public class NotificationProperties {
+
+    private Expo expo = new Expo();
+
+    @Valid
+    private Queue queue = new Queue();
+
+    private Outbox outbox = new Outbox();
+
+    private Partition partition = new Partition();
+
+    private Receipt receipt = new Receipt();
+
+    private PushStatus pushStatus = new PushStatus();
+
+    private Announcement announcement = new Announcement();
+
+    private Stream stream = new Stream();
+
+    private Inbox inbox = new Inbox();
+
+    private Coalesce coalesce = new Coalesce();
+
+    private Scheduler scheduler = new Scheduler();
+
+    /**
+     * Expo 푸시 영수증(Receipt) 조회 설정
+     */
+    @Getter
+    @Setter
+    public static class Receipt {
+
+        /**
+         * 영수증 폴링 활성화 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 티켓 발급 후 영수증 조회까지 대기 시간 (초)
+         * Expo 권장: 15분
+         */
+        private long checkDelaySeconds = 900;
+
+        /**
+         * 영수증 미준비 시 재조회 간격 (초)
+         */
+        private long retryDelaySeconds = 300;
+
+        /**
+         * 영수증 보관 최대 시간 (초)
+         * Expo는 24시간 이후 영수증을 삭제함
+         */
+        private long maxAgeSeconds = 86400;
+
+        /**
+         * getReceipts 1회 호출당 최대 ID 개수 (Expo 제한: 1000)
+         */
+        private int batchSize = 1000;
+
+        /**
+         * 1회 폴링에서 처리할 최대 배치 수
+         */
+        private int maxBatchesPerPoll = 10;
+
+        /**
+         * 선점한 영수증을 처리 완료 없이 보유할 수 있는 시간 (초, 초과 시 다시 선점)
+         */
+        private long leaseSeconds = 300;
+    }
+
+    /**
+     * 푸시 상태 Write-behind 버퍼 설정
+     */
+    @Getter
+    @Setter
+    public static class PushStatus {
+
+        /**
+         * flush 주기 (밀리초)
+         */
+        private long flushIntervalMs = 200;
+
+        /**
+         * 버퍼 최대 크기 (초과 시 호출 스레드에서 즉시 flush)
+         */
+        private int maxPending = 2000;
+
+        /**
+         * DB 장애로 저장하지 못한 변경의 최대 보관 수 (초과분은 버림)
+         */
+        private int maxRetained = 50_000;
+    }
+
+    /**
+     * 조직 전체 공지 fan-out 설정
+     */
+    @Getter
+    @Setter
+    public static class Announcement {
+
+        /**
+         * INSERT ... SELECT 1회당 멤버 수
+         */
+        private int chunkSize = 5000;
+
+        /**
+         * 푸시 대상 서버 측 커서 fetch 크기
+         */
+        private int fetchSize = 1000;
+
+        /**
+         * Expo 동시 요청 수 (요청당 토큰 100개)
+         */
+        private int sendConcurrency = 6;
+
+        /**
+         * Expo 요청 최대 시도 횟수 (429, 5xx, 네트워크 오류)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * heartbeat가 이 시간(초) 이상 끊기면 다른 노드가 작업 재개
+         */
+        private long staleAfterSeconds = 120;
+
+        /**
+         * heartbeat 갱신 주기 (초, staleAfterSeconds보다 충분히 짧게)
+         */
+        private long heartbeatIntervalSeconds = 30;
+
+        /**
+         * 작업 최대 실행 횟수 (실패한 작업은 이 횟수 미만일 때만 자동 재개)
+         */
+        private int maxRuns = 3;
+    }
+
+    /**
+     * 실시간 알림 스트림(SSE) 설정
+     */
+    @Getter
+    @Setter
+    public static class Stream {
+
+        /**
+         * SSE 연결 타임아웃 (밀리초, 만료 시 클라이언트가 Last-Event-ID로 재접속)
+         */
+        private long timeoutMs = 1800000;
+
+        /**
+         * heartbeat 코멘트 전송 주기 (밀리초)
+         */
+        private long heartbeatIntervalMs = 15000;
+
+        /**
+         * 재접속 시 재전송할 최대 알림 수
+         */
+        private int replayLimit = 100;
+
+        /**
+         * 사용자당 최대 동시 연결 수 (노드 기준)
+         */
+        private int maxConnectionsPerUser = 5;
+    }
+
+    /**
+     * 최근 알림 Inbox 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Inbox {
+
+        /**
+         * 사용자당 보관할 최대 알림 수 (메모리 상한, 첫 페이지 크기 상한)
+         */
+        private int maxSize = 100;
+
+        /**
+         * Inbox TTL (초, 갱신 누락이 있어도 만료 후 DB에서 다시 로드)
+         */
+        private long ttlSeconds = 86400;
+    }
+
+    /**
+     * 알림 병합(Coalescing) 창 설정
+     */
+    @Getter
+    @Setter
+    public static class Coalesce {
+
+        /**
+         * 병합 활성화 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 병합 창 길이 (초, 창의 첫 이벤트부터)
+         */
+        private long windowSeconds = 30;
+
+        /**
+         * 병합 대상 알림 타입
+         */
+        private List<NotificationType> types = List.of(NotificationType.POST_LIKE, NotificationType.POST_COMMENT);
+
+        /**
+         * 종료된 창 1회 처리 최대 개수
+         */
+        private int maxFlushBatch = 200;
+
+        /**
+         * 선점한 창을 ack 없이 보유할 수 있는 시간 (초, 초과 시 다른 노드가 재선점)
+         */
+        private long leaseSeconds = 60;
+    }
+
+    /**
+     * 예약/지연 알림 스케줄러 설정
+     */
+    @Getter
+    @Setter
+    public static class Scheduler {
+
+        /**
+         * 1회 선점할 최대 예약 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 선점 후 ack까지 허용 시간 (초, 초과 시 다른 노드가 재선점)
+         */
+        private long leaseSeconds = 60;
+    }
+
+    /**
+     * 알림 큐 Lane / Worker 동시성 설정
+     */
+    @Getter
+    @Setter
+    public static class Queue {
+
+        /**
+         * Lane별 가중치 (Weighted Round-Robin, 양수만 허용)
+         * 0이면 해당 Lane이 다른 Lane이 빌 때만 처리되어 밀린 상황에서 굶으므로 시작 시 거부
+         */
+        private Map<NotificationLane, @NotNull @Positive Integer> weights = new EnumMap<>(Map.of(
+                NotificationLane.HIGH, 6,
+                NotificationLane.NORMAL, 3,
+                NotificationLane.BULK, 1));
+
+        /**
+         * 동시에 처리 중인 최대 알림 수
+         * 초과 시 Listener가 대기하므로 다음에 꺼낼 Lane을 가중치로 고를 수 있음
+         */
+        private int maxInFlight = 64;
+
+        /**
+         * Lane별 페이로드 형식 (지정하지 않은 Lane은 JSON)
+         * 읽기는 두 형식 모두 지원하므로 전체 노드 배포 후 BINARY로 전환
+         */
+        private Map<NotificationLane, NotificationQueueCodec> codecs = new EnumMap<>(NotificationLane.class);
+
+        /**
+         * BINARY 형식에서 data JSON을 deflate 압축하는 최소 크기 (바이트)
+         */
+        private int compressThresholdBytes = 256;
+    }
+
+    /**
+     * 알림 Outbox Relay 설정
+     */
+    @Getter
+    @Setter
+    public static class Outbox {
+
+        /**
+         * 이 노드에서 Relay 스레드 실행 여부 (여러 노드가 실행해도 SKIP LOCKED로 분담)
+         */
+        private boolean relayEnabled = true;
+
+        /**
+         * Relay 1회(한 트랜잭션)에 큐로 옮기는 최대 행 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * NOTIFY를 놓쳤을 때를 대비한 폴링 간격 (ms)
+         */
+        private long pollIntervalMs = 1000;
+    }
+
+    /**
+     * notifications 월 파티션 / 보존 기간 설정
+     */
+    @Getter
+    @Setter
+    public static class Partition {
+
+        /**
+         * 현재 월 이후 미리 만들어 둘 파티션 수 (개월)
+         */
+        private int premakeMonths = 3;
+
+        /**
+         * 조직별 설정(organizations.notification_retention_months)이 없을 때의 보존 기간 (개월)
+         */
+        private int defaultRetentionMonths = 12;
+
+        /**
+         * 만료 파티션 처리 방식 (true: DETACH 후 DROP, false: DETACH만 하여 아카이브용으로 보존)
+         */
+        private boolean dropExpired = true;
+
+        /**
+         * 소프트 삭제된 알림을 물리 삭제하기까지의 기간 (일)
+         */
+        private int softDeletedRetentionDays = 30;
+
+        /**
+         * 행 단위 삭제 1회(한 문장)의 최대 행 수
+         */
+        private int purgeBatchSize = 5000;
+    }
+
+    /**
+     * Expo Push API 엔드포인트 (부하 테스트에서는 로컬 가짜 서버로 교체)
+     */
+    @Getter
+    @Setter
+    public static class Expo {
+
+        /**
+         * 푸시 전송 API
+         */
+        private String pushUrl = "https://exp.host/--/api/v2/push/send";
+
+        /**
+         * 푸시 영수증 조회 API
+         */
+        private String receiptsUrl = "https://exp.host/--/api/v2/push/getReceipts";
+    }
+}
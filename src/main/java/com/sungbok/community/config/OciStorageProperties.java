@@ -28,6 +28,8 @@ public class OciStorageProperties {
     private Integer presignedUrlExpiration;
     private MaxFileSize maxFileSize;
     private List<String> allowedMimeTypes;
+    private Multipart multipart = new Multipart();
+    private DownloadUrl downloadUrl = new DownloadUrl();
 
     @Getter
     @Setter
@@ -50,4 +52,56 @@ public class OciStorageProperties {
         private Long defaultSize;
         private Long video;
     }
+
+    /**
+     * 멀티파트 업로드 설정 (대용량 동영상, 파트 병렬 업로드/재개)
+     */
+    @Getter
+    @Setter
+    public static class Multipart {
+
+        /**
+         * 파트 크기 (바이트, S3 최소 5MB - 마지막 파트 제외)
+         * 파트 수가 10,000을 넘으면 자동으로 키움
+         */
+        private long partSize = 8 * 1024 * 1024;
+
+        /**
+         * 1회 요청으로 발급할 최대 파트 URL 수
+         */
+        private int maxPresignParts = 100;
+
+        /**
+         * 마지막 활동 후 이 시간(시간)이 지난 업로드는 취소 (S3 파트 삭제)
+         */
+        private long staleHours = 24;
+
+        /**
+         * 1회 정리할 최대 업로드 수
+         */
+        private int cleanupBatchSize = 100;
+    }
+
+    /**
+     * 다운로드 Pre-signed URL 설정 (CDN 비활성화 시, 일괄 발급/URL 캐시)
+     */
+    @Getter
+    @Setter
+    public static class DownloadUrl {
+
+        /**
+         * 조회 응답 URL 만료 시간 (분)
+         */
+        private long expirationMinutes = 60;
+
+        /**
+         * 만료까지 이 시간(분) 이상 남은 캐시 URL만 재사용 (이보다 짧은 만료 URL은 캐시 안 함)
+         */
+        private long minRemainingMinutes = 10;
+
+        /**
+         * 캐시 최대 URL 수 (넘으면 재사용할 수 없는 URL부터 정리)
+         */
+        private int cacheMaxEntries = 50_000;
+    }
 }
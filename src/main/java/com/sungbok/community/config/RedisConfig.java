@@ -12,6 +12,8 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.concurrent.Executors;
+
 /**
  * Redis 설정
  * Refresh Token 저장 및 캐싱용
@@ -61,10 +63,16 @@ public class RedisConfig {
         return stringRedisTemplate;
     }
 
+    /**
+     * pub/sub 구독 컨테이너 (알림 스트림)
+     * 메시지는 스레드 1개에서 수신 순서대로 전달 (기본 실행기는 메시지마다 새 스레드라 순서가 바뀔 수 있음)
+     * 리스너는 라우팅만 하고 느린 SSE 쓰기는 사용자별 순차 작업으로 넘김 (NotificationStreamService)
+     */
     @Bean
     public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(Thread.ofVirtual().name("redis-listener").factory()));
         return container;
     }
 }
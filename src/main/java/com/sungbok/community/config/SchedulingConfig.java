@@ -0,0 +1,19 @@
+package com.sungbok.community.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * @Scheduled 어노테이션 활성화
+ *
+ * 사용 예시:
+ * - PushReceiptService.pollReceipts() - Expo 푸시 영수증 주기 조회
+ * - PushStatusWriteBuffer.flush() - 푸시 상태 일괄 저장
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 활성화
+    // 스케줄러 스레드 수는 spring.task.scheduling.pool.size로 설정
+}
@@ -0,0 +1,35 @@
+package com.sungbok.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조직 저장 공간 한도 설정 Properties
+ * ConfigurationProperties 전용 클래스
+ *
+ * @since 2.1.0
+ */
+@Component
+@ConfigurationProperties(prefix = "storage-quota")
+@Getter
+@Setter
+public class StorageQuotaProperties {
+
+    /**
+     * 업로드 시 한도 확인 여부 (사용량 집계는 항상 유지)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Valkey 사용량 캐시 TTL (초)
+     * 사용량 감소(검증 거부, 삭제)는 TTL이 지나야 반영되므로 짧게 유지
+     */
+    private long cacheTtlSeconds = 60;
+
+    /**
+     * 정기 재집계 활성화 여부
+     */
+    private boolean reconcileEnabled = true;
+}
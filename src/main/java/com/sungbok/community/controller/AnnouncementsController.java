@@ -0,0 +1,61 @@
+package com.sungbok.community.controller;
+
+import com.sungbok.community.dto.AnnouncementJobDTO;
+import com.sungbok.community.dto.AnnouncementRequest;
+import com.sungbok.community.security.model.PrincipalDetails;
+import com.sungbok.community.service.AnnouncementFanoutService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 조직 전체 공지 컨트롤러
+ * 관리자 전용 - 공지 발송 작업 생성 및 진행 상황 조회
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/notifications/announcements")
+@RequiredArgsConstructor
+public class AnnouncementsController {
+
+    private final AnnouncementFanoutService announcementFanoutService;
+
+    /**
+     * POST /api/notifications/announcements
+     * 조직 전체 공지 발송 (비동기 작업, 202 Accepted)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param request 공지 요청
+     * @return 생성된 작업 (진행 상황 조회용 jobId 포함)
+     */
+    @PostMapping
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'announcements', 'create')")
+    public ResponseEntity<AnnouncementJobDTO> createAnnouncement(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @Valid @RequestBody AnnouncementRequest request
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        AnnouncementJobDTO job = announcementFanoutService.createJob(userId, request);
+
+        return ResponseEntity.accepted().body(job);
+    }
+
+    /**
+     * GET /api/notifications/announcements/{jobId}
+     * 공지 발송 작업 진행 상황 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황
+     */
+    @GetMapping("/{jobId}")
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'announcements', 'read')")
+    public ResponseEntity<AnnouncementJobDTO> getAnnouncement(@PathVariable Long jobId) {
+        return ResponseEntity.ok(announcementFanoutService.getJob(jobId));
+    }
+}
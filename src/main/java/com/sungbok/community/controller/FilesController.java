@@ -1,15 +1,22 @@
 package com.sungbok.community.controller;
 
+import com.sungbok.community.dto.FileDownloadUrlsRequest;
 import com.sungbok.community.dto.FileUploadRequest;
 import com.sungbok.community.dto.FileUploadResponse;
 import com.sungbok.community.dto.FilesDTO;
+import com.sungbok.community.dto.MultipartPartCompleteRequest;
+import com.sungbok.community.dto.MultipartPartsRequest;
+import com.sungbok.community.dto.MultipartUploadResponse;
+import com.sungbok.community.dto.StorageUsageDTO;
 import com.sungbok.community.security.model.PrincipalDetails;
+import com.sungbok.community.service.StorageUsageService;
 import com.sungbok.community.service.change.ChangeFileService;
 import com.sungbok.community.service.get.GetFileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +33,7 @@ public class FilesController {
 
     private final ChangeFileService changeFileService;
     private final GetFileService getFileService;
+    private final StorageUsageService storageUsageService;
 
     /**
      * POST /api/files/upload-presigned
@@ -65,6 +73,127 @@ public class FilesController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * POST /api/files/multipart
+     * 멀티파트 업로드 시작 (대용량 동영상, 파트 병렬 업로드)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param request FileUploadRequest
+     * @return MultipartUploadResponse (fileId, partSize, partCount, 파트 Upload URL)
+     */
+    @PostMapping("/multipart")
+    public ResponseEntity<MultipartUploadResponse> createMultipartUpload(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @Valid @RequestBody FileUploadRequest request
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        MultipartUploadResponse response = changeFileService.createMultipartUpload(request, userId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/files/{fileId}/multipart/resume
+     * 멀티파트 업로드 재개 (완료된 파트 목록 + 남은 파트 Upload URL)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param fileId 파일 ID
+     * @return MultipartUploadResponse
+     */
+    @PostMapping("/{fileId}/multipart/resume")
+    public ResponseEntity<MultipartUploadResponse> resumeMultipartUpload(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @PathVariable Long fileId
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        MultipartUploadResponse response = changeFileService.resumeMultipartUpload(fileId, userId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/files/{fileId}/multipart/parts
+     * 파트 Upload URL 일괄 발급 (URL 만료 시)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param fileId 파일 ID
+     * @param request MultipartPartsRequest (파트 번호 목록)
+     * @return MultipartUploadResponse
+     */
+    @PostMapping("/{fileId}/multipart/parts")
+    public ResponseEntity<MultipartUploadResponse> presignMultipartParts(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @PathVariable Long fileId,
+            @Valid @RequestBody MultipartPartsRequest request
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        MultipartUploadResponse response = changeFileService.presignMultipartParts(
+                fileId, request.partNumbers(), userId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * PUT /api/files/{fileId}/multipart/parts/{partNumber}
+     * 파트 업로드 완료 보고 (ETag)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param fileId 파일 ID
+     * @param partNumber 파트 번호
+     * @param request MultipartPartCompleteRequest (ETag)
+     * @return 성공 응답
+     */
+    @PutMapping("/{fileId}/multipart/parts/{partNumber}")
+    public ResponseEntity<Void> recordUploadedPart(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @PathVariable Long fileId,
+            @PathVariable int partNumber,
+            @Valid @RequestBody MultipartPartCompleteRequest request
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        changeFileService.recordUploadedPart(fileId, partNumber, request.etag(), userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/files/{fileId}/multipart/complete
+     * 멀티파트 업로드 완료 (파트 합치기 후 검증 시작)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param fileId 파일 ID
+     * @return 성공 응답
+     */
+    @PostMapping("/{fileId}/multipart/complete")
+    public ResponseEntity<Void> completeMultipartUpload(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @PathVariable Long fileId
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        changeFileService.completeMultipartUpload(fileId, userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * DELETE /api/files/{fileId}/multipart
+     * 멀티파트 업로드 취소 (업로드된 파트 삭제)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param fileId 파일 ID
+     * @return 성공 응답
+     */
+    @DeleteMapping("/{fileId}/multipart")
+    public ResponseEntity<Void> abortMultipartUpload(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @PathVariable Long fileId
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        changeFileService.abortMultipartUpload(fileId, userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * GET /api/files/{fileId}
      * 파일 정보 조회
@@ -103,9 +232,38 @@ public class FilesController {
         return ResponseEntity.ok(files);
     }
 
+    /**
+     * POST /api/files/download-urls
+     * 여러 파일의 CDN URL 또는 Download URL 일괄 발급 (갤러리)
+     * 조회할 수 없는 파일(다른 조직, 삭제됨)은 응답에서 제외
+     *
+     * @param request FileDownloadUrlsRequest (fileIds)
+     * @return FilesDTO 리스트 (요청 순서)
+     */
+    @PostMapping("/download-urls")
+    public ResponseEntity<List<FilesDTO>> getDownloadUrls(
+            @Valid @RequestBody FileDownloadUrlsRequest request
+    ) {
+        List<FilesDTO> files = getFileService.getFilesByIds(request.fileIds());
+
+        return ResponseEntity.ok(files);
+    }
+
+    /**
+     * GET /api/files/storage-usage
+     * 조직 저장 공간 사용량 및 한도 조회 (관리자 전용)
+     *
+     * @return StorageUsageDTO (usedBytes, reservedBytes, fileCount, quotaBytes, remainingBytes)
+     */
+    @GetMapping("/storage-usage")
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'storage', 'read')")
+    public ResponseEntity<StorageUsageDTO> getStorageUsage() {
+        return ResponseEntity.ok(storageUsageService.getUsage());
+    }
+
     /**
      * DELETE /api/files/{fileId}
-     * 파일 삭제 (소프트 삭제 + OCI 삭제)
+     * 파일 삭제 (소프트 삭제, OCI 객체는 정리 작업에서 일괄 삭제)
      *
      * @param userDetails 인증된 사용자 정보 (JWT)
      * @param fileId 파일 ID
@@ -1,18 +1,23 @@
 package com.sungbok.community.controller;
 
+import com.sungbok.community.config.NotificationProperties;
 import com.sungbok.community.dto.NotificationDTO;
 import com.sungbok.community.dto.NotificationSettingsDTO;
 import com.sungbok.community.dto.PushTokenRequest;
 import com.sungbok.community.dto.UnreadCountDTO;
+import com.sungbok.community.security.TenantContext;
 import com.sungbok.community.security.model.PrincipalDetails;
+import com.sungbok.community.service.NotificationStreamService;
 import com.sungbok.community.service.change.ChangeNotificationService;
 import com.sungbok.community.service.get.GetNotificationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -32,24 +37,31 @@ public class NotificationsController {
 
     private final GetNotificationService getNotificationService;
     private final ChangeNotificationService changeNotificationService;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationProperties notificationProperties;
 
     /**
      * GET /api/notifications
      * 사용자의 알림 목록 조회 (페이징)
+     * 첫 페이지는 Inbox 캐시, 다음 페이지는 before 커서(keyset) 권장
      *
      * @param userDetails 인증된 사용자 정보 (JWT)
-     * @param page 페이지 번호 (기본값: 0)
+     * @param page 페이지 번호 (기본값: 0, before 지정 시 무시)
      * @param size 페이지 크기 (기본값: 20)
+     * @param before 이전 페이지의 마지막 알림 ID (keyset 커서)
      * @return 알림 DTO 리스트
      */
     @GetMapping
     public ResponseEntity<List<NotificationDTO>> getNotifications(
             @AuthenticationPrincipal PrincipalDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long before
     ) {
         Long userId = userDetails.getUser().getUserId();
-        List<NotificationDTO> notifications = getNotificationService.getNotifications(userId, page, size);
+        List<NotificationDTO> notifications = before != null
+                ? getNotificationService.getNotificationsBefore(userId, before, size)
+                : getNotificationService.getNotifications(userId, page, size);
 
         return ResponseEntity.ok(notifications);
     }
@@ -71,6 +83,32 @@ public class NotificationsController {
         return ResponseEntity.ok(new UnreadCountDTO(count));
     }
 
+    /**
+     * GET /api/notifications/stream
+     * 실시간 알림 스트림 (Server-Sent Events)
+     * 이벤트: notification (새 알림), unread-count (안 읽은 개수), announcement (조직 공지)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param lastEventId 마지막으로 받은 알림 ID (재접속 시 이후 알림 재전송)
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        SseEmitter emitter = notificationStreamService.connect(TenantContext.getRequiredOrgId(), userId);
+
+        List<NotificationDTO> missed = lastEventId != null
+                ? getNotificationService.getNotificationsAfter(
+                        userId, lastEventId, notificationProperties.getStream().getReplayLimit())
+                : List.of();
+        notificationStreamService.sendInitialState(emitter, missed, getNotificationService.getUnreadCount(userId));
+
+        return emitter;
+    }
+
     /**
      * PUT /api/notifications/{notificationId}/read
      * 알림 읽음 처리
@@ -107,6 +145,25 @@ public class NotificationsController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * DELETE /api/notifications/{notificationId}
+     * 알림 삭제
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param notificationId 알림 ID
+     * @return 성공 응답
+     */
+    @DeleteMapping("/{notificationId}")
+    public ResponseEntity<Void> deleteNotification(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @PathVariable Long notificationId
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        changeNotificationService.deleteNotification(notificationId, userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * POST /api/notifications/push-tokens
      * Push Token 등록
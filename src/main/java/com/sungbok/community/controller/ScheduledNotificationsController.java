@@ -0,0 +1,92 @@
+package com.sungbok.community.controller;
+
+import com.sungbok.community.dto.RescheduleRequest;
+import com.sungbok.community.dto.ScheduleNotificationRequest;
+import com.sungbok.community.dto.ScheduledNotificationDTO;
+import com.sungbok.community.security.model.PrincipalDetails;
+import com.sungbok.community.service.NotificationSchedulerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 예약 알림 컨트롤러
+ * 관리자 전용 - 공지/리마인더 예약, 대기 목록 조회, 시각 변경, 취소
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/notifications/scheduled")
+@RequiredArgsConstructor
+public class ScheduledNotificationsController {
+
+    private final NotificationSchedulerService notificationSchedulerService;
+
+    /**
+     * POST /api/notifications/scheduled
+     * 알림 예약 (userIds 없으면 조직 전체 공지)
+     *
+     * @param userDetails 인증된 사용자 정보 (JWT)
+     * @param request 예약 요청
+     * @return 예약 정보 (취소/변경용 scheduleId 포함)
+     */
+    @PostMapping
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'announcements', 'create')")
+    public ResponseEntity<ScheduledNotificationDTO> schedule(
+            @AuthenticationPrincipal PrincipalDetails userDetails,
+            @Valid @RequestBody ScheduleNotificationRequest request
+    ) {
+        Long userId = userDetails.getUser().getUserId();
+        return ResponseEntity.accepted().body(notificationSchedulerService.schedule(userId, request));
+    }
+
+    /**
+     * GET /api/notifications/scheduled
+     * 조직의 대기 중인 예약 목록 (발송 시각 순)
+     *
+     * @return 예약 목록
+     */
+    @GetMapping
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'announcements', 'read')")
+    public ResponseEntity<List<ScheduledNotificationDTO>> getPending() {
+        return ResponseEntity.ok(notificationSchedulerService.getPending());
+    }
+
+    /**
+     * PUT /api/notifications/scheduled/{scheduleId}
+     * 예약 발송 시각 변경 (발송 중인 예약은 변경 불가)
+     *
+     * @param scheduleId 예약 ID
+     * @param request 새 발송 시각
+     * @return 변경된 예약 정보
+     */
+    @PutMapping("/{scheduleId}")
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'announcements', 'create')")
+    public ResponseEntity<ScheduledNotificationDTO> reschedule(
+            @PathVariable String scheduleId,
+            @Valid @RequestBody RescheduleRequest request
+    ) {
+        return ResponseEntity.ok(notificationSchedulerService.reschedule(scheduleId, request.scheduledAt()));
+    }
+
+    /**
+     * DELETE /api/notifications/scheduled/{scheduleId}
+     * 예약 취소 (발송 중인 예약은 취소 불가)
+     *
+     * @param scheduleId 예약 ID
+     * @return 성공 응답
+     */
+    @DeleteMapping("/{scheduleId}")
+    @PreAuthorize("@permissionChecker.hasPermission(authentication, 'announcements', 'create')")
+    public ResponseEntity<Void> cancel(@PathVariable String scheduleId) {
+        notificationSchedulerService.cancel(scheduleId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.sungbok.community.dto;
+
+import com.sungbok.community.enums.AnnouncementJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지 발송 작업 응답 DTO
+ * 진행 상황 조회용
+ *
+ * @since 2.1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnnouncementJobDTO {
+
+    /**
+     * 작업 ID
+     */
+    private Long jobId;
+
+    /**
+     * 공지 제목
+     */
+    private String title;
+
+    /**
+     * 작업 상태
+     */
+    private AnnouncementJobStatus status;
+
+    /**
+     * 알림 이력 저장 건수
+     */
+    private Integer insertedCount;
+
+    /**
+     * 푸시 전송 토큰 수
+     */
+    private Integer pushedCount;
+
+    /**
+     * 에러 메시지 (FAILED 상태)
+     */
+    private String errorMessage;
+
+    /**
+     * 생성 일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 시작 일시
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 완료 일시
+     */
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,41 @@
+package com.sungbok.community.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 조직 전체 공지 발송 요청 DTO
+ * POST /api/notifications/announcements 엔드포인트에서 사용
+ *
+ * @since 2.1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnnouncementRequest {
+
+    /**
+     * 공지 제목
+     */
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 255, message = "제목은 255자 이하로 입력해주세요")
+    private String title;
+
+    /**
+     * 공지 본문
+     */
+    @NotBlank(message = "본문은 필수입니다")
+    @Size(max = 2000, message = "본문은 2000자 이하로 입력해주세요")
+    private String body;
+
+    /**
+     * 추가 데이터 (딥링크 등에 사용, 선택)
+     * 예: {"postId": 123}
+     */
+    private Map<String, Object> data;
+}
@@ -0,0 +1,21 @@
+package com.sungbok.community.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 다운로드 URL 일괄 발급 요청 DTO
+ * POST /api/files/download-urls 엔드포인트에서 사용 (갤러리 등 여러 파일을 한 번에 표시)
+ *
+ * @param fileIds 파일 ID 목록 (최대 100개)
+ * @since 2.1.0
+ */
+public record FileDownloadUrlsRequest(
+    @NotEmpty(message = "파일 ID는 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100개까지 요청할 수 있습니다")
+    List<@NotNull Long> fileIds
+) {
+}
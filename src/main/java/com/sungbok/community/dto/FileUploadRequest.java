@@ -3,6 +3,7 @@ package com.sungbok.community.dto;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -52,4 +53,12 @@ public class FileUploadRequest implements Serializable {
      */
     @NotBlank(message = "관련 엔티티 타입은 필수입니다")
     private String relatedEntityType;
+
+    /**
+     * 파일 내용 SHA-256 (hex 64자, 선택)
+     * 같은 조직에 같은 내용/크기의 검증된 파일이 있으면 업로드/검증 없이 그 객체를 참조
+     * 업로드하는 경우 Pre-signed URL에 체크섬이 서명되어 저장소가 실제 내용과 비교
+     */
+    @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "SHA-256은 16진수 64자여야 합니다")
+    private String contentSha256;
 }
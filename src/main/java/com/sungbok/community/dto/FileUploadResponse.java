@@ -22,13 +22,13 @@ public class FileUploadResponse implements Serializable {
     private static final long serialVersionUID = 1L;
 
     /**
-     * DB에 저장된 파일 ID (PENDING 상태)
+     * DB에 저장된 파일 ID (PENDING 상태, 중복 제거된 경우 VERIFIED)
      */
     private Long fileId;
 
     /**
      * Pre-signed Upload URL (10분 만료)
-     * 클라이언트가 이 URL로 직접 OCI에 파일 업로드
+     * 클라이언트가 이 URL로 직접 OCI에 파일 업로드 (중복 제거된 경우 null)
      */
     private String uploadUrl;
 
@@ -47,4 +47,16 @@ public class FileUploadResponse implements Serializable {
      * 클라이언트는 OCI 업로드 시 이 값을 Content-Type 헤더로 사용해야 함
      */
     private String mimeType;
+
+    /**
+     * 서명된 내용 체크섬 (Base64 SHA-256, 요청에 contentSha256을 보낸 경우만)
+     * 클라이언트는 OCI 업로드 시 이 값을 x-amz-checksum-sha256 헤더로 보내야 함 (내용이 다르면 업로드 거부)
+     */
+    private String checksumSha256;
+
+    /**
+     * 같은 내용의 기존 파일을 참조했는지 여부
+     * true면 업로드와 업로드 완료 알림 없이 바로 사용 가능 (VERIFIED)
+     */
+    private boolean deduplicated;
 }
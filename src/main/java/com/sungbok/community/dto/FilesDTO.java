@@ -1,11 +1,13 @@
 package com.sungbok.community.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sungbok.community.common.vo.CommonVO;
 import lombok.*;
 
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -37,7 +39,7 @@ public class FilesDTO extends CommonVO {
     private Boolean isDeleted;
 
     /**
-     * 파일 상태 (PENDING, ACTIVE, VERIFIED, REJECTED)
+     * 파일 상태 (PENDING, UPLOADING, ACTIVE, VERIFIED, REJECTED, ABORTED)
      */
     private String status;
 
@@ -61,14 +63,53 @@ public class FilesDTO extends CommonVO {
      */
     private String codec;
 
+    /**
+     * 이미지 원본 너비 (px)
+     */
+    private Integer width;
+
+    /**
+     * 이미지 원본 높이 (px)
+     */
+    private Integer height;
+
+    /**
+     * 로딩 전 표시할 BlurHash 플레이스홀더
+     */
+    private String blurhash;
+
+    /**
+     * 이미지 파생본 (이름별, 예: thumb, medium), URL 포함
+     */
+    private Map<String, ImageVariantDTO> variants;
+
+    /**
+     * files.variants 원본 JSON (멀티셋 조회 결과 매핑용, 응답 제외)
+     */
+    @JsonIgnore
+    private String variantsJson;
+
     /**
      * Cloudflare CDN URL (읽기 전용, public 파일용)
      */
     private String cdnUrl;
 
     /**
-     * Pre-signed Download URL (읽기 전용, private 파일용, 1시간 만료)
+     * Pre-signed Download URL (읽기 전용, private 파일용, 1시간 만료, 만료 10분 전까지 같은 URL 재사용)
      */
     private String downloadUrl;
 
+    /**
+     * 조회용 URL을 채웁니다 (게시글 멀티셋 조회 결과 후처리).
+     *
+     * @param cdnUrl CDN URL (CDN 비활성화 시 null)
+     * @param downloadUrl Pre-signed Download URL (CDN 사용 시 null)
+     * @param variants URL이 포함된 파생본 (없으면 null)
+     */
+    public void attachUrls(String cdnUrl, String downloadUrl, Map<String, ImageVariantDTO> variants) {
+        this.cdnUrl = cdnUrl;
+        this.downloadUrl = downloadUrl;
+        this.variants = variants;
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.sungbok.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * 이미지 파생본 (썸네일/WebP)
+ * files.variants(JSONB)에 이름별로 저장되고, 조회 시 url을 채워 응답
+ *
+ * @param objectKey 파생본 Object Key ({원본키}_{이름}.{포맷})
+ * @param width 너비 (px)
+ * @param height 높이 (px)
+ * @param mimeType MIME 타입 (image/webp, image/jpeg)
+ * @param size 바이트 크기
+ * @param url CDN URL 또는 Pre-signed URL (조회 시에만, DB에는 저장 안 함)
+ * @since 2.1.0
+ */
+@JsonInclude(Include.NON_NULL)
+public record ImageVariantDTO(
+    String objectKey,
+    int width,
+    int height,
+    String mimeType,
+    long size,
+    String url
+) {
+
+    /**
+     * 조회용 URL을 채운 사본을 반환합니다.
+     *
+     * @param url CDN URL 또는 Pre-signed URL
+     * @return URL이 포함된 파생본
+     */
+    public ImageVariantDTO withUrl(String url) {
+        return new ImageVariantDTO(objectKey, width, height, mimeType, size, url);
+    }
+}
@@ -0,0 +1,16 @@
+package com.sungbok.community.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 멀티파트 파트 업로드 완료 보고 DTO
+ * PUT /api/files/{fileId}/multipart/parts/{partNumber} 엔드포인트에서 사용
+ *
+ * @param etag 파트 업로드 응답의 ETag 헤더 값
+ * @since 2.1.0
+ */
+public record MultipartPartCompleteRequest(
+    @NotBlank(message = "ETag는 필수입니다")
+    String etag
+) {
+}
@@ -0,0 +1,14 @@
+package com.sungbok.community.dto;
+
+/**
+ * 멀티파트 파트 업로드 URL
+ *
+ * @param partNumber 파트 번호 (1부터)
+ * @param uploadUrl Pre-signed Upload URL (PUT, 응답의 ETag를 보고해야 함)
+ * @since 2.1.0
+ */
+public record MultipartPartUrl(
+    int partNumber,
+    String uploadUrl
+) {
+}
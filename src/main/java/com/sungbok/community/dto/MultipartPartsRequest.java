@@ -0,0 +1,20 @@
+package com.sungbok.community.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * 멀티파트 파트 URL 발급 요청 DTO
+ * POST /api/files/{fileId}/multipart/parts 엔드포인트에서 사용 (URL 만료, 재개 시)
+ *
+ * @param partNumbers 발급할 파트 번호 목록 (1부터)
+ * @since 2.1.0
+ */
+public record MultipartPartsRequest(
+    @NotEmpty(message = "파트 번호는 필수입니다")
+    List<@NotNull @Min(value = 1, message = "파트 번호는 1 이상이어야 합니다") Integer> partNumbers
+) {
+}
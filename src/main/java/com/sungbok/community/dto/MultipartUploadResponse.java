@@ -0,0 +1,67 @@
+package com.sungbok.community.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 멀티파트 업로드 응답 DTO
+ * 업로드 시작, 파트 URL 발급, 재개 상태 조회 응답
+ *
+ * @since 2.1.0
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MultipartUploadResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * DB에 저장된 파일 ID (UPLOADING 상태)
+     */
+    private Long fileId;
+
+    /**
+     * OCI Object Key (예: 1/post/2025/12/uuid.mp4)
+     */
+    private String objectKey;
+
+    /**
+     * 서명된 MIME 타입 (완료된 객체의 Content-Type)
+     */
+    private String mimeType;
+
+    /**
+     * 파트 크기 (바이트, 마지막 파트는 남은 크기)
+     * 파트 N은 파일의 [(N-1) * partSize, N * partSize) 구간
+     */
+    private Long partSize;
+
+    /**
+     * 전체 파트 수
+     */
+    private Integer partCount;
+
+    /**
+     * 업로드 완료로 보고된 파트 번호 (재개 시 건너뜀)
+     */
+    private List<Integer> completedParts;
+
+    /**
+     * 파트 업로드 URL (남은 파트 중 최대 max-presign-parts개)
+     */
+    private List<MultipartPartUrl> parts;
+
+    /**
+     * 파트 URL 만료 시각
+     */
+    private LocalDateTime expiresAt;
+}
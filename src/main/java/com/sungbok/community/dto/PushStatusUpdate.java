@@ -0,0 +1,43 @@
+package com.sungbok.community.dto;
+
+import org.jooq.generated.enums.PushStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 푸시 상태 변경 요청 (내부 사용)
+ * PushStatusWriteBuffer에서 알림 단위로 병합 후 일괄 저장
+ *
+ * @param orgId 조직 ID (스케줄러 스레드에서 명시적 필터링용)
+ * @param notificationId 알림 ID
+ * @param status 집계된 푸시 상태 (기기 중 하나라도 성공하면 OK)
+ * @param errorMessage 에러 메시지 (OK면 null)
+ * @param pushDetailJson 기기별 전송 결과 JSON (metadata.push에 병합, 없으면 null)
+ * @param sentAt 전송 시각
+ * @since 2.1.0
+ */
+public record PushStatusUpdate(
+    Long orgId,
+    Long notificationId,
+    PushStatus status,
+    String errorMessage,
+    String pushDetailJson,
+    LocalDateTime sentAt
+) {
+
+    /**
+     * 같은 알림에 대한 두 변경을 병합합니다.
+     * OK가 하나라도 있으면 OK 유지, 기기별 상세는 최신 값 우선
+     *
+     * @param later 나중에 들어온 변경
+     * @return 병합된 변경
+     */
+    public PushStatusUpdate merge(PushStatusUpdate later) {
+        boolean ok = status == PushStatus.OK || later.status == PushStatus.OK;
+        PushStatus mergedStatus = ok ? PushStatus.OK : later.status;
+        String mergedError = ok ? null : later.errorMessage;
+        String mergedDetail = later.pushDetailJson != null ? later.pushDetailJson : pushDetailJson;
+
+        return new PushStatusUpdate(orgId, notificationId, mergedStatus, mergedError, mergedDetail, later.sentAt);
+    }
+}
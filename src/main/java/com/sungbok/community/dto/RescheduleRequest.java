@@ -0,0 +1,20 @@
+package com.sungbok.community.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 알림 발송 시각 변경 요청 DTO
+ * PUT /api/notifications/scheduled/{scheduleId} 엔드포인트에서 사용
+ *
+ * @param scheduledAt 새 발송 예정 시각
+ * @since 2.1.0
+ */
+public record RescheduleRequest(
+    @NotNull(message = "발송 시각은 필수입니다")
+    @Future(message = "발송 시각은 현재 이후여야 합니다")
+    LocalDateTime scheduledAt
+) {
+}
@@ -0,0 +1,58 @@
+package com.sungbok.community.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 예약 요청 DTO
+ * POST /api/notifications/scheduled 엔드포인트에서 사용
+ * userIds가 없으면 조직 전체 공지, 있으면 해당 멤버에게만 리마인더
+ *
+ * @since 2.1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleNotificationRequest {
+
+    /**
+     * 알림 제목
+     */
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 255, message = "제목은 255자 이하로 입력해주세요")
+    private String title;
+
+    /**
+     * 알림 본문
+     */
+    @NotBlank(message = "본문은 필수입니다")
+    @Size(max = 2000, message = "본문은 2000자 이하로 입력해주세요")
+    private String body;
+
+    /**
+     * 추가 데이터 (딥링크 등에 사용, 선택)
+     */
+    private Map<String, Object> data;
+
+    /**
+     * 수신자 사용자 ID 목록 (선택, 없으면 조직 전체 공지)
+     */
+    @Size(max = 1000, message = "수신자는 1000명 이하로 지정해주세요 (그 이상은 조직 전체 공지 사용)")
+    private List<Long> userIds;
+
+    /**
+     * 발송 예정 시각
+     */
+    @NotNull(message = "발송 시각은 필수입니다")
+    @Future(message = "발송 시각은 현재 이후여야 합니다")
+    private LocalDateTime scheduledAt;
+}
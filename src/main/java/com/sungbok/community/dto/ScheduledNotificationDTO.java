@@ -0,0 +1,50 @@
+package com.sungbok.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 알림 응답 DTO
+ *
+ * @since 2.1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledNotificationDTO {
+
+    /**
+     * 예약 ID (취소/변경용)
+     */
+    private String scheduleId;
+
+    /**
+     * 알림 제목
+     */
+    private String title;
+
+    /**
+     * 조직 전체 공지 여부
+     */
+    private boolean announcement;
+
+    /**
+     * 수신자 수 (조직 전체 공지면 0)
+     */
+    private int recipientCount;
+
+    /**
+     * 발송 예정 시각
+     */
+    private LocalDateTime scheduledAt;
+
+    /**
+     * 예약한 사용자 ID
+     */
+    private Long createdBy;
+}
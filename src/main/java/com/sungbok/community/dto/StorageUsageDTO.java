@@ -0,0 +1,59 @@
+package com.sungbok.community.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 조직 저장 공간 사용량 DTO
+ *
+ * @since 2.1.0
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageUsageDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long orgId;
+
+    /**
+     * 검증 완료된 파일 크기 합 (바이트)
+     */
+    private long usedBytes;
+
+    /**
+     * 업로드/검증 중인 파일 크기 합 (바이트, 한도 계산에 포함)
+     */
+    private long reservedBytes;
+
+    /**
+     * 검증 완료된 파일 수
+     */
+    private long fileCount;
+
+    /**
+     * 저장 공간 한도 (바이트, null이면 무제한)
+     * 조직 한도가 없으면 앱 타입 한도
+     */
+    private Long quotaBytes;
+
+    /**
+     * 남은 공간 (바이트, 한도가 없으면 null)
+     */
+    private Long remainingBytes;
+
+    /**
+     * 마지막 재집계 시각
+     */
+    private LocalDateTime reconciledAt;
+}
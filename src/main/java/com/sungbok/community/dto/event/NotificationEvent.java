@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -68,4 +69,17 @@ public class NotificationEvent implements Serializable {
      * 예: {"postId": 123, "commentId": 456}
      */
     private Map<String, Object> data;
+
+    /**
+     * 예약 발송 시각 (epoch millis, 예약 알림만)
+     * 발송 지연(예약 시각 → 처리) 측정용
+     */
+    private Long scheduledAt;
+
+    /**
+     * 큐 적재 시각 (epoch millis, RedisQueueService가 설정)
+     * 레인별 대기 시간 측정용
+     */
+    @Setter
+    private Long enqueuedAt;
 }
@@ -0,0 +1,21 @@
+package com.sungbok.community.dto.event;
+
+/**
+ * 실시간 알림 스트림 메시지
+ * Valkey pub/sub 채널로 노드 간 전달되어 각 노드의 로컬 SSE 연결로 라우팅
+ *
+ * @param orgId 조직 ID
+ * @param userId 수신자 사용자 ID (null이면 조직 전체 연결)
+ * @param event SSE 이벤트 이름 (notification, unread-count, announcement)
+ * @param id SSE 이벤트 ID (알림 ID, Last-Event-ID 재개용, 없으면 null)
+ * @param data 이벤트 데이터 (JSON 문자열)
+ * @since 2.1.0
+ */
+public record NotificationStreamMessage(
+    Long orgId,
+    Long userId,
+    String event,
+    Long id,
+    String data
+) {
+}
@@ -0,0 +1,37 @@
+package com.sungbok.community.dto.event;
+
+import com.sungbok.community.dto.AnnouncementRequest;
+
+import java.util.List;
+
+/**
+ * 예약 알림 (Valkey 저장용)
+ * 발송 시각이 되면 스케줄러가 이벤트를 알림 큐로 옮기거나 공지 작업을 생성
+ *
+ * @param scheduleId 예약 ID
+ * @param orgId 조직 ID
+ * @param createdBy 예약한 사용자 ID
+ * @param dueAt 발송 예정 시각 (epoch millis)
+ * @param announcement 조직 전체 공지 (공지 예약이면 non-null)
+ * @param events 개별 알림 이벤트 (멤버 지정 예약이면 non-null)
+ * @since 2.1.0
+ */
+public record ScheduledNotification(
+    String scheduleId,
+    Long orgId,
+    Long createdBy,
+    long dueAt,
+    AnnouncementRequest announcement,
+    List<NotificationEvent> events
+) {
+
+    /**
+     * 발송 시각만 변경한 사본
+     *
+     * @param newDueAt 새 발송 예정 시각 (epoch millis)
+     * @return 변경된 예약
+     */
+    public ScheduledNotification withDueAt(long newDueAt) {
+        return new ScheduledNotification(scheduleId, orgId, createdBy, newDueAt, announcement, events);
+    }
+}
@@ -0,0 +1,29 @@
+package com.sungbok.community.enums;
+
+/**
+ * 공지 발송 작업 상태 Enum
+ * announcement_jobs.status 컬럼 값
+ *
+ * @since 2.1.0
+ */
+public enum AnnouncementJobStatus {
+    /**
+     * 생성됨, 실행 대기
+     */
+    PENDING,
+
+    /**
+     * 실행 중 (heartbeat_at 갱신)
+     */
+    RUNNING,
+
+    /**
+     * 전체 발송 완료
+     */
+    COMPLETED,
+
+    /**
+     * 실패 (커서 위치부터 재개 가능)
+     */
+    FAILED
+}
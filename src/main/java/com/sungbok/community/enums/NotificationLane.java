@@ -0,0 +1,50 @@
+package com.sungbok.community.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 큐 우선순위 Lane Enum
+ * Lane마다 별도 Valkey List를 사용하고 Worker가 가중치 기반으로 번갈아 꺼냄
+ *
+ * @since 2.1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationLane {
+    /**
+     * 즉시 전달이 중요한 알림 (멤버십 승인/거절, 댓글)
+     */
+    HIGH("notification:queue:high"),
+
+    /**
+     * 일반 알림 (기존 단일 큐 키 유지 - 배포 전 쌓인 이벤트도 그대로 처리)
+     */
+    NORMAL("notification:queue"),
+
+    /**
+     * 대량 발송 (공지)
+     */
+    BULK("notification:queue:bulk");
+
+    /**
+     * Valkey List 키
+     */
+    private final String queueKey;
+
+    /**
+     * Valkey List 키로 Lane 조회
+     *
+     * @param queueKey Valkey List 키
+     * @return 해당 Lane
+     * @throws IllegalArgumentException 알 수 없는 키인 경우
+     */
+    public static NotificationLane fromQueueKey(String queueKey) {
+        for (NotificationLane lane : values()) {
+            if (lane.queueKey.equals(queueKey)) {
+                return lane;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 알림 큐 키: " + queueKey);
+    }
+}
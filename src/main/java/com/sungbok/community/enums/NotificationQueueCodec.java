@@ -0,0 +1,19 @@
+package com.sungbok.community.enums;
+
+/**
+ * 알림 큐 페이로드 형식 Enum
+ * Lane별로 선택하며, 읽을 때는 첫 바이트로 형식을 판별하므로 두 형식이 한 Lane에 섞여도 처리 가능
+ *
+ * @since 2.1.0
+ */
+public enum NotificationQueueCodec {
+    /**
+     * Jackson JSON (기존 형식, 사람이 읽을 수 있음)
+     */
+    JSON,
+
+    /**
+     * 버전 헤더가 있는 압축 바이너리 (varint ID, 타입 코드, 큰 data는 deflate)
+     */
+    BINARY
+}
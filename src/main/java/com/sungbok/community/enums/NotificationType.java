@@ -2,37 +2,48 @@ package com.sungbok.community.enums;
 
 import lombok.Getter;
 
+import java.util.Map;
+
 /**
  * 알림 타입 Enum
  *
  * <p>푸시 알림의 종류를 정의합니다.
+ *
+ * <p>타입별 고정 비트로 알림 설정을 int 비트마스크로 표현합니다
+ * (notification_settings.preference_mask, Valkey user:settings 필드).
+ * 비트 번호는 DB에 저장되므로 변경하거나 재사용하면 안 됩니다.
  */
 @Getter
 public enum NotificationType {
     /**
      * 멤버십 승인 알림
      */
-    MEMBERSHIP_APPROVED("멤버십 승인"),
+    MEMBERSHIP_APPROVED("멤버십 승인", 0, NotificationLane.HIGH),
 
     /**
      * 멤버십 거절 알림
      */
-    MEMBERSHIP_REJECTED("멤버십 거절"),
+    MEMBERSHIP_REJECTED("멤버십 거절", 1, NotificationLane.HIGH),
 
     /**
      * 게시글 댓글 알림 (향후 구현)
      */
-    POST_COMMENT("게시글 댓글"),
+    POST_COMMENT("게시글 댓글", 2, NotificationLane.HIGH),
 
     /**
      * 게시글 좋아요 알림 (향후 구현)
      */
-    POST_LIKE("게시글 좋아요"),
+    POST_LIKE("게시글 좋아요", 3, NotificationLane.NORMAL),
 
     /**
-     * 관리자 공지 알림 (향후 구현)
+     * 관리자 공지 알림
      */
-    ADMIN_ANNOUNCEMENT("관리자 공지");
+    ADMIN_ANNOUNCEMENT("관리자 공지", 4, NotificationLane.BULK);
+
+    /**
+     * 모든 타입이 활성화된 비트마스크 (기본값)
+     */
+    public static final int ALL_MASK = allMask();
 
     /**
      * -- GETTER --
@@ -42,8 +53,64 @@ public enum NotificationType {
      */
     private final String description;
 
-    NotificationType(String description) {
+    /**
+     * 비트마스크에서 이 타입의 비트 (1 &lt;&lt; 비트 번호)
+     */
+    private final int mask;
+
+    /**
+     * notification_preferences JSONB 키 (예: post_comment)
+     */
+    private final String preferenceKey;
+
+    /**
+     * 기본 큐 Lane (이벤트 생산자가 지정하지 않으면 사용)
+     */
+    private final NotificationLane defaultLane;
+
+    NotificationType(String description, int bit, NotificationLane defaultLane) {
         this.description = description;
+        this.mask = 1 << bit;
+        this.preferenceKey = name().toLowerCase();
+        this.defaultLane = defaultLane;
     }
 
+    /**
+     * 비트마스크에서 이 타입이 활성화되어 있는지 확인합니다.
+     *
+     * @param preferenceMask 알림 설정 비트마스크
+     * @return 활성화 여부
+     */
+    public boolean isEnabledIn(int preferenceMask) {
+        return (preferenceMask & mask) != 0;
+    }
+
+    /**
+     * JSONB 알림 설정 Map을 비트마스크로 변환합니다.
+     * 키가 없는 타입은 활성화로 간주 (기존 getOrDefault(key, true) 동작과 동일)
+     *
+     * @param preferences 알림 타입별 활성화 설정 (예: {"post_comment": true})
+     * @return 비트마스크
+     */
+    public static int toPreferenceMask(Map<String, Boolean> preferences) {
+        if (preferences == null) {
+            return ALL_MASK;
+        }
+
+        int result = 0;
+        for (NotificationType type : values()) {
+            if (!Boolean.FALSE.equals(preferences.get(type.preferenceKey))) {
+                result |= type.mask;
+            }
+        }
+        return result;
+    }
+
+    private static int allMask() {
+        int result = 0;
+        for (NotificationType type : values()) {
+            result |= type.mask;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,245 @@
+package com.sungbok.community.repository;
+
+import com.sungbok.community.enums.AnnouncementJobStatus;
+import com.sungbok.community.security.TenantContext;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.generated.tables.daos.AnnouncementJobsDao;
+import org.jooq.generated.tables.pojos.AnnouncementJobs;
+import org.jooq.generated.tables.records.AnnouncementJobsRecord;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.sungbok.community.repository.util.JooqTenantConditionUtils.orgIdCondition;
+import static org.jooq.generated.Tables.ANNOUNCEMENT_JOBS;
+
+/**
+ * 공지 발송 작업 데이터 접근 Repository
+ * 하이브리드 DAO + DSL 패턴 사용
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class AnnouncementJobsRepository {
+
+    private final DSLContext dslContext;
+    private final AnnouncementJobsDao dao;
+
+    public AnnouncementJobsRepository(DSLContext dslContext, Configuration configuration) {
+        this.dslContext = dslContext;
+        this.dao = new AnnouncementJobsDao(configuration);
+    }
+
+    /**
+     * 작업 ID로 조회 (org_id 자동 필터링)
+     *
+     * @param jobId 작업 ID
+     * @return 작업 Optional (없으면 빈 Optional)
+     */
+    public Optional<AnnouncementJobs> fetchById(Long jobId) {
+        return dslContext.selectFrom(ANNOUNCEMENT_JOBS)
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID))
+                .and(ANNOUNCEMENT_JOBS.JOB_ID.eq(jobId))
+                .fetchOptionalInto(AnnouncementJobs.class);
+    }
+
+    /**
+     * 작업을 삽입합니다.
+     * org_id는 TenantContext에서 자동 설정
+     *
+     * @param job 삽입할 작업 엔티티
+     * @return 삽입된 작업 (job_id 포함)
+     */
+    public AnnouncementJobs insert(AnnouncementJobs job) {
+        Long orgId = TenantContext.getRequiredOrgId();
+        job.setOrgId(orgId);  // 강제로 현재 테넌트 설정
+        job.setStatus(AnnouncementJobStatus.PENDING.name());
+
+        dao.insert(job);
+        return job;
+    }
+
+    /**
+     * 예약 공지 작업을 삽입합니다 (schedule_id 멱등).
+     * 같은 예약 ID의 작업이 이미 있으면 삽입하지 않음 (스케줄러 재선점으로 인한 중복 생성 방지)
+     * org_id는 TenantContext에서 자동 설정
+     *
+     * @param job 삽입할 작업 엔티티 (scheduleId 필수)
+     * @return 삽입된 작업 Optional (이미 있으면 빈 Optional)
+     */
+    public Optional<AnnouncementJobs> insertIfAbsent(AnnouncementJobs job) {
+        Long orgId = TenantContext.getRequiredOrgId();
+        job.setOrgId(orgId);  // 강제로 현재 테넌트 설정
+        job.setStatus(AnnouncementJobStatus.PENDING.name());
+
+        AnnouncementJobsRecord record = dslContext.newRecord(ANNOUNCEMENT_JOBS, job);
+        record.changed(ANNOUNCEMENT_JOBS.JOB_ID, false);  // BIGSERIAL 기본값 사용
+        return dslContext.insertInto(ANNOUNCEMENT_JOBS)
+                .set(record)
+                .onConflict(ANNOUNCEMENT_JOBS.SCHEDULE_ID)
+                .doNothing()
+                .returning()
+                .fetchOptionalInto(AnnouncementJobs.class);
+    }
+
+    /**
+     * 예약 ID로 조회 (org_id 자동 필터링)
+     *
+     * @param scheduleId 예약 ID
+     * @return 작업 Optional (없으면 빈 Optional)
+     */
+    public Optional<AnnouncementJobs> fetchByScheduleId(String scheduleId) {
+        return dslContext.selectFrom(ANNOUNCEMENT_JOBS)
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID))
+                .and(ANNOUNCEMENT_JOBS.SCHEDULE_ID.eq(scheduleId))
+                .fetchOptionalInto(AnnouncementJobs.class);
+    }
+
+    /**
+     * 실행할 작업을 선점합니다 (조건부 UPDATE).
+     * PENDING, 실행 횟수가 한도 미만인 FAILED, heartbeat가 끊긴 RUNNING 작업만 선점 가능
+     * 여러 노드가 동시에 시도해도 한 노드만 성공하며, 새 소유자 ID로 이전 소유자의 갱신을 차단
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 작업 ID
+     * @param ownerId 이번 실행의 소유자 ID
+     * @param staleBefore 이 시각 이전 heartbeat는 중단된 것으로 간주
+     * @param maxRuns 최대 실행 횟수 (FAILED 작업 재개 한도)
+     * @return 선점된 작업 Optional (다른 노드가 실행 중이거나 완료되면 빈 Optional)
+     */
+    public Optional<AnnouncementJobs> claim(Long orgId, Long jobId, String ownerId,
+                                            LocalDateTime staleBefore, int maxRuns) {
+        LocalDateTime now = LocalDateTime.now();
+        return dslContext.update(ANNOUNCEMENT_JOBS)
+                .set(ANNOUNCEMENT_JOBS.STATUS, AnnouncementJobStatus.RUNNING.name())
+                .set(ANNOUNCEMENT_JOBS.OWNER_ID, ownerId)
+                .set(ANNOUNCEMENT_JOBS.RUN_COUNT, ANNOUNCEMENT_JOBS.RUN_COUNT.plus(1))
+                .set(ANNOUNCEMENT_JOBS.HEARTBEAT_AT, now)
+                .set(ANNOUNCEMENT_JOBS.STARTED_AT, DSL.coalesce(ANNOUNCEMENT_JOBS.STARTED_AT, now))
+                .set(ANNOUNCEMENT_JOBS.ERROR_MESSAGE, (String) null)
+                .set(ANNOUNCEMENT_JOBS.MODIFIED_AT, now)
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID, orgId))
+                .and(ANNOUNCEMENT_JOBS.JOB_ID.eq(jobId))
+                .and(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.PENDING.name())
+                        .or(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.FAILED.name())
+                                .and(ANNOUNCEMENT_JOBS.RUN_COUNT.lt(maxRuns)))
+                        .or(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.RUNNING.name())
+                                .and(ANNOUNCEMENT_JOBS.HEARTBEAT_AT.lt(staleBefore))))
+                .returning()
+                .fetchOptionalInto(AnnouncementJobs.class);
+    }
+
+    /**
+     * 재개 대상 작업 조회 (전체 조직, 시스템 작업용)
+     * 오래된 PENDING, heartbeat가 끊긴 RUNNING, 실패 후 기준 시각이 지났고 실행 횟수가 한도 미만인 FAILED
+     *
+     * @param staleBefore 기준 시각 (FAILED는 재시도 간격으로도 사용)
+     * @param maxRuns 최대 실행 횟수
+     * @param limit 최대 개수
+     * @return 재개 대상 작업 리스트
+     */
+    public List<AnnouncementJobs> fetchResumable(LocalDateTime staleBefore, int maxRuns, int limit) {
+        return dslContext.selectFrom(ANNOUNCEMENT_JOBS)
+                .where(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.PENDING.name())
+                        .and(ANNOUNCEMENT_JOBS.CREATED_AT.lt(staleBefore)))
+                .or(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.RUNNING.name())
+                        .and(ANNOUNCEMENT_JOBS.HEARTBEAT_AT.lt(staleBefore)))
+                .or(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.FAILED.name())
+                        .and(ANNOUNCEMENT_JOBS.RUN_COUNT.lt(maxRuns))
+                        .and(ANNOUNCEMENT_JOBS.MODIFIED_AT.lt(staleBefore)))
+                .orderBy(ANNOUNCEMENT_JOBS.JOB_ID)
+                .limit(limit)
+                .fetchInto(AnnouncementJobs.class);
+    }
+
+    /**
+     * heartbeat를 갱신합니다 (소유자가 일치할 때만).
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 작업 ID
+     * @param ownerId 실행 소유자 ID
+     * @return 영향받은 행 수 (0이면 다른 노드가 재선점)
+     */
+    public int heartbeat(Long orgId, Long jobId, String ownerId) {
+        return dslContext.update(ANNOUNCEMENT_JOBS)
+                .set(ANNOUNCEMENT_JOBS.HEARTBEAT_AT, LocalDateTime.now())
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID, orgId))
+                .and(ANNOUNCEMENT_JOBS.JOB_ID.eq(jobId))
+                .and(ANNOUNCEMENT_JOBS.OWNER_ID.eq(ownerId))
+                .and(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.RUNNING.name()))
+                .execute();
+    }
+
+    /**
+     * INSERT 커서를 전진시킵니다 (소유자가 일치할 때만).
+     * notifications INSERT와 같은 트랜잭션에서 호출해야 함 (재개 시 중복 INSERT 방지)
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 작업 ID
+     * @param ownerId 실행 소유자 ID
+     * @param throughUserId 이 user_id까지 INSERT 완료
+     * @param insertedCount 이번 청크에서 INSERT된 행 수
+     * @return 영향받은 행 수 (0이면 다른 노드가 재선점)
+     */
+    public int advanceInsertCursor(Long orgId, Long jobId, String ownerId, Long throughUserId, int insertedCount) {
+        return dslContext.update(ANNOUNCEMENT_JOBS)
+                .set(ANNOUNCEMENT_JOBS.INSERTED_THROUGH_USER_ID, throughUserId)
+                .set(ANNOUNCEMENT_JOBS.INSERTED_COUNT, ANNOUNCEMENT_JOBS.INSERTED_COUNT.plus(insertedCount))
+                .set(ANNOUNCEMENT_JOBS.HEARTBEAT_AT, LocalDateTime.now())
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID, orgId))
+                .and(ANNOUNCEMENT_JOBS.JOB_ID.eq(jobId))
+                .and(ANNOUNCEMENT_JOBS.OWNER_ID.eq(ownerId))
+                .and(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.RUNNING.name()))
+                .execute();
+    }
+
+    /**
+     * 푸시 커서를 전진시킵니다 (소유자가 일치할 때만).
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 작업 ID
+     * @param ownerId 실행 소유자 ID
+     * @param throughUserId 이 user_id까지 푸시 전송 완료
+     * @param pushedCount 이번 구간에서 전송한 토큰 수
+     * @return 영향받은 행 수 (0이면 다른 노드가 재선점)
+     */
+    public int advancePushCursor(Long orgId, Long jobId, String ownerId, Long throughUserId, int pushedCount) {
+        return dslContext.update(ANNOUNCEMENT_JOBS)
+                .set(ANNOUNCEMENT_JOBS.PUSHED_THROUGH_USER_ID, throughUserId)
+                .set(ANNOUNCEMENT_JOBS.PUSHED_COUNT, ANNOUNCEMENT_JOBS.PUSHED_COUNT.plus(pushedCount))
+                .set(ANNOUNCEMENT_JOBS.HEARTBEAT_AT, LocalDateTime.now())
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID, orgId))
+                .and(ANNOUNCEMENT_JOBS.JOB_ID.eq(jobId))
+                .and(ANNOUNCEMENT_JOBS.OWNER_ID.eq(ownerId))
+                .and(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.RUNNING.name()))
+                .execute();
+    }
+
+    /**
+     * 작업을 종료 상태로 변경합니다 (소유자가 일치할 때만).
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 작업 ID
+     * @param ownerId 실행 소유자 ID
+     * @param status COMPLETED 또는 FAILED
+     * @param errorMessage 에러 메시지 (성공 시 null)
+     * @return 영향받은 행 수 (0이면 다른 노드가 재선점)
+     */
+    public int updateFinished(Long orgId, Long jobId, String ownerId, AnnouncementJobStatus status, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        return dslContext.update(ANNOUNCEMENT_JOBS)
+                .set(ANNOUNCEMENT_JOBS.STATUS, status.name())
+                .set(ANNOUNCEMENT_JOBS.ERROR_MESSAGE, errorMessage)
+                .set(ANNOUNCEMENT_JOBS.COMPLETED_AT, status == AnnouncementJobStatus.COMPLETED ? now : null)
+                .set(ANNOUNCEMENT_JOBS.MODIFIED_AT, now)
+                .where(orgIdCondition(ANNOUNCEMENT_JOBS.ORG_ID, orgId))
+                .and(ANNOUNCEMENT_JOBS.JOB_ID.eq(jobId))
+                .and(ANNOUNCEMENT_JOBS.OWNER_ID.eq(ownerId))
+                .and(ANNOUNCEMENT_JOBS.STATUS.eq(AnnouncementJobStatus.RUNNING.name()))
+                .execute();
+    }
+}
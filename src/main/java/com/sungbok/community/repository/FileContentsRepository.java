@@ -0,0 +1,118 @@
+package com.sungbok.community.repository;
+
+import com.sungbok.community.security.TenantContext;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+import static com.sungbok.community.repository.util.JooqTenantConditionUtils.orgIdCondition;
+import static org.jooq.generated.Tables.FILE_CONTENTS;
+
+/**
+ * 내용 주소 파일 데이터 접근 Repository
+ * 같은 내용(SHA-256)의 파일이 하나의 객체를 공유하도록 참조 수 관리
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class FileContentsRepository {
+
+    private final DSLContext dslContext;
+
+    public FileContentsRepository(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * 내용의 공유 객체 키를 조회합니다.
+     * org_id 자동 필터링
+     *
+     * @param contentSha256 내용 SHA-256 (hex)
+     * @return Object Key Optional (등록된 내용이 없으면 빈 Optional)
+     */
+    public Optional<String> fetchObjectKey(String contentSha256) {
+        return dslContext.select(FILE_CONTENTS.OBJECT_KEY)
+                .from(FILE_CONTENTS)
+                .where(orgIdCondition(FILE_CONTENTS.ORG_ID))
+                .and(FILE_CONTENTS.CONTENT_SHA256.eq(contentSha256))
+                .fetchOptional(FILE_CONTENTS.OBJECT_KEY);
+    }
+
+    /**
+     * 검증된 파일을 내용의 첫 참조로 등록합니다 (ref_count = 1).
+     * 같은 내용이 이미 등록되어 있으면 무시 (동시에 업로드된 사본은 별도 객체로 남음)
+     * org_id는 TenantContext에서 자동 설정
+     *
+     * @param contentSha256 내용 SHA-256 (hex)
+     * @param objectKey 공유할 Object Key
+     * @return 등록 여부
+     */
+    public boolean register(String contentSha256, String objectKey) {
+        return dslContext.insertInto(FILE_CONTENTS)
+                .set(FILE_CONTENTS.ORG_ID, TenantContext.getRequiredOrgId())
+                .set(FILE_CONTENTS.CONTENT_SHA256, contentSha256)
+                .set(FILE_CONTENTS.OBJECT_KEY, objectKey)
+                .set(FILE_CONTENTS.REF_COUNT, 1)
+                .onConflictDoNothing()
+                .execute() > 0;
+    }
+
+    /**
+     * 참조를 하나 추가합니다 (Pre-signed URL 발급 시 같은 내용이 확인된 중복 업로드).
+     * 행 잠금으로 정리 작업의 참조 감소와 직렬화되며, 그 사이 내용이 삭제되었으면 0 반환
+     * org_id 자동 필터링
+     *
+     * @param contentSha256 내용 SHA-256 (hex)
+     * @param objectKey 공유 Object Key
+     * @return 영향받은 행 수 (0이면 일반 업로드로 진행)
+     */
+    public int incrementRefCount(String contentSha256, String objectKey) {
+        return dslContext.update(FILE_CONTENTS)
+                .set(FILE_CONTENTS.REF_COUNT, FILE_CONTENTS.REF_COUNT.plus(1))
+                .where(orgIdCondition(FILE_CONTENTS.ORG_ID))
+                .and(FILE_CONTENTS.CONTENT_SHA256.eq(contentSha256))
+                .and(FILE_CONTENTS.OBJECT_KEY.eq(objectKey))
+                .execute();
+    }
+
+    /**
+     * 참조를 하나 줄입니다 (정리 작업의 행 영구 삭제, TenantContext 없이 호출).
+     * 마지막 참조였으면 내용 행도 삭제
+     *
+     * @param orgId 조직 ID
+     * @param contentSha256 내용 SHA-256 (hex)
+     * @param objectKey 파일의 Object Key (공유 객체가 아니면 영향 없음)
+     * @return 남은 참조 수 Optional (이 파일이 공유 객체를 참조하지 않으면 빈 Optional)
+     */
+    public Optional<Integer> decrementRefCount(Long orgId, String contentSha256, String objectKey) {
+        Condition content = FILE_CONTENTS.ORG_ID.eq(orgId)
+                .and(FILE_CONTENTS.CONTENT_SHA256.eq(contentSha256))
+                .and(FILE_CONTENTS.OBJECT_KEY.eq(objectKey));
+
+        // 행 잠금 후 판단 (중복 업로드의 참조 추가와 직렬화)
+        Optional<Integer> refCount = dslContext.select(FILE_CONTENTS.REF_COUNT)
+                .from(FILE_CONTENTS)
+                .where(content)
+                .forUpdate()
+                .fetchOptional(FILE_CONTENTS.REF_COUNT);
+        if (refCount.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (refCount.get() > 1) {
+            dslContext.update(FILE_CONTENTS)
+                    .set(FILE_CONTENTS.REF_COUNT, FILE_CONTENTS.REF_COUNT.minus(1))
+                    .where(content)
+                    .execute();
+            return Optional.of(refCount.get() - 1);
+        }
+
+        // 마지막 참조
+        dslContext.deleteFrom(FILE_CONTENTS)
+                .where(content)
+                .execute();
+        return Optional.of(0);
+    }
+}
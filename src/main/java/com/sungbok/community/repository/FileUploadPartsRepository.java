@@ -0,0 +1,83 @@
+package com.sungbok.community.repository;
+
+import com.sungbok.community.security.TenantContext;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.sungbok.community.repository.util.JooqTenantConditionUtils.orgIdCondition;
+import static org.jooq.generated.Tables.FILE_UPLOAD_PARTS;
+
+/**
+ * 멀티파트 업로드 완료 파트 데이터 접근 Repository
+ * 클라이언트가 파트 업로드 후 보고한 ETag 기록 (재개 시 남은 파트 계산, 완료 시 파트 목록)
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class FileUploadPartsRepository {
+
+    private final DSLContext dslContext;
+
+    public FileUploadPartsRepository(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * 완료 파트를 기록합니다 (같은 파트를 다시 올리면 ETag 갱신).
+     * org_id는 TenantContext에서 자동 설정
+     *
+     * @param fileId 파일 ID
+     * @param partNumber 파트 번호 (1부터)
+     * @param etag 파트 ETag
+     * @return 영향받은 행 수
+     */
+    public int upsert(Long fileId, int partNumber, String etag) {
+        LocalDateTime now = LocalDateTime.now();
+        return dslContext.insertInto(FILE_UPLOAD_PARTS)
+                .set(FILE_UPLOAD_PARTS.ORG_ID, TenantContext.getRequiredOrgId())
+                .set(FILE_UPLOAD_PARTS.FILE_ID, fileId)
+                .set(FILE_UPLOAD_PARTS.PART_NUMBER, partNumber)
+                .set(FILE_UPLOAD_PARTS.ETAG, etag)
+                .set(FILE_UPLOAD_PARTS.UPLOADED_AT, now)
+                .onConflict(FILE_UPLOAD_PARTS.FILE_ID, FILE_UPLOAD_PARTS.PART_NUMBER)
+                .doUpdate()
+                .set(FILE_UPLOAD_PARTS.ETAG, etag)
+                .set(FILE_UPLOAD_PARTS.UPLOADED_AT, now)
+                .execute();
+    }
+
+    /**
+     * 파일의 완료 파트를 조회합니다.
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @return 파트 번호 → ETag (파트 번호 순)
+     */
+    public Map<Integer, String> fetchEtags(Long fileId) {
+        Map<Integer, String> etags = new LinkedHashMap<>();
+        dslContext.select(FILE_UPLOAD_PARTS.PART_NUMBER, FILE_UPLOAD_PARTS.ETAG)
+                .from(FILE_UPLOAD_PARTS)
+                .where(orgIdCondition(FILE_UPLOAD_PARTS.ORG_ID))
+                .and(FILE_UPLOAD_PARTS.FILE_ID.eq(fileId))
+                .orderBy(FILE_UPLOAD_PARTS.PART_NUMBER)
+                .forEach(part -> etags.put(part.value1(), part.value2()));
+        return etags;
+    }
+
+    /**
+     * 파일의 파트 기록을 삭제합니다 (업로드 완료/취소 후).
+     * 방치된 업로드 정리처럼 TenantContext 없이 호출되므로 file_id로만 삭제
+     *
+     * @param fileId 파일 ID
+     * @return 삭제된 행 수
+     */
+    public int deleteByFileId(Long fileId) {
+        return dslContext.deleteFrom(FILE_UPLOAD_PARTS)
+                .where(FILE_UPLOAD_PARTS.FILE_ID.eq(fileId))
+                .execute();
+    }
+}
@@ -0,0 +1,136 @@
+package com.sungbok.community.repository;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.generated.tables.daos.FileValidationJobsDao;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.jooq.generated.Tables.FILE_VALIDATION_JOBS;
+
+/**
+ * 파일 검증 작업 큐 데이터 접근 Repository
+ * 하이브리드 DAO + DSL 패턴 사용
+ * 작업 선점/완료는 TenantContext 없는 Worker에서 호출 (전체 조직)
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class FileValidationJobsRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DSLContext dslContext;
+    private final FileValidationJobsDao dao;
+
+    public FileValidationJobsRepository(DSLContext dslContext, Configuration configuration) {
+        this.dslContext = dslContext;
+        this.dao = new FileValidationJobsDao(configuration);
+    }
+
+    /**
+     * 검증 작업을 삽입합니다.
+     * 호출자의 트랜잭션에 참여 (업로드 완료 처리와 함께 커밋/롤백)
+     *
+     * @param job 삽입할 작업 (orgId, fileId, objectKey, mimeType, fileSize, priority 필수)
+     * @return 삽입된 작업 (job_id 포함)
+     */
+    public FileValidationJobs insert(FileValidationJobs job) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setAttempts(0);
+        job.setAvailableAt(now);
+        job.setCreatedAt(now);
+        dao.insert(job);
+        return job;
+    }
+
+    /**
+     * 실행 가능한 작업을 우선순위 순으로 선점합니다.
+     * FOR UPDATE SKIP LOCKED로 고른 행의 available_at을 lease 만료 시각으로 밀고 attempts를 올림
+     * 단일 문장이라 잠금은 즉시 풀리고, 처리 중 노드가 죽으면 lease 만료 후 다른 Worker가 재선점
+     *
+     * @param now 현재 시각
+     * @param leaseUntil lease 만료 시각
+     * @param limit 최대 개수
+     * @return 선점한 작업 목록 (attempts는 이번 시도 포함)
+     */
+    public List<FileValidationJobs> claimReady(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        return dslContext.update(FILE_VALIDATION_JOBS)
+                .set(FILE_VALIDATION_JOBS.AVAILABLE_AT, leaseUntil)
+                .set(FILE_VALIDATION_JOBS.ATTEMPTS, FILE_VALIDATION_JOBS.ATTEMPTS.plus(1))
+                .where(FILE_VALIDATION_JOBS.JOB_ID.in(
+                        DSL.select(FILE_VALIDATION_JOBS.JOB_ID)
+                                .from(FILE_VALIDATION_JOBS)
+                                .where(FILE_VALIDATION_JOBS.AVAILABLE_AT.le(now))
+                                .orderBy(FILE_VALIDATION_JOBS.PRIORITY, FILE_VALIDATION_JOBS.AVAILABLE_AT)
+                                .limit(limit)
+                                .forUpdate()
+                                .skipLocked()))
+                .returning()
+                .fetchInto(FileValidationJobs.class);
+    }
+
+    /**
+     * 완료(성공 또는 최종 실패)한 작업을 삭제합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 삭제된 행 수
+     */
+    public int delete(Long jobId) {
+        return dslContext.deleteFrom(FILE_VALIDATION_JOBS)
+                .where(FILE_VALIDATION_JOBS.JOB_ID.eq(jobId))
+                .execute();
+    }
+
+    /**
+     * 실패한 작업을 재시도 시각으로 되돌립니다.
+     *
+     * @param jobId 작업 ID
+     * @param retryAt 재시도 시각
+     * @param error 오류 메시지 (1000자까지 저장)
+     * @return 업데이트된 행 수
+     */
+    public int reschedule(Long jobId, LocalDateTime retryAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        return dslContext.update(FILE_VALIDATION_JOBS)
+                .set(FILE_VALIDATION_JOBS.AVAILABLE_AT, retryAt)
+                .set(FILE_VALIDATION_JOBS.LAST_ERROR, lastError)
+                .where(FILE_VALIDATION_JOBS.JOB_ID.eq(jobId))
+                .execute();
+    }
+
+    /**
+     * 처리하지 못한 작업을 시도 횟수를 되돌려 재시도 시각으로 미룹니다 (동영상 검증 대기열 포화 등).
+     *
+     * @param jobId 작업 ID
+     * @param retryAt 재시도 시각
+     * @return 업데이트된 행 수
+     */
+    public int defer(Long jobId, LocalDateTime retryAt) {
+        return dslContext.update(FILE_VALIDATION_JOBS)
+                .set(FILE_VALIDATION_JOBS.AVAILABLE_AT, retryAt)
+                .set(FILE_VALIDATION_JOBS.ATTEMPTS, DSL.greatest(FILE_VALIDATION_JOBS.ATTEMPTS.minus(1), DSL.inline(0)))
+                .where(FILE_VALIDATION_JOBS.JOB_ID.eq(jobId))
+                .execute();
+    }
+
+    /**
+     * 실행 가능한 작업 수와 가장 오래 기다린 작업의 실행 가능 시각을 조회합니다 (메트릭용).
+     *
+     * @param now 현재 시각
+     * @return (대기 수, 가장 오래된 available_at - 없으면 null)
+     */
+    public Record2<Integer, LocalDateTime> fetchReadyStats(LocalDateTime now) {
+        return dslContext.select(DSL.count(), DSL.min(FILE_VALIDATION_JOBS.AVAILABLE_AT))
+                .from(FILE_VALIDATION_JOBS)
+                .where(FILE_VALIDATION_JOBS.AVAILABLE_AT.le(now))
+                .fetchOne();
+    }
+}
@@ -3,11 +3,14 @@ package com.sungbok.community.repository;
 import com.sungbok.community.security.TenantContext;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.JSONB;
 import org.jooq.generated.tables.daos.FilesDao;
 import org.jooq.generated.tables.pojos.Files;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +46,57 @@ public class FilesRepository {
                 .fetchOptionalInto(Files.class);
     }
 
+    /**
+     * 파일 ID 목록으로 조회 (org_id 자동 필터링)
+     * 다른 조직이거나 삭제된 파일은 제외
+     *
+     * @param fileIds 파일 ID 목록
+     * @return 파일 리스트 (순서 보장 안 함)
+     */
+    public List<Files> fetchByIds(Collection<Long> fileIds) {
+        return dslContext.selectFrom(FILES)
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.in(fileIds))
+                .and(FILES.IS_DELETED.eq(false))
+                .fetchInto(Files.class);
+    }
+
+    /**
+     * 같은 내용의 검증된 파일을 조회합니다 (중복 업로드 시 메타데이터 복사 원본).
+     * 삭제 대기 중인 파일도 포함 (공유 객체는 참조 수로 보호됨)
+     * org_id 자동 필터링
+     *
+     * @param contentSha256 내용 SHA-256 (hex)
+     * @param objectKey 공유 Object Key
+     * @return 파일 Optional (없으면 빈 Optional)
+     */
+    public Optional<Files> fetchVerifiedByContent(String contentSha256, String objectKey) {
+        return dslContext.selectFrom(FILES)
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.CONTENT_SHA256.eq(contentSha256))
+                .and(FILES.FILE_PATH.eq(objectKey))
+                .and(FILES.STATUS.eq("VERIFIED"))
+                .orderBy(FILES.FILE_ID)
+                .limit(1)
+                .fetchOptionalInto(Files.class);
+    }
+
+    /**
+     * 파일 ID로 조회하며 행 잠금 (org_id 자동 필터링)
+     * 멀티파트 완료/취소가 동시에 실행되지 않도록 직렬화
+     *
+     * @param fileId 파일 ID
+     * @return 파일 Optional (없으면 빈 Optional)
+     */
+    public Optional<Files> fetchByIdForUpdate(Long fileId) {
+        return dslContext.selectFrom(FILES)
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .and(FILES.IS_DELETED.eq(false))
+                .forUpdate()
+                .fetchOptionalInto(Files.class);
+    }
+
     /**
      * 관련 엔티티로 파일 목록 조회 (org_id 자동 필터링)
      *
@@ -61,7 +115,7 @@ public class FilesRepository {
     }
 
     /**
-     * 파일을 삽입합니다 (PENDING 상태)
+     * 파일을 삽입합니다 (PENDING 또는 멀티파트면 UPLOADING 상태)
      * org_id는 TenantContext에서 자동 설정
      *
      * @param file 삽입할 파일 엔티티
@@ -111,6 +165,198 @@ public class FilesRepository {
                 .execute();
     }
 
+    /**
+     * 멀티파트 업로드 활동 시각을 갱신합니다 (방치 판단 기준)
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @return 영향받은 행 수 (UPLOADING 상태가 아니면 0)
+     */
+    public int touchUploading(Long fileId) {
+        return dslContext.update(FILES)
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .and(FILES.STATUS.eq("UPLOADING"))
+                .execute();
+    }
+
+    /**
+     * 멀티파트 업로드 완료를 기록합니다 (UPLOADING → ACTIVE)
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @return 영향받은 행 수
+     */
+    public int markMultipartCompleted(Long fileId) {
+        return dslContext.update(FILES)
+                .set(FILES.UPLOADED_AT, LocalDateTime.now())
+                .set(FILES.STATUS, "ACTIVE")
+                .set(FILES.UPLOAD_ID, (String) null)
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .and(FILES.STATUS.eq("UPLOADING"))
+                .execute();
+    }
+
+    /**
+     * 멀티파트 업로드 취소를 기록합니다 (UPLOADING → ABORTED, 소프트 삭제)
+     * upload_id는 추적용으로 남김
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @return 영향받은 행 수
+     */
+    public int markMultipartAborted(Long fileId) {
+        return dslContext.update(FILES)
+                .set(FILES.STATUS, "ABORTED")
+                .set(FILES.IS_DELETED, true)
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .and(FILES.STATUS.eq("UPLOADING"))
+                .execute();
+    }
+
+    /**
+     * 방치된 멀티파트 업로드를 선점하여 ABORTED로 전환합니다 (전체 조직, 스케줄러 전용).
+     * FOR UPDATE SKIP LOCKED로 골라 여러 노드가 같은 업로드를 처리하지 않음
+     *
+     * @param inactiveBefore 이 시각 이전에 마지막 활동한 업로드
+     * @param limit 최대 개수
+     * @return 선점한 파일 (org_id, file_id, file_path, upload_id)
+     */
+    public List<Files> claimStaleUploads(LocalDateTime inactiveBefore, int limit) {
+        return dslContext.update(FILES)
+                .set(FILES.STATUS, "ABORTED")
+                .set(FILES.IS_DELETED, true)
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(FILES.FILE_ID.in(
+                        DSL.select(FILES.FILE_ID)
+                                .from(FILES)
+                                .where(FILES.STATUS.eq("UPLOADING"))
+                                .and(FILES.MODIFIED_AT.lt(inactiveBefore))
+                                .limit(limit)
+                                .forUpdate()
+                                .skipLocked()))
+                .returning(FILES.ORG_ID, FILES.FILE_ID, FILES.FILE_PATH, FILES.UPLOAD_ID)
+                .fetchInto(Files.class);
+    }
+
+    /**
+     * 업로드 완료되지 않고 만료된 PENDING 파일을 잠그고 조회합니다 (시스템 전역, 정리 작업용).
+     * idx_files_status 사용, 다른 노드가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param createdBefore 이 시각 전에 생성된 파일
+     * @param limit 최대 조회 수
+     * @return 파일 리스트 (ORG_ID, FILE_ID, FILE_PATH, FILE_SIZE, UPLOAD_ID, VARIANTS, CONTENT_SHA256만 포함)
+     */
+    public List<Files> fetchExpiredPendingForUpdate(LocalDateTime createdBefore, int limit) {
+        return dslContext.select(FILES.ORG_ID, FILES.FILE_ID, FILES.FILE_PATH, FILES.FILE_SIZE,
+                        FILES.UPLOAD_ID, FILES.VARIANTS, FILES.CONTENT_SHA256)
+                .from(FILES)
+                .where(FILES.STATUS.eq("PENDING"))
+                .and(FILES.CREATED_AT.lt(createdBefore))
+                .limit(limit)
+                .forUpdate()
+                .skipLocked()
+                .fetchInto(Files.class);
+    }
+
+    /**
+     * 검증에서 거부(REJECTED)된 파일을 잠그고 조회합니다 (시스템 전역, 정리 작업용).
+     * idx_files_status 사용, 다른 노드가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+     * 소프트 삭제된 파일은 fetchDeletedForUpdate에서 처리
+     *
+     * @param rejectedBefore 이 시각 전에 거부된 파일
+     * @param limit 최대 조회 수
+     * @return 파일 리스트 (ORG_ID, FILE_ID, FILE_PATH, FILE_SIZE, UPLOAD_ID, VARIANTS, CONTENT_SHA256만 포함)
+     */
+    public List<Files> fetchRejectedForUpdate(LocalDateTime rejectedBefore, int limit) {
+        return dslContext.select(FILES.ORG_ID, FILES.FILE_ID, FILES.FILE_PATH, FILES.FILE_SIZE,
+                        FILES.UPLOAD_ID, FILES.VARIANTS, FILES.CONTENT_SHA256)
+                .from(FILES)
+                .where(FILES.STATUS.eq("REJECTED"))
+                .and(FILES.IS_DELETED.eq(false))
+                .and(FILES.MODIFIED_AT.lt(rejectedBefore))
+                .limit(limit)
+                .forUpdate()
+                .skipLocked()
+                .fetchInto(Files.class);
+    }
+
+    /**
+     * 삭제(소프트 삭제, 멀티파트 취소)된 파일을 잠그고 조회합니다 (시스템 전역, 정리 작업용).
+     * idx_files_deleted 사용, 다른 노드가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param deletedBefore 이 시각 전에 삭제된 파일
+     * @param limit 최대 조회 수
+     * @return 파일 리스트 (ORG_ID, FILE_ID, FILE_PATH, FILE_SIZE, UPLOAD_ID, VARIANTS, CONTENT_SHA256만 포함)
+     */
+    public List<Files> fetchDeletedForUpdate(LocalDateTime deletedBefore, int limit) {
+        return dslContext.select(FILES.ORG_ID, FILES.FILE_ID, FILES.FILE_PATH, FILES.FILE_SIZE,
+                        FILES.UPLOAD_ID, FILES.VARIANTS, FILES.CONTENT_SHA256)
+                .from(FILES)
+                .where(FILES.IS_DELETED.eq(true))
+                .and(FILES.MODIFIED_AT.lt(deletedBefore))
+                .limit(limit)
+                .forUpdate()
+                .skipLocked()
+                .fetchInto(Files.class);
+    }
+
+    /**
+     * 파일 행을 영구 삭제합니다 (시스템 전역, 객체 삭제 후 정리 작업용).
+     * 검증 작업/멀티파트 파트 기록은 FK CASCADE로 함께 삭제
+     *
+     * @param fileIds 파일 ID 목록
+     * @return 삭제된 행 수
+     */
+    public int hardDeleteByIds(Collection<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            return 0;
+        }
+        return dslContext.deleteFrom(FILES)
+                .where(FILES.FILE_ID.in(fileIds))
+                .execute();
+    }
+
+    /**
+     * 파일 크기를 실제 객체 크기로 보정합니다 (검증에서 선언보다 작게 업로드된 경우).
+     * 사용량 트리거가 이전 크기를 빼고 새 크기를 더함
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @param fileSize 실제 객체 크기 (바이트)
+     * @return 영향받은 행 수
+     */
+    public int updateFileSize(Long fileId, long fileSize) {
+        return dslContext.update(FILES)
+                .set(FILES.FILE_SIZE, fileSize)
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .execute();
+    }
+
+    /**
+     * 내용 SHA-256을 업데이트합니다 (검증에서 불일치하면 null).
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @param contentSha256 내용 SHA-256 (hex) 또는 null
+     * @return 영향받은 행 수
+     */
+    public int updateContentSha256(Long fileId, String contentSha256) {
+        return dslContext.update(FILES)
+                .set(FILES.CONTENT_SHA256, contentSha256)
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .execute();
+    }
+
     /**
      * 동영상 메타데이터를 업데이트합니다 (FFmpeg 검증 결과)
      * org_id 자동 필터링
@@ -133,6 +379,30 @@ public class FilesRepository {
                 .execute();
     }
 
+    /**
+     * 이미지 메타데이터와 파생본을 업데이트합니다 (이미지 검증 결과)
+     * org_id 자동 필터링
+     *
+     * @param fileId 파일 ID
+     * @param width 원본 너비 (px)
+     * @param height 원본 높이 (px)
+     * @param blurhash BlurHash 플레이스홀더 (없으면 null)
+     * @param variants 파생본 JSON (없으면 null)
+     * @return 영향받은 행 수
+     */
+    public int updateImageMetadata(Long fileId, Integer width, Integer height, String blurhash, JSONB variants) {
+        return dslContext.update(FILES)
+                .set(FILES.WIDTH, width)
+                .set(FILES.HEIGHT, height)
+                .set(FILES.BLURHASH, blurhash)
+                .set(FILES.VARIANTS, variants)
+                .set(FILES.STATUS, "VERIFIED")  // 검증 완료
+                .set(FILES.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(FILES.ORG_ID))
+                .and(FILES.FILE_ID.eq(fileId))
+                .execute();
+    }
+
     /**
      * 파일을 소프트 삭제합니다
      * org_id 자동 필터링 (사용자 소유 확인)
@@ -10,6 +10,7 @@ import org.jooq.generated.tables.records.MembershipsRecord;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -146,6 +147,23 @@ public class MembersRepository {
                 .fetchInto(Memberships.class);
     }
 
+    /**
+     * 주어진 사용자 중 조직의 승인된 멤버만 조회 (org_id 자동 필터링)
+     * 알림 수신자 검증용
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 승인된 멤버의 사용자 ID 리스트
+     */
+    public List<Long> fetchApprovedUserIds(Collection<Long> userIds) {
+        return dsl.select(MEMBERSHIPS.USER_ID)
+                .from(MEMBERSHIPS)
+                .where(orgIdCondition(MEMBERSHIPS.ORG_ID))
+                .and(MEMBERSHIPS.USER_ID.in(userIds))
+                .and(MEMBERSHIPS.STATUS.eq(MembershipStatus.APPROVED))
+                .and(MEMBERSHIPS.IS_DELETED.eq(false))
+                .fetch(MEMBERSHIPS.USER_ID);
+    }
+
     /**
      * 현재 사용자의 멤버십 목록 조회 (모든 조직)
      * TenantContext 사용 안 함 (사용자가 아직 조직에 속하지 않을 수 있음)
@@ -0,0 +1,73 @@
+package com.sungbok.community.repository;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.generated.tables.daos.NotificationOutboxDao;
+import org.jooq.generated.tables.pojos.NotificationOutbox;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.jooq.generated.Tables.NOTIFICATION_OUTBOX;
+
+/**
+ * 알림 Outbox 데이터 접근 Repository
+ * 하이브리드 DAO + DSL 패턴 사용
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class NotificationOutboxRepository {
+
+    private final DSLContext dslContext;
+    private final NotificationOutboxDao dao;
+
+    public NotificationOutboxRepository(DSLContext dslContext, Configuration configuration) {
+        this.dslContext = dslContext;
+        this.dao = new NotificationOutboxDao(configuration);
+    }
+
+    /**
+     * Outbox 행을 삽입합니다.
+     * 호출자의 트랜잭션에 참여 (도메인 변경과 함께 커밋/롤백)
+     *
+     * @param outbox 삽입할 Outbox 엔티티 (orgId, payload 필수)
+     * @return 삽입된 Outbox (outbox_id 포함)
+     */
+    public NotificationOutbox insert(NotificationOutbox outbox) {
+        outbox.setCreatedAt(LocalDateTime.now());
+        dao.insert(outbox);
+        return outbox;
+    }
+
+    /**
+     * 오래된 순으로 Outbox 행을 잠그고 조회합니다 (전체 조직, Relay 전용).
+     * FOR UPDATE SKIP LOCKED: 여러 노드의 Relay가 서로 다른 행을 가져감
+     * 반드시 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 deleteByIds 해야 함
+     *
+     * @param limit 최대 개수
+     * @return 잠근 Outbox 행 리스트
+     */
+    public List<NotificationOutbox> lockBatch(int limit) {
+        return dslContext.selectFrom(NOTIFICATION_OUTBOX)
+                .orderBy(NOTIFICATION_OUTBOX.OUTBOX_ID)
+                .limit(limit)
+                .forUpdate()
+                .skipLocked()
+                .fetchInto(NotificationOutbox.class);
+    }
+
+    /**
+     * 큐로 옮긴 Outbox 행을 삭제합니다.
+     *
+     * @param outboxIds Outbox ID 목록
+     * @return 삭제된 행 수
+     */
+    public int deleteByIds(Collection<Long> outboxIds) {
+        return dslContext.deleteFrom(NOTIFICATION_OUTBOX)
+                .where(NOTIFICATION_OUTBOX.OUTBOX_ID.in(outboxIds))
+                .execute();
+    }
+}
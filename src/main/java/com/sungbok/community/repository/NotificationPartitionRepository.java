@@ -0,0 +1,86 @@
+package com.sungbok.community.repository;
+
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * notifications 월 파티션 관리 Repository (DDL, 시스템 작업 전용)
+ * 파티션 이름: notifications_pYYYYMM, 범위: [해당 월 1일, 다음 달 1일)
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class NotificationPartitionRepository {
+
+    public static final String PARENT_TABLE = "notifications";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DSLContext dslContext;
+
+    public NotificationPartitionRepository(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * 현재 연결된 월 파티션 목록을 조회합니다.
+     *
+     * @return 파티션 월 목록 (이름 규칙에 맞지 않는 파티션은 제외)
+     */
+    public List<YearMonth> fetchPartitionMonths() {
+        return dslContext.fetch("""
+                        SELECT child.relname
+                        FROM pg_inherits
+                        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                        WHERE parent.relname = {0}
+                        """, DSL.inline(PARENT_TABLE))
+                .getValues(0, String.class)
+                .stream()
+                .filter(name -> name.matches(PARTITION_PREFIX + "\\d{6}"))
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 월 파티션을 생성합니다 (이미 있으면 무시).
+     *
+     * @param month 파티션 월
+     */
+    public void createPartition(YearMonth month) {
+        dslContext.execute("CREATE TABLE IF NOT EXISTS {0} PARTITION OF {1} FOR VALUES FROM ({2}) TO ({3})",
+                DSL.name(partitionName(month)),
+                DSL.name(PARENT_TABLE),
+                DSL.inline(month.atDay(1).toString()),
+                DSL.inline(month.plusMonths(1).atDay(1).toString()));
+    }
+
+    /**
+     * 월 파티션을 부모 테이블에서 분리합니다 (데이터는 독립 테이블로 남음).
+     *
+     * @param month 파티션 월
+     */
+    public void detachPartition(YearMonth month) {
+        dslContext.execute("ALTER TABLE {0} DETACH PARTITION {1}",
+                DSL.name(PARENT_TABLE), DSL.name(partitionName(month)));
+    }
+
+    /**
+     * 분리된 월 파티션 테이블을 삭제합니다.
+     *
+     * @param month 파티션 월
+     */
+    public void dropDetachedPartition(YearMonth month) {
+        dslContext.execute("DROP TABLE IF EXISTS {0}", DSL.name(partitionName(month)));
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+}
@@ -0,0 +1,122 @@
+package com.sungbok.community.repository;
+
+import com.sungbok.community.security.TenantContext;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.SelectConditionStep;
+import org.jooq.generated.tables.daos.NotificationReadStateDao;
+import org.jooq.generated.tables.pojos.NotificationReadState;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.sungbok.community.repository.util.JooqTenantConditionUtils.orgIdCondition;
+import static org.jooq.generated.Tables.NOTIFICATION_READ_STATE;
+
+/**
+ * 알림 읽음 워터마크 데이터 접근 Repository
+ * 하이브리드 DAO + DSL 패턴 사용
+ * 사용자당 1행 (org_id, user_id)
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class NotificationReadStateRepository {
+
+    private final DSLContext dslContext;
+    private final NotificationReadStateDao dao;
+
+    public NotificationReadStateRepository(DSLContext dslContext, Configuration configuration) {
+        this.dslContext = dslContext;
+        this.dao = new NotificationReadStateDao(configuration);
+    }
+
+    /**
+     * 사용자의 읽음 워터마크를 조회합니다.
+     * org_id 자동 필터링
+     *
+     * @param userId 사용자 ID
+     * @return 워터마크 (없으면 0)
+     */
+    public long fetchWatermark(Long userId) {
+        Long watermark = dslContext.select(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID)
+                .from(NOTIFICATION_READ_STATE)
+                .where(orgIdCondition(NOTIFICATION_READ_STATE.ORG_ID))
+                .and(NOTIFICATION_READ_STATE.USER_ID.eq(userId))
+                .fetchOne(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID);
+        return watermark != null ? watermark : 0L;
+    }
+
+    /**
+     * 사용자의 읽음 상태(워터마크, 모두 읽음 시각)를 조회합니다.
+     * org_id 자동 필터링
+     *
+     * @param userId 사용자 ID
+     * @return 읽음 상태 Optional (모두 읽음을 한 적 없으면 빈 Optional)
+     */
+    public Optional<NotificationReadState> fetchReadState(Long userId) {
+        return dslContext.selectFrom(NOTIFICATION_READ_STATE)
+                .where(orgIdCondition(NOTIFICATION_READ_STATE.ORG_ID))
+                .and(NOTIFICATION_READ_STATE.USER_ID.eq(userId))
+                .fetchOptionalInto(NotificationReadState.class);
+    }
+
+    /**
+     * 워터마크 행을 잠그고 조회합니다 (없으면 0으로 생성 후 잠금).
+     * 개별 읽음/삭제는 공유 잠금, 모두 읽음은 배타 잠금을 잡아
+     * 같은 사용자의 안 읽은 개수 카운터 감소가 같은 알림을 두 번 세지 않도록 순서를 맞춤
+     *
+     * @param userId 사용자 ID
+     * @param exclusive 배타 잠금 여부 (모두 읽음)
+     * @return 워터마크
+     */
+    public long lockWatermark(Long userId, boolean exclusive) {
+        Long watermark = selectWatermarkForLock(userId, exclusive);
+        if (watermark == null) {
+            LocalDateTime now = LocalDateTime.now();
+            dslContext.insertInto(NOTIFICATION_READ_STATE)
+                    .set(NOTIFICATION_READ_STATE.ORG_ID, TenantContext.getRequiredOrgId())
+                    .set(NOTIFICATION_READ_STATE.USER_ID, userId)
+                    .set(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID, 0L)
+                    .set(NOTIFICATION_READ_STATE.CREATED_AT, now)
+                    .set(NOTIFICATION_READ_STATE.MODIFIED_AT, now)
+                    .onConflictDoNothing()
+                    .execute();
+            watermark = selectWatermarkForLock(userId, exclusive);
+        }
+        return watermark;
+    }
+
+    /**
+     * 잠근 워터마크를 전진시킵니다 ({@link #lockWatermark}로 배타 잠금 후 호출).
+     * 워터마크가 뒤로 가지 않도록 더 큰 값일 때만 갱신
+     * org_id 자동 필터링
+     *
+     * @param userId 사용자 ID
+     * @param notificationId 이 ID까지 모두 읽음
+     * @param readAt 모두 읽음 시각 (워터마크 이하 알림의 읽은 시각)
+     * @return 영향받은 행 수
+     */
+    public int advanceWatermark(Long userId, Long notificationId, LocalDateTime readAt) {
+        return dslContext.update(NOTIFICATION_READ_STATE)
+                .set(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID, notificationId)
+                .set(NOTIFICATION_READ_STATE.LAST_READ_AT, readAt)
+                .set(NOTIFICATION_READ_STATE.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(NOTIFICATION_READ_STATE.ORG_ID))
+                .and(NOTIFICATION_READ_STATE.USER_ID.eq(userId))
+                .and(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID.lt(notificationId))
+                .execute();
+    }
+
+    private Long selectWatermarkForLock(Long userId, boolean exclusive) {
+        SelectConditionStep<Record1<Long>> query = dslContext.select(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID)
+                .from(NOTIFICATION_READ_STATE)
+                .where(orgIdCondition(NOTIFICATION_READ_STATE.ORG_ID))
+                .and(NOTIFICATION_READ_STATE.USER_ID.eq(userId));
+        return exclusive
+                ? query.forUpdate().fetchOne(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID)
+                : query.forShare().fetchOne(NOTIFICATION_READ_STATE.LAST_READ_NOTIFICATION_ID);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sungbok.community.repository;
 
 import tools.jackson.databind.ObjectMapper;
+import com.sungbok.community.enums.NotificationType;
 import com.sungbok.community.security.TenantContext;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
@@ -74,11 +75,9 @@ public class NotificationSettingsRepository {
 
             // 기본 알림 설정 (모든 타입 활성화)
             Map<String, Boolean> defaultPreferences = new HashMap<>();
-            defaultPreferences.put("post_comment", true);
-            defaultPreferences.put("post_like", true);
-            defaultPreferences.put("membership_approved", true);
-            defaultPreferences.put("membership_rejected", true);
-            defaultPreferences.put("admin_announcement", true);
+            for (NotificationType type : NotificationType.values()) {
+                defaultPreferences.put(type.getPreferenceKey(), true);
+            }
 
             // Map → JSONB 변환
             String jsonString = objectMapper.writeValueAsString(defaultPreferences);
@@ -89,6 +88,7 @@ public class NotificationSettingsRepository {
             settings.setOrgId(orgId);
             settings.setUserId(userId);
             settings.setNotificationPreferences(jsonb);
+            settings.setPreferenceMask(NotificationType.ALL_MASK);
             settings.setEnablePushNotifications(true);
             settings.setCreatedAt(LocalDateTime.now());
             settings.setModifiedAt(LocalDateTime.now());
@@ -123,6 +123,7 @@ public class NotificationSettingsRepository {
 
         // 필드 업데이트
         record.setNotificationPreferences(settings.getNotificationPreferences());
+        record.setPreferenceMask(settings.getPreferenceMask());  // JSONB와 함께 갱신 (파생 값)
         record.setEnablePushNotifications(settings.getEnablePushNotifications());
         record.setModifiedAt(LocalDateTime.now());
         record.store();  // store() 패턴
@@ -2,18 +2,34 @@ package com.sungbok.community.repository;
 
 import org.jooq.generated.enums.PushStatus;
 import com.sungbok.community.security.TenantContext;
+import com.sungbok.community.dto.PushStatusUpdate;
+import com.sungbok.community.enums.NotificationType;
 import org.jooq.Configuration;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.generated.enums.MembershipStatus;
 import org.jooq.generated.tables.daos.NotificationsDao;
 import org.jooq.generated.tables.pojos.Notifications;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import static com.sungbok.community.repository.util.JooqTenantConditionUtils.orgIdCondition;
+import static org.jooq.generated.Tables.MEMBERSHIPS;
 import static org.jooq.generated.Tables.NOTIFICATIONS;
+import static org.jooq.generated.Tables.NOTIFICATION_SETTINGS;
+import static org.jooq.generated.Tables.PUSH_TOKENS;
 
 /**
  * 알림 데이터 접근 Repository
@@ -22,6 +38,9 @@ import static org.jooq.generated.Tables.NOTIFICATIONS;
 @Repository
 public class NotificationsRepository {
 
+    private static final String ANNOUNCEMENT_ENTITY_TYPE = "announcement";
+    private static final long PUSH_UPDATE_WINDOW_DAYS = 7;  // 푸시 상태/영수증 갱신 대상 생성 시각 범위 (파티션 pruning)
+
     private final DSLContext dslContext;
     private final NotificationsDao dao;
 
@@ -55,6 +74,9 @@ public class NotificationsRepository {
         // TenantContext에서 org_id 가져오기
         Long orgId = TenantContext.getRequiredOrgId();
         notification.setOrgId(orgId);  // 강제로 현재 테넌트 설정
+        if (notification.getCreatedAt() == null) {
+            notification.setCreatedAt(LocalDateTime.now());  // 파티션 키 (NOT NULL)
+        }
 
         dao.insert(notification);  // DAO 패턴
         return notification;
@@ -62,7 +84,7 @@ public class NotificationsRepository {
 
     /**
      * 사용자 ID로 알림 목록 조회 (페이징)
-     * org_id 자동 필터링, 생성일시 역순 정렬
+     * org_id 자동 필터링, 최신순 (알림 ID 역순)
      *
      * @param userId 사용자 ID
      * @param limit 조회할 개수
@@ -74,38 +96,103 @@ public class NotificationsRepository {
                 .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
                 .and(NOTIFICATIONS.USER_ID.eq(userId))
                 .and(NOTIFICATIONS.IS_DELETED.eq(false))
-                .orderBy(NOTIFICATIONS.CREATED_AT.desc())
+                .orderBy(NOTIFICATIONS.NOTIFICATION_ID.desc())
                 .limit(limit)
                 .offset(offset)
                 .fetchInto(Notifications.class);
     }
 
+    /**
+     * 특정 알림 ID 이전의 알림을 최신순으로 조회 (keyset 페이징)
+     * org_id 자동 필터링, idx_notifications_org_user_id 범위 스캔 (offset 없이 깊은 페이지도 일정 비용)
+     *
+     * @param userId 사용자 ID
+     * @param beforeNotificationId 이 ID 이전부터 (미포함, 이전 페이지의 마지막 ID)
+     * @param limit 조회할 개수
+     * @return 알림 리스트 (ID 역순)
+     */
+    public List<Notifications> fetchByUserIdBefore(Long userId, Long beforeNotificationId, int limit) {
+        return dslContext.selectFrom(NOTIFICATIONS)
+                .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
+                .and(NOTIFICATIONS.USER_ID.eq(userId))
+                .and(NOTIFICATIONS.NOTIFICATION_ID.lt(beforeNotificationId))
+                .and(NOTIFICATIONS.IS_DELETED.eq(false))
+                .orderBy(NOTIFICATIONS.NOTIFICATION_ID.desc())
+                .limit(limit)
+                .fetchInto(Notifications.class);
+    }
+
+    /**
+     * 특정 알림 ID 이후의 알림을 오름차순으로 조회 (SSE 재접속 재전송용)
+     * org_id 자동 필터링, idx_notifications_org_user_id 범위 스캔
+     *
+     * @param userId 사용자 ID
+     * @param afterNotificationId 이 ID 이후부터 (미포함)
+     * @param limit 최대 개수
+     * @return 알림 리스트 (ID 오름차순)
+     */
+    public List<Notifications> fetchByUserIdAfter(Long userId, Long afterNotificationId, int limit) {
+        return dslContext.selectFrom(NOTIFICATIONS)
+                .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
+                .and(NOTIFICATIONS.USER_ID.eq(userId))
+                .and(NOTIFICATIONS.NOTIFICATION_ID.gt(afterNotificationId))
+                .and(NOTIFICATIONS.IS_DELETED.eq(false))
+                .orderBy(NOTIFICATIONS.NOTIFICATION_ID.asc())
+                .limit(limit)
+                .fetchInto(Notifications.class);
+    }
+
     /**
      * 사용자의 읽지 않은 알림 개수 조회
+     * 워터마크 이후 알림만 범위 스캔 (idx_notifications_org_user_id)
+     * org_id 자동 필터링
+     *
+     * @param userId 사용자 ID
+     * @param watermark 읽음 워터마크 (이 ID 이하는 모두 읽음)
+     * @return 읽지 않은 알림 개수
+     */
+    public int countUnreadByUserId(Long userId, long watermark) {
+        return dslContext.selectCount()
+                .from(NOTIFICATIONS)
+                .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
+                .and(NOTIFICATIONS.USER_ID.eq(userId))
+                .and(NOTIFICATIONS.NOTIFICATION_ID.gt(watermark))
+                .and(NOTIFICATIONS.IS_READ.eq(false))
+                .and(NOTIFICATIONS.IS_DELETED.eq(false))
+                .fetchOneInto(Integer.class);
+    }
+
+    /**
+     * 워터마크 구간 (from, to]의 읽지 않은 알림 개수 조회 (모두 읽음으로 새로 읽음 처리되는 개수)
      * org_id 자동 필터링
      *
      * @param userId 사용자 ID
+     * @param fromExclusive 이전 워터마크
+     * @param toInclusive 새 워터마크
      * @return 읽지 않은 알림 개수
      */
-    public int countUnreadByUserId(Long userId) {
+    public int countUnreadBetween(Long userId, long fromExclusive, long toInclusive) {
         return dslContext.selectCount()
                 .from(NOTIFICATIONS)
                 .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
                 .and(NOTIFICATIONS.USER_ID.eq(userId))
+                .and(NOTIFICATIONS.NOTIFICATION_ID.gt(fromExclusive))
+                .and(NOTIFICATIONS.NOTIFICATION_ID.le(toInclusive))
                 .and(NOTIFICATIONS.IS_READ.eq(false))
                 .and(NOTIFICATIONS.IS_DELETED.eq(false))
                 .fetchOneInto(Integer.class);
     }
 
     /**
-     * 알림을 읽음 처리합니다.
+     * 알림을 읽음 처리합니다 (워터마크 이후의 안 읽은 알림만 갱신).
      * org_id 자동 필터링 (사용자 소유 확인)
      *
      * @param notificationId 알림 ID
      * @param userId 사용자 ID (권한 확인용)
-     * @return 영향받은 행 수
+     * @param watermark 읽음 워터마크 (이 ID 이하는 이미 읽음)
+     * @return 영향받은 행 수 (이미 읽음이면 0)
      */
-    public int markAsRead(Long notificationId, Long userId) {
+    public int markAsRead(Long notificationId, Long userId, long watermark) {
         return dslContext.update(NOTIFICATIONS)
                 .set(NOTIFICATIONS.IS_READ, true)
                 .set(NOTIFICATIONS.READ_AT, LocalDateTime.now())
@@ -113,27 +200,48 @@ public class NotificationsRepository {
                 .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
                 .and(NOTIFICATIONS.NOTIFICATION_ID.eq(notificationId))
                 .and(NOTIFICATIONS.USER_ID.eq(userId))  // 권한 확인
+                .and(NOTIFICATIONS.NOTIFICATION_ID.gt(watermark))
+                .and(NOTIFICATIONS.IS_READ.eq(false))
                 .and(NOTIFICATIONS.IS_DELETED.eq(false))
                 .execute();
     }
 
     /**
-     * 사용자의 모든 알림을 읽음 처리합니다.
+     * 사용자 소유 알림 존재 여부 확인
      * org_id 자동 필터링
      *
+     * @param notificationId 알림 ID
      * @param userId 사용자 ID
-     * @return 영향받은 행 수
+     * @return 존재 여부
      */
-    public int markAllAsRead(Long userId) {
-        return dslContext.update(NOTIFICATIONS)
-                .set(NOTIFICATIONS.IS_READ, true)
-                .set(NOTIFICATIONS.READ_AT, LocalDateTime.now())
-                .set(NOTIFICATIONS.MODIFIED_AT, LocalDateTime.now())
+    public boolean existsByIdAndUserId(Long notificationId, Long userId) {
+        return dslContext.fetchExists(
+                dslContext.selectOne()
+                        .from(NOTIFICATIONS)
+                        .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
+                        .and(NOTIFICATIONS.NOTIFICATION_ID.eq(notificationId))
+                        .and(NOTIFICATIONS.USER_ID.eq(userId))
+                        .and(NOTIFICATIONS.IS_DELETED.eq(false))
+        );
+    }
+
+    /**
+     * 사용자의 최신 알림 ID를 조회합니다 (모두 읽음 워터마크용).
+     * 인덱스 역순 첫 항목만 읽음 (idx_notifications_org_user_id)
+     * org_id 자동 필터링
+     *
+     * @param userId 사용자 ID
+     * @return 최신 알림 ID (없으면 0)
+     */
+    public long fetchLatestIdByUserId(Long userId) {
+        Long latest = dslContext.select(NOTIFICATIONS.NOTIFICATION_ID)
+                .from(NOTIFICATIONS)
                 .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
                 .and(NOTIFICATIONS.USER_ID.eq(userId))
-                .and(NOTIFICATIONS.IS_READ.eq(false))
-                .and(NOTIFICATIONS.IS_DELETED.eq(false))
-                .execute();
+                .orderBy(NOTIFICATIONS.NOTIFICATION_ID.desc())
+                .limit(1)
+                .fetchOne(NOTIFICATIONS.NOTIFICATION_ID);
+        return latest != null ? latest : 0L;
     }
 
     /**
@@ -157,13 +265,184 @@ public class NotificationsRepository {
                 .execute();
     }
 
+    /**
+     * 여러 알림의 푸시 상태를 한 번의 JDBC batch로 저장합니다.
+     * PushStatusWriteBuffer 전용 (TenantContext 없는 스케줄러에서 호출)
+     * pushDetailJson이 있으면 기존 metadata에 병합 (jsonb ||)
+     * 최근 생성된 알림만 대상 (created_at 범위로 최근 파티션만 탐색)
+     *
+     * @param updates 알림별로 병합된 푸시 상태 변경 목록
+     * @return 영향받은 행 수 합계
+     */
+    public int updatePushStatusBatch(List<PushStatusUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdSince = now.minusDays(PUSH_UPDATE_WINDOW_DAYS);
+        List<Query> queries = updates.stream()
+                .map(update -> (Query) dslContext.update(NOTIFICATIONS)
+                        .set(NOTIFICATIONS.PUSH_SENT, true)
+                        .set(NOTIFICATIONS.PUSH_SENT_AT, update.sentAt())
+                        .set(NOTIFICATIONS.PUSH_STATUS, update.status())
+                        .set(NOTIFICATIONS.PUSH_ERROR_MESSAGE, update.errorMessage())
+                        .set(NOTIFICATIONS.METADATA, update.pushDetailJson() == null
+                                ? NOTIFICATIONS.METADATA
+                                : DSL.field("coalesce({0}, '{}'::jsonb) || {1}", JSONB.class,
+                                        NOTIFICATIONS.METADATA, DSL.val(JSONB.valueOf(update.pushDetailJson()))))
+                        .set(NOTIFICATIONS.MODIFIED_AT, now)
+                        .where(orgIdCondition(NOTIFICATIONS.ORG_ID, update.orgId()))
+                        .and(NOTIFICATIONS.NOTIFICATION_ID.eq(update.notificationId()))
+                        .and(NOTIFICATIONS.CREATED_AT.ge(createdSince)))
+                .toList();
+
+        return Arrays.stream(dslContext.batch(queries).execute()).sum();
+    }
+
+    /**
+     * Expo 영수증 실패를 알림별로 반영합니다.
+     * metadata.push.okCount에서 실패 기기 수를 차감하고,
+     * 성공 기기가 남지 않은 알림만 push_status를 변경 (하나라도 성공하면 OK 유지)
+     * 영수증은 발송 후 24시간 안에 조회하므로 최근 생성된 알림만 대상 (파티션 pruning)
+     * TenantContext 없는 스케줄러에서 호출
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param failedCounts 알림 ID → 영수증 실패 기기 수
+     * @param status 푸시 상태
+     * @param errorMessage 에러 메시지
+     * @return 영향받은 행 수 합계
+     */
+    public int applyReceiptFailures(Long orgId, Map<Long, Integer> failedCounts,
+                                    PushStatus status, String errorMessage) {
+        if (failedCounts.isEmpty()) {
+            return 0;
+        }
+
+        // 기기별 상세가 없던 알림(단일 기기 가정)은 okCount=1로 취급
+        Field<Integer> okCount = DSL.coalesce(
+                DSL.field("({0}->'push'->>'okCount')::int", Integer.class, NOTIFICATIONS.METADATA),
+                DSL.inline(1));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdSince = now.minusDays(PUSH_UPDATE_WINDOW_DAYS);
+        List<Query> queries = failedCounts.entrySet().stream()
+                .map(entry -> {
+                    // UPDATE의 SET 식은 모두 변경 전 값을 참조하므로 remaining 계산이 일관됨
+                    Field<Integer> remaining = okCount.minus(entry.getValue());
+                    return (Query) dslContext.update(NOTIFICATIONS)
+                            .set(NOTIFICATIONS.METADATA, DSL.field(
+                                    "jsonb_set(coalesce({0}, '{}'::jsonb), '{push,okCount}', to_jsonb(greatest({1}, 0)))",
+                                    JSONB.class, NOTIFICATIONS.METADATA, remaining))
+                            .set(NOTIFICATIONS.PUSH_STATUS, DSL.when(remaining.le(0), DSL.val(status))
+                                    .otherwise(NOTIFICATIONS.PUSH_STATUS))
+                            .set(NOTIFICATIONS.PUSH_ERROR_MESSAGE, DSL.when(remaining.le(0), DSL.val(errorMessage))
+                                    .otherwise(NOTIFICATIONS.PUSH_ERROR_MESSAGE))
+                            .set(NOTIFICATIONS.MODIFIED_AT, now)
+                            .where(orgIdCondition(NOTIFICATIONS.ORG_ID, orgId))
+                            .and(NOTIFICATIONS.NOTIFICATION_ID.eq(entry.getKey()))
+                            .and(NOTIFICATIONS.CREATED_AT.ge(createdSince));
+                })
+                .toList();
+
+        return Arrays.stream(dslContext.batch(queries).execute()).sum();
+    }
+
+    /**
+     * 공지 알림을 조직 멤버에게 일괄 삽입합니다 (INSERT ... SELECT, 청크 단위).
+     * 승인된 멤버를 user_id 오름차순 keyset으로 limit명씩 선택
+     * 알림 이력은 푸시 설정과 무관하게 저장 (기존 handleNotification과 동일)
+     * TenantContext 없는 작업 스레드에서 호출
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 공지 작업 ID (related_entity_id)
+     * @param title 제목
+     * @param body 본문
+     * @param metadata 메타데이터 (푸시 data)
+     * @param afterUserId 이 user_id 이후부터 (keyset 커서)
+     * @param limit 청크 크기
+     * @return 삽입된 알림의 user_id 목록
+     */
+    public List<Long> insertAnnouncementChunk(Long orgId, Long jobId, String title, String body,
+                                              JSONB metadata, Long afterUserId, int limit) {
+        return dslContext.insertInto(NOTIFICATIONS,
+                        NOTIFICATIONS.ORG_ID, NOTIFICATIONS.USER_ID, NOTIFICATIONS.NOTIFICATION_TYPE,
+                        NOTIFICATIONS.TITLE, NOTIFICATIONS.BODY,
+                        NOTIFICATIONS.RELATED_ENTITY_TYPE, NOTIFICATIONS.RELATED_ENTITY_ID, NOTIFICATIONS.METADATA)
+                .select(DSL.select(
+                                MEMBERSHIPS.ORG_ID,
+                                MEMBERSHIPS.USER_ID,
+                                DSL.val(NotificationType.ADMIN_ANNOUNCEMENT.name()),
+                                DSL.val(title),
+                                DSL.val(body),
+                                DSL.val(ANNOUNCEMENT_ENTITY_TYPE),
+                                DSL.val(jobId),
+                                DSL.val(metadata, NOTIFICATIONS.METADATA))
+                        .from(MEMBERSHIPS)
+                        .where(orgIdCondition(MEMBERSHIPS.ORG_ID, orgId))
+                        .and(MEMBERSHIPS.STATUS.eq(MembershipStatus.APPROVED))
+                        .and(MEMBERSHIPS.IS_DELETED.eq(false))
+                        .and(MEMBERSHIPS.USER_ID.gt(afterUserId))
+                        .orderBy(MEMBERSHIPS.USER_ID)
+                        .limit(limit))
+                .returningResult(NOTIFICATIONS.USER_ID)
+                .fetch(NOTIFICATIONS.USER_ID);
+    }
+
+    /**
+     * 공지 알림의 푸시 대상 (알림 ID, 토큰)을 서버 측 커서로 순회합니다.
+     * 푸시 마스터 스위치와 preference_mask 비트(ADMIN_ANNOUNCEMENT)를 SQL에서 필터링
+     * 설정 행이 없으면 기본값(활성)으로 간주
+     * 서버 측 커서(fetchSize)는 트랜잭션 안에서 호출해야 동작
+     * 공지 알림은 작업 생성 이후에 삽입되므로 created_at 하한으로 이전 파티션 제외
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param jobId 공지 작업 ID
+     * @param createdSince 작업 생성 시각
+     * @param fromUserIdExclusive user_id 구간 시작 (미포함)
+     * @param toUserIdInclusive user_id 구간 끝 (포함)
+     * @param fetchSize 커서 fetch 크기
+     * @param consumer (notificationId, expoPushToken) 소비자
+     */
+    public void forEachAnnouncementTarget(Long orgId, Long jobId, LocalDateTime createdSince,
+                                          Long fromUserIdExclusive, Long toUserIdInclusive,
+                                          int fetchSize, BiConsumer<Long, String> consumer) {
+        try (Cursor<Record2<Long, String>> cursor = dslContext
+                .select(NOTIFICATIONS.NOTIFICATION_ID, PUSH_TOKENS.EXPO_PUSH_TOKEN)
+                .from(NOTIFICATIONS)
+                .join(PUSH_TOKENS)
+                    .on(PUSH_TOKENS.ORG_ID.eq(NOTIFICATIONS.ORG_ID))
+                    .and(PUSH_TOKENS.USER_ID.eq(NOTIFICATIONS.USER_ID))
+                    .and(PUSH_TOKENS.IS_ACTIVE.eq(true))
+                    .and(PUSH_TOKENS.IS_DELETED.eq(false))
+                .leftJoin(NOTIFICATION_SETTINGS)
+                    .on(NOTIFICATION_SETTINGS.ORG_ID.eq(NOTIFICATIONS.ORG_ID))
+                    .and(NOTIFICATION_SETTINGS.USER_ID.eq(NOTIFICATIONS.USER_ID))
+                .where(orgIdCondition(NOTIFICATIONS.ORG_ID, orgId))
+                .and(NOTIFICATIONS.RELATED_ENTITY_TYPE.eq(ANNOUNCEMENT_ENTITY_TYPE))
+                .and(NOTIFICATIONS.RELATED_ENTITY_ID.eq(jobId))
+                .and(NOTIFICATIONS.CREATED_AT.ge(createdSince))
+                .and(NOTIFICATIONS.USER_ID.gt(fromUserIdExclusive))
+                .and(NOTIFICATIONS.USER_ID.le(toUserIdInclusive))
+                .and(DSL.coalesce(NOTIFICATION_SETTINGS.ENABLE_PUSH_NOTIFICATIONS, true))
+                .and(DSL.coalesce(NOTIFICATION_SETTINGS.PREFERENCE_MASK, NotificationType.ALL_MASK)
+                        .bitAnd(NotificationType.ADMIN_ANNOUNCEMENT.getMask()).ne(0))
+                .orderBy(NOTIFICATIONS.USER_ID)
+                .fetchSize(fetchSize)
+                .fetchLazy()) {
+            for (Record2<Long, String> row : cursor) {
+                consumer.accept(row.value1(), row.value2());
+            }
+        }
+    }
+
     /**
      * 알림을 소프트 삭제합니다.
      * org_id 자동 필터링 (사용자 소유 확인)
      *
      * @param notificationId 알림 ID
      * @param userId 사용자 ID (권한 확인용)
-     * @return 영향받은 행 수
+     * @return 영향받은 행 수 (이미 삭제됨이면 0)
      */
     public int softDelete(Long notificationId, Long userId) {
         return dslContext.update(NOTIFICATIONS)
@@ -172,6 +451,67 @@ public class NotificationsRepository {
                 .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
                 .and(NOTIFICATIONS.NOTIFICATION_ID.eq(notificationId))
                 .and(NOTIFICATIONS.USER_ID.eq(userId))  // 권한 확인
+                .and(NOTIFICATIONS.IS_DELETED.eq(false))
+                .execute();
+    }
+
+    /**
+     * 사용자들의 알림을 물리 삭제합니다 (테스트/운영 정리용).
+     * org_id 자동 필터링
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 삭제된 행 수
+     */
+    public int deleteByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return dslContext.deleteFrom(NOTIFICATIONS)
+                .where(orgIdCondition(NOTIFICATIONS.ORG_ID))
+                .and(NOTIFICATIONS.USER_ID.in(userIds))
+                .execute();
+    }
+
+    /**
+     * 조직의 보존 기간이 지난 알림을 배치 삭제합니다.
+     * 전체 보존 기간보다 짧게 설정한 조직용 (파티션 통째 삭제는 가장 긴 보존 기간 기준)
+     * created_at 조건으로 기준 이전 파티션만 탐색
+     * TenantContext 없는 스케줄러에서 호출
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param before 이 시각 이전에 생성된 알림 삭제
+     * @param limit 1회 최대 삭제 수
+     * @return 삭제된 행 수
+     */
+    public int deleteCreatedBefore(Long orgId, LocalDateTime before, int limit) {
+        return dslContext.deleteFrom(NOTIFICATIONS)
+                .where(NOTIFICATIONS.CREATED_AT.lt(before))
+                .and(DSL.row(NOTIFICATIONS.NOTIFICATION_ID, NOTIFICATIONS.CREATED_AT).in(
+                        DSL.select(NOTIFICATIONS.NOTIFICATION_ID, NOTIFICATIONS.CREATED_AT)
+                                .from(NOTIFICATIONS)
+                                .where(orgIdCondition(NOTIFICATIONS.ORG_ID, orgId))
+                                .and(NOTIFICATIONS.CREATED_AT.lt(before))
+                                .limit(limit)))
+                .execute();
+    }
+
+    /**
+     * 소프트 삭제 후 기간이 지난 알림을 배치 삭제합니다 (전체 조직, 시스템 작업용).
+     *
+     * @param deletedBefore 이 시각 이전에 삭제 처리된 알림 (modified_at 기준)
+     * @param limit 1회 최대 삭제 수
+     * @return 삭제된 행 수
+     */
+    public int purgeSoftDeleted(LocalDateTime deletedBefore, int limit) {
+        return dslContext.deleteFrom(NOTIFICATIONS)
+                .where(NOTIFICATIONS.CREATED_AT.lt(deletedBefore))
+                .and(DSL.row(NOTIFICATIONS.NOTIFICATION_ID, NOTIFICATIONS.CREATED_AT).in(
+                        DSL.select(NOTIFICATIONS.NOTIFICATION_ID, NOTIFICATIONS.CREATED_AT)
+                                .from(NOTIFICATIONS)
+                                .where(NOTIFICATIONS.IS_DELETED.eq(true))
+                                .and(NOTIFICATIONS.CREATED_AT.lt(deletedBefore))
+                                .and(NOTIFICATIONS.MODIFIED_AT.lt(deletedBefore))
+                                .limit(limit)))
                 .execute();
     }
 }
@@ -0,0 +1,142 @@
+package com.sungbok.community.repository;
+
+import com.sungbok.community.dto.StorageUsageDTO;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.generated.tables.pojos.OrgStorageUsage;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.jooq.generated.Tables.APP_TYPES;
+import static org.jooq.generated.Tables.FILES;
+import static org.jooq.generated.Tables.ORGANIZATIONS;
+import static org.jooq.generated.Tables.ORG_STORAGE_USAGE;
+
+/**
+ * 조직 저장 공간 사용량 데이터 접근 Repository
+ * 사용량은 files 트리거(trg_files_storage_usage)가 갱신하고, 여기서는 조회와 재집계만 담당
+ *
+ * @since 2.1.0
+ */
+@Repository
+public class OrgStorageUsageRepository {
+
+    private static final List<String> RESERVED_STATUSES = List.of("PENDING", "UPLOADING", "ACTIVE");
+
+    private final DSLContext dslContext;
+
+    public OrgStorageUsageRepository(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * 조직의 사용량과 한도를 조회합니다 (한도는 조직 값, 없으면 앱 타입 값).
+     * 파일이 없어 사용량 행이 없으면 0
+     *
+     * @param orgId 조직 ID
+     * @return 사용량 Optional (조직이 없으면 빈 Optional)
+     */
+    public Optional<StorageUsageDTO> fetchUsage(Long orgId) {
+        Field<Long> quota = DSL.coalesce(ORGANIZATIONS.STORAGE_QUOTA_BYTES, APP_TYPES.STORAGE_QUOTA_BYTES);
+
+        return dslContext.select(
+                        ORGANIZATIONS.ORG_ID,
+                        DSL.coalesce(ORG_STORAGE_USAGE.USED_BYTES, 0L),
+                        DSL.coalesce(ORG_STORAGE_USAGE.RESERVED_BYTES, 0L),
+                        DSL.coalesce(ORG_STORAGE_USAGE.FILE_COUNT, 0L),
+                        quota,
+                        ORG_STORAGE_USAGE.RECONCILED_AT)
+                .from(ORGANIZATIONS)
+                .join(APP_TYPES).on(APP_TYPES.APP_TYPE_ID.eq(ORGANIZATIONS.APP_TYPE_ID))
+                .leftJoin(ORG_STORAGE_USAGE).on(ORG_STORAGE_USAGE.ORG_ID.eq(ORGANIZATIONS.ORG_ID))
+                .where(ORGANIZATIONS.ORG_ID.eq(orgId))
+                .fetchOptional(record -> {
+                    long used = record.value2();
+                    long reserved = record.value3();
+                    Long quotaBytes = record.value5();
+                    return StorageUsageDTO.builder()
+                            .orgId(record.value1())
+                            .usedBytes(used)
+                            .reservedBytes(reserved)
+                            .fileCount(record.value4())
+                            .quotaBytes(quotaBytes)
+                            .remainingBytes(quotaBytes != null ? Math.max(quotaBytes - used - reserved, 0) : null)
+                            .reconciledAt(record.value6())
+                            .build();
+                });
+    }
+
+    /**
+     * 재집계 대상 조직 ID 목록 (전체 조직, 스케줄러 전용)
+     *
+     * @return 조직 ID 리스트 (오름차순)
+     */
+    public List<Long> fetchAllOrgIds() {
+        return dslContext.select(ORGANIZATIONS.ORG_ID)
+                .from(ORGANIZATIONS)
+                .orderBy(ORGANIZATIONS.ORG_ID)
+                .fetch(ORGANIZATIONS.ORG_ID);
+    }
+
+    /**
+     * 사용량 행을 잠그고 조회합니다 (없으면 0으로 생성, 재집계용).
+     * 잠금 동안 이 조직의 파일 변경 트리거가 대기하므로 재집계 결과와 어긋나지 않음
+     *
+     * @param orgId 조직 ID
+     * @return 현재 카운터
+     */
+    public OrgStorageUsage fetchForUpdate(Long orgId) {
+        dslContext.insertInto(ORG_STORAGE_USAGE)
+                .set(ORG_STORAGE_USAGE.ORG_ID, orgId)
+                .onConflictDoNothing()
+                .execute();
+
+        return dslContext.selectFrom(ORG_STORAGE_USAGE)
+                .where(ORG_STORAGE_USAGE.ORG_ID.eq(orgId))
+                .forUpdate()
+                .fetchOneInto(OrgStorageUsage.class);
+    }
+
+    /**
+     * files 테이블에서 실제 사용량을 집계합니다 (트리거와 같은 기준).
+     * idx_files_org_entity(org_id 선두) 사용
+     *
+     * @param orgId 조직 ID
+     * @return 집계 결과 (ORG_ID, USED_BYTES, RESERVED_BYTES, FILE_COUNT만 포함)
+     */
+    public OrgStorageUsage sumFiles(Long orgId) {
+        return dslContext.select(
+                        DSL.val(orgId).as(ORG_STORAGE_USAGE.ORG_ID.getName()),
+                        DSL.coalesce(DSL.sum(FILES.FILE_SIZE).filterWhere(FILES.STATUS.eq("VERIFIED")), DSL.inline(0))
+                                .cast(Long.class).as(ORG_STORAGE_USAGE.USED_BYTES.getName()),
+                        DSL.coalesce(DSL.sum(FILES.FILE_SIZE).filterWhere(FILES.STATUS.in(RESERVED_STATUSES)), DSL.inline(0))
+                                .cast(Long.class).as(ORG_STORAGE_USAGE.RESERVED_BYTES.getName()),
+                        DSL.count().filterWhere(FILES.STATUS.eq("VERIFIED"))
+                                .cast(Long.class).as(ORG_STORAGE_USAGE.FILE_COUNT.getName()))
+                .from(FILES)
+                .where(FILES.ORG_ID.eq(orgId))
+                .and(DSL.coalesce(FILES.IS_DELETED, false).isFalse())
+                .fetchOneInto(OrgStorageUsage.class);
+    }
+
+    /**
+     * 재집계 결과로 카운터를 덮어씁니다 (fetchForUpdate로 잠근 트랜잭션 안에서 호출).
+     *
+     * @param actual sumFiles 결과
+     * @return 영향받은 행 수
+     */
+    public int overwrite(OrgStorageUsage actual) {
+        return dslContext.update(ORG_STORAGE_USAGE)
+                .set(ORG_STORAGE_USAGE.USED_BYTES, actual.getUsedBytes())
+                .set(ORG_STORAGE_USAGE.RESERVED_BYTES, actual.getReservedBytes())
+                .set(ORG_STORAGE_USAGE.FILE_COUNT, actual.getFileCount())
+                .set(ORG_STORAGE_USAGE.RECONCILED_AT, LocalDateTime.now())
+                .set(ORG_STORAGE_USAGE.MODIFIED_AT, LocalDateTime.now())
+                .where(ORG_STORAGE_USAGE.ORG_ID.eq(actual.getOrgId()))
+                .execute();
+    }
+}
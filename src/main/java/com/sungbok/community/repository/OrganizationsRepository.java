@@ -78,6 +78,46 @@ public class OrganizationsRepository {
                 .fetchInto(Organizations.class);
     }
 
+    /**
+     * 모든 조직의 알림 보존 기간 조회 (알림 파티션 관리용)
+     * org_id와 notification_retention_months만 채워짐 (NULL이면 기본값 사용)
+     *
+     * @return 조직 리스트
+     */
+    public List<Organizations> fetchNotificationRetentions() {
+        return dsl.select(ORGANIZATIONS.ORG_ID, ORGANIZATIONS.NOTIFICATION_RETENTION_MONTHS)
+                .from(ORGANIZATIONS)
+                .fetchInto(Organizations.class);
+    }
+
+    /**
+     * 조직의 알림 보존 기간 변경
+     *
+     * @param orgId 조직 ID
+     * @param retentionMonths 보존 개월 수 (NULL이면 기본값 사용)
+     * @return 업데이트된 행 수
+     */
+    public int updateNotificationRetention(Long orgId, Integer retentionMonths) {
+        return dsl.update(ORGANIZATIONS)
+                .set(ORGANIZATIONS.NOTIFICATION_RETENTION_MONTHS, retentionMonths)
+                .where(ORGANIZATIONS.ORG_ID.eq(orgId))
+                .execute();
+    }
+
+    /**
+     * 조직의 저장 공간 한도 변경
+     *
+     * @param orgId 조직 ID
+     * @param quotaBytes 한도 (바이트, NULL이면 앱 타입 한도 사용)
+     * @return 업데이트된 행 수
+     */
+    public int updateStorageQuota(Long orgId, Long quotaBytes) {
+        return dsl.update(ORGANIZATIONS)
+                .set(ORGANIZATIONS.STORAGE_QUOTA_BYTES, quotaBytes)
+                .where(ORGANIZATIONS.ORG_ID.eq(orgId))
+                .execute();
+    }
+
     /**
      * 새 조직 삽입
      * RETURNING 절로 생성된 ID 반환
@@ -20,6 +20,7 @@ import org.jooq.Field;
 import org.jooq.SortField;
 import org.jooq.generated.tables.daos.PostsDao;
 import org.jooq.generated.tables.pojos.Posts;
+import org.jooq.impl.SQLDataType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -88,6 +89,10 @@ public class PostsRepository {
                             ,FILES.FILE_SIZE
                             ,FILES.MIME_TYPE
                             ,FILES.UPLOADER_ID
+                            ,FILES.WIDTH
+                            ,FILES.HEIGHT
+                            ,FILES.BLURHASH
+                            ,FILES.VARIANTS.cast(SQLDataType.VARCHAR).as("variants_json")  // URL은 서비스에서 채움
                             ,FILES.IS_DELETED
                             ,FILES.CREATED_AT
                             ,FILES.CREATED_BY
@@ -177,6 +182,10 @@ public class PostsRepository {
                             ,FILES.FILE_SIZE
                             ,FILES.MIME_TYPE
                             ,FILES.UPLOADER_ID
+                            ,FILES.WIDTH
+                            ,FILES.HEIGHT
+                            ,FILES.BLURHASH
+                            ,FILES.VARIANTS.cast(SQLDataType.VARCHAR).as("variants_json")  // URL은 서비스에서 채움
                             ,FILES.IS_DELETED
                             ,FILES.CREATED_AT
                             ,FILES.CREATED_BY
@@ -9,6 +9,7 @@ import org.jooq.generated.tables.records.PushTokensRecord;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static com.sungbok.community.repository.util.JooqTenantConditionUtils.orgIdCondition;
@@ -52,6 +53,7 @@ public class PushTokensRepository {
 
         if (existingRecord != null) {
             // 업데이트: last_used_at, device 정보 갱신
+            existingRecord.setDeviceId(pushToken.getDeviceId());
             existingRecord.setDeviceType(pushToken.getDeviceType());
             existingRecord.setDeviceName(pushToken.getDeviceName());
             existingRecord.setAppVersion(pushToken.getAppVersion());
@@ -86,6 +88,28 @@ public class PushTokensRepository {
                 .fetchInto(PushTokens.class);
     }
 
+    /**
+     * 여러 사용자의 활성화된 Push Token 목록을 한 번에 조회
+     * org_id 자동 필터링
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 활성화된 Push Token 리스트 (userId, expoPushToken)
+     */
+    public List<PushTokens> fetchActiveByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return dslContext.select(PUSH_TOKENS.USER_ID, PUSH_TOKENS.EXPO_PUSH_TOKEN)
+                .from(PUSH_TOKENS)
+                .where(orgIdCondition(PUSH_TOKENS.ORG_ID))
+                .and(PUSH_TOKENS.USER_ID.in(userIds))
+                .and(PUSH_TOKENS.IS_ACTIVE.eq(true))
+                .and(PUSH_TOKENS.IS_DELETED.eq(false))
+                .orderBy(PUSH_TOKENS.USER_ID, PUSH_TOKENS.LAST_USED_AT.desc())
+                .fetchInto(PushTokens.class);
+    }
+
     /**
      * Expo Push Token을 비활성화합니다.
      * Expo API에서 DeviceNotRegistered 에러 발생 시 호출
@@ -103,6 +127,28 @@ public class PushTokensRepository {
                 .execute();
     }
 
+    /**
+     * 여러 Expo Push Token을 한 번의 UPDATE로 비활성화합니다.
+     * 영수증 폴링 등 시스템 작업용 (DeviceNotRegistered 토큰은 모든 조직에서 무효)
+     * org_id 필터링 없음 - 토큰 값 기준 플랫폼 전체 비활성화
+     *
+     * @param expoPushTokens 비활성화할 Expo Push Token 목록
+     * @return 비활성화된 토큰 (userId, expoPushToken만 채워짐)
+     */
+    public List<PushTokens> deactivateTokens(Collection<String> expoPushTokens) {
+        if (expoPushTokens.isEmpty()) {
+            return List.of();
+        }
+
+        return dslContext.update(PUSH_TOKENS)
+                .set(PUSH_TOKENS.IS_ACTIVE, false)
+                .set(PUSH_TOKENS.MODIFIED_AT, LocalDateTime.now())
+                .where(PUSH_TOKENS.EXPO_PUSH_TOKEN.in(expoPushTokens))
+                .and(PUSH_TOKENS.IS_ACTIVE.eq(true))
+                .returning(PUSH_TOKENS.USER_ID, PUSH_TOKENS.EXPO_PUSH_TOKEN)
+                .fetchInto(PushTokens.class);
+    }
+
     /**
      * 사용자의 특정 Push Token을 소프트 삭제합니다.
      * 로그아웃 또는 토큰 삭제 요청 시 사용
@@ -122,6 +168,25 @@ public class PushTokensRepository {
                 .execute();
     }
 
+    /**
+     * 기기의 Push Token을 소프트 삭제합니다 (캐시에 토큰이 없어도 기기 ID로 삭제).
+     * org_id 자동 필터링
+     *
+     * @param userId 사용자 ID (권한 확인용)
+     * @param deviceId 기기 ID
+     * @return 영향받은 행 수
+     */
+    public int softDeleteByDeviceId(Long userId, String deviceId) {
+        return dslContext.update(PUSH_TOKENS)
+                .set(PUSH_TOKENS.IS_DELETED, true)
+                .set(PUSH_TOKENS.MODIFIED_AT, LocalDateTime.now())
+                .where(orgIdCondition(PUSH_TOKENS.ORG_ID))
+                .and(PUSH_TOKENS.USER_ID.eq(userId))
+                .and(PUSH_TOKENS.DEVICE_ID.eq(deviceId))
+                .and(PUSH_TOKENS.IS_DELETED.eq(false))
+                .execute();
+    }
+
     /**
      * 사용자의 모든 Push Token을 소프트 삭제합니다.
      * 회원 탈퇴 또는 전체 디바이스 로그아웃 시 사용
@@ -40,4 +40,15 @@ public class RolePermissionsRepository {
                 .and(ROLE_PERMISSIONS.ACTION.eq(action))
                 .fetchOptionalInto(RolePermissions.class);
     }
+
+    /**
+     * 역할 권한 삽입
+     *
+     * @param permission 삽입할 권한
+     * @return 생성된 ID가 포함된 권한
+     */
+    public RolePermissions insert(RolePermissions permission) {
+        dao.insert(permission);
+        return permission;
+    }
 }
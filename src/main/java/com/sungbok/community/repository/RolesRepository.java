@@ -67,4 +67,14 @@ public class RolesRepository {
                 .fetchInto(Roles.class);
     }
 
+    /**
+     * 새 역할 삽입
+     *
+     * @param role 삽입할 역할
+     * @return 생성된 ID가 포함된 역할
+     */
+    public Roles insert(Roles role) {
+        dao.insert(role);
+        return role;
+    }
 }
\ No newline at end of file
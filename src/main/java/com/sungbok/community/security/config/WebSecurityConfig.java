@@ -12,6 +12,7 @@ import com.sungbok.community.security.jwt.JwtAuthenticationEntryPoint;
 import com.sungbok.community.security.jwt.JwtAuthenticationFilter;
 import com.sungbok.community.security.provider.AuthProvider;
 import com.sungbok.community.security.provider.CustomAuthenticationProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -72,6 +73,10 @@ public class WebSecurityConfig {
                         JwtAuthenticationFilter.class
                 )
                 .authorizeHttpRequests(authorize -> {
+                        // 비동기 디스패치 (SSE 스트림 종료 등): 최초 요청에서 이미 인가됨
+                        // JWT 필터는 ASYNC 디스패치에서 다시 실행되지 않음
+                        authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                         // 공개 접근 엔드포인트
                         authorize.requestMatchers("/health-check").permitAll();
                         authorize.requestMatchers("/users/signup").permitAll();
@@ -0,0 +1,558 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.common.exception.ResourceNotFoundException;
+import com.sungbok.community.common.exception.code.ResourceErrorCode;
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.AnnouncementJobDTO;
+import com.sungbok.community.dto.AnnouncementRequest;
+import com.sungbok.community.dto.PushNotificationRequest;
+import com.sungbok.community.dto.PushStatusUpdate;
+import com.sungbok.community.enums.AnnouncementJobStatus;
+import com.sungbok.community.repository.AnnouncementJobsRepository;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.security.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.JSONB;
+import org.jooq.generated.enums.PushStatus;
+import org.jooq.generated.tables.pojos.AnnouncementJobs;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조직 전체 공지 fan-out 서비스
+ * 멤버 1명당 NotificationEvent 1개를 큐에 넣는 대신, 작업 단위로 일괄 처리
+ *
+ * <p>처리 흐름 (user_id 오름차순 청크 반복):</p>
+ * <ol>
+ *   <li>INSERT ... SELECT로 승인 멤버 청크의 알림 이력 일괄 삽입 + INSERT 커서 전진 (같은 트랜잭션)</li>
+ *   <li>서버 측 커서로 (알림 ID, 토큰) 스트리밍, 푸시 설정은 SQL에서 필터링</li>
+ *   <li>토큰 100개 단위 Expo 요청을 Virtual Thread로 병렬 전송 (동시 요청 수 제한)</li>
+ *   <li>푸시 커서 전진</li>
+ * </ol>
+ *
+ * <p>재개: 노드가 중단되면 heartbeat가 끊긴 작업을 다른 노드가 선점하여
+ * 푸시 커서부터 이어서 처리합니다. 실패한 작업도 실행 횟수 한도(maxRuns) 안에서 자동 재개합니다.
+ * INSERT는 커서와 같은 트랜잭션이라 중복되지 않고, 푸시는 중단된 청크만 다시 전송될 수 있습니다 (at-least-once).</p>
+ *
+ * <p>소유권: 선점할 때마다 새 소유자 ID를 발급하고, heartbeat/커서/종료 갱신은 소유자가 일치할 때만 반영합니다.
+ * 푸시 전송 중에도 heartbeat를 주기적으로 갱신하며, 다른 노드가 재선점한 것을 확인하면 즉시 중단합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnnouncementFanoutService {
+
+    private static final int EXPO_MAX_TOKENS_PER_REQUEST = 100;  // Expo 요청당 최대 메시지 수
+    private static final String ERROR_DEVICE_NOT_REGISTERED = "DeviceNotRegistered";
+    private static final String PRIORITY_DEFAULT = "default";
+    private static final String SOUND_DEFAULT = "default";
+
+    private final AnnouncementJobsRepository announcementJobsRepository;
+    private final NotificationsRepository notificationsRepository;
+    private final PushReceiptService pushReceiptService;
+    private final PushStatusWriteBuffer pushStatusWriteBuffer;
+    private final ValkeyNotificationCacheService valkeyCache;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationInboxCacheService notificationInboxCacheService;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 공지 발송 작업을 생성하고 즉시 실행합니다.
+     * 현재 조직(TenantContext) 전체 승인 멤버 대상
+     *
+     * @param userId 요청한 관리자 ID
+     * @param request 공지 요청
+     * @return 생성된 작업
+     */
+    public AnnouncementJobDTO createJob(Long userId, AnnouncementRequest request) {
+        AnnouncementJobs saved = announcementJobsRepository.insert(newJob(userId, request));
+        log.info("공지 발송 작업 생성: orgId={}, jobId={}, title={}", saved.getOrgId(), saved.getJobId(), saved.getTitle());
+
+        start(saved.getOrgId(), saved.getJobId());
+        return toDTO(saved);
+    }
+
+    /**
+     * 예약 공지의 발송 작업을 생성하고 즉시 실행합니다 (스케줄러용).
+     * 예약 ID를 멱등 키로 사용하여, lease 만료 후 재선점되어도 작업은 1개만 생성
+     * 이미 생성된 작업은 다시 실행하지 않음 (중단된 경우 {@link #resumeStaleJobs}가 재개)
+     *
+     * @param userId 예약한 관리자 ID
+     * @param scheduleId 예약 ID
+     * @param request 공지 요청
+     * @return 생성된 (또는 이미 있던) 작업
+     */
+    public AnnouncementJobDTO createScheduledJob(Long userId, String scheduleId, AnnouncementRequest request) {
+        AnnouncementJobs job = newJob(userId, request);
+        job.setScheduleId(scheduleId);
+
+        AnnouncementJobs saved = announcementJobsRepository.insertIfAbsent(job).orElse(null);
+        if (saved == null) {
+            log.info("예약 공지 작업 이미 생성됨: scheduleId={}", scheduleId);
+            return announcementJobsRepository.fetchByScheduleId(scheduleId)
+                    .map(this::toDTO)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            ResourceErrorCode.NOT_FOUND,
+                            Map.of("scheduleId", scheduleId)
+                    ));
+        }
+        log.info("예약 공지 발송 작업 생성: orgId={}, jobId={}, scheduleId={}",
+                saved.getOrgId(), saved.getJobId(), scheduleId);
+
+        start(saved.getOrgId(), saved.getJobId());
+        return toDTO(saved);
+    }
+
+    /**
+     * 공지 발송 작업을 조회합니다 (org_id 자동 필터링).
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황
+     * @throws ResourceNotFoundException 작업이 없는 경우
+     */
+    public AnnouncementJobDTO getJob(Long jobId) {
+        return announcementJobsRepository.fetchById(jobId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ResourceErrorCode.NOT_FOUND,
+                        Map.of("jobId", jobId)
+                ));
+    }
+
+    /**
+     * 중단된 작업을 재개합니다.
+     * 오래된 PENDING, heartbeat가 끊긴 RUNNING, 실행 횟수가 한도 미만인 FAILED 작업 대상
+     */
+    @Scheduled(fixedDelayString = "${notification.announcement.resume-interval-ms:60000}")
+    public void resumeStaleJobs() {
+        try {
+            List<AnnouncementJobs> jobs = announcementJobsRepository.fetchResumable(
+                    staleBefore(), notificationProperties.getAnnouncement().getMaxRuns(), 10);
+            for (AnnouncementJobs job : jobs) {
+                log.info("중단된 공지 작업 재개: orgId={}, jobId={}, status={}",
+                        job.getOrgId(), job.getJobId(), job.getStatus());
+                start(job.getOrgId(), job.getJobId());
+            }
+        } catch (Exception e) {
+            log.error("공지 작업 재개 조회 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 작업을 Virtual Thread에서 실행합니다.
+     *
+     * @param orgId 조직 ID
+     * @param jobId 작업 ID
+     */
+    private void start(Long orgId, Long jobId) {
+        Thread.ofVirtual()
+                .name("announcement-" + jobId)
+                .start(() -> run(orgId, jobId));
+    }
+
+    /**
+     * 작업을 선점하고 커서 위치부터 끝까지 처리합니다.
+     *
+     * @param orgId 조직 ID
+     * @param jobId 작업 ID
+     */
+    private void run(Long orgId, Long jobId) {
+        if (!runningJobIds.add(jobId)) {
+            return;  // 이 노드에서 이미 실행 중
+        }
+
+        TenantContext.setOrgId(orgId);
+        NotificationProperties.Announcement config = notificationProperties.getAnnouncement();
+        String ownerId = UUID.randomUUID().toString();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            AnnouncementJobs job = announcementJobsRepository.claim(
+                    orgId, jobId, ownerId, staleBefore(), config.getMaxRuns()).orElse(null);
+            if (job == null) {
+                log.debug("공지 작업 선점 실패 (다른 노드 실행 중, 완료 또는 재시도 한도 초과): jobId={}", jobId);
+                return;
+            }
+
+            Map<String, Object> data = pushData(job);
+            long insertedThrough = job.getInsertedThroughUserId();
+
+            // 이전 실행에서 INSERT만 되고 푸시가 안 된 구간
+            if (job.getPushedThroughUserId() < insertedThrough) {
+                pushRange(job, ownerId, data, job.getPushedThroughUserId(), insertedThrough);
+            }
+
+            while (true) {
+                long from = insertedThrough;
+                List<Long> userIds = transactionTemplate.execute(status -> {
+                    List<Long> inserted = notificationsRepository.insertAnnouncementChunk(
+                            orgId, jobId, job.getTitle(), job.getBody(), job.getMetadata(), from, config.getChunkSize());
+                    if (!inserted.isEmpty() && announcementJobsRepository.advanceInsertCursor(
+                            orgId, jobId, ownerId, inserted.stream().mapToLong(Long::longValue).max().orElseThrow(),
+                            inserted.size()) == 0) {
+                        throw new OwnershipLostException(jobId);  // 롤백: 새 소유자가 같은 청크를 INSERT
+                    }
+                    return inserted;
+                });
+
+                if (userIds == null || userIds.isEmpty()) {
+                    break;
+                }
+
+                insertedThrough = userIds.stream().mapToLong(Long::longValue).max().orElseThrow();
+                meterRegistry.counter("notification.announcement.inserted").increment(userIds.size());
+                valkeyCache.incrementUnreadCounts(orgId, userIds);
+                notificationInboxCacheService.evict(orgId, userIds);  // 알림 ID 없이 삽입되므로 다음 조회 시 재로드
+
+                pushRange(job, ownerId, data, from, insertedThrough);
+            }
+
+            // 멤버별 메시지 대신 조직 단위 1건 (접속 중인 클라이언트가 목록/개수 재조회)
+            notificationStreamService.publishAnnouncement(orgId, Map.of("jobId", jobId, "title", job.getTitle()));
+
+            if (announcementJobsRepository.updateFinished(orgId, jobId, ownerId, AnnouncementJobStatus.COMPLETED, null) == 0) {
+                throw new OwnershipLostException(jobId);
+            }
+            sample.stop(meterRegistry.timer("notification.announcement.duration", "result", "completed"));
+            log.info("공지 발송 완료: orgId={}, jobId={}", orgId, jobId);
+
+        } catch (OwnershipLostException e) {
+            sample.stop(meterRegistry.timer("notification.announcement.duration", "result", "preempted"));
+            log.warn("공지 작업 소유권 상실 (다른 노드가 재선점), 실행 중단: orgId={}, jobId={}", orgId, jobId);
+        } catch (Exception e) {
+            sample.stop(meterRegistry.timer("notification.announcement.duration", "result", "failed"));
+            boolean marked = announcementJobsRepository.updateFinished(
+                    orgId, jobId, ownerId, AnnouncementJobStatus.FAILED, e.getMessage()) > 0;
+            log.error("공지 발송 실패 (실행 횟수 한도 {}회 안에서 자동 재개): orgId={}, jobId={}, marked={}, error={}",
+                    config.getMaxRuns(), orgId, jobId, marked, e.getMessage(), e);
+        } finally {
+            TenantContext.clear();  // 메모리 누수 방지
+            runningJobIds.remove(jobId);
+        }
+    }
+
+    /**
+     * user_id 구간의 푸시 대상을 스트리밍하여 Expo 배치로 전송합니다.
+     * 동시 요청 수는 Semaphore로 제한 (커서 읽기에 backpressure)
+     * 배치 전송 후 heartbeat를 주기적으로 갱신하고, 소유권을 잃으면 커서 읽기를 중단
+     *
+     * @param job 작업
+     * @param ownerId 실행 소유자 ID
+     * @param data 푸시 data
+     * @param fromUserIdExclusive 구간 시작 (미포함)
+     * @param toUserIdInclusive 구간 끝 (포함)
+     */
+    private void pushRange(AnnouncementJobs job, String ownerId, Map<String, Object> data,
+                           long fromUserIdExclusive, long toUserIdInclusive) {
+        NotificationProperties.Announcement config = notificationProperties.getAnnouncement();
+        Semaphore permits = new Semaphore(config.getSendConcurrency());
+        AtomicInteger pushed = new AtomicInteger();
+        Heartbeat heartbeat = new Heartbeat(job, ownerId, config.getHeartbeatIntervalSeconds() * 1000);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<PushTarget> batch = new ArrayList<>(EXPO_MAX_TOKENS_PER_REQUEST);
+
+            // 서버 측 커서는 트랜잭션 안에서만 동작 (PostgreSQL)
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationsRepository.forEachAnnouncementTarget(
+                            job.getOrgId(), job.getJobId(), job.getCreatedAt(),
+                            fromUserIdExclusive, toUserIdInclusive, config.getFetchSize(),
+                            (notificationId, token) -> {
+                                batch.add(new PushTarget(notificationId, token));
+                                if (batch.size() == EXPO_MAX_TOKENS_PER_REQUEST) {
+                                    submitBatch(executor, permits, job, data, List.copyOf(batch), pushed, heartbeat);
+                                    batch.clear();
+                                }
+                            }));
+
+            if (!batch.isEmpty()) {
+                submitBatch(executor, permits, job, data, List.copyOf(batch), pushed, heartbeat);
+            }
+        }  // close(): 모든 배치 전송 완료 대기
+
+        if (announcementJobsRepository.advancePushCursor(
+                job.getOrgId(), job.getJobId(), ownerId, toUserIdInclusive, pushed.get()) == 0) {
+            throw new OwnershipLostException(job.getJobId());
+        }
+        log.debug("공지 푸시 구간 완료: jobId={}, users=({}, {}], tokens={}",
+                job.getJobId(), fromUserIdExclusive, toUserIdInclusive, pushed.get());
+    }
+
+    /**
+     * 배치 전송 작업을 제출합니다 (허용 수를 얻을 때까지 대기).
+     * 소유권을 잃었으면 더 제출하지 않고 중단 (커서 트랜잭션 롤백)
+     */
+    private void submitBatch(ExecutorService executor, Semaphore permits, AnnouncementJobs job,
+                             Map<String, Object> data, List<PushTarget> targets, AtomicInteger pushed,
+                             Heartbeat heartbeat) {
+        permits.acquireUninterruptibly();
+        if (heartbeat.isLost()) {
+            permits.release();
+            throw new OwnershipLostException(job.getJobId());
+        }
+        executor.submit(() -> {
+            try {
+                sendBatch(job, data, targets);
+                pushed.addAndGet(targets.size());
+                heartbeat.beat();  // 커서 트랜잭션 밖(전송 스레드)에서 갱신해야 바로 커밋됨
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Expo API로 토큰 배치를 전송하고 결과를 반영합니다.
+     * 429/5xx/네트워크 오류는 지수 백오프로 재시도
+     * 푸시 상태는 알림별로 집계하여 Write-behind 버퍼에 전달
+     *
+     * @param job 작업
+     * @param data 푸시 data
+     * @param targets (알림 ID, 토큰) 배치
+     */
+    private void sendBatch(AnnouncementJobs job, Map<String, Object> data, List<PushTarget> targets) {
+        Long orgId = job.getOrgId();
+        PushNotificationRequest request = PushNotificationRequest.builder()
+                .to(targets.stream().map(PushTarget::token).toList())
+                .title(job.getTitle())
+                .body(job.getBody())
+                .data(data)
+                .priority(PRIORITY_DEFAULT)
+                .sound(SOUND_DEFAULT)
+                .build();
+
+        JsonNode tickets;
+        try {
+            tickets = requestWithRetry(request);
+        } catch (Exception e) {
+            log.warn("공지 배치 전송 실패: jobId={}, tokens={}, error={}", job.getJobId(), targets.size(), e.getMessage());
+            targets.stream().map(PushTarget::notificationId).distinct().forEach(notificationId ->
+                    pushStatusWriteBuffer.submit(new PushStatusUpdate(
+                            orgId, notificationId, PushStatus.ERROR, e.getMessage(), null, LocalDateTime.now())));
+            meterRegistry.counter("notification.announcement.pushed", "status", "error").increment(targets.size());
+            return;
+        }
+
+        List<PushReceiptService.IssuedTicket> issued = new ArrayList<>();
+        Set<String> deadTokens = new HashSet<>();
+        // 알림 ID → 집계 상태 (하나라도 성공하면 OK)
+        Map<Long, PushStatusUpdate> statuses = new LinkedHashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < targets.size() && i < tickets.size(); i++) {
+            PushTarget target = targets.get(i);
+            JsonNode ticket = tickets.get(i);
+            String status = ticket.path("status").asString("");
+
+            PushStatusUpdate update;
+            if ("ok".equals(status)) {
+                String receiptId = ticket.path("id").asString("");
+                if (!receiptId.isEmpty()) {
+                    issued.add(new PushReceiptService.IssuedTicket(receiptId, target.notificationId(), target.token()));
+                }
+                update = new PushStatusUpdate(orgId, target.notificationId(), PushStatus.OK, null, null, LocalDateTime.now());
+            } else {
+                String error = ticket.path("details").path("error").asString("unknown");
+                PushStatus pushStatus = PushStatus.ERROR;
+                if (ERROR_DEVICE_NOT_REGISTERED.equals(error)) {
+                    pushStatus = PushStatus.INVALID_TOKEN;
+                    deadTokens.add(target.token());
+                }
+                update = new PushStatusUpdate(orgId, target.notificationId(), pushStatus, error, null, LocalDateTime.now());
+            }
+
+            statuses.merge(target.notificationId(), update, PushStatusUpdate::merge);
+            counts.merge(status, 1, Integer::sum);
+        }
+
+        statuses.values().forEach(pushStatusWriteBuffer::submit);
+        counts.forEach((status, count) ->
+                meterRegistry.counter("notification.announcement.pushed", "status", status).increment(count));
+
+        pushReceiptService.registerTickets(orgId, issued);
+        pushReceiptService.deactivateTokens(deadTokens);
+    }
+
+    /**
+     * Expo API를 호출하고 티켓 배열(data)을 반환합니다.
+     * 429, 5xx, 네트워크 오류 시 지수 백오프 재시도 (Virtual Thread에서 sleep)
+     *
+     * @param request Expo Push 요청 DTO
+     * @return 티켓 배열 (토큰 순서와 동일)
+     */
+    private JsonNode requestWithRetry(PushNotificationRequest request) throws InterruptedException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Accept", "application/json");
+        HttpEntity<PushNotificationRequest> entity = new HttpEntity<>(request, headers);
+
+        int maxAttempts = notificationProperties.getAnnouncement().getMaxAttempts();
+        long delayMillis = 1000;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ResponseEntity<String> response = restTemplate.exchange(
+                        notificationProperties.getExpo().getPushUrl(), HttpMethod.POST, entity, String.class);
+
+                JsonNode dataNode = objectMapper.readTree(response.getBody()).get("data");
+                if (dataNode == null || !dataNode.isArray()) {
+                    throw new IllegalStateException("Invalid response format");
+                }
+                return dataNode;
+            } catch (HttpClientErrorException e) {
+                // 429 외 4xx는 재시도하지 않음
+                if (e.getStatusCode().value() != 429 || attempt >= maxAttempts) {
+                    throw e;
+                }
+            } catch (RestClientException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+            }
+
+            Thread.sleep(delayMillis);
+            delayMillis = Math.min(delayMillis * 2, 5000);
+        }
+    }
+
+    /**
+     * 작업 metadata(JSONB)를 푸시 data로 변환합니다.
+     *
+     * @param job 작업
+     * @return 푸시 data (announcementId 포함)
+     */
+    private Map<String, Object> pushData(AnnouncementJobs job) {
+        Map<String, Object> data = new HashMap<>();
+        if (job.getMetadata() != null) {
+            data.putAll(objectMapper.readValue(job.getMetadata().data(), new TypeReference<Map<String, Object>>() {}));
+        }
+        data.put("announcementId", job.getJobId());
+        return data;
+    }
+
+    private AnnouncementJobs newJob(Long userId, AnnouncementRequest request) {
+        AnnouncementJobs job = new AnnouncementJobs();
+        job.setTitle(request.getTitle());
+        job.setBody(request.getBody());
+        job.setMetadata(request.getData() != null
+                ? JSONB.valueOf(objectMapper.writeValueAsString(request.getData()))
+                : null);
+        job.setInsertedThroughUserId(0L);  // 초기값: 커서 시작
+        job.setPushedThroughUserId(0L);
+        job.setInsertedCount(0);
+        job.setPushedCount(0);
+        job.setCreatedBy(userId);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setModifiedAt(LocalDateTime.now());
+        return job;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusSeconds(notificationProperties.getAnnouncement().getStaleAfterSeconds());
+    }
+
+    private AnnouncementJobDTO toDTO(AnnouncementJobs job) {
+        return AnnouncementJobDTO.builder()
+                .jobId(job.getJobId())
+                .title(job.getTitle())
+                .status(AnnouncementJobStatus.valueOf(job.getStatus()))
+                .insertedCount(job.getInsertedCount())
+                .pushedCount(job.getPushedCount())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * 푸시 전송 대상 (알림 ID, 토큰)
+     */
+    private record PushTarget(Long notificationId, String token) {
+    }
+
+    /**
+     * 푸시 구간 전송 중 heartbeat 갱신 (주기마다 한 스레드만 갱신)
+     */
+    private class Heartbeat {
+
+        private final AnnouncementJobs job;
+        private final String ownerId;
+        private final long intervalMillis;
+        private final AtomicLong lastBeatAt = new AtomicLong(System.currentTimeMillis());
+        private final AtomicBoolean lost = new AtomicBoolean();
+
+        Heartbeat(AnnouncementJobs job, String ownerId, long intervalMillis) {
+            this.job = job;
+            this.ownerId = ownerId;
+            this.intervalMillis = intervalMillis;
+        }
+
+        void beat() {
+            long last = lastBeatAt.get();
+            long now = System.currentTimeMillis();
+            if (now - last < intervalMillis || !lastBeatAt.compareAndSet(last, now)) {
+                return;
+            }
+            try {
+                if (announcementJobsRepository.heartbeat(job.getOrgId(), job.getJobId(), ownerId) == 0) {
+                    lost.set(true);
+                }
+            } catch (Exception e) {
+                log.warn("공지 작업 heartbeat 갱신 실패: jobId={}, error={}", job.getJobId(), e.getMessage());
+            }
+        }
+
+        boolean isLost() {
+            return lost.get();
+        }
+    }
+
+    /**
+     * 다른 노드가 작업을 재선점하여 이 실행의 갱신이 무시된 경우
+     */
+    private static class OwnershipLostException extends RuntimeException {
+
+        OwnershipLostException(Long jobId) {
+            super("Announcement job ownership lost: " + jobId);
+        }
+    }
+}
@@ -1,44 +1,108 @@
 package com.sungbok.community.service;
 
+import com.sungbok.community.common.exception.SystemException;
+import com.sungbok.community.common.exception.code.SystemErrorCode;
 import com.sungbok.community.dto.FileValidationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * FFmpeg 서비스
  * 동영상 메타데이터 추출 (ffprobe 사용)
+ *
+ * <p>ffprobe가 Pre-signed GET URL을 직접 읽으므로 필요한 구간(ftyp/moov 등)만 HTTP Range로 받습니다.
+ * moov가 파일 끝에 있는 non-faststart MP4/MOV도 ffprobe가 mdat 크기만큼 건너뛰어 Range로 읽습니다.
+ * URL을 읽지 못한 경우(ffprobe TLS 미지원, 네트워크/HTTP 오류 등 stderr로 판별)에만 전체 다운로드 → 임시 파일로 재시도합니다.
+ * 형식 오류, 분석 시간 초과, 출력 파싱 실패는 전체 다운로드해도 결과가 같으므로 바로 거부합니다.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FFmpegService {
 
-    private final OciStorageService ociStorageService;
+    private static final Duration PROBE_URL_EXPIRATION = Duration.ofMinutes(5);
+    private static final String PROBE_RW_TIMEOUT_MICROS = "15000000";  // 네트워크 정지 시 15초 후 실패
+    private static final String URL_PROBE_PROTOCOLS = "https,http,tls,tcp";  // URL 분석은 로컬 파일 접근 불가
+    private static final String FILE_PROBE_PROTOCOLS = "file";  // 임시 파일 분석은 네트워크 접근 불가
 
-    @Value("${ffmpeg.probe-path}")
-    private String ffprobePath;
+    /**
+     * URL 읽기 실패로 볼 ffprobe stderr 문구 (소문자, 그 외 실패는 파일 자체 문제로 거부)
+     */
+    private static final List<String> TRANSPORT_ERROR_PATTERNS = List.of(
+            "protocol not found",
+            "connection refused",
+            "connection reset",
+            "connection timed out",
+            "network is unreachable",
+            "failed to resolve hostname",
+            "server returned",
+            "http error",
+            "tls",
+            "ssl",
+            "certificate",
+            "input/output error"
+    );
+
+    private final OciStorageService ociStorageService;
+    private final FFprobeExecutor ffprobeExecutor;
 
     /**
      * 동영상 메타데이터를 추출합니다 (ffprobe 사용)
-     * OCI에서 파일을 다운로드하여 임시 파일로 저장 후 검증
+     * Pre-signed URL로 Range 읽기 → URL을 읽지 못한 경우에만 전체 다운로드 후 임시 파일로 재시도
      *
      * @param objectKey OCI Object Key
      * @return FileValidationResult (duration, resolution, codec)
+     * @throws SystemException ffprobe 대기열이 가득 찬 경우 (VIDEO_PROBE_BUSY, 전체 다운로드로 재시도하지 않음)
      */
     public FileValidationResult extractVideoMetadata(String objectKey) {
+        String url;
+        try {
+            url = ociStorageService.generatePresignedDownloadUrl(objectKey, PROBE_URL_EXPIRATION);
+        } catch (Exception e) {
+            log.warn("ffprobe용 URL 생성 실패, 전체 다운로드로 재시도: objectKey={}", objectKey, e);
+            return extractFromDownloadedFile(objectKey);
+        }
+
+        FFprobeExecutor.ProbeResult result = runProbe(url, URL_PROBE_PROTOCOLS);
+        if (result.succeeded()) {
+            return parseProbeOutput(result.stdout(), objectKey);
+        }
+
+        if (result.timedOut()) {
+            log.warn("ffprobe 분석 시간 초과, 거부: objectKey={}", objectKey);
+            return invalid("동영상 분석 시간 초과");
+        }
+        if (isTransportError(result.stderr())) {
+            log.warn("URL 기반 ffprobe 읽기 실패, 전체 다운로드로 재시도: exitCode={}, objectKey={}, stderr={}",
+                    result.exitCode(), objectKey, result.stderr());
+            return extractFromDownloadedFile(objectKey);
+        }
+
+        log.warn("ffprobe 분석 실패, 거부: exitCode={}, objectKey={}, stderr={}",
+                result.exitCode(), objectKey, result.stderr());
+        return invalid("동영상 형식을 분석할 수 없습니다");
+    }
+
+    /**
+     * 파일 전체를 임시 파일로 다운로드하여 메타데이터를 추출합니다 (폴백).
+     *
+     * @param objectKey OCI Object Key
+     * @return FileValidationResult
+     */
+    private FileValidationResult extractFromDownloadedFile(String objectKey) {
         Path tempFile = null;
 
         try {
@@ -51,81 +115,21 @@ public class FFmpegService {
 
             log.debug("임시 파일 생성 완료: objectKey={}, tempFile={}", objectKey, tempFile);
 
-            // 2. ffprobe 실행 (JSON 출력)
-            ProcessBuilder processBuilder = new ProcessBuilder(
-                    ffprobePath,
-                    "-v", "quiet",
-                    "-print_format", "json",
-                    "-show_format",
-                    "-show_streams",
-                    tempFile.toString()
-            );
-
-            Process process = processBuilder.start();
-            String output;
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream()))) {
-                output = reader.lines().collect(Collectors.joining("\n"));
+            // 2. ffprobe 실행
+            FFprobeExecutor.ProbeResult result = runProbe(tempFile.toString(), FILE_PROBE_PROTOCOLS);
+            if (!result.succeeded()) {
+                log.error("ffprobe 실행 실패: exitCode={}, timedOut={}, objectKey={}, stderr={}",
+                        result.exitCode(), result.timedOut(), objectKey, result.stderr());
+                return invalid("동영상 검증 실패");
             }
+            return parseProbeOutput(result.stdout(), objectKey);
 
-            int exitCode = process.waitFor();
-            if (exitCode != 0) {
-                log.error("ffprobe 실행 실패: exitCode={}, objectKey={}", exitCode, objectKey);
-                return FileValidationResult.builder()
-                        .valid(false)
-                        .errorMessage("동영상 검증 실패")
-                        .build();
-            }
-
-            // 3. JSON 파싱 (Jackson 3.x)
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode root = objectMapper.readTree(output);
-
-            // duration (format.duration)
-            JsonNode formatNode = root.get("format");
-            if (formatNode == null || formatNode.get("duration") == null) {
-                log.warn("duration 필드 없음: objectKey={}", objectKey);
-                return FileValidationResult.builder()
-                        .valid(false)
-                        .errorMessage("duration 필드를 찾을 수 없습니다")
-                        .build();
-            }
-            Double duration = formatNode.get("duration").asDouble();
-
-            // resolution & codec (streams[0])
-            JsonNode streamsNode = root.get("streams");
-            if (streamsNode == null || !streamsNode.isArray() || streamsNode.isEmpty()) {
-                log.warn("streams 필드 없음: objectKey={}", objectKey);
-                return FileValidationResult.builder()
-                        .valid(false)
-                        .errorMessage("streams 필드를 찾을 수 없습니다")
-                        .build();
+        } catch (SystemException e) {
+            if (e.getErrorCode() == SystemErrorCode.VIDEO_PROBE_BUSY) {
+                throw e;
             }
-
-            JsonNode videoStream = streamsNode.get(0);
-            if (videoStream == null) {
-                log.warn("video stream 없음: objectKey={}", objectKey);
-                return FileValidationResult.builder()
-                        .valid(false)
-                        .errorMessage("video stream을 찾을 수 없습니다")
-                        .build();
-            }
-
-            int width = videoStream.get("width") != null ? videoStream.get("width").asInt() : 0;
-            int height = videoStream.get("height") != null ? videoStream.get("height").asInt() : 0;
-            String resolution = width + "x" + height;
-            String codec = videoStream.get("codec_name") != null ? videoStream.get("codec_name").asString() : "unknown";
-
-            log.debug("동영상 메타데이터 추출 완료: objectKey={}, duration={}, resolution={}, codec={}",
-                    objectKey, duration, resolution, codec);
-
-            return FileValidationResult.builder()
-                    .valid(true)
-                    .duration(duration)
-                    .resolution(resolution)
-                    .codec(codec)
-                    .build();
-
+            log.error("동영상 메타데이터 추출 실패: objectKey={}", objectKey, e);
+            return invalid("메타데이터 추출 중 오류 발생: " + e.getMessage());
         } catch (Exception e) {
             log.error("동영상 메타데이터 추출 실패: objectKey={}", objectKey, e);
             return FileValidationResult.builder()
@@ -133,7 +137,7 @@ public class FFmpegService {
                     .errorMessage("메타데이터 추출 중 오류 발생: " + e.getMessage())
                     .build();
         } finally {
-            // 4. 임시 파일 삭제
+            // 3. 임시 파일 삭제
             if (tempFile != null) {
                 try {
                     Files.deleteIfExists(tempFile);
@@ -144,4 +148,114 @@ public class FFmpegService {
             }
         }
     }
+
+    /**
+     * ffprobe를 실행합니다 (JSON 출력).
+     *
+     * @param input 파일 경로 또는 URL
+     * @param protocols 허용할 입력 프로토콜 (-protocol_whitelist)
+     * @return 실행 결과
+     * @throws SystemException 대기열이 가득 찬 경우 (VIDEO_PROBE_BUSY) 또는 프로세스 실행 실패
+     */
+    private FFprobeExecutor.ProbeResult runProbe(String input, String protocols) {
+        return ffprobeExecutor.run(List.of(
+                "-v", "error",
+                "-protocol_whitelist", protocols,
+                "-rw_timeout", PROBE_RW_TIMEOUT_MICROS,
+                "-print_format", "json",
+                "-show_format",
+                "-show_streams",
+                input
+        ));
+    }
+
+    /**
+     * URL을 읽지 못해 실패했는지 판별합니다 (stderr 기준).
+     *
+     * @param stderr ffprobe 표준 에러
+     * @return 전송/URL 오류 여부
+     */
+    private static boolean isTransportError(String stderr) {
+        if (stderr == null || stderr.isBlank()) {
+            return false;
+        }
+        String normalized = stderr.toLowerCase(Locale.ROOT);
+        return TRANSPORT_ERROR_PATTERNS.stream().anyMatch(normalized::contains);
+    }
+
+    private static FileValidationResult invalid(String errorMessage) {
+        return FileValidationResult.builder()
+                .valid(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    /**
+     * ffprobe JSON 출력에서 duration, resolution, codec을 추출합니다.
+     * 출력을 파싱할 수 없으면 거부 (전체 다운로드로 재시도하지 않음)
+     *
+     * @param output ffprobe JSON 출력
+     * @param objectKey OCI Object Key (로그용)
+     * @return FileValidationResult
+     */
+    private FileValidationResult parseProbeOutput(String output, String objectKey) {
+        // JSON 파싱 (Jackson 3.x)
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(output);
+        } catch (JacksonException e) {
+            log.warn("ffprobe 출력 파싱 실패: objectKey={}", objectKey, e);
+            return invalid("동영상 메타데이터를 해석할 수 없습니다");
+        }
+        if (root == null || root.isMissingNode()) {
+            log.warn("ffprobe 출력 없음: objectKey={}", objectKey);
+            return invalid("동영상 메타데이터를 해석할 수 없습니다");
+        }
+
+        // duration (format.duration)
+        JsonNode formatNode = root.get("format");
+        if (formatNode == null || formatNode.get("duration") == null) {
+            log.warn("duration 필드 없음: objectKey={}", objectKey);
+            return FileValidationResult.builder()
+                    .valid(false)
+                    .errorMessage("duration 필드를 찾을 수 없습니다")
+                    .build();
+        }
+        Double duration = formatNode.get("duration").asDouble();
+
+        // resolution & codec (streams[0])
+        JsonNode streamsNode = root.get("streams");
+        if (streamsNode == null || !streamsNode.isArray() || streamsNode.isEmpty()) {
+            log.warn("streams 필드 없음: objectKey={}", objectKey);
+            return FileValidationResult.builder()
+                    .valid(false)
+                    .errorMessage("streams 필드를 찾을 수 없습니다")
+                    .build();
+        }
+
+        JsonNode videoStream = streamsNode.get(0);
+        if (videoStream == null) {
+            log.warn("video stream 없음: objectKey={}", objectKey);
+            return FileValidationResult.builder()
+                    .valid(false)
+                    .errorMessage("video stream을 찾을 수 없습니다")
+                    .build();
+        }
+
+        int width = videoStream.get("width") != null ? videoStream.get("width").asInt() : 0;
+        int height = videoStream.get("height") != null ? videoStream.get("height").asInt() : 0;
+        String resolution = width + "x" + height;
+        String codec = videoStream.get("codec_name") != null ? videoStream.get("codec_name").asString() : "unknown";
+
+        log.debug("동영상 메타데이터 추출 완료: objectKey={}, duration={}, resolution={}, codec={}",
+                objectKey, duration, resolution, codec);
+
+        return FileValidationResult.builder()
+                .valid(true)
+                .duration(duration)
+                .resolution(resolution)
+                .codec(codec)
+                .build();
+    }
 }
@@ -0,0 +1,218 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.common.exception.SystemException;
+import com.sungbok.community.common.exception.code.SystemErrorCode;
+import com.sungbok.community.config.FFmpegProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ffprobe 프로세스 실행기
+ * 업로드가 몰려도 fork되는 프로세스 수를 제한하고, 멈춘 프로세스는 강제 종료합니다.
+ *
+ * <ul>
+ *   <li>동시 실행 수 제한 (maxConcurrency), 대기 수 제한 (queueCapacity, 초과 시 즉시 거절)</li>
+ *   <li>프로세스별 실행 시간 제한 (timeoutSeconds, 초과 시 하위 프로세스까지 강제 종료)</li>
+ *   <li>stdout/stderr 동시 소비 (파이프 버퍼가 차서 프로세스가 멈추는 것 방지)</li>
+ *   <li>선택적으로 prlimit으로 CPU 시간 / 메모리 제한</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FFprobeExecutor {
+
+    private static final int MAX_STDOUT_BYTES = 1024 * 1024;  // ffprobe JSON은 수 KB
+    private static final int MAX_STDERR_BYTES = 8 * 1024;     // 로그용
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final FFmpegProperties ffmpegProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger waiting = new AtomicInteger(0);
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        int maxConcurrency = ffmpegProperties.getProbe().getMaxConcurrency();
+        permits = new Semaphore(maxConcurrency, true);
+
+        meterRegistry.gauge("ffmpeg.probe.queue.depth", waiting);
+        meterRegistry.gauge("ffmpeg.probe.active", permits,
+                semaphore -> maxConcurrency - semaphore.availablePermits());
+    }
+
+    /**
+     * ffprobe를 실행합니다 (실행 슬롯이 날 때까지 대기).
+     *
+     * @param arguments ffprobe 인자 (실행 파일 경로 제외)
+     * @return 실행 결과
+     * @throws SystemException 대기열이 가득 찼거나 대기 시간 초과 시 (VIDEO_PROBE_BUSY)
+     */
+    public ProbeResult run(List<String> arguments) {
+        FFmpegProperties.Probe config = ffmpegProperties.getProbe();
+
+        if (waiting.incrementAndGet() > config.getQueueCapacity()) {
+            waiting.decrementAndGet();
+            meterRegistry.counter("ffmpeg.probe.rejected", "reason", "queue_full").increment();
+            throw new SystemException(SystemErrorCode.VIDEO_PROBE_BUSY);
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(config.getQueueTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException(SystemErrorCode.VIDEO_PROBE_BUSY, e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        if (!acquired) {
+            meterRegistry.counter("ffmpeg.probe.rejected", "reason", "queue_timeout").increment();
+            throw new SystemException(SystemErrorCode.VIDEO_PROBE_BUSY);
+        }
+
+        try {
+            return execute(arguments, config.getTimeoutSeconds());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private ProbeResult execute(List<String> arguments, long timeoutSeconds) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        Process process = null;
+
+        try {
+            process = new ProcessBuilder(buildCommand(arguments)).start();
+            process.getOutputStream().close();
+
+            StreamDrainer stdout = new StreamDrainer(process.getInputStream(), MAX_STDOUT_BYTES);
+            StreamDrainer stderr = new StreamDrainer(process.getErrorStream(), MAX_STDERR_BYTES);
+
+            boolean finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+            if (!finished) {
+                log.warn("ffprobe 실행 시간 초과, 강제 종료: timeout={}s, pid={}", timeoutSeconds, process.pid());
+                kill(process);
+            }
+
+            ProbeResult result = new ProbeResult(
+                    finished ? process.exitValue() : -1,
+                    stdout.await(),
+                    stderr.await(),
+                    !finished);
+            outcome = result.timedOut() ? "timeout" : result.succeeded() ? "ok" : "error";
+            return result;
+
+        } catch (IOException e) {
+            throw new SystemException(SystemErrorCode.INTERNAL_ERROR, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            kill(process);
+            throw new SystemException(SystemErrorCode.INTERNAL_ERROR, e);
+        } finally {
+            Timer.builder("ffmpeg.probe.duration")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 실행 명령 구성 (limits.enabled면 prlimit으로 감쌈, prlimit은 exec하므로 PID 동일)
+     */
+    private List<String> buildCommand(List<String> arguments) {
+        FFmpegProperties.Limits limits = ffmpegProperties.getProbe().getLimits();
+        List<String> command = new ArrayList<>(arguments.size() + 5);
+
+        if (limits.isEnabled()) {
+            command.add(limits.getPrlimitPath());
+            command.add("--cpu=" + limits.getCpuSeconds());
+            command.add("--as=" + limits.getMemoryBytes());
+            command.add("--");
+        }
+        command.add(ffmpegProperties.getProbePath());
+        command.addAll(arguments);
+        return command;
+    }
+
+    private void kill(Process process) {
+        if (process == null) {
+            return;
+        }
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        try {
+            process.waitFor(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * ffprobe 실행 결과
+     *
+     * @param exitCode 종료 코드 (시간 초과 시 -1)
+     * @param stdout 표준 출력 (JSON)
+     * @param stderr 표준 에러 (최대 8KB)
+     * @param timedOut 시간 초과로 강제 종료 여부
+     */
+    public record ProbeResult(int exitCode, String stdout, String stderr, boolean timedOut) {
+
+        public boolean succeeded() {
+            return !timedOut && exitCode == 0;
+        }
+    }
+
+    /**
+     * 스트림을 Virtual Thread로 끝까지 소비 (limit 이후는 버림)
+     */
+    private static final class StreamDrainer {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final Thread thread;
+
+        StreamDrainer(InputStream stream, int limit) {
+            thread = Thread.ofVirtual().name("ffprobe-drain").start(() -> drain(stream, limit));
+        }
+
+        private void drain(InputStream stream, int limit) {
+            byte[] chunk = new byte[8192];
+            try (stream) {
+                int read;
+                while ((read = stream.read(chunk)) != -1) {
+                    int keep = Math.min(read, limit - buffer.size());
+                    if (keep > 0) {
+                        buffer.write(chunk, 0, keep);
+                    }
+                }
+            } catch (IOException e) {
+                // 프로세스 강제 종료 시 스트림이 닫힘
+            }
+        }
+
+        String await() throws InterruptedException {
+            thread.join(DRAIN_TIMEOUT);
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
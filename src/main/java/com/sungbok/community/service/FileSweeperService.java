@@ -0,0 +1,269 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.FileSweeperProperties;
+import com.sungbok.community.dto.ImageVariantDTO;
+import com.sungbok.community.repository.FileContentsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.tables.pojos.Files;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * 파일 정리(Sweeper) 서비스
+ *
+ * <p>업로드 완료되지 않고 만료된 PENDING 파일, 검증에서 거부(REJECTED)된 파일, 삭제(소프트 삭제, 멀티파트 취소)된 파일의
+ * 객체(원본 + 이미지 파생본)를 DeleteObjects로 일괄 삭제하고 행을 영구 삭제합니다.</p>
+ *
+ * <ol>
+ *   <li>배치마다 FOR UPDATE SKIP LOCKED로 행을 잠가 여러 노드가 같은 파일을 처리하지 않음</li>
+ *   <li>객체 삭제에 실패한 파일은 행을 남겨 다음 실행에서 재시도</li>
+ *   <li>내용 중복 제거로 공유된 객체는 마지막 참조가 삭제될 때만 삭제</li>
+ *   <li>초당 삭제 객체 수와 실행당 배치 수를 제한해 운영 트래픽에 영향을 주지 않음</li>
+ *   <li>속도 제한 대기는 별도 Virtual Thread에서 하므로 다른 @Scheduled 작업을 지연시키지 않음</li>
+ * </ol>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileSweeperService {
+
+    private final FilesRepository filesRepository;
+    private final FileContentsRepository fileContentsRepository;
+    private final OciStorageService ociStorageService;
+    private final FileSweeperProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    /**
+     * 배치 처리 결과
+     *
+     * @param claimed 잠근 행 수
+     * @param objects 삭제 요청한 객체 수
+     * @param removed 영구 삭제한 행 수
+     * @param bytes 회수한 바이트 (파일 크기 + 파생본 크기 기준)
+     */
+    private record BatchResult(int claimed, int objects, int removed, long bytes) {
+    }
+
+    /**
+     * 정리 작업을 Virtual Thread에서 시작합니다.
+     * 속도 제한 대기가 공유 스케줄러 스레드를 점유하지 않도록 분리하고, 이전 실행이 끝나지 않았으면 건너뜀
+     */
+    @Scheduled(cron = "${file-sweeper.cron:0 */5 * * * *}")
+    public void scheduleSweep() {
+        if (!properties.isEnabled() || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread.ofVirtual()
+                .name("file-sweeper")
+                .start(() -> {
+                    try {
+                        sweep();
+                    } catch (Exception e) {
+                        log.error("파일 정리 실행 실패", e);
+                    } finally {
+                        sweeping.set(false);
+                    }
+                });
+    }
+
+    /**
+     * 만료된 PENDING 파일, 거부된 파일, 삭제된 파일 정리 (호출한 스레드에서 실행)
+     */
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime pendingBefore = now.minusHours(properties.getPendingExpireHours());
+        LocalDateTime rejectedBefore = now.minusMinutes(properties.getRejectedGraceMinutes());
+        LocalDateTime deletedBefore = now.minusMinutes(properties.getDeletedGraceMinutes());
+
+        int batches = sweep("pending", limit -> filesRepository.fetchExpiredPendingForUpdate(pendingBefore, limit),
+                properties.getMaxBatchesPerRun());
+        batches += sweep("rejected", limit -> filesRepository.fetchRejectedForUpdate(rejectedBefore, limit),
+                properties.getMaxBatchesPerRun() - batches);
+        sweep("deleted", limit -> filesRepository.fetchDeletedForUpdate(deletedBefore, limit),
+                properties.getMaxBatchesPerRun() - batches);
+    }
+
+    /**
+     * 남은 파일이 없거나 배치 수 한도에 도달할 때까지 정리
+     *
+     * @param reason 정리 사유 (메트릭 태그)
+     * @param claim 배치 크기만큼 행을 잠그고 조회하는 함수
+     * @param maxBatches 최대 배치 수
+     * @return 실행한 배치 수
+     */
+    private int sweep(String reason, IntFunction<List<Files>> claim, int maxBatches) {
+        int batches = 0;
+        int removed = 0;
+        long bytes = 0;
+
+        while (batches < maxBatches) {
+            long startNanos = System.nanoTime();
+            BatchResult result;
+            try {
+                result = transactionTemplate.execute(status -> sweepBatch(reason, claim.apply(properties.getBatchSize())));
+            } catch (Exception e) {
+                log.error("파일 정리 실패: reason={}", reason, e);
+                meterRegistry.counter("file.sweeper.batch.errors", "reason", reason).increment();
+                break;
+            }
+            batches++;
+            removed += result.removed();
+            bytes += result.bytes();
+
+            if (result.claimed() < properties.getBatchSize() || !throttle(result.objects(), startNanos)) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.info("파일 정리 완료: reason={}, batches={}, files={}, bytes={}", reason, batches, removed, bytes);
+        }
+        return batches;
+    }
+
+    /**
+     * 잠근 파일의 객체를 삭제하고, 모든 객체가 삭제된 파일만 행을 영구 삭제합니다.
+     */
+    private BatchResult sweepBatch(String reason, List<Files> files) {
+        if (files.isEmpty()) {
+            return new BatchResult(0, 0, 0, 0);
+        }
+
+        // 1. 파일별 객체 키 (원본 + 파생본)
+        //    멀티파트 취소 실패 파일은 다음 실행으로, 다른 파일이 아직 참조하는 공유 객체는 행만 삭제
+        Map<Long, List<String>> keysByFile = new LinkedHashMap<>();
+        Map<Long, Long> bytesByFile = new LinkedHashMap<>();
+        List<String> objectKeys = new ArrayList<>();
+        List<Long> sharedFiles = new ArrayList<>();
+        for (Files file : files) {
+            if (file.getUploadId() != null && !abortUpload(file)) {
+                continue;
+            }
+            if (isStillShared(file)) {
+                sharedFiles.add(file.getFileId());
+                continue;
+            }
+            List<String> keys = new ArrayList<>();
+            keys.add(file.getFilePath());
+            long bytes = file.getFileSize() != null ? file.getFileSize() : 0;
+            for (ImageVariantDTO variant : variants(file).values()) {
+                keys.add(variant.objectKey());
+                bytes += variant.size();
+            }
+            keysByFile.put(file.getFileId(), keys);
+            bytesByFile.put(file.getFileId(), bytes);
+            objectKeys.addAll(keys);
+        }
+
+        // 2. DeleteObjects (1000개씩)
+        Set<String> failed = objectKeys.isEmpty() ? Set.of() : ociStorageService.deleteFiles(objectKeys);
+
+        // 3. 객체가 모두 삭제된 파일만 영구 삭제
+        List<Long> removable = new ArrayList<>(sharedFiles);
+        long bytes = 0;
+        for (Map.Entry<Long, List<String>> entry : keysByFile.entrySet()) {
+            if (entry.getValue().stream().anyMatch(failed::contains)) {
+                continue;
+            }
+            removable.add(entry.getKey());
+            bytes += bytesByFile.get(entry.getKey());
+        }
+        int removed = filesRepository.hardDeleteByIds(removable);
+
+        meterRegistry.counter("file.sweeper.files", "reason", reason).increment(removed);
+        meterRegistry.counter("file.sweeper.objects", "outcome", "deleted").increment(objectKeys.size() - failed.size());
+        meterRegistry.counter("file.sweeper.objects", "outcome", "failed").increment(failed.size());
+        meterRegistry.counter("file.sweeper.bytes.reclaimed", "reason", reason).increment(bytes);
+
+        return new BatchResult(files.size(), objectKeys.size(), removed, bytes);
+    }
+
+    /**
+     * 공유 객체(내용 중복 제거)의 참조를 줄이고, 다른 파일이 아직 참조하는지 반환합니다.
+     * 마지막 참조였거나 공유 객체가 아니면 false (객체 삭제 대상)
+     */
+    private boolean isStillShared(Files file) {
+        if (file.getContentSha256() == null) {
+            return false;
+        }
+        return fileContentsRepository.decrementRefCount(file.getOrgId(), file.getContentSha256(), file.getFilePath())
+                .map(remaining -> remaining > 0)
+                .orElse(false);
+    }
+
+    /**
+     * 남은 멀티파트 업로드 취소 (방치된 업로드 정리에서 취소가 실패한 경우, 이미 취소됐으면 무시)
+     */
+    private boolean abortUpload(Files file) {
+        try {
+            ociStorageService.abortMultipartUpload(file.getFilePath(), file.getUploadId());
+            return true;
+        } catch (Exception e) {
+            log.warn("멀티파트 업로드 취소 실패, 다음 실행에서 재시도: fileId={}", file.getFileId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 파일의 이미지 파생본 (없거나 파싱 실패 시 빈 Map)
+     */
+    private Map<String, ImageVariantDTO> variants(Files file) {
+        if (file.getVariants() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(file.getVariants().data(), new TypeReference<Map<String, ImageVariantDTO>>() {});
+        } catch (JacksonException e) {
+            log.warn("파생본 정보 파싱 실패, 원본만 삭제: fileId={}", file.getFileId(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 초당 삭제 객체 수 제한 (배치 처리 시간이 한도보다 짧으면 남은 시간만큼 대기)
+     *
+     * @return 계속 진행 여부 (인터럽트되면 false)
+     */
+    private boolean throttle(int objects, long startNanos) {
+        long minNanos = TimeUnit.SECONDS.toNanos(objects) / Math.max(properties.getMaxObjectsPerSecond(), 1);
+        long remainingNanos = minNanos - (System.nanoTime() - startNanos);
+        if (remainingNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
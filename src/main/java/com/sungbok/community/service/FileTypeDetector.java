@@ -0,0 +1,143 @@
+package com.sungbok.community.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.detect.Detector;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.mime.MimeTypes;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 파일 앞부분(Magic Number)으로 실제 MIME 타입을 감지합니다.
+ *
+ * <p>첫 4KB만 Range 요청으로 받아 감지하고, 감지기가 판단하지 못한 경우
+ * (application/octet-stream, text/plain)에만 구간을 두 배씩 늘려 이어 받습니다.
+ * 상한은 Tika 시그니처 중 가장 먼 오프셋(MimeTypes.getMinLength, 약 64KB)이며,
+ * 이어 받을 때는 이미 받은 구간을 다시 받지 않습니다.</p>
+ *
+ * <p>Tika Detector는 스레드 안전하므로 인스턴스 하나를 공유하고,
+ * 구간 버퍼는 풀에서 빌려 재사용합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Component
+public class FileTypeDetector {
+
+    static final int INITIAL_PREFIX_BYTES = 4 * 1024;
+    private static final int BUFFER_POOL_SIZE = 16;
+
+    private final Detector detector = TikaConfig.getDefaultConfig().getDetector();
+    private final int maxPrefixBytes = Math.max(INITIAL_PREFIX_BYTES, MimeTypes.getDefaultMimeTypes().getMinLength());
+    private final BlockingQueue<byte[]> bufferPool = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+    private final MeterRegistry meterRegistry;
+
+    public FileTypeDetector(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 파일 앞부분을 구간 단위로 제공하는 소스 (예: Object Storage Range GET)
+     */
+    @FunctionalInterface
+    public interface RangeSource {
+
+        /**
+         * [startByte, endByte] 구간을 엽니다 (파일 끝을 넘으면 남은 만큼만).
+         */
+        InputStream open(long startByte, long endByte);
+    }
+
+    /**
+     * 파일의 MIME 타입을 감지합니다.
+     *
+     * @param source 구간 소스
+     * @return 감지된 MIME 타입 (예: image/jpeg)
+     */
+    public String detect(RangeSource source) {
+        byte[] buffer = borrowBuffer();
+        try {
+            int length = 0;
+            int requested = INITIAL_PREFIX_BYTES;
+            int requests = 0;
+            MediaType detected;
+
+            while (true) {
+                int read = fetch(source, buffer, length, requested, length > 0);
+                requests++;
+                length += read;
+                detected = detect(buffer, length);
+
+                boolean endOfFile = length < requested;
+                if (!isUndecided(detected) || endOfFile || requested >= maxPrefixBytes) {
+                    break;
+                }
+                requested = Math.min(requested * 2, maxPrefixBytes);
+            }
+
+            meterRegistry.summary("file.validation.prefix.bytes").record(length);
+            meterRegistry.summary("file.validation.prefix.requests").record(requests);
+            return detected.toString();
+        } finally {
+            bufferPool.offer(buffer);
+        }
+    }
+
+    /**
+     * 메모리에 있는 파일 앞부분의 MIME 타입을 감지합니다.
+     *
+     * @param prefix 파일 앞부분
+     * @param length 유효 길이
+     * @return 감지된 MIME 타입
+     */
+    public MediaType detect(byte[] prefix, int length) {
+        try (InputStream stream = new ByteArrayInputStream(prefix, 0, length)) {
+            return detector.detect(stream, new Metadata());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // 메모리 스트림이라 발생하지 않음
+        }
+    }
+
+    /**
+     * buffer[offset, limit) 구간을 받아 채웁니다.
+     *
+     * @param extending 이어 받기 여부 (파일 길이가 정확히 경계면 Range 오류가 나므로 EOF로 처리)
+     * @return 읽은 바이트 수
+     */
+    private int fetch(RangeSource source, byte[] buffer, int offset, int limit, boolean extending) {
+        try (InputStream in = source.open(offset, limit - 1L)) {
+            int total = 0;
+            int read;
+            while (offset + total < limit && (read = in.read(buffer, offset + total, limit - offset - total)) != -1) {
+                total += read;
+            }
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            if (extending) {
+                log.debug("앞부분 이어 받기 실패, 파일 끝으로 간주: range={}-{}, error={}", offset, limit - 1, e.getMessage());
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isUndecided(MediaType detected) {
+        return MediaType.OCTET_STREAM.equals(detected) || MediaType.TEXT_PLAIN.equals(detected);
+    }
+
+    private byte[] borrowBuffer() {
+        byte[] buffer = bufferPool.poll();
+        return buffer != null ? buffer : new byte[maxPrefixBytes];
+    }
+}
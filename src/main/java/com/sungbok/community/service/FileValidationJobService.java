@@ -0,0 +1,290 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.common.exception.SystemException;
+import com.sungbok.community.common.exception.code.SystemErrorCode;
+import com.sungbok.community.config.FileValidationProperties;
+import com.sungbok.community.repository.FileValidationJobsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.security.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Record2;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.jooq.generated.tables.pojos.Files;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 검증 작업 큐 서비스 (DB 기반, file_validation_jobs)
+ *
+ * <p>업로드 완료 처리와 같은 트랜잭션에서 작업을 INSERT하므로 재시작해도 PENDING/ACTIVE 상태로 남는 파일이 없습니다.</p>
+ *
+ * <p>Worker (노드당 Poller Platform Thread 1개 + 작업마다 Virtual Thread):</p>
+ * <ol>
+ *   <li>빈 슬롯만큼 FOR UPDATE SKIP LOCKED로 선점 (우선순위: 이미지 → 문서 → 동영상)</li>
+ *   <li>선점은 available_at을 lease 만료 시각으로 미는 단일 UPDATE (처리 중 잠금 없음, 노드 장애 시 재선점)</li>
+ *   <li>검증 결과가 확정되면 작업 삭제, 일시적 실패는 지수 백오프로 재시도, maxAttempts 초과 시 REJECTED</li>
+ *   <li>동영상 검증 대기열 포화(VIDEO_PROBE_BUSY)는 시도 횟수를 쓰지 않고 재시도</li>
+ * </ol>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileValidationJobService {
+
+    private static final int PRIORITY_IMAGE = 0;
+    private static final int PRIORITY_DOCUMENT = 1;
+    private static final int PRIORITY_VIDEO = 2;
+    private static final long STATS_REFRESH_MILLIS = 5000;
+
+    private final FileValidationJobsRepository jobsRepository;
+    private final FilesRepository filesRepository;
+    private final FileValidator fileValidator;
+    private final FileValidationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final AtomicLong readyJobs = new AtomicLong(0);
+    private final AtomicLong queueLagMillis = new AtomicLong(0);
+    private Semaphore slots;
+    private Thread poller;
+    private long statsRefreshedAt;
+
+    @PostConstruct
+    public void start() {
+        slots = new Semaphore(properties.getMaxConcurrency());
+        meterRegistry.gauge("file.validation.queue.depth", readyJobs);
+        meterRegistry.gauge("file.validation.queue.lag", queueLagMillis);
+        meterRegistry.gauge("file.validation.active", slots,
+                semaphore -> properties.getMaxConcurrency() - semaphore.availablePermits());
+
+        running.set(true);
+        poller = Thread.ofPlatform()
+                .name("file-validation-poller")
+                .start(this::pollLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+        if (poller != null) {
+            poller.interrupt();
+            try {
+                poller.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 파일 검증 작업을 등록합니다.
+     * 반드시 업로드 완료 처리 트랜잭션 안에서 호출 (롤백되면 작업도 사라짐)
+     * 커밋 직후 이 노드의 Poller를 깨움
+     *
+     * @param file 업로드 완료된 파일
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Files file) {
+        FileValidationJobs job = new FileValidationJobs();
+        job.setOrgId(TenantContext.getRequiredOrgId());
+        job.setFileId(file.getFileId());
+        job.setObjectKey(file.getFilePath());
+        job.setMimeType(file.getMimeType());
+        job.setFileSize(file.getFileSize());
+        job.setPriority(priorityOf(file.getMimeType()));
+        jobsRepository.insert(job);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp.release();
+            }
+        });
+    }
+
+    private void pollLoop() {
+        while (running.get()) {
+            try {
+                refreshStats();
+
+                // 슬롯이 하나라도 날 때까지 대기 (선점 후 대기하면 lease만 소모)
+                // 모든 슬롯이 찬 동안에도 통계가 갱신되도록 주기적으로 깨어남
+                if (!slots.tryAcquire(STATS_REFRESH_MILLIS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+
+                int claimed = claimAndDispatch();
+                if (claimed == 0) {
+                    wakeUp.tryAcquire(properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("파일 검증 작업 폴링 오류", e);
+                sleepQuietly(properties.getPollIntervalMs());
+            }
+        }
+    }
+
+    /**
+     * 빈 슬롯만큼 작업을 선점하여 Virtual Thread로 실행합니다.
+     * 호출 전에 슬롯 1개를 확보한 상태여야 함
+     *
+     * @return 선점한 작업 수
+     */
+    private int claimAndDispatch() {
+        int free = 1 + slots.drainPermits();
+        int limit = Math.min(free, properties.getBatchSize());
+
+        List<FileValidationJobs> jobs;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            jobs = jobsRepository.claimReady(now, now.plusSeconds(properties.getLeaseSeconds()), limit);
+        } catch (RuntimeException e) {
+            slots.release(free);
+            throw e;
+        }
+        slots.release(free - jobs.size());
+
+        jobs.stream()
+                .sorted(Comparator.comparing(FileValidationJobs::getPriority)
+                        .thenComparing(FileValidationJobs::getAvailableAt))
+                .forEach(job -> Thread.ofVirtual()
+                        .name("file-validation-" + job.getFileId())
+                        .start(() -> {
+                            try {
+                                process(job);
+                            } finally {
+                                slots.release();
+                            }
+                        }));
+        return jobs.size();
+    }
+
+    /**
+     * 작업 1건 처리 (TenantContext 설정 → 검증 → 완료/재시도)
+     */
+    private void process(FileValidationJobs job) {
+        TenantContext.setOrgId(job.getOrgId());
+        long start = System.nanoTime();
+        String outcome = "completed";
+
+        try {
+            fileValidator.validate(job);
+            jobsRepository.delete(job.getJobId());
+        } catch (Exception e) {
+            outcome = handleFailure(job, e);
+        } finally {
+            meterRegistry.timer("file.validation.job.duration",
+                    "priority", priorityName(job.getPriority()), "outcome", outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * 일시적 실패 처리: 지수 백오프로 재시도, 최대 시도 초과 시 REJECTED
+     * 동영상 검증 대기열 포화는 파일 문제가 아니므로 시도 횟수를 되돌리고 재시도
+     *
+     * @return 메트릭 outcome 태그
+     */
+    private String handleFailure(FileValidationJobs job, Exception e) {
+        try {
+            if (e instanceof SystemException systemException
+                    && systemException.getErrorCode() == SystemErrorCode.VIDEO_PROBE_BUSY) {
+                log.info("동영상 검증 대기열 포화, {}초 후 재시도: fileId={}",
+                        properties.getBusyRetrySeconds(), job.getFileId());
+                jobsRepository.defer(job.getJobId(), LocalDateTime.now().plusSeconds(properties.getBusyRetrySeconds()));
+                return "deferred";
+            }
+
+            if (job.getAttempts() >= properties.getMaxAttempts()) {
+                log.error("파일 검증 최종 실패 (REJECTED): fileId={}, attempts={}", job.getFileId(), job.getAttempts(), e);
+                filesRepository.updateStatus(job.getFileId(), "REJECTED");
+                jobsRepository.delete(job.getJobId());
+                return "failed";
+            }
+
+            Duration backoff = backoff(job.getAttempts());
+            log.warn("파일 검증 실패, {}초 후 재시도: fileId={}, attempt={}, error={}",
+                    backoff.toSeconds(), job.getFileId(), job.getAttempts(), e.getMessage());
+            jobsRepository.reschedule(job.getJobId(), LocalDateTime.now().plus(backoff), e.toString());
+            return "retried";
+        } catch (Exception failure) {
+            // 기록 실패 시 lease 만료 후 재선점됨
+            log.error("파일 검증 실패 기록 오류: fileId={}", job.getFileId(), failure);
+            return "error";
+        }
+    }
+
+    /**
+     * 재시도 지연: base * 2^(attempts-1), 최대 backoffMaxSeconds
+     */
+    private Duration backoff(int attempts) {
+        long seconds = properties.getBackoffBaseSeconds() << Math.min(Math.max(attempts - 1, 0), 20);
+        return Duration.ofSeconds(Math.min(seconds, properties.getBackoffMaxSeconds()));
+    }
+
+    /**
+     * 대기 작업 수 / 가장 오래 기다린 작업의 지연 갱신 (5초마다, 메트릭용)
+     */
+    private void refreshStats() {
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis - statsRefreshedAt < STATS_REFRESH_MILLIS) {
+            return;
+        }
+        statsRefreshedAt = nowMillis;
+
+        LocalDateTime now = LocalDateTime.now();
+        Record2<Integer, LocalDateTime> stats = jobsRepository.fetchReadyStats(now);
+        readyJobs.set(stats.value1());
+        queueLagMillis.set(stats.value2() != null ? Duration.between(stats.value2(), now).toMillis() : 0);
+    }
+
+    private static int priorityOf(String mimeType) {
+        if (mimeType.startsWith("image/")) {
+            return PRIORITY_IMAGE;
+        }
+        if (mimeType.startsWith("video/")) {
+            return PRIORITY_VIDEO;
+        }
+        return PRIORITY_DOCUMENT;
+    }
+
+    private String priorityName(int priority) {
+        return switch (priority) {
+            case PRIORITY_IMAGE -> "image";
+            case PRIORITY_VIDEO -> "video";
+            default -> "document";
+        };
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
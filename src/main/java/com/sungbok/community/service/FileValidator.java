@@ -0,0 +1,203 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.dto.FileValidationResult;
+import com.sungbok.community.repository.FileContentsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.jooq.generated.tables.pojos.Files;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 파일 검증기
+ * FileValidationJobService의 Worker가 작업마다 호출 (TenantContext는 호출자가 설정)
+ * - 실제 객체 크기 확인 (선언보다 크면 거부, 작으면 file_size 보정 → 사용량 트리거가 예약 조정)
+ * - Magic Number 검증 (실제 MIME 타입 확인)
+ * - 동영상인 경우 FFmpeg로 메타데이터 추출
+ * - 이미지인 경우 파생본(썸네일/WebP)과 BlurHash 생성 (ImageDerivativeService)
+ * - 클라이언트가 SHA-256을 보낸 경우 저장소가 PUT 시 확인한 체크섬과 비교 (HEAD, 본문 다운로드 없음)
+ *   - 일치하면 검증 후 중복 제거 대상으로 등록 (이후 같은 내용은 Pre-signed URL 발급 시 업로드 없이 참조)
+ *
+ * <p>검증 결과가 확정되면 파일 상태(VERIFIED/REJECTED)를 기록하고,
+ * Object Storage 오류처럼 일시적인 실패는 예외를 던져 작업 큐가 재시도하게 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileValidator {
+
+    private final FFmpegService ffmpegService;
+    private final FilesRepository filesRepository;
+    private final OciStorageService ociStorageService;
+    private final FileTypeDetector fileTypeDetector;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileContentsRepository fileContentsRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 파일을 검증하고 상태를 기록합니다.
+     *
+     * @param job 검증 작업
+     * @throws RuntimeException 일시적 실패 (재시도 대상)
+     */
+    public void validate(FileValidationJobs job) {
+        log.info("파일 검증 시작: fileId={}, objectKey={}, attempt={}",
+                job.getFileId(), job.getObjectKey(), job.getAttempts());
+
+        // 0. 실제 객체 크기 확인 (저장 공간 한도는 선언한 크기로 예약됨)
+        if (!verifyObjectSize(job)) {
+            filesRepository.updateStatus(job.getFileId(), "REJECTED");
+            return;
+        }
+
+        // 1. Magic Number 검증 (OCI에서 앞부분 4KB~64KB만 Range 다운로드)
+        boolean validMagicNumber = timed("magic_number",
+                () -> validateMagicNumber(job.getObjectKey(), job.getMimeType()));
+        if (!validMagicNumber) {
+            log.warn("Magic Number 검증 실패: fileId={}, objectKey={}", job.getFileId(), job.getObjectKey());
+            filesRepository.updateStatus(job.getFileId(), "REJECTED");
+            return;
+        }
+
+        // 2. 내용 해시 확인 (클라이언트가 SHA-256을 보낸 경우만)
+        String contentSha256 = timed("content_hash", () -> verifyContentHash(job));
+
+        if (job.getMimeType().startsWith("video/")) {
+            // 3. 동영상인 경우 메타데이터 추출
+            FileValidationResult result = timed("video_probe",
+                    () -> ffmpegService.extractVideoMetadata(job.getObjectKey()));
+
+            if (!result.isValid()) {
+                log.warn("동영상 검증 실패: fileId={}, reason={}", job.getFileId(), result.getErrorMessage());
+                filesRepository.updateStatus(job.getFileId(), "REJECTED");
+                return;
+            }
+            filesRepository.updateVideoMetadata(
+                    job.getFileId(),
+                    result.getDuration(),
+                    result.getResolution(),
+                    result.getCodec()
+            );
+            log.info("동영상 검증 완료: fileId={}, duration={}, resolution={}, codec={}",
+                    job.getFileId(), result.getDuration(), result.getResolution(), result.getCodec());
+        } else if (job.getMimeType().startsWith("image/")) {
+            // 4. 이미지는 파생본 생성 후 VERIFIED (Object Storage 오류는 재시도)
+            int variants = timed("image_derivatives", () -> imageDerivativeService.generate(job));
+            log.info("이미지 검증 완료: fileId={}, variants={}", job.getFileId(), variants);
+        } else {
+            // 5. 문서는 Magic Number 검증만으로 충분 (VERIFIED)
+            filesRepository.updateStatus(job.getFileId(), "VERIFIED");
+            log.info("파일 검증 완료: fileId={}", job.getFileId());
+        }
+
+        // 6. 검증된 내용을 중복 제거 대상으로 등록 (동시에 업로드된 같은 내용은 별도 객체로 남음)
+        if (contentSha256 != null && fileContentsRepository.register(contentSha256, job.getObjectKey())) {
+            log.info("중복 제거 대상 등록: fileId={}, sha256={}", job.getFileId(), contentSha256);
+        }
+    }
+
+    /**
+     * 실제 객체 크기 확인
+     * 저장 공간 한도는 Pre-signed URL 발급 시 클라이언트가 선언한 크기로 예약하므로,
+     * 선언보다 큰 객체는 예약 없이 한도를 넘을 수 있어 거부하고, 작은 객체는 file_size를 실제 크기로 보정
+     * (사용량 트리거가 UPDATE OF file_size로 차이를 반영, 이후 단계도 보정된 크기 사용)
+     * 조회 오류는 그대로 던짐 (재시도 대상)
+     *
+     * @param job 검증 작업
+     * @return 통과 여부 (객체가 없거나 선언보다 크면 false)
+     */
+    private boolean verifyObjectSize(FileValidationJobs job) {
+        Long actualSize = ociStorageService.fetchObjectSize(job.getObjectKey());
+        if (actualSize == null) {
+            log.warn("업로드된 객체 없음: fileId={}, objectKey={}", job.getFileId(), job.getObjectKey());
+            meterRegistry.counter("file.validation.size", "result", "missing").increment();
+            return false;
+        }
+        if (actualSize > job.getFileSize()) {
+            log.warn("선언보다 큰 객체: fileId={}, declared={}, actual={}",
+                    job.getFileId(), job.getFileSize(), actualSize);
+            meterRegistry.counter("file.validation.size", "result", "larger").increment();
+            return false;
+        }
+        if (actualSize < job.getFileSize()) {
+            log.info("파일 크기 보정: fileId={}, declared={}, actual={}", job.getFileId(), job.getFileSize(), actualSize);
+            filesRepository.updateFileSize(job.getFileId(), actualSize);
+            job.setFileSize(actualSize);
+            meterRegistry.counter("file.validation.size", "result", "smaller").increment();
+        }
+        return true;
+    }
+
+    /**
+     * 내용 해시 확인
+     * 클라이언트가 보낸 SHA-256과 저장소가 업로드 시 확인한 체크섬(x-amz-checksum-sha256)을 비교하고, 다르면 해시를 지움
+     * 본문을 다시 받지 않으므로 동영상과 큰 파일도 확인 (체크섬 없이 업로드된 객체는 중복 제거 제외)
+     * 조회 오류는 그대로 던짐 (재시도 대상)
+     *
+     * @param job 검증 작업
+     * @return 확인된 SHA-256 (보낸 값이 없거나 저장소 체크섬과 다르면 null)
+     */
+    private String verifyContentHash(FileValidationJobs job) {
+        String claimed = filesRepository.fetchById(job.getFileId())
+                .map(Files::getContentSha256)
+                .orElse(null);
+        if (claimed == null) {
+            return null;
+        }
+
+        String stored = ociStorageService.fetchChecksumSha256(job.getObjectKey());
+        if (!claimed.equals(stored)) {
+            log.warn("내용 해시 불일치: fileId={}, claimed={}, stored={}", job.getFileId(), claimed, stored);
+            filesRepository.updateContentSha256(job.getFileId(), null);
+            meterRegistry.counter("file.dedup.hash.verified", "result", "mismatch").increment();
+            return null;
+        }
+        meterRegistry.counter("file.dedup.hash.verified", "result", "match").increment();
+        return claimed;
+    }
+
+    /**
+     * Magic Number 검증 (실제 MIME 타입 확인)
+     * OCI에서 파일 앞부분만 Range 다운로드하여 감지 (FileTypeDetector)
+     * 다운로드 오류는 그대로 던짐 (재시도 대상)
+     *
+     * @param objectKey OCI Object Key
+     * @param declaredMimeType 선언된 MIME 타입 (클라이언트 제공)
+     * @return 검증 성공 여부
+     */
+    private boolean validateMagicNumber(String objectKey, String declaredMimeType) {
+        String detectedMimeType = fileTypeDetector.detect(
+                (startByte, endByte) -> ociStorageService.downloadPartial(objectKey, startByte, endByte));
+
+        // 선언된 MIME 타입과 감지된 MIME 타입 비교
+        boolean matches = declaredMimeType.equals(detectedMimeType) ||
+                (declaredMimeType.startsWith("video/") && detectedMimeType.startsWith("video/")) ||
+                (declaredMimeType.startsWith("image/") && detectedMimeType.startsWith("image/"));
+
+        if (!matches) {
+            log.warn("MIME 타입 불일치: declared={}, detected={}", declaredMimeType, detectedMimeType);
+        }
+
+        return matches;
+    }
+
+    /**
+     * 단계별 소요 시간 기록 (file.validation.stage.duration)
+     */
+    private <T> T timed(String stage, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = action.get();
+            outcome = "ok";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer("file.validation.stage.duration", "stage", stage, "outcome", outcome));
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.common.exception.SystemException;
+import com.sungbok.community.common.exception.code.SystemErrorCode;
+import com.sungbok.community.config.ImageDerivativeProperties;
+import com.sungbok.community.dto.ImageVariantDTO;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.util.BlurHash;
+import com.sungbok.community.util.ExifOrientation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.JSONB;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.springframework.stereotype.Service;
+import org.w3c.dom.NodeList;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 파생본(썸네일/WebP) 생성 서비스
+ * FileValidator가 이미지 Magic Number 검증 직후 호출 (TenantContext는 호출자가 설정)
+ *
+ * <ol>
+ *   <li>헤더만 읽어 원본 크기와 EXIF Orientation 확인 (maxPixels 초과 시 파생본 생략)</li>
+ *   <li>가장 큰 파생본 크기에 맞춰 서브샘플링 디코딩 (원본 해상도 전체를 힙에 올리지 않음) 후 Orientation 적용</li>
+ *   <li>큰 파생본부터 단계적으로 축소, 인코딩/업로드는 파생본마다 Virtual Thread로 병렬 처리</li>
+ *   <li>가장 작은 파생본으로 BlurHash 계산 후 files에 기록 (VERIFIED)</li>
+ * </ol>
+ *
+ * <p>파생본 Object Key는 원본 키에서 결정되므로({원본키}_{이름}.{포맷}) 재시도해도 같은 키를 덮어씁니다.
+ * 디코딩할 수 없는 이미지(HEIC 등)는 파생본 없이 VERIFIED, Object Storage 오류는 예외로 재시도합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private static final int BLURHASH_SOURCE_SIZE = 32;
+    private static final String FALLBACK_FORMAT = "jpeg";
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225";
+
+    private final OciStorageService ociStorageService;
+    private final FilesRepository filesRepository;
+    private final ImageDerivativeProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private Semaphore permits;
+    private String format;
+    private String mimeType;
+    private String extension;
+
+    @PostConstruct
+    public void init() {
+        // Spring Boot 실행 jar의 중첩 jar(webp-imageio)에 있는 플러그인 등록
+        ImageIO.scanForPlugins();
+
+        String requested = properties.getFormat().toLowerCase(Locale.ROOT);
+        if (!ImageIO.getImageWritersByFormatName(requested).hasNext()) {
+            log.warn("이미지 파생본 포맷 {}의 ImageWriter가 없어 {}로 대체합니다", requested, FALLBACK_FORMAT);
+            requested = FALLBACK_FORMAT;
+        }
+        format = requested;
+        mimeType = "image/" + format;
+        extension = FALLBACK_FORMAT.equals(format) ? "jpg" : format;
+
+        int maxConcurrency = properties.getMaxConcurrency();
+        permits = new Semaphore(maxConcurrency, true);
+        meterRegistry.gauge("image.derivative.active", permits,
+                semaphore -> maxConcurrency - semaphore.availablePermits());
+    }
+
+    /**
+     * 이미지 파생본과 BlurHash를 생성하고 메타데이터와 함께 기록합니다 (상태 VERIFIED).
+     *
+     * @param job 검증 작업 (이미지)
+     * @return 생성한 파생본 수 (생략 시 0)
+     * @throws SystemException Object Storage 오류 (재시도 대상)
+     */
+    public int generate(FileValidationJobs job) {
+        if (!properties.isEnabled() || properties.getSizes().isEmpty()) {
+            filesRepository.updateStatus(job.getFileId(), "VERIFIED");
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException(SystemErrorCode.INTERNAL_ERROR, e);
+        }
+
+        try {
+            Decoded decoded = decode(job.getObjectKey());
+            if (decoded.image() == null) {
+                outcome = decoded.width() == null ? "unsupported" : "too_large";
+                filesRepository.updateImageMetadata(job.getFileId(), decoded.width(), decoded.height(), null, null);
+                return 0;
+            }
+
+            Map<String, ImageVariantDTO> variants = new LinkedHashMap<>();
+            String blurhash = encodeVariants(job.getObjectKey(), decoded.image(), variants);
+
+            filesRepository.updateImageMetadata(job.getFileId(), decoded.width(), decoded.height(), blurhash,
+                    JSONB.valueOf(objectMapper.writeValueAsString(variants)));
+            outcome = "generated";
+            return variants.size();
+        } finally {
+            permits.release();
+            Timer.builder("image.derivative.duration")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 원본을 스트리밍으로 읽어 가장 큰 파생본 크기 근처로 서브샘플링 디코딩합니다.
+     * 압축 데이터는 읽는 구간만 메모리에 캐시하고, 디코딩 결과는 (원본 / 서브샘플링 배율)² 크기
+     *
+     * @return 디코딩 결과 (지원하지 않는 포맷이면 크기도 null, 너무 크면 이미지만 null)
+     */
+    private Decoded decode(String objectKey) {
+        int largestSize = properties.getSizes().values().stream()
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElseThrow();
+
+        try (InputStream in = ociStorageService.downloadFull(objectKey);
+             ImageInputStream input = new MemoryCacheImageInputStream(in)) {
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.info("파생본을 만들 수 없는 이미지 포맷: objectKey={}", objectKey);
+                return new Decoded(null, null, null);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int orientation = readOrientation(reader, objectKey);
+
+                // 기록하는 크기는 보이는 방향 기준 (세로 사진이 가로로 기록되지 않도록)
+                boolean swap = ExifOrientation.swapsDimensions(orientation);
+                int width = swap ? reader.getHeight(0) : reader.getWidth(0);
+                int height = swap ? reader.getWidth(0) : reader.getHeight(0);
+
+                if ((long) width * height > properties.getMaxPixels()) {
+                    log.warn("이미지가 너무 커서 파생본 생략: objectKey={}, size={}x{}", objectKey, width, height);
+                    return new Decoded(width, height, null);
+                }
+
+                // 정수 배율이므로 디코딩 결과의 긴 변은 largestSize 이상 유지
+                int subsampling = Math.max(1, Math.max(width, height) / largestSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                BufferedImage image = reader.read(0, param);
+                return new Decoded(width, height, ExifOrientation.apply(normalize(image), orientation));
+            } finally {
+                reader.dispose();
+            }
+
+        } catch (IIOException e) {
+            // 디코더 오류 (손상되었거나 지원하지 않는 하위 포맷)
+            log.warn("이미지 디코딩 실패, 파생본 생략: objectKey={}, error={}", objectKey, e.getMessage());
+            return new Decoded(null, null, null);
+        } catch (IOException e) {
+            throw new SystemException(SystemErrorCode.FILE_DOWNLOAD_FAILED, e);
+        }
+    }
+
+    /**
+     * JPEG APP1(EXIF)의 Orientation을 읽습니다.
+     * 메타데이터가 손상되어도 파생본 생성은 계속 (방향 보정만 생략)
+     *
+     * @return Orientation (JPEG가 아니거나 없으면 1)
+     */
+    private int readOrientation(ImageReader reader, String objectKey) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return ExifOrientation.NORMAL;
+            }
+
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+            NodeList segments = root.getElementsByTagName("unknown");
+            for (int i = 0; i < segments.getLength(); i++) {
+                IIOMetadataNode segment = (IIOMetadataNode) segments.item(i);
+                if (APP1_MARKER.equals(segment.getAttribute("MarkerTag"))
+                        && segment.getUserObject() instanceof byte[] data) {
+                    int orientation = ExifOrientation.parse(data);
+                    if (orientation != ExifOrientation.NORMAL) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("EXIF 메타데이터 읽기 실패, 방향 보정 생략: objectKey={}, error={}", objectKey, e.getMessage());
+        }
+        return ExifOrientation.NORMAL;
+    }
+
+    /**
+     * 큰 파생본부터 단계적으로 축소하고, 인코딩/업로드는 병렬로 실행합니다.
+     *
+     * @param variants 생성된 파생본을 담을 Map (설정 순서 유지)
+     * @return 가장 작은 파생본으로 계산한 BlurHash
+     */
+    private String encodeVariants(String objectKey, BufferedImage decoded, Map<String, ImageVariantDTO> variants) {
+        List<Map.Entry<String, Integer>> sizes = new ArrayList<>(properties.getSizes().entrySet());
+        sizes.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()));
+
+        Map<String, Future<ImageVariantDTO>> futures = new LinkedHashMap<>();
+        BufferedImage current = decoded;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, Integer> size : sizes) {
+                current = fit(current, size.getValue());
+                BufferedImage variantImage = current;
+                String variantKey = variantKey(objectKey, size.getKey(), extension);
+                futures.put(size.getKey(), executor.submit(() -> upload(variantKey, size.getKey(), variantImage)));
+            }
+
+            // 업로드가 진행되는 동안 BlurHash 계산
+            String blurhash = BlurHash.encode(fit(current, BLURHASH_SOURCE_SIZE),
+                    properties.getBlurhashComponentsX(), properties.getBlurhashComponentsY());
+
+            for (String name : properties.getSizes().keySet()) {
+                variants.put(name, futures.get(name).get());
+            }
+            return blurhash;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException(SystemErrorCode.INTERNAL_ERROR, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SystemException(SystemErrorCode.INTERNAL_ERROR, e.getCause());
+        }
+    }
+
+    /**
+     * 파생본 1개 인코딩 후 업로드
+     */
+    private ImageVariantDTO upload(String variantKey, String name, BufferedImage image) throws IOException {
+        byte[] content = encode(image);
+        ociStorageService.uploadFile(variantKey, mimeType, content);
+        meterRegistry.summary("image.derivative.bytes", "variant", name).record(content.length);
+        return new ImageVariantDTO(variantKey, image.getWidth(), image.getHeight(), mimeType, content.length, null);
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionType(lossyCompressionType(param.getCompressionTypes()));
+                param.setCompressionQuality(properties.getQuality());
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축 방식 선택 (WebP: Lossy/Lossless 중 Lossy, JPEG: 단일 방식)
+     */
+    private String lossyCompressionType(String[] types) {
+        for (String type : types) {
+            if (type.toLowerCase(Locale.ROOT).contains("lossy")) {
+                return type;
+            }
+        }
+        return types[0];
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (확대하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로 맞춤
+     */
+    private BufferedImage fit(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (width != targetWidth || height != targetHeight) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, source.getType());
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * 디코딩 결과를 축소/인코딩 가능한 RGB(A) 이미지로 변환
+     * JPEG는 알파를 지원하지 않으므로 흰 배경에 합성
+     */
+    private BufferedImage normalize(BufferedImage image) {
+        boolean keepAlpha = image.getColorModel().hasAlpha() && !FALLBACK_FORMAT.equals(format);
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (image.getType() == type) {
+            return image;
+        }
+
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        Graphics2D graphics = converted.createGraphics();
+        if (!keepAlpha) {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        }
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return converted;
+    }
+
+    /**
+     * 파생본 Object Key: {원본키에서 확장자 제외}_{이름}.{확장자}
+     * 예: 1/post/2025/12/uuid.jpg → 1/post/2025/12/uuid_thumb.webp
+     */
+    private static String variantKey(String objectKey, String name, String extension) {
+        int slash = objectKey.lastIndexOf('/');
+        int dot = objectKey.lastIndexOf('.');
+        String base = dot > slash ? objectKey.substring(0, dot) : objectKey;
+        return base + "_" + name + "." + extension;
+    }
+
+    /**
+     * 디코딩 결과
+     *
+     * @param width 원본 너비 (EXIF 방향 적용 기준, 지원하지 않는 포맷이면 null)
+     * @param height 원본 높이 (EXIF 방향 적용 기준, 지원하지 않는 포맷이면 null)
+     * @param image 서브샘플링 디코딩된 이미지 (파생본 생략 시 null)
+     */
+    private record Decoded(Integer width, Integer height, BufferedImage image) {
+    }
+}
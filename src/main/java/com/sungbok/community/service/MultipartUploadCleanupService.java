@@ -0,0 +1,82 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.OciStorageProperties;
+import com.sungbok.community.repository.FileUploadPartsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.tables.pojos.Files;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 방치된 멀티파트 업로드 정리 서비스
+ *
+ * <p>마지막 활동(시작, 파트 보고, 재개) 후 staleHours가 지난 UPLOADING 파일을
+ * FOR UPDATE SKIP LOCKED로 선점해 ABORTED로 바꾸고 S3 파트를 삭제합니다.
+ * 여러 노드가 동시에 실행해도 같은 업로드를 두 번 처리하지 않으므로 별도 락이 없습니다.</p>
+ *
+ * <p>S3 완료 후 DB 커밋에 실패해 UPLOADING으로 남은 업로드는 취소가 무시(NoSuchUpload)되고
+ * ABORTED(소프트 삭제)로 바뀌므로, 합쳐진 객체는 FileSweeperService가 삭제합니다.</p>
+ *
+ * <p>S3 취소가 실패한 업로드는 파트가 남으므로 버킷 수명 주기 규칙
+ * (미완료 멀티파트 업로드 자동 삭제)을 함께 설정해야 합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultipartUploadCleanupService {
+
+    private final FilesRepository filesRepository;
+    private final FileUploadPartsRepository fileUploadPartsRepository;
+    private final OciStorageService ociStorageService;
+    private final OciStorageProperties ociStorageProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 방치된 멀티파트 업로드 취소 (배치 단위로 남은 업로드가 없을 때까지)
+     */
+    @Scheduled(cron = "${oci.storage.multipart.cleanup-cron:0 15 * * * *}")
+    public void abortStaleUploads() {
+        OciStorageProperties.Multipart config = ociStorageProperties.getMultipart();
+        LocalDateTime inactiveBefore = LocalDateTime.now().minusHours(config.getStaleHours());
+        int aborted = 0;
+        int failed = 0;
+
+        List<Files> stale;
+        do {
+            stale = filesRepository.claimStaleUploads(inactiveBefore, config.getCleanupBatchSize());
+            for (Files file : stale) {
+                if (abort(file)) {
+                    aborted++;
+                } else {
+                    failed++;
+                }
+            }
+        } while (stale.size() == config.getCleanupBatchSize());
+
+        if (aborted > 0 || failed > 0) {
+            log.info("방치된 멀티파트 업로드 정리: aborted={}, failed={}", aborted, failed);
+        }
+    }
+
+    private boolean abort(Files file) {
+        try {
+            ociStorageService.abortMultipartUpload(file.getFilePath(), file.getUploadId());
+            fileUploadPartsRepository.deleteByFileId(file.getFileId());
+            meterRegistry.counter("file.multipart.stale.aborted", "outcome", "ok").increment();
+            return true;
+        } catch (Exception e) {
+            log.error("방치된 멀티파트 업로드 취소 실패: fileId={}, objectKey={}",
+                    file.getFileId(), file.getFilePath(), e);
+            meterRegistry.counter("file.multipart.stale.aborted", "outcome", "error").increment();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 병합(Coalescing) 서비스
+ * 같은 (사용자, 타입, 관련 엔티티)의 알림이 짧은 시간에 몰리면 창(window) 단위로 1건으로 병합
+ * 예: 좋아요 43건 → "홍길동님 외 42명이 회원님의 게시글을 좋아합니다" 1건 (DB 1행, 푸시 1회)
+ *
+ * <p>창 상태는 Valkey에 저장되어 여러 Worker 노드에서 동일하게 병합:</p>
+ * <ul>
+ *   <li>notification:coalesce:{orgId}:{userId}:{type}:{entityId} - Hash (count, last 이벤트 JSON)</li>
+ *   <li>notification:coalesce:due - Sorted Set (score = 창 종료 시각, member = 창 키)</li>
+ *   <li>notification:coalesce:processing - Sorted Set (score = lease 만료 시각, member = 처리 중인 창 키)</li>
+ * </ul>
+ *
+ * <p>창의 첫 이벤트가 종료 시각을 예약하고, 종료 시각이 지나면 한 노드만 원자적으로 꺼내 발송합니다 (at-least-once):</p>
+ * <ol>
+ *   <li>종료된 창을 처리 중 키로 이름을 바꾸고 lease를 걸어 선점 (같은 창 키로 들어오는 새 이벤트는 새 창 시작)</li>
+ *   <li>발송 후 ack로 처리 중 키 삭제 (선점한 lease와 같을 때만)</li>
+ * </ol>
+ * <p>ack 전에 노드가 중단되면 lease 만료 후 다른 노드가 다시 선점합니다 (중복 발송 가능).
+ * 행위자 이름은 이벤트 data의 actorName을 사용 (생산자 규약)</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCoalescingService {
+
+    public static final String DATA_ACTOR_NAME = "actorName";
+    public static final String DATA_COALESCED_COUNT = "coalescedCount";
+
+    private static final String WINDOW_KEY_PREFIX = "notification:coalesce:";
+    private static final String DUE_KEY = "notification:coalesce:due";
+    private static final String PROCESSING_KEY = "notification:coalesce:processing";
+    private static final String PROCESSING_SEQ_KEY = "notification:coalesce:processing:seq";
+    private static final long WINDOW_KEY_GRACE_SECONDS = 600;  // 종료 처리가 밀려도 창 상태 유지
+
+    /**
+     * 창에 이벤트 추가 (첫 이벤트면 종료 시각 예약)
+     * ARGV: eventJson, dueAtMillis, ttlSeconds
+     */
+    private static final RedisScript<Long> OFFER_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('HINCRBY', KEYS[1], 'count', 1)
+            redis.call('HSET', KEYS[1], 'last', ARGV[1])
+            if count == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('ZADD', KEYS[2], ARGV[2], KEYS[1])
+            end
+            return count
+            """, Long.class);
+
+    /**
+     * lease가 만료된 처리 중 창과 종료된 창을 원자적으로 선점 (여러 노드가 동시에 호출해도 창당 1개 노드)
+     * 종료된 창은 처리 중 키로 이름을 바꿔, 발송 중 같은 창 키로 들어오는 이벤트가 새 창을 시작하도록 함
+     * KEYS: due, processing, processingSeq / ARGV: nowMillis, leaseUntilMillis, limit, processingKeyPrefix
+     * 반환: [processingKey1, count1, lastJson1, processingKey2, count2, lastJson2, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[3])
+            local claimed = 0
+            local result = {}
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, limit)
+            for _, key in ipairs(expired) do
+                local window = redis.call('HMGET', key, 'count', 'last')
+                if window[1] and window[2] then
+                    redis.call('ZADD', KEYS[2], ARGV[2], key)
+                    table.insert(result, key)
+                    table.insert(result, window[1])
+                    table.insert(result, window[2])
+                    claimed = claimed + 1
+                else
+                    redis.call('ZREM', KEYS[2], key)
+                end
+            end
+            if claimed >= limit then
+                return result
+            end
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, limit - claimed)
+            for _, key in ipairs(due) do
+                redis.call('ZREM', KEYS[1], key)
+                local window = redis.call('HMGET', key, 'count', 'last')
+                if window[1] and window[2] then
+                    local processing = ARGV[4] .. redis.call('INCR', KEYS[3])
+                    redis.call('RENAME', key, processing)
+                    redis.call('PERSIST', processing)
+                    redis.call('ZADD', KEYS[2], ARGV[2], processing)
+                    table.insert(result, processing)
+                    table.insert(result, window[1])
+                    table.insert(result, window[2])
+                else
+                    redis.call('DEL', key)
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 발송 완료한 창 삭제 (선점 이후 다른 노드가 재선점하지 않은 경우만)
+     * KEYS: processing, processingKey / ARGV: leaseUntilMillis
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], KEYS[2])
+            if score and tonumber(score) == tonumber(ARGV[1]) then
+                redis.call('ZREM', KEYS[1], KEYS[2])
+                redis.call('DEL', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 병합 대상 이벤트를 창에 넣습니다.
+     * 병합 대상이 아니거나 Valkey 오류 시 false (호출자가 즉시 처리)
+     *
+     * @param event 알림 이벤트
+     * @return 창에 들어갔으면 true (창 종료 시 pollDue로 발송)
+     */
+    public boolean offer(NotificationEvent event) {
+        NotificationProperties.Coalesce config = notificationProperties.getCoalesce();
+        if (!config.isEnabled()
+                || event.getRelatedEntityId() == null
+                || !config.getTypes().contains(event.getNotificationType())) {
+            return false;
+        }
+
+        try {
+            String key = WINDOW_KEY_PREFIX + event.getOrgId() + ":" + event.getUserId() + ":"
+                    + event.getNotificationType().name() + ":" + event.getRelatedEntityId();
+            long dueAt = System.currentTimeMillis() + config.getWindowSeconds() * 1000;
+
+            redisTemplate.execute(OFFER_SCRIPT, List.of(key, DUE_KEY),
+                    objectMapper.writeValueAsString(event),
+                    String.valueOf(dueAt),
+                    String.valueOf(config.getWindowSeconds() + WINDOW_KEY_GRACE_SECONDS));
+
+            meterRegistry.counter("notification.coalesce.offered",
+                    "type", event.getNotificationType().name()).increment();
+            return true;
+        } catch (Exception e) {
+            log.warn("알림 병합 창 추가 실패, 즉시 처리: userId={}, type={}",
+                    event.getUserId(), event.getNotificationType(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 종료된 창을 선점하여 발송할 이벤트로 변환합니다.
+     * 1건뿐인 창은 원본 이벤트 그대로, 2건 이상은 병합 이벤트
+     * 발송 후 {@link #ack}를 호출해야 하며, 호출하지 않으면 lease 만료 후 다시 선점됨
+     *
+     * @param limit 최대 선점 개수 (호출자의 빈 처리 슬롯 수, maxFlushBatch로 제한)
+     * @return 선점한 창 목록
+     */
+    public List<DueWindow> pollDue(int limit) {
+        NotificationProperties.Coalesce config = notificationProperties.getCoalesce();
+        int batch = Math.min(limit, config.getMaxFlushBatch());
+        if (batch <= 0) {
+            return List.of();
+        }
+
+        long leaseUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(config.getLeaseSeconds());
+        List<?> raw = redisTemplate.execute(CLAIM_DUE_SCRIPT, List.of(DUE_KEY, PROCESSING_KEY, PROCESSING_SEQ_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(leaseUntil),
+                String.valueOf(batch), PROCESSING_KEY + ":");
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+
+        List<DueWindow> windows = new ArrayList<>(raw.size() / 3);
+        for (int i = 0; i + 2 < raw.size(); i += 3) {
+            DueWindow claimed = new DueWindow(raw.get(i).toString(), leaseUntil, null);
+            try {
+                int count = Integer.parseInt(raw.get(i + 1).toString());
+                NotificationEvent last = objectMapper.readValue(raw.get(i + 2).toString(), NotificationEvent.class);
+                windows.add(new DueWindow(claimed.processingKey(), leaseUntil, count > 1 ? merge(last, count) : last));
+
+                meterRegistry.summary("notification.coalesce.window.size",
+                        "type", last.getNotificationType().name()).record(count);
+            } catch (Exception e) {
+                log.warn("알림 병합 창 역직렬화 실패 (폐기): key={}, error={}", claimed.processingKey(), e.getMessage());
+                ack(claimed);  // 재선점해도 같은 실패 반복
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * 발송을 마친 창을 삭제합니다.
+     * 실패하면 lease 만료 후 다시 선점되어 중복 발송될 수 있음
+     *
+     * @param window 선점한 창
+     */
+    public void ack(DueWindow window) {
+        try {
+            Long acked = redisTemplate.execute(ACK_SCRIPT, List.of(PROCESSING_KEY, window.processingKey()),
+                    String.valueOf(window.leaseUntil()));
+            if (acked == null || acked == 0) {
+                log.warn("알림 병합 창 ack 실패 (lease 만료 후 다른 노드가 선점): key={}", window.processingKey());
+            }
+        } catch (Exception e) {
+            log.error("알림 병합 창 ack 실패 (lease 만료 후 재발송): key={}, error={}",
+                    window.processingKey(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 창의 마지막 이벤트를 기준으로 병합 이벤트를 만듭니다.
+     * data에 병합 건수(coalescedCount)를 추가
+     *
+     * @param last 창의 마지막 이벤트
+     * @param count 창의 이벤트 수
+     * @return 병합 이벤트
+     */
+    public NotificationEvent merge(NotificationEvent last, int count) {
+        Map<String, Object> data = last.getData() != null ? new HashMap<>(last.getData()) : new HashMap<>();
+        data.put(DATA_COALESCED_COUNT, count);
+
+        Object actorName = data.get(DATA_ACTOR_NAME);
+        String body = actorName != null
+                ? actorName + "님 외 " + (count - 1) + "명이 " + action(last.getNotificationType())
+                : count + "명이 " + action(last.getNotificationType());
+
+        return NotificationEvent.builder()
+                .orgId(last.getOrgId())
+                .userId(last.getUserId())
+                .notificationType(last.getNotificationType())
+                .title(last.getTitle())
+                .body(body)
+                .relatedEntityType(last.getRelatedEntityType())
+                .relatedEntityId(last.getRelatedEntityId())
+                .data(data)
+                .build();
+    }
+
+    private String action(NotificationType type) {
+        return switch (type) {
+            case POST_LIKE -> "회원님의 게시글을 좋아합니다";
+            case POST_COMMENT -> "회원님의 게시글에 댓글을 남겼습니다";
+            default -> type.getDescription() + " 알림을 보냈습니다";
+        };
+    }
+
+    /**
+     * 선점한 병합 창
+     *
+     * @param processingKey 처리 중 키 (ack 대상)
+     * @param leaseUntil 선점한 lease 만료 시각 (epoch millis)
+     * @param event 발송할 이벤트 (1건이면 원본, 2건 이상이면 병합 이벤트)
+     */
+    public record DueWindow(String processingKey, long leaseUntil, NotificationEvent event) {
+    }
+}
@@ -0,0 +1,347 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationQueueCodec;
+import com.sungbok.community.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 알림 큐 페이로드 인코더/디코더
+ *
+ * <p>바이너리 형식 (v1):</p>
+ * <pre>
+ * [0xB1][버전][존재 비트 varint][필드...]
+ * - Long: unsigned varint
+ * - 알림 타입: 비트마스크 번호 (enum 순서가 바뀌어도 안정적)
+ * - 문자열: varint 길이 + UTF-8
+ * - data: JSON 바이트 (compress-threshold-bytes 이상이면 원본 길이 varint + deflate)
+ * </pre>
+ *
+ * <p>디코딩은 첫 바이트로 형식을 판별하므로 JSON('{')과 바이너리를 모두 읽습니다.
+ * 롤링 배포 중에는 모든 노드가 이 코덱을 가진 뒤에 Lane을 BINARY로 전환해야 합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventCodec {
+
+    private static final byte MAGIC = (byte) 0xB1;  // UTF-8 JSON의 첫 바이트('{')와 겹치지 않음
+    private static final byte VERSION = 1;
+
+    private static final int F_ORG_ID = 1;
+    private static final int F_USER_ID = 1 << 1;
+    private static final int F_TYPE = 1 << 2;
+    private static final int F_TITLE = 1 << 3;
+    private static final int F_BODY = 1 << 4;
+    private static final int F_RELATED_TYPE = 1 << 5;
+    private static final int F_RELATED_ID = 1 << 6;
+    private static final int F_DATA = 1 << 7;
+    private static final int F_SCHEDULED_AT = 1 << 8;
+    private static final int F_ENQUEUED_AT = 1 << 9;
+    private static final int F_DATA_DEFLATED = 1 << 10;
+
+    private static final TypeReference<Map<String, Object>> DATA_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final NotificationProperties notificationProperties;
+
+    /**
+     * 이벤트를 지정한 형식으로 인코딩합니다.
+     *
+     * @param event 알림 이벤트
+     * @param codec 페이로드 형식
+     * @return 큐에 저장할 바이트
+     */
+    public byte[] encode(NotificationEvent event, NotificationQueueCodec codec) {
+        return codec == NotificationQueueCodec.BINARY
+                ? encodeBinary(event)
+                : objectMapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * 큐 페이로드를 이벤트로 디코딩합니다 (형식 자동 판별).
+     *
+     * @param payload 큐에서 꺼낸 바이트
+     * @return 알림 이벤트
+     * @throws IllegalArgumentException 알 수 없는 바이너리 버전인 경우
+     */
+    public NotificationEvent decode(byte[] payload) {
+        if (payload.length > 0 && payload[0] == MAGIC) {
+            return decodeBinary(payload);
+        }
+        return objectMapper.readValue(payload, NotificationEvent.class);
+    }
+
+    private byte[] encodeBinary(NotificationEvent event) {
+        byte[] title = utf8(event.getTitle());
+        byte[] body = utf8(event.getBody());
+        byte[] relatedType = utf8(event.getRelatedEntityType());
+        byte[] data = event.getData() != null ? objectMapper.writeValueAsBytes(event.getData()) : null;
+        int rawDataLength = data != null ? data.length : 0;
+        boolean deflated = data != null
+                && data.length >= notificationProperties.getQueue().getCompressThresholdBytes();
+        if (deflated) {
+            data = deflate(data);
+        }
+
+        int fields = (event.getOrgId() != null ? F_ORG_ID : 0)
+                | (event.getUserId() != null ? F_USER_ID : 0)
+                | (event.getNotificationType() != null ? F_TYPE : 0)
+                | (title != null ? F_TITLE : 0)
+                | (body != null ? F_BODY : 0)
+                | (relatedType != null ? F_RELATED_TYPE : 0)
+                | (event.getRelatedEntityId() != null ? F_RELATED_ID : 0)
+                | (data != null ? F_DATA : 0)
+                | (event.getScheduledAt() != null ? F_SCHEDULED_AT : 0)
+                | (event.getEnqueuedAt() != null ? F_ENQUEUED_AT : 0)
+                | (deflated ? F_DATA_DEFLATED : 0);
+
+        Writer out = new Writer(32 + length(title) + length(body) + length(relatedType) + length(data));
+        out.put(MAGIC);
+        out.put(VERSION);
+        out.varint(fields);
+        if (event.getOrgId() != null) {
+            out.varint(event.getOrgId());
+        }
+        if (event.getUserId() != null) {
+            out.varint(event.getUserId());
+        }
+        if (event.getNotificationType() != null) {
+            out.varint(typeCode(event.getNotificationType()));
+        }
+        if (title != null) {
+            out.bytes(title);
+        }
+        if (body != null) {
+            out.bytes(body);
+        }
+        if (relatedType != null) {
+            out.bytes(relatedType);
+        }
+        if (event.getRelatedEntityId() != null) {
+            out.varint(event.getRelatedEntityId());
+        }
+        if (data != null) {
+            if (deflated) {
+                out.varint(rawDataLength);
+            }
+            out.bytes(data);
+        }
+        if (event.getScheduledAt() != null) {
+            out.varint(event.getScheduledAt());
+        }
+        if (event.getEnqueuedAt() != null) {
+            out.varint(event.getEnqueuedAt());
+        }
+        return out.toByteArray();
+    }
+
+    private NotificationEvent decodeBinary(byte[] payload) {
+        Reader in = new Reader(payload, 1);
+        int version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 알림 페이로드 버전: " + version);
+        }
+
+        int fields = (int) in.varint();
+        NotificationEvent.NotificationEventBuilder builder = NotificationEvent.builder();
+        if ((fields & F_ORG_ID) != 0) {
+            builder.orgId(in.varint());
+        }
+        if ((fields & F_USER_ID) != 0) {
+            builder.userId(in.varint());
+        }
+        if ((fields & F_TYPE) != 0) {
+            builder.notificationType(fromTypeCode((int) in.varint()));
+        }
+        if ((fields & F_TITLE) != 0) {
+            builder.title(in.string());
+        }
+        if ((fields & F_BODY) != 0) {
+            builder.body(in.string());
+        }
+        if ((fields & F_RELATED_TYPE) != 0) {
+            builder.relatedEntityType(in.string());
+        }
+        if ((fields & F_RELATED_ID) != 0) {
+            builder.relatedEntityId(in.varint());
+        }
+        if ((fields & F_DATA) != 0) {
+            int rawLength = (fields & F_DATA_DEFLATED) != 0 ? (int) in.varint() : -1;
+            byte[] data = in.bytes();
+            builder.data(objectMapper.readValue(rawLength >= 0 ? inflate(data, rawLength) : data, DATA_TYPE));
+        }
+        if ((fields & F_SCHEDULED_AT) != 0) {
+            builder.scheduledAt(in.varint());
+        }
+        if ((fields & F_ENQUEUED_AT) != 0) {
+            builder.enqueuedAt(in.varint());
+        }
+        return builder.build();
+    }
+
+    private static int typeCode(NotificationType type) {
+        return Integer.numberOfTrailingZeros(type.getMask());
+    }
+
+    private static NotificationType fromTypeCode(int code) {
+        for (NotificationType type : NotificationType.values()) {
+            if (typeCode(type) == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 알림 타입 코드: " + code);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] value) {
+        return value != null ? value.length + 5 : 0;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[raw.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int rawLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != rawLength) {
+                throw new IllegalArgumentException("알림 페이로드 data 길이 불일치");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("알림 페이로드 data 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void put(byte value) {
+            ensure(1);
+            buffer[position++] = value;
+        }
+
+        void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void bytes(byte[] value) {
+            varint(value.length);
+            ensure(value.length);
+            System.arraycopy(value, 0, buffer, position, value.length);
+            position += value.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int get() {
+            return buffer[position++];
+        }
+
+        long varint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint");
+        }
+
+        byte[] bytes() {
+            int length = (int) varint();
+            if (length < 0 || position + length > buffer.length) {
+                throw new IllegalArgumentException("알림 페이로드 길이 초과");
+            }
+            byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return value;
+        }
+
+        String string() {
+            int length = (int) varint();
+            if (length < 0 || position + length > buffer.length) {
+                throw new IllegalArgumentException("알림 페이로드 길이 초과");
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.NotificationDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 최근 알림 Inbox 캐시 서비스
+ * 사용자별 최근 알림 요약을 Valkey에 최대 N건 보관하여 알림 탭 첫 페이지를 DB 없이 응답
+ *
+ * <p>키 구조 (TTL 동일):</p>
+ * <ul>
+ *   <li>user:inbox:{orgId}:{userId} - Sorted Set (score = 알림 ID, 정렬 + 개수 제한)</li>
+ *   <li>user:inbox:data:{orgId}:{userId} - Hash
+ *     <ul>
+ *       <li>n:{id} - 알림 DTO JSON (생성 시점 스냅샷)</li>
+ *       <li>r:{id} - 개별 읽음 시각 (읽음 상태 오버레이)</li>
+ *       <li>watermark - 모두 읽음 워터마크</li>
+ *       <li>watermark_at - 모두 읽음 시각 (워터마크 이하 알림의 읽은 시각)</li>
+ *       <li>complete - 1이면 사용자의 전체 알림이 캐시에 있음 (개수 제한으로 잘린 적 없음)</li>
+ *     </ul>
+ *   </li>
+ * </ul>
+ *
+ * <p>Hash가 존재할 때만 쓰기를 반영 (캐시 미스 상태에서 일부만 채워지는 것 방지)</p>
+ *
+ * <p>채우기 경합 방지: 모든 쓰기는 로드 여부와 무관하게 user:inbox:ver:{orgId}:{userId}를 증가시키고,
+ * 캐시 미스 시 DB 조회 전에 읽은 버전이 그대로일 때만 로드합니다 (DB 조회와 로드 사이의 추가/읽음/삭제 유실 방지).
+ * 트랜잭션 안의 쓰기는 커밋 후 반영하므로, 버전이 같으면 DB 조회 결과에 이미 포함되어 있습니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxCacheService {
+
+    private static final String INBOX_KEY_PREFIX = "user:inbox:";
+    private static final String INBOX_DATA_KEY_PREFIX = "user:inbox:data:";
+    private static final String INBOX_VERSION_KEY_PREFIX = "user:inbox:ver:";
+    private static final String FIELD_NOTIFICATION_PREFIX = "n:";
+    private static final String FIELD_READ_PREFIX = "r:";
+    private static final String FIELD_WATERMARK = "watermark";
+    private static final String FIELD_WATERMARK_AT = "watermark_at";
+
+    /**
+     * DB 조회 결과로 Inbox를 교체 (DB 조회 전에 읽은 버전이 그대로일 때만)
+     * ARGV: ttlSeconds, watermark, watermarkAt, complete, version, (id, json)...
+     * 반환: 0 (조회 후 쓰기가 있어 로드 생략), 1 (로드 완료)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[5] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('HSET', KEYS[2], 'watermark', ARGV[2], 'watermark_at', ARGV[3], 'complete', ARGV[4])
+            for i = 6, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i])
+                redis.call('HSET', KEYS[2], 'n:' .. ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 로드된 Inbox에만 새 알림 추가 후 최대 개수 초과분 제거 (버전은 항상 증가)
+     * ARGV: id, json, maxSize, ttlSeconds
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[3])
+            redis.call('EXPIRE', KEYS[3], ARGV[4])
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+            redis.call('HSET', KEYS[2], 'n:' .. ARGV[1], ARGV[2])
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])
+            if overflow > 0 then
+                local evicted = redis.call('ZRANGE', KEYS[1], 0, overflow - 1)
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+                for _, id in ipairs(evicted) do
+                    redis.call('HDEL', KEYS[2], 'n:' .. id, 'r:' .. id)
+                end
+                redis.call('HSET', KEYS[2], 'complete', '0')
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * 최신순 limit건 조회 (1회 왕복)
+     * 반환: nil (미로드) 또는 [watermark, watermarkAt, complete, json1, readAt1, json2, readAt2, ...]
+     * readAt은 개별 읽음이 아니면 빈 문자열
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return nil
+            end
+            local result = {
+                redis.call('HGET', KEYS[2], 'watermark') or '0',
+                redis.call('HGET', KEYS[2], 'watermark_at') or '',
+                redis.call('HGET', KEYS[2], 'complete') or '0'
+            }
+            local ids = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            for _, id in ipairs(ids) do
+                local json = redis.call('HGET', KEYS[2], 'n:' .. id)
+                if json then
+                    table.insert(result, json)
+                    table.insert(result, redis.call('HGET', KEYS[2], 'r:' .. id) or '')
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 로드된 Inbox에만 Hash 필드 설정 (읽음 오버레이, 워터마크, 버전은 항상 증가)
+     * KEYS: dataKey, versionKey / ARGV: ttlSeconds, (field, value)...
+     */
+    private static final RedisScript<Long> HSET_IF_LOADED_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            return redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationProperties notificationProperties;
+
+    /**
+     * Inbox에서 최신 알림 첫 페이지를 조회합니다.
+     * 캐시 미스이거나 요청 개수를 채울 수 없으면 (삭제로 줄어든 경우) 빈 Optional
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param size 페이지 크기 (Inbox 최대 크기 이하)
+     * @return 알림 DTO 리스트 Optional (최신순)
+     */
+    public Optional<List<NotificationDTO>> getFirstPage(Long orgId, Long userId, int size) {
+        if (size > notificationProperties.getInbox().getMaxSize()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<?> raw = redisTemplate.execute(PAGE_SCRIPT, keys(orgId, userId), String.valueOf(size));
+            if (raw == null || raw.isEmpty()) {
+                return Optional.empty();
+            }
+
+            long watermark = Long.parseLong(raw.get(0).toString());
+            String watermarkAt = raw.get(1).toString();
+            boolean complete = "1".equals(raw.get(2).toString());
+
+            List<NotificationDTO> notifications = new ArrayList<>(size);
+            for (int i = 3; i + 1 < raw.size(); i += 2) {
+                NotificationDTO cached = objectMapper.readValue(raw.get(i).toString(), NotificationDTO.class);
+                String readAt = raw.get(i + 1).toString();
+                notifications.add(withReadState(cached, watermark, watermarkAt, readAt));
+            }
+
+            if (notifications.size() < size && !complete) {
+                return Optional.empty();  // 잘린 Inbox에서 삭제로 개수 부족 → DB 조회
+            }
+
+            log.debug("Inbox 캐시 히트: userId={}, size={}", userId, notifications.size());
+            return Optional.of(notifications);
+        } catch (Exception e) {
+            log.warn("Inbox 캐시 조회 실패, DB 조회: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시를 채우기 전 현재 버전을 읽습니다 (DB 조회 전에 호출).
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @return 현재 버전 (없으면 0, 조회 실패 시 -1이라 로드되지 않음)
+     */
+    public long readVersion(Long orgId, Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(orgId, userId));
+            return version != null ? Long.parseLong(version) : 0;
+        } catch (Exception e) {
+            log.warn("Inbox 캐시 버전 조회 실패: userId={}", userId, e);
+            return -1;
+        }
+    }
+
+    /**
+     * DB 조회 결과로 Inbox를 채웁니다 (첫 페이지 캐시 미스 시).
+     * 조회 전에 읽은 버전 이후 쓰기가 있었으면 로드하지 않음 (다음 조회에서 다시 시도)
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param version DB 조회 전에 {@link #readVersion}으로 읽은 버전
+     * @param latest 최신 알림 (최신순, 최대 Inbox 크기)
+     * @param watermark 읽음 워터마크
+     * @param watermarkAt 모두 읽음 시각 (없으면 null)
+     * @return 로드 여부
+     */
+    public boolean load(Long orgId, Long userId, long version, List<NotificationDTO> latest,
+                        long watermark, LocalDateTime watermarkAt) {
+        NotificationProperties.Inbox config = notificationProperties.getInbox();
+        try {
+            List<String> args = new ArrayList<>(5 + latest.size() * 2);
+            args.add(String.valueOf(config.getTtlSeconds()));
+            args.add(String.valueOf(watermark));
+            args.add(watermarkAt != null ? watermarkAt.toString() : "");
+            args.add(latest.size() < config.getMaxSize() ? "1" : "0");
+            args.add(String.valueOf(version));
+            for (NotificationDTO notification : latest) {
+                args.add(String.valueOf(notification.getNotificationId()));
+                args.add(objectMapper.writeValueAsString(notification));
+            }
+
+            List<String> keys = new ArrayList<>(keys(orgId, userId));
+            keys.add(versionKey(orgId, userId));
+            boolean loaded = Long.valueOf(1).equals(redisTemplate.execute(LOAD_SCRIPT, keys, args.toArray()));
+            log.debug("Inbox 캐시 로드: userId={}, size={}, loaded={}", userId, latest.size(), loaded);
+            return loaded;
+        } catch (Exception e) {
+            log.warn("Inbox 캐시 로드 실패: userId={}", userId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 새 알림을 Inbox에 추가합니다 (알림 저장 커밋 후).
+     * 로드되지 않은 Inbox는 건드리지 않음
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param notification 알림 DTO
+     */
+    public void add(Long orgId, Long userId, NotificationDTO notification) {
+        afterCommit(() -> addNow(orgId, userId, notification));
+    }
+
+    private void addNow(Long orgId, Long userId, NotificationDTO notification) {
+        NotificationProperties.Inbox config = notificationProperties.getInbox();
+        try {
+            List<String> keys = new ArrayList<>(keys(orgId, userId));
+            keys.add(versionKey(orgId, userId));
+            redisTemplate.execute(ADD_SCRIPT, keys,
+                    String.valueOf(notification.getNotificationId()),
+                    objectMapper.writeValueAsString(notification),
+                    String.valueOf(config.getMaxSize()),
+                    String.valueOf(config.getTtlSeconds()));
+        } catch (Exception e) {
+            // 추가 실패 시 Inbox가 DB와 어긋나므로 무효화
+            log.warn("Inbox 캐시 추가 실패, 무효화: userId={}", userId, e);
+            evictNow(orgId, List.of(userId));
+        }
+    }
+
+    /**
+     * 개별 읽음 상태를 반영합니다 (커밋 후).
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param notificationId 알림 ID
+     * @param readAt 읽은 시각
+     */
+    public void markRead(Long orgId, Long userId, Long notificationId, LocalDateTime readAt) {
+        setIfLoaded(orgId, userId, FIELD_READ_PREFIX + notificationId, readAt.toString());
+    }
+
+    /**
+     * 모두 읽음 워터마크를 반영합니다 (커밋 후).
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param watermark 읽음 워터마크
+     * @param readAt 모두 읽음 시각
+     */
+    public void markAllRead(Long orgId, Long userId, long watermark, LocalDateTime readAt) {
+        setIfLoaded(orgId, userId,
+                FIELD_WATERMARK, String.valueOf(watermark),
+                FIELD_WATERMARK_AT, readAt.toString());
+    }
+
+    /**
+     * 삭제된 알림을 Inbox에서 제거합니다 (커밋 후).
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param notificationId 알림 ID
+     */
+    public void remove(Long orgId, Long userId, Long notificationId) {
+        afterCommit(() -> removeNow(orgId, userId, notificationId));
+    }
+
+    private void removeNow(Long orgId, Long userId, Long notificationId) {
+        List<String> keys = keys(orgId, userId);
+        long ttlSeconds = notificationProperties.getInbox().getTtlSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.incr(versionKey(orgId, userId));
+                stringConnection.expire(versionKey(orgId, userId), ttlSeconds);
+                stringConnection.zRem(keys.get(0), String.valueOf(notificationId));
+                stringConnection.hDel(keys.get(1),
+                        FIELD_NOTIFICATION_PREFIX + notificationId, FIELD_READ_PREFIX + notificationId);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Inbox 캐시 삭제 반영 실패, 무효화: userId={}", userId, e);
+            evictNow(orgId, List.of(userId));
+        }
+    }
+
+    /**
+     * 여러 사용자의 Inbox를 무효화합니다 (공지 fan-out 청크 단위, 커밋 후).
+     * 다음 조회 시 DB에서 다시 로드
+     *
+     * @param orgId 조직 ID
+     * @param userIds 사용자 ID 목록
+     */
+    public void evict(Long orgId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> evictNow(orgId, userIds));
+    }
+
+    private void evictNow(Long orgId, Collection<Long> userIds) {
+        long ttlSeconds = notificationProperties.getInbox().getTtlSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                userIds.forEach(userId -> {
+                    // 버전 증가: 무효화 전에 시작된 DB 조회 결과로 다시 채우지 않도록
+                    stringConnection.incr(versionKey(orgId, userId));
+                    stringConnection.expire(versionKey(orgId, userId), ttlSeconds);
+                    stringConnection.del(keys(orgId, userId).toArray(String[]::new));
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            // 무효화 실패는 TTL 만료로 복구
+            log.warn("Inbox 캐시 무효화 실패: orgId={}, users={}", orgId, userIds.size(), e);
+        }
+    }
+
+    private void setIfLoaded(Long orgId, Long userId, String... fieldValues) {
+        afterCommit(() -> {
+            try {
+                List<String> args = new ArrayList<>(1 + fieldValues.length);
+                args.add(String.valueOf(notificationProperties.getInbox().getTtlSeconds()));
+                args.addAll(List.of(fieldValues));
+                redisTemplate.execute(HSET_IF_LOADED_SCRIPT,
+                        List.of(dataKey(orgId, userId), versionKey(orgId, userId)), args.toArray());
+            } catch (Exception e) {
+                log.warn("Inbox 캐시 읽음 반영 실패, 무효화: userId={}", userId, e);
+                evictNow(orgId, List.of(userId));
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 실행합니다.
+     * 커밋 전에 반영하면 그 사이 DB를 읽은 캐시 채우기가 같은 버전으로 이전 상태를 로드할 수 있음
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 캐시된 스냅샷에 읽음 상태 오버레이를 적용합니다.
+     */
+    private NotificationDTO withReadState(NotificationDTO cached, long watermark, String watermarkAt, String readAt) {
+        if (!readAt.isEmpty()) {
+            return cached.toBuilder().isRead(true).readAt(LocalDateTime.parse(readAt)).build();
+        }
+        if (cached.getNotificationId() <= watermark && !Boolean.TRUE.equals(cached.getIsRead())) {
+            return cached.toBuilder()
+                    .isRead(true)
+                    .readAt(watermarkAt.isEmpty() ? null : LocalDateTime.parse(watermarkAt))
+                    .build();
+        }
+        return cached;
+    }
+
+    private List<String> keys(Long orgId, Long userId) {
+        return List.of(INBOX_KEY_PREFIX + orgId + ":" + userId, dataKey(orgId, userId));
+    }
+
+    private String dataKey(Long orgId, Long userId) {
+        return INBOX_DATA_KEY_PREFIX + orgId + ":" + userId;
+    }
+
+    private String versionKey(Long orgId, Long userId) {
+        return INBOX_VERSION_KEY_PREFIX + orgId + ":" + userId;
+    }
+}
@@ -0,0 +1,228 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.JSONB;
+import org.jooq.generated.tables.pojos.NotificationOutbox;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 Transactional Outbox 서비스
+ *
+ * <p>도메인 서비스는 큐에 직접 push하지 않고 같은 트랜잭션에서 Outbox 행을 INSERT합니다.
+ * 롤백되면 알림도 사라지고, 요청 지연이 Valkey 상태에 영향받지 않습니다.</p>
+ *
+ * <p>Relay (노드당 Platform Thread 1개, notification.outbox.relay-enabled로 노드별 활성화):</p>
+ * <ol>
+ *   <li>SELECT ... FOR UPDATE SKIP LOCKED로 배치 선점 (여러 노드가 겹치지 않게 분담)</li>
+ *   <li>RedisQueueService.enqueueAll 후 같은 트랜잭션에서 DELETE (Valkey 실패 시 롤백되어 재시도)</li>
+ *   <li>배치가 가득 차면 바로 다음 배치, 비면 LISTEN notification_outbox로 대기 (poll-interval-ms 폴링 병행)</li>
+ * </ol>
+ *
+ * <p>커밋 후 DELETE 전에 노드가 죽으면 같은 이벤트가 다시 큐에 들어갈 수 있음 (at-least-once)</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final String CHANNEL = "notification_outbox";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final RedisQueueService queueService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private Thread relayThread;
+    private Connection listenConnection;  // Relay 스레드 전용 (풀 커넥션 1개를 계속 점유)
+
+    /**
+     * 알림 이벤트를 Outbox에 기록합니다.
+     * 호출자의 트랜잭션 안에서만 호출 가능 (도메인 변경과 함께 커밋)
+     *
+     * @param event 알림 이벤트
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(NotificationEvent event) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.setOrgId(event.getOrgId());
+        outbox.setPayload(JSONB.valueOf(objectMapper.writeValueAsString(event)));
+        outboxRepository.insert(outbox);
+    }
+
+    @PostConstruct
+    public void startRelay() {
+        if (!notificationProperties.getOutbox().isRelayEnabled()) {
+            log.info("알림 Outbox Relay 비활성화 (notification.outbox.relay-enabled=false)");
+            return;
+        }
+
+        running.set(true);
+        relayThread = Thread.ofPlatform()
+                .name("notification-outbox-relay")
+                .start(this::relayLoop);
+        log.info("알림 Outbox Relay 시작");
+    }
+
+    @PreDestroy
+    public void stopRelay() {
+        if (relayThread == null) {
+            return;
+        }
+
+        running.set(false);
+        relayThread.interrupt();
+        try {
+            relayThread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("알림 Outbox Relay 종료");
+    }
+
+    private void relayLoop() {
+        while (running.get() && !Thread.currentThread().isInterrupted()) {
+            try {
+                relayPending();
+            } catch (Exception e) {
+                log.warn("Outbox Relay 실패 (다음 주기에 재시도): {}", e.getMessage());
+            }
+            awaitWakeUp();
+        }
+        closeListenConnection();
+    }
+
+    /**
+     * 배치가 가득 차 있는 동안 계속 옮깁니다.
+     * Relay 스레드가 호출하며, Relay가 비활성화된 노드에서는 직접 호출 가능 (운영 도구, 테스트)
+     *
+     * @return 옮긴 행 수
+     * @throws RuntimeException 큐 적재 실패 (해당 배치는 롤백되어 Outbox에 남음)
+     */
+    public int relayPending() {
+        int batchSize = notificationProperties.getOutbox().getBatchSize();
+        int total = 0;
+        int relayed;
+        do {
+            relayed = relayBatch(batchSize);
+            total += relayed;
+        } while (relayed == batchSize && !Thread.currentThread().isInterrupted());  // 밀린 행이 남아있음: 대기 없이 다음 배치
+        return total;
+    }
+
+    /**
+     * 배치 1개를 큐로 옮기고 삭제합니다 (한 트랜잭션).
+     *
+     * @param batchSize 배치 크기
+     * @return 처리한 행 수
+     */
+    private int relayBatch(int batchSize) {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<NotificationOutbox> rows = outboxRepository.lockBatch(batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            List<NotificationEvent> events = new ArrayList<>(rows.size());
+            List<Long> outboxIds = new ArrayList<>(rows.size());
+            for (NotificationOutbox row : rows) {
+                outboxIds.add(row.getOutboxId());
+                try {
+                    events.add(objectMapper.readValue(row.getPayload().data(), NotificationEvent.class));
+                } catch (Exception e) {
+                    // 역직렬화 불가 행은 재시도해도 실패하므로 삭제 (배치 전체가 막히지 않도록)
+                    log.error("Outbox 행 역직렬화 실패 (폐기): outboxId={}, {}", row.getOutboxId(), e.getMessage());
+                }
+            }
+
+            queueService.enqueueAll(events);  // 실패 시 예외 → 롤백 (행 유지)
+            outboxRepository.deleteByIds(outboxIds);
+
+            LocalDateTime now = LocalDateTime.now();
+            rows.forEach(row -> meterRegistry.timer("notification.outbox.lag")
+                    .record(Duration.between(row.getCreatedAt(), now)));
+            return rows.size();
+        });
+
+        int count = relayed != null ? relayed : 0;
+        if (count > 0) {
+            meterRegistry.counter("notification.outbox.relayed").increment(count);
+            log.debug("Outbox → 큐 이동: {}건", count);
+        }
+        return count;
+    }
+
+    /**
+     * NOTIFY 또는 폴링 간격까지 대기합니다.
+     * LISTEN 커넥션을 열 수 없으면 폴링 간격만큼 sleep (DB 복구 후 재연결)
+     */
+    private void awaitWakeUp() {
+        long pollIntervalMs = notificationProperties.getOutbox().getPollIntervalMs();
+        try {
+            if (listenConnection == null || listenConnection.isClosed()) {
+                listenConnection = openListenConnection();
+            }
+            listenConnection.unwrap(PGConnection.class).getNotifications((int) pollIntervalMs);
+        } catch (SQLException e) {
+            log.warn("Outbox LISTEN 커넥션 오류, 폴링으로 대기: {}", e.getMessage());
+            closeListenConnection();
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Connection openListenConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        log.info("Outbox LISTEN 시작: {}", CHANNEL);
+        return connection;
+    }
+
+    private void closeListenConnection() {
+        if (listenConnection == null) {
+            return;
+        }
+        try (Connection connection = listenConnection;
+             Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN " + CHANNEL);  // 풀에 반환된 뒤 다른 요청이 NOTIFY를 받지 않도록
+        } catch (SQLException e) {
+            log.debug("Outbox LISTEN 커넥션 종료 실패: {}", e.getMessage());
+        }
+        listenConnection = null;
+    }
+}
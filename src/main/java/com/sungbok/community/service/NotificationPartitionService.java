@@ -0,0 +1,266 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.repository.NotificationPartitionRepository;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.repository.OrganizationsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.tables.pojos.Organizations;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * notifications 월 파티션 / 보존 기간 관리 서비스
+ *
+ * <p>매일 한 노드만 (Valkey 락) 다음 순서로 실행:</p>
+ * <ol>
+ *   <li>현재 월 ~ premakeMonths 이후 파티션 미리 생성</li>
+ *   <li>전체 보존 기간보다 짧게 설정한 조직의 만료 알림 행 단위 삭제</li>
+ *   <li>소프트 삭제 후 기간이 지난 알림 물리 삭제</li>
+ *   <li>가장 긴 보존 기간보다 오래된 파티션 DETACH (+ DROP) - VACUUM 없이 즉시 공간 회수</li>
+ * </ol>
+ *
+ * <p>파티션이 없는 월의 INSERT는 실패하므로 (DEFAULT 파티션은 두지 않음 - 있으면 이후 월 파티션 생성이
+ * DEFAULT 전체를 스캔하고, 그 월의 행이 들어 있으면 생성 자체가 실패) 모든 노드가 주기적으로
+ * 미리 만들어진 파티션을 확인해 notification.partition.months.ahead 게이지로 노출합니다.
+ * 0 이하이면 다음 달 파티션이 없는 상태이므로 알림 대상 (유지보수 작업 중단 등).</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPartitionService {
+
+    private static final String LOCK_KEY = "notification:partition:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    /**
+     * 본인이 잡은 락만 해제
+     * ARGV: token
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final NotificationPartitionRepository partitionRepository;
+    private final NotificationsRepository notificationsRepository;
+    private final OrganizationsRepository organizationsRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger monthsAhead = new AtomicInteger(-1);
+
+    /**
+     * 기동 시 파티션을 미리 만들어 둡니다 (첫 유지보수 실행 전 월이 바뀌어도 INSERT 실패 방지).
+     * 유지보수와 같은 락을 잡아 여러 노드가 동시에 기동해도 같은 파티션을 동시에 만들지 않음
+     * (CREATE TABLE IF NOT EXISTS도 동시 실행 시 duplicate_table로 실패)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        meterRegistry.gauge("notification.partition.months.ahead", monthsAhead);
+
+        String token = null;
+        try {
+            token = tryLock();
+            if (token != null) {
+                ensurePartitions();
+            } else {
+                log.info("다른 노드가 알림 파티션 유지보수 중, 사전 생성 생략");
+            }
+        } catch (Exception e) {
+            log.error("알림 파티션 사전 생성 실패", e);
+        } finally {
+            unlock(token);
+        }
+        checkPartitions();
+    }
+
+    /**
+     * 미리 만들어진 파티션 개월 수를 갱신합니다 (모든 노드, 알림용 게이지).
+     * 현재 월 또는 다음 달 파티션이 없으면 오류 로그
+     */
+    @Scheduled(fixedDelayString = "${notification.partition.check-interval-ms:3600000}",
+            initialDelayString = "${notification.partition.check-interval-ms:3600000}")
+    public void checkPartitions() {
+        try {
+            List<YearMonth> months = partitionRepository.fetchPartitionMonths();
+            YearMonth current = YearMonth.now();
+            int ahead = -1;
+            while (months.contains(current.plusMonths(ahead + 1))) {
+                ahead++;
+            }
+            monthsAhead.set(ahead);
+
+            if (ahead < 1) {
+                log.error("알림 파티션 부족: 현재 월부터 {}개월만 준비됨 (현재 월 없음: {}) - 유지보수 작업 확인 필요",
+                        ahead + 1, ahead < 0);
+                meterRegistry.counter("notification.partition.missing").increment();
+            }
+        } catch (Exception e) {
+            log.warn("알림 파티션 확인 실패", e);
+        }
+    }
+
+    /**
+     * 파티션 생성 / 보존 기간 정리 (여러 노드 중 한 곳만 실행)
+     */
+    @Scheduled(cron = "${notification.partition.maintenance-cron:0 30 3 * * *}")
+    public void maintain() {
+        String token = tryLock();
+        if (token == null) {
+            return;
+        }
+
+        try {
+            ensurePartitions();
+            int globalRetention = purgeExpiredByOrganization();
+            purgeSoftDeleted();
+            removeExpiredPartitions(globalRetention);
+        } catch (Exception e) {
+            log.error("알림 파티션 유지보수 실패", e);
+        } finally {
+            unlock(token);
+        }
+        checkPartitions();
+    }
+
+    /**
+     * 유지보수 락 획득
+     *
+     * @return 락 토큰 (다른 노드가 잡고 있으면 null)
+     */
+    private String tryLock() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    private void unlock(String token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        } catch (Exception e) {
+            log.warn("알림 파티션 락 해제 실패 (TTL 후 만료)", e);
+        }
+    }
+
+    /**
+     * 현재 월부터 premakeMonths 이후까지 파티션을 생성합니다.
+     */
+    void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        int premake = notificationProperties.getPartition().getPremakeMonths();
+        for (int i = 0; i <= premake; i++) {
+            partitionRepository.createPartition(current.plusMonths(i));
+        }
+    }
+
+    /**
+     * 조직별 보존 기간이 전체 보존 기간보다 짧은 조직의 만료 알림을 삭제합니다.
+     *
+     * @return 전체 보존 기간 (개월, 조직 설정과 기본값 중 최댓값 - 파티션 삭제 기준)
+     */
+    private int purgeExpiredByOrganization() {
+        NotificationProperties.Partition config = notificationProperties.getPartition();
+        List<Organizations> organizations = organizationsRepository.fetchNotificationRetentions();
+
+        int globalRetention = organizations.stream()
+                .map(Organizations::getNotificationRetentionMonths)
+                .filter(Objects::nonNull)
+                .reduce(config.getDefaultRetentionMonths(), Math::max);
+
+        for (Organizations organization : organizations) {
+            int retention = organization.getNotificationRetentionMonths() != null
+                    ? organization.getNotificationRetentionMonths()
+                    : config.getDefaultRetentionMonths();
+            if (retention >= globalRetention) {
+                continue;  // 파티션 삭제로 처리됨
+            }
+
+            LocalDateTime before = retentionCutoff(retention).atDay(1).atStartOfDay();
+            long deleted = deleteInBatches(() -> notificationsRepository.deleteCreatedBefore(
+                    organization.getOrgId(), before, config.getPurgeBatchSize()));
+            if (deleted > 0) {
+                log.info("조직 보존 기간 만료 알림 삭제: orgId={}, before={}, count={}",
+                        organization.getOrgId(), before, deleted);
+                meterRegistry.counter("notification.partition.purged", "reason", "retention").increment(deleted);
+            }
+        }
+        return globalRetention;
+    }
+
+    private void purgeSoftDeleted() {
+        NotificationProperties.Partition config = notificationProperties.getPartition();
+        LocalDateTime deletedBefore = LocalDateTime.now().minusDays(config.getSoftDeletedRetentionDays());
+
+        long deleted = deleteInBatches(() ->
+                notificationsRepository.purgeSoftDeleted(deletedBefore, config.getPurgeBatchSize()));
+        if (deleted > 0) {
+            log.info("소프트 삭제 알림 물리 삭제: before={}, count={}", deletedBefore, deleted);
+            meterRegistry.counter("notification.partition.purged", "reason", "soft_deleted").increment(deleted);
+        }
+    }
+
+    /**
+     * 전체 보존 기간보다 오래된 파티션을 DETACH (dropExpired면 DROP까지) 합니다.
+     *
+     * @param globalRetention 전체 보존 기간 (개월)
+     */
+    private void removeExpiredPartitions(int globalRetention) {
+        YearMonth cutoff = retentionCutoff(globalRetention);
+        boolean drop = notificationProperties.getPartition().isDropExpired();
+
+        for (YearMonth month : partitionRepository.fetchPartitionMonths()) {
+            if (!month.isBefore(cutoff)) {
+                break;  // 오름차순 정렬
+            }
+            partitionRepository.detachPartition(month);
+            if (drop) {
+                partitionRepository.dropDetachedPartition(month);
+            }
+            log.info("만료 알림 파티션 {}: month={}", drop ? "삭제" : "분리", month);
+            meterRegistry.counter("notification.partition.dropped",
+                    "mode", drop ? "drop" : "detach").increment();
+        }
+    }
+
+    /**
+     * 보존 기간 기준 월 (이 월의 1일 이전 데이터가 만료)
+     */
+    private YearMonth retentionCutoff(int retentionMonths) {
+        return YearMonth.now().minusMonths(retentionMonths);
+    }
+
+    private long deleteInBatches(IntSupplier batch) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+            total += deleted;
+        } while (deleted >= notificationProperties.getPartition().getPurgeBatchSize());
+        return total;
+    }
+}
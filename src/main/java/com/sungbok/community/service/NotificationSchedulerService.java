@@ -0,0 +1,394 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.common.exception.ResourceNotFoundException;
+import com.sungbok.community.common.exception.ValidationException;
+import com.sungbok.community.common.exception.code.ResourceErrorCode;
+import com.sungbok.community.common.exception.code.ValidationErrorCode;
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.AnnouncementRequest;
+import com.sungbok.community.dto.ScheduleNotificationRequest;
+import com.sungbok.community.dto.ScheduledNotificationDTO;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.dto.event.ScheduledNotification;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.repository.MembersRepository;
+import com.sungbok.community.security.TenantContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 알림 스케줄러 (Valkey Sorted Set)
+ *
+ * <p>키 구조:</p>
+ * <ul>
+ *   <li>notification:scheduled - Sorted Set (score = 발송 시각 millis, member = 예약 ID)</li>
+ *   <li>notification:scheduled:items - Hash (예약 ID → ScheduledNotification JSON)</li>
+ *   <li>notification:scheduled:org:{orgId} - Sorted Set (조직별 목록 조회용 인덱스)</li>
+ * </ul>
+ *
+ * <p>발송 (at-least-once):</p>
+ * <ol>
+ *   <li>mover가 발송 시각이 지난 예약을 Lua로 원자적으로 선점 (score를 lease 만료 시각으로 변경)</li>
+ *   <li>이벤트를 알림 큐로 이동하거나 공지 작업 생성</li>
+ *   <li>ack로 예약 삭제 (선점한 score와 같을 때만)</li>
+ * </ol>
+ * <p>ack 전에 노드가 중단되면 lease 만료 후 다른 노드가 다시 선점합니다.
+ * 공지 작업은 예약 ID를 멱등 키로 생성하므로 중복되지 않고, 개별 알림은 중복 발송될 수 있습니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationSchedulerService {
+
+    private static final String SCHEDULE_KEY = "notification:scheduled";
+    private static final String ITEMS_KEY = "notification:scheduled:items";
+    private static final String ORG_INDEX_KEY_PREFIX = "notification:scheduled:org:";
+    private static final String SCHEDULED_ENTITY_TYPE = "scheduled";
+
+    /**
+     * 발송 시각이 지난 예약을 선점 (lease)
+     * ARGV: nowMillis, leaseUntilMillis, limit
+     * 반환: [scheduleId1, payload1, scheduleId2, payload2, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+            local result = {}
+            for _, id in ipairs(ids) do
+                local payload = redis.call('HGET', KEYS[2], id)
+                if payload then
+                    redis.call('ZADD', KEYS[1], ARGV[2], id)
+                    table.insert(result, id)
+                    table.insert(result, payload)
+                else
+                    redis.call('ZREM', KEYS[1], id)
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 발송 완료한 예약 삭제 (선점 이후 변경/취소되지 않은 경우만)
+     * KEYS: schedule, items, orgIndex / ARGV: scheduleId, leaseUntilMillis
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score and tonumber(score) == tonumber(ARGV[2]) then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                redis.call('HDEL', KEYS[2], ARGV[1])
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 예약 저장 (항목, 조직 인덱스, 발송 대기열을 한 번에 기록)
+     * 중간에 실패해도 대기열에만 있고 항목이 없는 예약이나, 목록에만 보이는 예약이 남지 않음
+     * KEYS: schedule, items, orgIndex / ARGV: scheduleId, dueMillis, payload
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 대기 중인 예약의 발송 시각 변경
+     * 선점된 예약(발송 중)은 두 Sorted Set의 score가 달라지므로 변경 불가
+     * KEYS: schedule, items, orgIndex / ARGV: scheduleId, newDueMillis, payload
+     */
+    private static final RedisScript<Long> RESCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score or score ~= redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 대기 중인 예약 취소 (선점된 예약은 취소 불가)
+     * KEYS: schedule, items, orgIndex / ARGV: scheduleId
+     */
+    private static final RedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score or score ~= redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+                return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisQueueService queueService;
+    private final AnnouncementFanoutService announcementFanoutService;
+    private final MembersRepository membersRepository;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("notification.scheduled.pending", this, NotificationSchedulerService::getPendingCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림을 예약합니다 (관리자 API).
+     * userIds가 없으면 발송 시각에 조직 전체 공지 작업 생성, 있으면 해당 멤버에게 개별 알림
+     *
+     * @param userId 예약한 사용자 ID
+     * @param request 예약 요청
+     * @return 예약 정보
+     */
+    public ScheduledNotificationDTO schedule(Long userId, ScheduleNotificationRequest request) {
+        Long orgId = TenantContext.getRequiredOrgId();
+        long dueAt = toEpochMillis(request.getScheduledAt());
+
+        if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+            AnnouncementRequest announcement = new AnnouncementRequest(
+                    request.getTitle(), request.getBody(), request.getData());
+            return toDTO(save(new ScheduledNotification(newScheduleId(), orgId, userId, dueAt, announcement, null)));
+        }
+
+        // 조직의 승인된 멤버만 수신자로 허용
+        Set<Long> recipients = new HashSet<>(request.getUserIds());
+        List<Long> approved = membersRepository.fetchApprovedUserIds(recipients);
+        if (approved.size() != recipients.size()) {
+            recipients.removeAll(approved);
+            throw new ValidationException(ValidationErrorCode.FAILED, Map.of("userIds", recipients));
+        }
+
+        String scheduleId = newScheduleId();
+        List<NotificationEvent> events = approved.stream()
+                .map(recipientId -> NotificationEvent.builder()
+                        .orgId(orgId)
+                        .userId(recipientId)
+                        .notificationType(NotificationType.ADMIN_ANNOUNCEMENT)
+                        .title(request.getTitle())
+                        .body(request.getBody())
+                        .relatedEntityType(SCHEDULED_ENTITY_TYPE)
+                        .data(request.getData())
+                        .scheduledAt(dueAt)
+                        .build())
+                .toList();
+
+        return toDTO(save(new ScheduledNotification(scheduleId, orgId, userId, dueAt, null, events)));
+    }
+
+    /**
+     * 조직의 대기 중인 예약 목록 (발송 시각 순)
+     *
+     * @return 예약 목록
+     */
+    public List<ScheduledNotificationDTO> getPending() {
+        Long orgId = TenantContext.getRequiredOrgId();
+        Set<String> ids = redisTemplate.opsForZSet().range(orgIndexKey(orgId), 0, -1);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> payloads = redisTemplate.opsForHash().multiGet(ITEMS_KEY, new ArrayList<>(ids));
+        return payloads.stream()
+                .filter(Objects::nonNull)
+                .map(payload -> objectMapper.readValue(payload.toString(), ScheduledNotification.class))
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * 예약의 발송 시각을 변경합니다.
+     *
+     * @param scheduleId 예약 ID
+     * @param scheduledAt 새 발송 시각
+     * @return 변경된 예약 정보
+     * @throws ResourceNotFoundException 예약이 없거나 이미 발송 중인 경우
+     */
+    public ScheduledNotificationDTO reschedule(String scheduleId, LocalDateTime scheduledAt) {
+        ScheduledNotification current = fetchOwned(scheduleId);
+        long newDueAt = toEpochMillis(scheduledAt);
+        ScheduledNotification updated = current.withDueAt(newDueAt);
+
+        Long result = redisTemplate.execute(RESCHEDULE_SCRIPT, keys(current.orgId()),
+                scheduleId, String.valueOf(newDueAt), toJson(updated));
+        if (result == null || result == 0) {
+            throw notFound(scheduleId);
+        }
+
+        log.info("알림 예약 변경: orgId={}, scheduleId={}, scheduledAt={}", current.orgId(), scheduleId, scheduledAt);
+        return toDTO(updated);
+    }
+
+    /**
+     * 예약을 취소합니다.
+     *
+     * @param scheduleId 예약 ID
+     * @throws ResourceNotFoundException 예약이 없거나 이미 발송된 경우
+     */
+    public void cancel(String scheduleId) {
+        ScheduledNotification current = fetchOwned(scheduleId);
+
+        Long removed = redisTemplate.execute(CANCEL_SCRIPT, keys(current.orgId()), scheduleId);
+        if (removed == null || removed == 0) {
+            throw notFound(scheduleId);
+        }
+
+        log.info("알림 예약 취소: orgId={}, scheduleId={}", current.orgId(), scheduleId);
+    }
+
+    /**
+     * 발송 시각이 지난 예약을 배치로 선점하여 발송합니다 (mover).
+     * 여러 노드가 동시에 실행해도 Lua 선점으로 예약당 1개 노드만 처리
+     */
+    @Scheduled(fixedDelayString = "${notification.scheduler.poll-interval-ms:1000}")
+    public void promoteDue() {
+        NotificationProperties.Scheduler config = notificationProperties.getScheduler();
+        try {
+            long now = System.currentTimeMillis();
+            long leaseUntil = now + TimeUnit.SECONDS.toMillis(config.getLeaseSeconds());
+
+            List<?> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(SCHEDULE_KEY, ITEMS_KEY),
+                    String.valueOf(now), String.valueOf(leaseUntil), String.valueOf(config.getBatchSize()));
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+
+            for (int i = 0; i + 1 < claimed.size(); i += 2) {
+                String scheduleId = claimed.get(i).toString();
+                try {
+                    ScheduledNotification item = objectMapper.readValue(
+                            claimed.get(i + 1).toString(), ScheduledNotification.class);
+                    deliver(item);
+                    redisTemplate.execute(ACK_SCRIPT, keys(item.orgId()), scheduleId, String.valueOf(leaseUntil));
+
+                    meterRegistry.timer("notification.scheduled.promote.lag")
+                            .record(Math.max(0, System.currentTimeMillis() - item.dueAt()), TimeUnit.MILLISECONDS);
+                } catch (Exception e) {
+                    // ack하지 않음: lease 만료 후 재시도
+                    log.error("예약 알림 발송 실패 (lease 만료 후 재시도): scheduleId={}, error={}",
+                            scheduleId, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("예약 알림 선점 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대기 중인 예약 수 (모니터링용, lease 중인 예약 포함)
+     *
+     * @return 예약 수
+     */
+    public long getPendingCount() {
+        Long size = redisTemplate.opsForZSet().zCard(SCHEDULE_KEY);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 예약을 발송합니다.
+     * 공지는 TenantContext를 설정하고 공지 작업 생성, 개별 알림은 알림 큐로 이동
+     */
+    private void deliver(ScheduledNotification item) {
+        if (item.announcement() != null) {
+            TenantContext.setOrgId(item.orgId());
+            try {
+                announcementFanoutService.createScheduledJob(item.createdBy(), item.scheduleId(), item.announcement());
+            } finally {
+                TenantContext.clear();
+            }
+            return;
+        }
+
+        queueService.enqueueAll(item.events());
+    }
+
+    private ScheduledNotification save(ScheduledNotification item) {
+        redisTemplate.execute(SAVE_SCRIPT, keys(item.orgId()),
+                item.scheduleId(), String.valueOf(item.dueAt()), toJson(item));
+
+        log.info("알림 예약: orgId={}, scheduleId={}, dueAt={}, announcement={}",
+                item.orgId(), item.scheduleId(), Instant.ofEpochMilli(item.dueAt()), item.announcement() != null);
+        return item;
+    }
+
+    /**
+     * 현재 조직의 예약을 조회합니다 (다른 조직 예약은 없는 것으로 취급).
+     */
+    private ScheduledNotification fetchOwned(String scheduleId) {
+        Object payload = redisTemplate.opsForHash().get(ITEMS_KEY, scheduleId);
+        if (payload == null) {
+            throw notFound(scheduleId);
+        }
+
+        ScheduledNotification item = objectMapper.readValue(payload.toString(), ScheduledNotification.class);
+        if (!item.orgId().equals(TenantContext.getRequiredOrgId())) {
+            throw notFound(scheduleId);
+        }
+        return item;
+    }
+
+    private ScheduledNotificationDTO toDTO(ScheduledNotification item) {
+        boolean announcement = item.announcement() != null;
+        return ScheduledNotificationDTO.builder()
+                .scheduleId(item.scheduleId())
+                .title(announcement ? item.announcement().getTitle() : item.events().getFirst().getTitle())
+                .announcement(announcement)
+                .recipientCount(announcement ? 0 : item.events().size())
+                .scheduledAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(item.dueAt()), ZoneId.systemDefault()))
+                .createdBy(item.createdBy())
+                .build();
+    }
+
+    private ResourceNotFoundException notFound(String scheduleId) {
+        return new ResourceNotFoundException(ResourceErrorCode.NOT_FOUND, Map.of("scheduleId", scheduleId));
+    }
+
+    private List<String> keys(Long orgId) {
+        return List.of(SCHEDULE_KEY, ITEMS_KEY, orgIndexKey(orgId));
+    }
+
+    private String orgIndexKey(Long orgId) {
+        return ORG_INDEX_KEY_PREFIX + orgId;
+    }
+
+    private String newScheduleId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String toJson(Object value) {
+        return objectMapper.writeValueAsString(value);
+    }
+}
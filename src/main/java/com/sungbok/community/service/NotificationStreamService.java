@@ -0,0 +1,292 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.NotificationDTO;
+import com.sungbok.community.dto.UnreadCountDTO;
+import com.sungbok.community.dto.event.NotificationStreamMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 알림 스트림 서비스 (SSE + Valkey pub/sub)
+ *
+ * <p>구조:</p>
+ * <ul>
+ *   <li>노드당 채널 구독 1개 (RedisMessageListenerContainer)</li>
+ *   <li>수신한 메시지를 (orgId, userId)로 이 노드의 SSE 연결에만 라우팅</li>
+ *   <li>사용자별 전달은 Virtual Thread에서 발행 순서대로 실행 (느린 클라이언트가 다른 사용자를 막지 않고,
+ *       같은 사용자에게는 순서가 바뀌지 않음)</li>
+ *   <li>SseEmitter는 비동기 서블릿으로 동작하여 유휴 연결이 스레드를 점유하지 않음</li>
+ *   <li>주기적 heartbeat 코멘트로 프록시 유휴 타임아웃 방지 및 끊긴 연결 정리</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamService implements MessageListener {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+    public static final String EVENT_ANNOUNCEMENT = "announcement";
+
+    private static final String STREAM_CHANNEL = "notification:stream";
+
+    private final RedisMessageListenerContainer redisContainer;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    // orgId → userId → 연결 목록 (한 사용자가 여러 기기/탭에서 접속 가능)
+    private final Map<Long, Map<Long, Set<SseEmitter>>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger(0);
+
+    // orgId:userId → 마지막 전달 작업 (다음 메시지는 이전 전달이 끝난 뒤 실행)
+    private final Map<String, CompletableFuture<Void>> deliveryTails = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    public void subscribe() {
+        redisContainer.addMessageListener(this, new ChannelTopic(STREAM_CHANNEL));
+        meterRegistry.gauge("notification.sse.connections", connectionCount);
+        log.info("알림 스트림 채널 구독: {}", STREAM_CHANNEL);
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        connections.values().forEach(byUser -> byUser.values()
+                .forEach(emitters -> emitters.forEach(SseEmitter::complete)));
+    }
+
+    /**
+     * 사용자의 SSE 연결을 등록합니다.
+     * 사용자당 최대 연결 수를 초과하면 기존 연결 하나를 종료
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @return 등록된 SseEmitter
+     */
+    public SseEmitter connect(Long orgId, Long userId) {
+        NotificationProperties.Stream config = notificationProperties.getStream();
+        SseEmitter emitter = new SseEmitter(config.getTimeoutMs());
+
+        // compute로 등록/정리를 원자적으로 처리 (빈 Set 제거와 경합 방지)
+        Set<SseEmitter> emitters = connections
+                .computeIfAbsent(orgId, key -> new ConcurrentHashMap<>())
+                .compute(userId, (key, current) -> {
+                    Set<SseEmitter> set = current != null ? current : ConcurrentHashMap.newKeySet();
+                    set.add(emitter);
+                    return set;
+                });
+        connectionCount.incrementAndGet();
+
+        if (emitters.size() > config.getMaxConnectionsPerUser()) {
+            emitters.stream().filter(other -> other != emitter).findFirst().ifPresent(SseEmitter::complete);
+        }
+
+        Runnable cleanup = () -> remove(orgId, userId, emitter);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+
+        log.debug("SSE 연결: orgId={}, userId={}, 노드 연결 수={}", orgId, userId, connectionCount.get());
+        return emitter;
+    }
+
+    /**
+     * 연결 직후 초기 상태를 이 연결에만 전송합니다.
+     * 놓친 알림 재전송 (Last-Event-ID 재개) + 현재 안 읽은 개수
+     * 연결 등록 후 호출하므로 그 사이 도착한 알림과 중복될 수 있음 (클라이언트가 ID로 중복 제거)
+     *
+     * @param emitter 대상 연결
+     * @param missed 놓친 알림 (ID 오름차순, 신규 연결이면 빈 리스트)
+     * @param unreadCount 안 읽은 개수
+     */
+    public void sendInitialState(SseEmitter emitter, List<NotificationDTO> missed, int unreadCount) {
+        for (NotificationDTO notification : missed) {
+            if (!send(emitter, EVENT_NOTIFICATION, notification.getNotificationId(), toJson(notification))) {
+                return;
+            }
+        }
+        send(emitter, EVENT_UNREAD_COUNT, null, toJson(new UnreadCountDTO(unreadCount)));
+    }
+
+    /**
+     * 새 알림을 사용자의 모든 연결로 발행합니다 (전체 노드).
+     *
+     * @param orgId 조직 ID
+     * @param userId 수신자 사용자 ID
+     * @param notification 알림 DTO
+     */
+    public void publishNotification(Long orgId, Long userId, NotificationDTO notification) {
+        publish(new NotificationStreamMessage(orgId, userId, EVENT_NOTIFICATION,
+                notification.getNotificationId(), toJson(notification)));
+    }
+
+    /**
+     * 안 읽은 개수 변경을 사용자의 모든 연결로 발행합니다 (전체 노드).
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param count 안 읽은 개수
+     */
+    public void publishUnreadCount(Long orgId, Long userId, int count) {
+        publish(new NotificationStreamMessage(orgId, userId, EVENT_UNREAD_COUNT,
+                null, toJson(new UnreadCountDTO(count))));
+    }
+
+    /**
+     * 조직 전체 공지 도착을 조직의 모든 연결로 발행합니다.
+     * 멤버별 메시지 대신 1건만 발행 (클라이언트가 목록/개수 재조회)
+     *
+     * @param orgId 조직 ID
+     * @param payload 공지 요약 (jobId, title)
+     */
+    public void publishAnnouncement(Long orgId, Map<String, Object> payload) {
+        publish(new NotificationStreamMessage(orgId, null, EVENT_ANNOUNCEMENT, null, toJson(payload)));
+    }
+
+    /**
+     * 채널 메시지를 이 노드의 로컬 연결로 라우팅합니다.
+     * 연결이 없는 사용자의 메시지는 바로 버림
+     * 컨테이너가 수신 순서대로 호출하므로 사용자별 전달 작업도 발행 순서대로 쌓임
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationStreamMessage streamMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationStreamMessage.class);
+
+            Map<Long, Set<SseEmitter>> byUser = connections.get(streamMessage.orgId());
+            if (byUser == null) {
+                return;
+            }
+
+            if (streamMessage.userId() == null) {
+                byUser.forEach((userId, emitters) -> deliver(streamMessage.orgId(), userId, emitters, streamMessage));
+                return;
+            }
+
+            Set<SseEmitter> emitters = byUser.get(streamMessage.userId());
+            if (emitters != null) {
+                deliver(streamMessage.orgId(), streamMessage.userId(), emitters, streamMessage);
+            }
+        } catch (Exception e) {
+            log.warn("알림 스트림 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 로컬 연결에 heartbeat 코멘트를 전송합니다.
+     * 전송 실패한 연결은 종료하여 콜백에서 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        connections.values().forEach(byUser -> byUser.values().forEach(emitters -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        })));
+    }
+
+    /**
+     * 노드의 현재 SSE 연결 수
+     *
+     * @return 연결 수
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 사용자의 이전 전달이 끝난 뒤 이 메시지를 전달하도록 예약합니다.
+     */
+    private void deliver(Long orgId, Long userId, Set<SseEmitter> emitters, NotificationStreamMessage message) {
+        String key = orgId + ":" + userId;
+        Runnable delivery = () -> {
+            try {
+                emitters.forEach(emitter -> send(emitter, message.event(), message.id(), message.data()));
+            } catch (Exception e) {
+                log.warn("알림 스트림 전달 실패: orgId={}, userId={}, event={}", orgId, userId, message.event(), e);
+            }
+        };
+
+        CompletableFuture<Void> next = deliveryTails.compute(key, (k, tail) ->
+                (tail != null ? tail : CompletableFuture.<Void>completedFuture(null))
+                        .thenRunAsync(delivery, deliveryExecutor));
+        next.whenComplete((result, error) -> deliveryTails.remove(key, next));
+    }
+
+    private void publish(NotificationStreamMessage message) {
+        try {
+            redisTemplate.convertAndSend(STREAM_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 실시간 전달 실패는 치명적이지 않음 (재접속 시 Last-Event-ID로 복구, 폴링 API 유지)
+            log.warn("알림 스트림 발행 실패: orgId={}, userId={}, event={}",
+                    message.orgId(), message.userId(), message.event(), e);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String event, Long id, String data) {
+        try {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(event)
+                    .data(data, MediaType.APPLICATION_JSON);
+            if (id != null) {
+                builder.id(String.valueOf(id));
+            }
+            emitter.send(builder);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김: onError 콜백에서 정리
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long orgId, Long userId, SseEmitter emitter) {
+        Map<Long, Set<SseEmitter>> byUser = connections.get(orgId);
+        if (byUser == null) {
+            return;
+        }
+
+        byUser.computeIfPresent(userId, (key, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connectionCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private String toJson(Object value) {
+        return objectMapper.writeValueAsString(value);
+    }
+}
@@ -1,21 +1,30 @@
 package com.sungbok.community.service;
 
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.NotificationDTO;
 import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationLane;
 import com.sungbok.community.repository.NotificationsRepository;
 import com.sungbok.community.security.TenantContext;
+import com.sungbok.community.util.WeightedRoundRobin;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.generated.tables.pojos.Notifications;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import tools.jackson.databind.ObjectMapper;
@@ -26,9 +35,12 @@ import tools.jackson.databind.ObjectMapper;
  * <p>아키텍처:</p>
  * <ul>
  *   <li>Listener Thread (1-2개): Redis Queue 모니터링 (BLPOP)</li>
- *   <li>Virtual Thread (무제한): 메시지마다 생성, DB 저장 + 푸시 전송</li>
+ *   <li>Virtual Thread: 메시지마다 생성, DB 저장 + 푸시 전송 (동시 처리 수는 maxInFlight로 제한)</li>
  * </ul>
  *
+ * <p>큐는 우선순위 레인(HIGH/NORMAL/BULK)으로 나뉘며, 레인 가중치(Smooth WRR)로 꺼낼 순서를 정합니다.
+ * 동시 처리 수를 제한해야 밀린 상황에서 꺼내는 순서가 곧 처리 순서가 됩니다.</p>
+ *
  * <p>처리 플로우:</p>
  * <ol>
  *   <li>Listener가 Redis Queue에서 이벤트 dequeue (블로킹 5초)</li>
@@ -38,6 +50,8 @@ import tools.jackson.databind.ObjectMapper;
  *   <li>TenantContext 정리 (메모리 누수 방지)</li>
  * </ol>
  *
+ * <p>좋아요/댓글처럼 몰리는 알림은 NotificationCoalescingService의 창에서 병합된 뒤 발송됩니다.</p>
+ *
  * @since 2.0.0
  */
 @Slf4j
@@ -50,12 +64,20 @@ public class NotificationWorkerService {
     private final RedisQueueService queueService;
     private final NotificationsRepository notificationsRepository;
     private final PushNotificationService pushNotificationService;
+    private final ValkeyNotificationCacheService valkeyCache;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationInboxCacheService notificationInboxCacheService;
+    private final NotificationCoalescingService coalescingService;
+    private final NotificationProperties notificationProperties;
     private final MeterRegistry meterRegistry;
 
     private final List<Thread> listenerThreads = new ArrayList<>();
     private final AtomicBoolean running = new AtomicBoolean(true);
     private final AtomicInteger activeWorkers = new AtomicInteger(0);  // 모니터링용
 
+    private WeightedRoundRobin<NotificationLane> laneSelector;
+    private Semaphore inFlight;
+
     /**
      * 애플리케이션 시작 시 Listener 스레드 시작
      */
@@ -64,9 +86,20 @@ public class NotificationWorkerService {
         log.info("알림 Listener 시작: {} 스레드", LISTENER_THREAD_COUNT);
         running.set(true);
 
+        NotificationProperties.Queue queueConfig = notificationProperties.getQueue();
+        laneSelector = new WeightedRoundRobin<>(new EnumMap<>(queueConfig.getWeights()));
+        inFlight = new Semaphore(queueConfig.getMaxInFlight());
+
         // Gauge 메트릭 등록
         meterRegistry.gauge("notification.active.workers", activeWorkers);
-        meterRegistry.gauge("notification.queue.size", queueService, RedisQueueService::getQueueSize);
+        meterRegistry.gauge("notification.queue.size", queueService, service -> service.getQueueSize());
+        for (NotificationLane lane : NotificationLane.values()) {
+            String tag = lane.name().toLowerCase();
+            meterRegistry.gauge("notification.queue.depth", List.of(Tag.of("lane", tag)),
+                    queueService, service -> service.getQueueSize(lane));
+            meterRegistry.gauge("notification.queue.age", List.of(Tag.of("lane", tag)),
+                    queueService, service -> service.getOldestAgeMillis(lane));
+        }
 
         // 1-2개 Listener만 시작 (큐 모니터링)
         for (int i = 0; i < LISTENER_THREAD_COUNT; i++) {
@@ -115,40 +148,133 @@ public class NotificationWorkerService {
         log.info("Listener-{} 시작 (큐 모니터링)", listenerId);
 
         while (running.get() && !Thread.currentThread().isInterrupted()) {
+            boolean acquired = false;
             try {
-                // Redis Queue에서 이벤트 꺼내기 (블로킹 5초)
-                NotificationEvent event = queueService.dequeue();
+                // 처리 슬롯을 먼저 확보 (밀린 상황에서 우선순위 레인이 먼저 꺼내지도록)
+                inFlight.acquire();
+                acquired = true;
+
+                // Redis Queue에서 이벤트 꺼내기 (가중치로 고른 레인 우선, 모두 비면 블로킹 5초)
+                RedisQueueService.DequeuedEvent dequeued = queueService.dequeue(laneOrder());
 
-                if (event == null) {
-                    continue;  // 타임아웃, 다시 대기
+                if (dequeued == null) {
+                    continue;  // 타임아웃, 다시 대기 (finally에서 슬롯 반환)
                 }
+                NotificationEvent event = dequeued.event();
+                recordQueueWait(dequeued);
 
-                long queueSize = queueService.getQueueSize();
-                log.debug("Listener-{} 메시지 수신: userId={}, type={}, 큐크기={}, 활성워커={}",
+                log.debug("Listener-{} 메시지 수신: userId={}, type={}, lane={}, 활성워커={}",
                         listenerId, event.getUserId(), event.getNotificationType(),
-                        queueSize, activeWorkers.get());
+                        dequeued.lane(), activeWorkers.get());
 
-                // 메시지마다 Virtual Thread 생성 (즉시 처리)
+                // 메시지마다 Virtual Thread 생성 (슬롯은 Virtual Thread가 끝날 때 반환)
                 activeWorkers.incrementAndGet();
                 Thread.ofVirtual()
                         .name("notification-worker-" + event.getUserId())
                         .start(() -> {
                             try {
-                                processNotification(event);
+                                // 병합 대상이면 창에 넣고 종료 (창 종료 시 flushCoalesced에서 발송)
+                                if (!coalescingService.offer(event)) {
+                                    processNotification(event);
+                                }
                             } finally {
                                 activeWorkers.decrementAndGet();
+                                inFlight.release();
                             }
                         });
+                acquired = false;  // 슬롯 소유권이 Virtual Thread로 넘어감
 
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             } catch (Exception e) {
                 log.error("Listener-{} 메시지 처리 중 오류: {}", listenerId, e.getMessage(), e);
                 // 에러 발생 시에도 Listener는 계속 실행
+            } finally {
+                if (acquired) {
+                    inFlight.release();
+                }
             }
         }
 
         log.info("Listener-{} 종료", listenerId);
     }
 
+    /**
+     * 이번 dequeue의 레인 순서
+     * 가중치로 고른 레인을 맨 앞에 두고 나머지는 우선순위 순서 (고른 레인이 비어도 다른 레인을 바로 처리)
+     *
+     * @return 레인 순서
+     */
+    private List<NotificationLane> laneOrder() {
+        NotificationLane selected = laneSelector.next();
+        List<NotificationLane> order = new ArrayList<>(NotificationLane.values().length);
+        order.add(selected);
+        for (NotificationLane lane : NotificationLane.values()) {
+            if (lane != selected) {
+                order.add(lane);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * 레인별 큐 대기 시간 기록 (적재 → 꺼냄)
+     *
+     * @param dequeued 꺼낸 이벤트
+     */
+    private void recordQueueWait(RedisQueueService.DequeuedEvent dequeued) {
+        Long enqueuedAt = dequeued.event().getEnqueuedAt();
+        if (enqueuedAt == null) {
+            return;  // 배포 전 적재된 이벤트
+        }
+        meterRegistry.timer("notification.queue.wait", "lane", dequeued.lane().name().toLowerCase())
+                .record(Math.max(0, System.currentTimeMillis() - enqueuedAt), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료된 병합 창을 선점하여 발송하고, 처리가 끝나면 ack합니다.
+     * 창은 Valkey에서 원자적으로 선점하므로 여러 노드가 동시에 실행해도 창당 1개 노드만 발송
+     * 큐 Listener와 같은 처리 슬롯을 사용 (병합 발송이 동시 처리 상한을 넘지 않도록)
+     * 스케줄러 스레드를 막지 않도록 지금 비어 있는 슬롯만 tryAcquire로 확보한 뒤 그 수만큼만 선점하고,
+     * 슬롯이 없으면 창을 선점하지 않은 채 다음 주기로 넘김
+     */
+    @Scheduled(fixedDelayString = "${notification.coalesce.flush-interval-ms:1000}")
+    public void flushCoalesced() {
+        if (!running.get()) {
+            return;
+        }
+
+        int permits = inFlight.availablePermits();
+        if (permits == 0 || !inFlight.tryAcquire(permits)) {
+            return;  // 슬롯이 없거나 Listener가 먼저 가져감 (다음 주기에 재시도)
+        }
+
+        try {
+            List<NotificationCoalescingService.DueWindow> windows = coalescingService.pollDue(permits);
+            for (NotificationCoalescingService.DueWindow window : windows) {
+                activeWorkers.incrementAndGet();
+                Thread.ofVirtual()
+                        .name("notification-worker-" + window.event().getUserId())
+                        .start(() -> {
+                            try {
+                                processNotification(window.event());
+                                coalescingService.ack(window);
+                            } finally {
+                                activeWorkers.decrementAndGet();
+                                inFlight.release();
+                            }
+                        });
+                permits--;  // 슬롯 소유권이 Virtual Thread로 넘어감
+            }
+        } catch (Exception e) {
+            log.error("병합 알림 발송 실패: {}", e.getMessage(), e);
+        } finally {
+            if (permits > 0) {
+                inFlight.release(permits);  // 발송할 창이 없어 쓰지 않은 슬롯 반환
+            }
+        }
+    }
+
     /**
      * Virtual Thread에서 실행되는 알림 처리 로직
      * DB 저장 + Expo 푸시 전송 (I/O 블로킹 작업)
@@ -160,6 +286,12 @@ public class NotificationWorkerService {
         Timer.Sample sample = Timer.start(meterRegistry);
         long startTime = System.currentTimeMillis();
 
+        // 예약 알림: 예약 시각 → 처리 시작 지연 기록
+        if (event.getScheduledAt() != null) {
+            meterRegistry.timer("notification.scheduled.delivery.lag")
+                    .record(Math.max(0, startTime - event.getScheduledAt()), TimeUnit.MILLISECONDS);
+        }
+
         // TenantContext 설정 (멀티테넌시)
         TenantContext.setOrgId(event.getOrgId());
         try {
@@ -228,6 +360,14 @@ public class NotificationWorkerService {
         log.debug("알림 이력 DB 저장: notificationId={}, userId={}, type={}",
                 saved.getNotificationId(), event.getUserId(), event.getNotificationType());
 
+        // 안 읽은 개수 카운터 증가 (초기화된 카운터만)
+        valkeyCache.incrementUnreadCounts(event.getOrgId(), List.of(event.getUserId()));
+
+        // Inbox 캐시 추가 + 실시간 스트림 발행 (접속 중인 노드에서만 SSE로 전달)
+        NotificationDTO dto = toDTO(event, saved);
+        notificationInboxCacheService.add(event.getOrgId(), event.getUserId(), dto);
+        publishToStream(event, dto);
+
         // 2. 푸시 알림 전송 (설정 확인 후, Valkey 캐시 사용)
         pushNotificationService.sendPushNotification(
                 event.getUserId(),
@@ -235,4 +375,41 @@ public class NotificationWorkerService {
                 saved.getNotificationId()
         );
     }
+
+    /**
+     * 저장된 알림을 응답 DTO로 변환합니다 (Inbox 캐시, 실시간 스트림 공용).
+     *
+     * @param event 알림 이벤트
+     * @param saved 저장된 알림
+     * @return 알림 DTO
+     */
+    private NotificationDTO toDTO(NotificationEvent event, Notifications saved) {
+        return NotificationDTO.builder()
+                .notificationId(saved.getNotificationId())
+                .notificationType(event.getNotificationType())
+                .title(saved.getTitle())
+                .body(saved.getBody())
+                .relatedEntityType(saved.getRelatedEntityType())
+                .relatedEntityId(saved.getRelatedEntityId())
+                .isRead(false)
+                .createdAt(saved.getCreatedAt())
+                .metadata(event.getData())
+                .build();
+    }
+
+    /**
+     * 저장된 알림과 안 읽은 개수를 실시간 스트림으로 발행합니다.
+     * 카운터가 캐시에 없으면 개수 이벤트는 생략 (클라이언트는 notification 이벤트로 갱신)
+     *
+     * @param event 알림 이벤트
+     * @param notification 알림 DTO
+     */
+    private void publishToStream(NotificationEvent event, NotificationDTO notification) {
+        notificationStreamService.publishNotification(event.getOrgId(), event.getUserId(), notification);
+
+        Integer unreadCount = valkeyCache.getUnreadCount(event.getUserId());
+        if (unreadCount != null) {
+            notificationStreamService.publishUnreadCount(event.getOrgId(), event.getUserId(), unreadCount);
+        }
+    }
 }
@@ -3,26 +3,40 @@ package com.sungbok.community.service;
 import com.sungbok.community.common.exception.SystemException;
 import com.sungbok.community.common.exception.code.SystemErrorCode;
 import com.sungbok.community.config.OciStorageProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
  * OCI Object Storage 서비스 (S3 호환 API)
- * Pre-signed URL 생성, 파일 삭제, 다운로드
+ * Pre-signed URL 생성 (다운로드 URL 일괄 서명/캐시), 멀티파트 업로드, 파일 삭제, 다운로드, 서버 생성 파일 업로드
  *
  * @since 0.0.1
  */
@@ -31,9 +45,32 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class OciStorageService {
 
+    private static final int DELETE_OBJECTS_MAX_KEYS = 1000;  // S3 DeleteObjects 요청당 최대 키 수
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final OciStorageProperties ociStorageProperties;
+    private final S3PresignedUrlSigner presignedUrlSigner;
+    private final MeterRegistry meterRegistry;
+
+    // Object Key + 만료 시간 → 발급한 다운로드 URL
+    private final Map<String, CachedUrl> downloadUrlCache = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 다운로드 URL
+     */
+    private record CachedUrl(String url, Instant expiresAt) {
+    }
+
+    /**
+     * S3에 업로드된 멀티파트 파트
+     *
+     * @param partNumber 파트 번호
+     * @param etag ETag
+     * @param size 파트 크기 (바이트)
+     */
+    public record UploadedPart(int partNumber, String etag, long size) {
+    }
 
     /**
      * S3 작업 실행 헬퍼 (예외 처리 공통화)
@@ -84,15 +121,17 @@ public class OciStorageService {
 
     /**
      * 업로드용 Pre-signed URL 생성
+     * 내용 SHA-256을 주면 x-amz-checksum-sha256 헤더를 서명에 포함 (저장소가 업로드된 내용과 다르면 PUT 거부)
      *
      * @param objectKey Object Storage 키
      * @param contentType Content-Type
      * @param contentLength Content-Length (사용 안 함, 호환성 유지)
+     * @param contentSha256 내용 SHA-256 (hex, 없으면 null)
      * @param expiration 만료 시간
      * @return Pre-signed Upload URL
      */
-    public String generatePresignedUploadUrl(String objectKey, String contentType,
-                                              long contentLength, Duration expiration) {
+    public String generatePresignedUploadUrl(String objectKey, String contentType, long contentLength,
+                                              String contentSha256, Duration expiration) {
         return executeS3Operation(
                 "Pre-signed Upload URL 생성 (key=" + objectKey + ")",
                 () -> {
@@ -100,6 +139,7 @@ public class OciStorageService {
                             .bucket(ociStorageProperties.getBucketName())
                             .key(objectKey)
                             .contentType(contentType)
+                            .checksumSHA256(contentSha256 != null ? toChecksumHeader(contentSha256) : null)
                             .build();
 
                     PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
@@ -115,28 +155,257 @@ public class OciStorageService {
 
     /**
      * 다운로드용 Pre-signed URL 생성
+     * 일괄 생성과 같은 서명기/캐시 사용
      *
      * @param objectKey Object Storage 키
      * @param expiration 만료 시간
      * @return Pre-signed Download URL
      */
     public String generatePresignedDownloadUrl(String objectKey, Duration expiration) {
+        return generatePresignedDownloadUrls(List.of(objectKey), expiration).get(objectKey);
+    }
+
+    /**
+     * 다운로드용 Pre-signed URL 일괄 생성
+     * 날짜별 서명 키를 재사용해 URL마다 HMAC 1회로 서명하고,
+     * 만료까지 minRemainingMinutes 이상 남은 URL은 캐시에서 그대로 반환 (같은 URL → 브라우저 캐시도 적중)
+     *
+     * @param objectKeys Object Storage 키 목록 (중복은 한 번만 서명)
+     * @param expiration 새로 서명할 URL의 만료 시간
+     * @return Object Key → Pre-signed Download URL (입력 순서)
+     */
+    public Map<String, String> generatePresignedDownloadUrls(Collection<String> objectKeys, Duration expiration) {
         return executeS3Operation(
-                "Pre-signed Download URL 생성 (key=" + objectKey + ")",
+                "Pre-signed Download URL 일괄 생성 (count=" + objectKeys.size() + ")",
                 () -> {
-                    GetObjectRequest getRequest = GetObjectRequest.builder()
+                    OciStorageProperties.DownloadUrl config = ociStorageProperties.getDownloadUrl();
+                    Instant now = Instant.now();
+                    Instant reusableUntil = now.plus(Duration.ofMinutes(config.getMinRemainingMinutes()));
+                    Instant expiresAt = now.plus(expiration);
+                    boolean cacheable = expiresAt.isAfter(reusableUntil);
+
+                    Map<String, String> urls = new LinkedHashMap<>();
+                    int hits = 0;
+                    for (String objectKey : objectKeys) {
+                        if (urls.containsKey(objectKey)) {
+                            continue;
+                        }
+                        String cacheKey = objectKey + "|" + expiration.toSeconds();
+                        CachedUrl cached = downloadUrlCache.get(cacheKey);
+                        if (cached != null && cached.expiresAt().isAfter(reusableUntil)) {
+                            urls.put(objectKey, cached.url());
+                            hits++;
+                            continue;
+                        }
+
+                        String url = presignedUrlSigner.presignGetObject(objectKey, expiration, now);
+                        urls.put(objectKey, url);
+                        if (cacheable) {
+                            downloadUrlCache.put(cacheKey, new CachedUrl(url, expiresAt));
+                        }
+                    }
+
+                    evictDownloadUrls(config.getCacheMaxEntries(), reusableUntil);
+                    meterRegistry.counter("storage.presign.download", "cache", "hit").increment(hits);
+                    meterRegistry.counter("storage.presign.download", "cache", "miss").increment(urls.size() - hits);
+                    return urls;
+                },
+                SystemErrorCode.FILE_DOWNLOAD_FAILED
+        );
+    }
+
+    /**
+     * URL 캐시가 최대 크기를 넘으면 재사용할 수 없는 URL을 정리하고, 그래도 넘으면 비웁니다.
+     */
+    private void evictDownloadUrls(int maxEntries, Instant reusableUntil) {
+        if (downloadUrlCache.size() <= maxEntries) {
+            return;
+        }
+        downloadUrlCache.values().removeIf(cached -> !cached.expiresAt().isAfter(reusableUntil));
+        if (downloadUrlCache.size() > maxEntries) {
+            downloadUrlCache.clear();
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 시작
+     *
+     * @param objectKey Object Storage 키
+     * @param contentType Content-Type (완료된 객체에 적용)
+     * @return 업로드 ID
+     */
+    public String createMultipartUpload(String objectKey, String contentType) {
+        return executeS3Operation(
+                "멀티파트 업로드 시작 (key=" + objectKey + ")",
+                () -> {
+                    CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
                             .bucket(ociStorageProperties.getBucketName())
                             .key(objectKey)
+                            .contentType(contentType)
                             .build();
 
-                    GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                            .getObjectRequest(getRequest)
-                            .signatureDuration(expiration)
+                    return s3Client.createMultipartUpload(createRequest).uploadId();
+                },
+                SystemErrorCode.FILE_UPLOAD_FAILED
+        );
+    }
+
+    /**
+     * 파트 업로드용 Pre-signed URL 일괄 생성
+     * 서명은 로컬 연산이므로 파트 수만큼 S3 호출이 생기지 않음
+     *
+     * @param objectKey Object Storage 키
+     * @param uploadId 업로드 ID
+     * @param partNumbers 파트 번호 목록 (1부터)
+     * @param expiration 만료 시간
+     * @return 파트 번호 → Pre-signed Upload URL (요청 순서 유지)
+     */
+    public Map<Integer, String> generatePresignedUploadPartUrls(String objectKey, String uploadId,
+                                                                List<Integer> partNumbers, Duration expiration) {
+        return executeS3Operation(
+                "파트 Pre-signed URL 생성 (key=" + objectKey + ", parts=" + partNumbers.size() + ")",
+                () -> {
+                    Map<Integer, String> urls = new LinkedHashMap<>();
+                    for (Integer partNumber : partNumbers) {
+                        UploadPartRequest partRequest = UploadPartRequest.builder()
+                                .bucket(ociStorageProperties.getBucketName())
+                                .key(objectKey)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .build();
+
+                        UploadPartPresignRequest presignRequest = UploadPartPresignRequest.builder()
+                                .uploadPartRequest(partRequest)
+                                .signatureDuration(expiration)
+                                .build();
+
+                        urls.put(partNumber, s3Presigner.presignUploadPart(presignRequest).url().toString());
+                    }
+                    return urls;
+                },
+                SystemErrorCode.FILE_UPLOAD_FAILED
+        );
+    }
+
+    /**
+     * 업로드된 파트 목록 조회 (완료 전 파트 누락/크기 확인용)
+     *
+     * @param objectKey Object Storage 키
+     * @param uploadId 업로드 ID
+     * @return 파트 번호 → 파트 (번호 순), 이미 완료/취소된 업로드면 null
+     */
+    public Map<Integer, UploadedPart> listUploadedParts(String objectKey, String uploadId) {
+        return executeS3Operation(
+                "업로드된 파트 조회 (key=" + objectKey + ")",
+                () -> {
+                    ListPartsRequest listRequest = ListPartsRequest.builder()
+                            .bucket(ociStorageProperties.getBucketName())
+                            .key(objectKey)
+                            .uploadId(uploadId)
                             .build();
 
-                    return s3Presigner.presignGetObject(presignRequest).url().toString();
+                    Map<Integer, UploadedPart> parts = new LinkedHashMap<>();
+                    try {
+                        s3Client.listPartsPaginator(listRequest).parts()
+                                .forEach(part -> parts.put(part.partNumber(),
+                                        new UploadedPart(part.partNumber(), part.eTag(), part.size())));
+                    } catch (NoSuchUploadException e) {
+                        return null;
+                    }
+                    return parts;
                 },
-                SystemErrorCode.FILE_DOWNLOAD_FAILED
+                SystemErrorCode.FILE_UPLOAD_FAILED
+        );
+    }
+
+    /**
+     * 멀티파트 업로드 완료 (파트를 하나의 객체로 합침)
+     * 이미 완료된 업로드(업로드는 없고 객체는 있음)면 무시 - S3 완료 후 DB 커밋에 실패한 요청의 재시도
+     *
+     * @param objectKey Object Storage 키
+     * @param uploadId 업로드 ID
+     * @param etags 파트 번호 → ETag (전체 파트)
+     */
+    public void completeMultipartUpload(String objectKey, String uploadId, Map<Integer, String> etags) {
+        executeS3OperationVoid(
+                "멀티파트 업로드 완료 (key=" + objectKey + ", parts=" + etags.size() + ")",
+                () -> {
+                    List<CompletedPart> parts = new ArrayList<>(etags.size());
+                    etags.forEach((partNumber, etag) -> parts.add(CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(etag)
+                            .build()));
+                    parts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+                    CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                            .bucket(ociStorageProperties.getBucketName())
+                            .key(objectKey)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                            .build();
+
+                    try {
+                        s3Client.completeMultipartUpload(completeRequest);
+                    } catch (NoSuchUploadException e) {
+                        if (!objectExists(objectKey)) {
+                            throw e;
+                        }
+                        log.info("이미 완료된 멀티파트 업로드: key={}", objectKey);
+                    }
+                },
+                SystemErrorCode.FILE_UPLOAD_FAILED
+        );
+    }
+
+    /**
+     * 멀티파트 업로드 취소 (업로드된 파트 삭제)
+     * 이미 취소/완료된 업로드면 무시
+     *
+     * @param objectKey Object Storage 키
+     * @param uploadId 업로드 ID
+     */
+    public void abortMultipartUpload(String objectKey, String uploadId) {
+        executeS3OperationVoid(
+                "멀티파트 업로드 취소 (key=" + objectKey + ")",
+                () -> {
+                    AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+                            .bucket(ociStorageProperties.getBucketName())
+                            .key(objectKey)
+                            .uploadId(uploadId)
+                            .build();
+
+                    try {
+                        s3Client.abortMultipartUpload(abortRequest);
+                    } catch (NoSuchUploadException e) {
+                        log.debug("이미 종료된 멀티파트 업로드: key={}", objectKey);
+                    }
+                },
+                SystemErrorCode.FILE_DELETE_FAILED
+        );
+    }
+
+    /**
+     * 서버에서 생성한 파일 업로드 (이미지 파생본 등)
+     * Object Key가 내용에 따라 정해지므로 CDN/브라우저가 오래 캐시하도록 immutable 지정
+     *
+     * @param objectKey Object Storage 키
+     * @param contentType Content-Type
+     * @param content 파일 내용
+     */
+    public void uploadFile(String objectKey, String contentType, byte[] content) {
+        executeS3OperationVoid(
+                "파일 업로드 (key=" + objectKey + ", size=" + content.length + ")",
+                () -> {
+                    PutObjectRequest putRequest = PutObjectRequest.builder()
+                            .bucket(ociStorageProperties.getBucketName())
+                            .key(objectKey)
+                            .contentType(contentType)
+                            .cacheControl("public, max-age=31536000, immutable")
+                            .build();
+
+                    s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+                },
+                SystemErrorCode.FILE_UPLOAD_FAILED
         );
     }
 
@@ -160,6 +429,43 @@ public class OciStorageService {
         );
     }
 
+    /**
+     * 여러 파일 일괄 삭제 (DeleteObjects, 요청당 최대 1000개)
+     * 없는 키는 삭제된 것으로 처리 (S3 삭제는 멱등)
+     *
+     * @param objectKeys Object Storage 키 목록
+     * @return 삭제 실패한 키 (모두 성공하면 빈 Set)
+     */
+    public Set<String> deleteFiles(Collection<String> objectKeys) {
+        List<String> keys = List.copyOf(new LinkedHashSet<>(objectKeys));
+        return executeS3Operation(
+                "파일 일괄 삭제 (count=" + keys.size() + ")",
+                () -> {
+                    Set<String> failed = new LinkedHashSet<>();
+                    for (int from = 0; from < keys.size(); from += DELETE_OBJECTS_MAX_KEYS) {
+                        List<ObjectIdentifier> objects = keys
+                                .subList(from, Math.min(from + DELETE_OBJECTS_MAX_KEYS, keys.size()))
+                                .stream()
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .toList();
+
+                        DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                                .bucket(ociStorageProperties.getBucketName())
+                                .delete(Delete.builder().objects(objects).quiet(true).build())
+                                .build();
+
+                        s3Client.deleteObjects(deleteRequest).errors().forEach(error -> {
+                            log.warn("[OCI S3] 파일 삭제 실패: key={}, code={}, message={}",
+                                    error.key(), error.code(), error.message());
+                            failed.add(error.key());
+                        });
+                    }
+                    return failed;
+                },
+                SystemErrorCode.FILE_DELETE_FAILED
+        );
+    }
+
     /**
      * 부분 다운로드 (Magic Number 검증용)
      * Range: bytes=0-1048575 (첫 1MB)
@@ -207,6 +513,64 @@ public class OciStorageService {
         );
     }
 
+    /**
+     * 객체 크기 조회 (HeadObject, 클라이언트가 선언한 크기 대신 실제 크기 확인용)
+     *
+     * @param objectKey Object Storage 키
+     * @return 객체 크기 (바이트), 객체가 없으면 null
+     * @throws SystemException 조회 실패 시
+     */
+    public Long fetchObjectSize(String objectKey) {
+        return executeS3Operation(
+                "객체 크기 조회 (key=" + objectKey + ")",
+                () -> {
+                    HeadObjectRequest headRequest = HeadObjectRequest.builder()
+                            .bucket(ociStorageProperties.getBucketName())
+                            .key(objectKey)
+                            .build();
+
+                    try {
+                        return s3Client.headObject(headRequest).contentLength();
+                    } catch (NoSuchKeyException e) {
+                        return null;
+                    }
+                },
+                SystemErrorCode.FILE_DOWNLOAD_FAILED
+        );
+    }
+
+    /**
+     * 저장소가 업로드 시 확인한 SHA-256 조회 (HEAD, 본문 다운로드 없음)
+     * x-amz-checksum-sha256 헤더로 업로드된 객체만 값이 있음 (멀티파트의 파트별 합성 체크섬은 제외)
+     *
+     * @param objectKey Object Storage 키
+     * @return 내용 SHA-256 (hex, 객체나 체크섬이 없으면 null)
+     */
+    public String fetchChecksumSha256(String objectKey) {
+        return executeS3Operation(
+                "객체 체크섬 조회 (key=" + objectKey + ")",
+                () -> {
+                    HeadObjectRequest headRequest = HeadObjectRequest.builder()
+                            .bucket(ociStorageProperties.getBucketName())
+                            .key(objectKey)
+                            .checksumMode(ChecksumMode.ENABLED)
+                            .build();
+
+                    try {
+                        HeadObjectResponse response = s3Client.headObject(headRequest);
+                        String checksum = response.checksumSHA256();
+                        if (checksum == null || response.checksumType() == ChecksumType.COMPOSITE) {
+                            return null;
+                        }
+                        return HexFormat.of().formatHex(Base64.getDecoder().decode(checksum));
+                    } catch (NoSuchKeyException e) {
+                        return null;
+                    }
+                },
+                SystemErrorCode.FILE_DOWNLOAD_FAILED
+        );
+    }
+
     /**
      * 파일 존재 확인
      *
@@ -281,4 +645,14 @@ public class OciStorageService {
         // CDN 비활성화 시에는 Pre-signed URL을 사용해야 함
         return null;
     }
+
+    /**
+     * hex SHA-256 → x-amz-checksum-sha256 헤더 값 (Base64)
+     *
+     * @param contentSha256 내용 SHA-256 (hex)
+     * @return Base64 체크섬
+     */
+    public static String toChecksumHeader(String contentSha256) {
+        return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(contentSha256));
+    }
 }
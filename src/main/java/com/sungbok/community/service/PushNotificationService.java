@@ -1,12 +1,20 @@
 package com.sungbok.community.service;
 
+import com.sungbok.community.config.NotificationProperties;
 import com.sungbok.community.dto.PushNotificationRequest;
+import com.sungbok.community.dto.PushStatusUpdate;
 import com.sungbok.community.dto.event.NotificationEvent;
 import org.jooq.generated.enums.PushStatus;
-import com.sungbok.community.repository.NotificationsRepository;
-import com.sungbok.community.repository.PushTokensRepository;
+import com.sungbok.community.security.TenantContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -33,15 +41,15 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class PushNotificationService {
 
-    private static final String EXPO_PUSH_API_URL = "https://exp.host/--/api/v2/push/send";
     private static final String PRIORITY_DEFAULT = "default";
     private static final String SOUND_DEFAULT = "default";
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final ValkeyNotificationCacheService valkeyCache;
-    private final NotificationsRepository notificationsRepository;
-    private final PushTokensRepository pushTokensRepository;
+    private final PushReceiptService pushReceiptService;
+    private final PushStatusWriteBuffer pushStatusWriteBuffer;
+    private final NotificationProperties notificationProperties;
 
     /**
      * 사용자에게 푸시 알림을 전송합니다.
@@ -53,19 +61,13 @@ public class PushNotificationService {
      */
     public void sendPushNotification(Long userId, NotificationEvent event, Long notificationId) {
         try {
-            // 1. Valkey 캐시에서 알림 설정 조회
-            Map<String, Boolean> preferences = valkeyCache.getNotificationPreferences(userId);
+            // 1. Valkey 캐시에서 알림 설정 비트마스크 조회 (푸시 마스터 스위치 반영)
+            int preferenceMask = valkeyCache.getPushPreferenceMask(userId);
 
-            // 푸시 알림 마스터 스위치 확인 (enablePushNotifications는 별도 조회 필요 시 추가)
-            // 현재는 preferences만으로 판단 (타입별 설정)
-
-            // 2. 알림 타입 활성화 여부 확인
-            String notificationType = event.getNotificationType().name().toLowerCase();
-            String preferenceKey = camelToSnakeCase(notificationType);  // POST_COMMENT → post_comment
-
-            if (!preferences.getOrDefault(preferenceKey, true)) {
+            // 2. 알림 타입 활성화 여부 확인 (비트 연산 1회)
+            if (!event.getNotificationType().isEnabledIn(preferenceMask)) {
                 log.debug("알림 타입 비활성화, 푸시 전송 스킵: userId={}, type={}",
-                        userId, notificationType);
+                        userId, event.getNotificationType());
                 return;
             }
 
@@ -95,7 +97,7 @@ public class PushNotificationService {
 
             // 에러 상태 업데이트
             if (notificationId != null) {
-                notificationsRepository.updatePushStatus(notificationId, PushStatus.ERROR, e.getMessage());
+                submitError(notificationId, e.getMessage());
             }
         }
     }
@@ -127,7 +129,7 @@ public class PushNotificationService {
             // Expo API 호출
             log.debug("Expo API 호출: tokens={}, title={}", request.getTo(), request.getTitle());
             ResponseEntity<String> response = restTemplate.exchange(
-                    EXPO_PUSH_API_URL,
+                    notificationProperties.getExpo().getPushUrl(),
                     HttpMethod.POST,
                     entity,
                     String.class
@@ -144,18 +146,14 @@ public class PushNotificationService {
             } else {
                 log.error("Expo API 호출 실패: status={}, body={}",
                         response.getStatusCode(), response.getBody());
-                notificationsRepository.updatePushStatus(
-                        notificationId,
-                        PushStatus.ERROR,
-                        "HTTP " + response.getStatusCode()
-                );
+                submitError(notificationId, "HTTP " + response.getStatusCode());
             }
 
         } catch (HttpClientErrorException e) {
             // 4xx 에러는 재시도하지 않고 즉시 종료
             if (!e.getStatusCode().equals(HttpStatus.TOO_MANY_REQUESTS)) {
                 log.error("Expo API 클라이언트 오류 (재시도 안 함): {}", e.getMessage());
-                notificationsRepository.updatePushStatus(notificationId, PushStatus.ERROR, e.getMessage());
+                submitError(notificationId, e.getMessage());
                 return;
             }
             // 429 에러는 재시도
@@ -166,14 +164,16 @@ public class PushNotificationService {
             throw e;  // Spring Retry가 재시도
         } catch (Exception e) {
             log.error("Expo API 호출 예외: {}", e.getMessage(), e);
-            notificationsRepository.updatePushStatus(notificationId, PushStatus.ERROR, e.getMessage());
+            submitError(notificationId, e.getMessage());
         }
     }
 
 
     /**
      * Expo API 응답을 처리합니다.
-     * 성공/에러 상태를 DB에 업데이트하고, 유효하지 않은 토큰은 비활성화
+     * 기기별 결과를 알림 1건의 상태로 집계 (하나라도 성공하면 OK)하여 Write-behind 버퍼에 전달
+     * 기기별 상세는 metadata.push에 기록, 유효하지 않은 토큰은 일괄 비활성화
+     * 성공 티켓은 영수증 조회 대기열에 등록 (PushReceiptService)
      *
      * @param responseBody Expo API 응답 본문 (JSON)
      * @param tokens 전송한 토큰 목록
@@ -186,53 +186,99 @@ public class PushNotificationService {
 
             if (dataNode == null || !dataNode.isArray()) {
                 log.warn("Expo API 응답 형식 오류: {}", responseBody);
-                notificationsRepository.updatePushStatus(notificationId, PushStatus.ERROR, "Invalid response format");
+                submitError(notificationId, "Invalid response format");
                 return;
             }
 
-            // 각 토큰별 응답 처리
+            Map<String, String> tokensByReceiptId = new HashMap<>();
+            Set<String> deadTokens = new HashSet<>();
+            Set<String> errors = new LinkedHashSet<>();
+            List<Map<String, Object>> devices = new ArrayList<>(dataNode.size());
+            int okCount = 0;
+
+            // 각 토큰별 응답 수집
             for (int i = 0; i < dataNode.size(); i++) {
                 JsonNode result = dataNode.get(i);
-                String status = result.get("status").asString();
+                String status = result.path("status").asString("");
                 String token = tokens.get(i);
 
+                Map<String, Object> device = new LinkedHashMap<>();
+                device.put("token", maskToken(token));
+                device.put("status", status);
+
                 if ("ok".equals(status)) {
                     log.debug("푸시 전송 성공: token={}", maskToken(token));
-                    notificationsRepository.updatePushStatus(notificationId, PushStatus.OK, null);
+                    okCount++;
+
+                    // 영수증 조회용 티켓 ID 보관
+                    JsonNode receiptId = result.get("id");
+                    if (receiptId != null) {
+                        tokensByReceiptId.put(receiptId.asString(), token);
+                    }
                 } else if ("error".equals(status)) {
                     JsonNode detailsNode = result.get("details");
-                    String error = detailsNode != null ? detailsNode.get("error").asString() : "unknown";
+                    String error = detailsNode != null ? detailsNode.path("error").asString("unknown") : "unknown";
 
                     log.warn("푸시 전송 실패: token={}, error={}", maskToken(token), error);
+                    device.put("error", error);
+                    errors.add(error);
 
-                    // DeviceNotRegistered: 토큰 비활성화
+                    // DeviceNotRegistered: 토큰 비활성화 대상 (응답 단위로 일괄 처리)
                     if ("DeviceNotRegistered".equals(error)) {
-                        pushTokensRepository.deactivateToken(token);
-                        log.info("유효하지 않은 토큰 비활성화: token={}", maskToken(token));
+                        deadTokens.add(token);
                     }
-
-                    notificationsRepository.updatePushStatus(notificationId, PushStatus.ERROR, error);
                 }
+                devices.add(device);
             }
 
+            // 알림 단위 집계: 성공 기기가 있으면 OK, 전부 DeviceNotRegistered면 INVALID_TOKEN
+            PushStatus pushStatus;
+            if (okCount > 0) {
+                pushStatus = PushStatus.OK;
+            } else if (!deadTokens.isEmpty() && errors.size() == 1) {
+                pushStatus = PushStatus.INVALID_TOKEN;
+            } else {
+                pushStatus = PushStatus.ERROR;
+            }
+
+            Map<String, Object> pushDetail = new LinkedHashMap<>();
+            pushDetail.put("okCount", okCount);
+            pushDetail.put("errorCount", devices.size() - okCount);
+            pushDetail.put("devices", devices);
+
+            pushStatusWriteBuffer.submit(new PushStatusUpdate(
+                    TenantContext.getRequiredOrgId(),
+                    notificationId,
+                    pushStatus,
+                    pushStatus == PushStatus.OK ? null : String.join(", ", errors),
+                    objectMapper.writeValueAsString(Map.of("push", pushDetail)),
+                    LocalDateTime.now()
+            ));
+
+            pushReceiptService.deactivateTokens(deadTokens);
+            pushReceiptService.registerTickets(TenantContext.getRequiredOrgId(), notificationId, tokensByReceiptId);
+
         } catch (Exception e) {
             log.error("Expo 응답 처리 실패: {}", e.getMessage(), e);
-            notificationsRepository.updatePushStatus(notificationId, PushStatus.ERROR, "Response parsing error");
+            submitError(notificationId, "Response parsing error");
         }
     }
 
     /**
-     * camelCase를 snake_case로 변환합니다.
-     * 예: POST_COMMENT → post_comment, postComment → post_comment
+     * 에러 상태를 Write-behind 버퍼에 전달합니다.
      *
-     * @param camelCase camelCase 문자열
-     * @return snake_case 문자열
+     * @param notificationId 알림 ID
+     * @param errorMessage 에러 메시지
      */
-    private String camelToSnakeCase(String camelCase) {
-        return camelCase
-                .replaceAll("([a-z])([A-Z])", "$1_$2")
-                .replaceAll("([A-Z])([A-Z][a-z])", "$1_$2")
-                .toLowerCase();
+    private void submitError(Long notificationId, String errorMessage) {
+        pushStatusWriteBuffer.submit(new PushStatusUpdate(
+                TenantContext.getRequiredOrgId(),
+                notificationId,
+                PushStatus.ERROR,
+                errorMessage,
+                null,
+                LocalDateTime.now()
+        ));
     }
 
     /**
@@ -0,0 +1,437 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.repository.PushTokensRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.enums.PushStatus;
+import org.jooq.generated.tables.pojos.PushTokens;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Expo 푸시 영수증(Receipt) 서비스
+ * 전송 응답의 티켓 ID를 Valkey에 보관하고, 주기적으로 getReceipts API를 배치 조회
+ *
+ * <p>Valkey 구조:</p>
+ * <ul>
+ *   <li>notification:receipts:pending (Sorted Set): receiptId → 조회 예정 시각(ms), 처리 중이면 lease 만료 시각</li>
+ *   <li>notification:receipts:tickets (Hash): receiptId → orgId:notificationId:issuedAt:token</li>
+ * </ul>
+ *
+ * <p>선점한 영수증은 점수를 lease 만료 시각으로 바꿔 두고, 처리를 마친 뒤에만 제거(ZREM + HDEL)하거나
+ * 재조회 시각으로 되돌립니다. 처리 중 노드가 종료되거나 예외가 나면 lease 만료 후 다시 선점됩니다.</p>
+ *
+ * <p>DeviceNotRegistered 영수증은 토큰을 한 번의 UPDATE로 비활성화하고
+ * user:tokens:* Hash에서도 제거합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PushReceiptService {
+
+    private static final String PENDING_KEY = "notification:receipts:pending";
+    private static final String TICKETS_KEY = "notification:receipts:tickets";
+    private static final String ERROR_DEVICE_NOT_REGISTERED = "DeviceNotRegistered";
+
+    /**
+     * 조회 시각이 지난 영수증 ID를 원자적으로 선점 (점수를 lease 만료 시각으로 변경)
+     * 여러 노드가 동시에 폴링해도 lease 동안 같은 영수증을 중복 처리하지 않음
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, id in ipairs(ids) do
+                redis.call('ZADD', KEYS[1], ARGV[3], id)
+            end
+            return ids
+            """, List.class);
+
+    /**
+     * 처리를 마친 영수증 삭제 (선점 이후 다른 노드가 재선점하지 않은 경우만)
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            local acked = 0
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) == tonumber(ARGV[1]) then
+                    redis.call('ZREM', KEYS[1], ARGV[i])
+                    redis.call('HDEL', KEYS[2], ARGV[i])
+                    acked = acked + 1
+                end
+            end
+            return acked
+            """, Long.class);
+
+    /**
+     * 미준비 영수증을 재조회 시각으로 되돌림 (선점 이후 다른 노드가 재선점하지 않은 경우만)
+     */
+    private static final RedisScript<Long> RETRY_SCRIPT = new DefaultRedisScript<>("""
+            local retried = 0
+            for i = 3, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) == tonumber(ARGV[1]) then
+                    redis.call('ZADD', KEYS[1], ARGV[2], ARGV[i])
+                    retried = retried + 1
+                end
+            end
+            return retried
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationsRepository notificationsRepository;
+    private final PushTokensRepository pushTokensRepository;
+    private final ValkeyNotificationCacheService valkeyCache;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 전송 성공 티켓을 영수증 조회 대기열에 등록합니다.
+     * ZADD + HSET을 하나의 파이프라인으로 실행
+     *
+     * @param orgId 조직 ID
+     * @param notificationId 알림 ID
+     * @param tokensByReceiptId 영수증 ID별 전송 토큰
+     */
+    public void registerTickets(Long orgId, Long notificationId, Map<String, String> tokensByReceiptId) {
+        registerTickets(orgId, tokensByReceiptId.entrySet().stream()
+                .map(entry -> new IssuedTicket(entry.getKey(), notificationId, entry.getValue()))
+                .toList());
+    }
+
+    /**
+     * 여러 알림의 전송 성공 티켓을 한 번에 등록합니다 (공지 fan-out용).
+     * ZADD + HSET을 하나의 파이프라인으로 실행
+     *
+     * @param orgId 조직 ID
+     * @param tickets 발급된 티켓 목록
+     */
+    public void registerTickets(Long orgId, List<IssuedTicket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long dueAt = now + notificationProperties.getReceipt().getCheckDelaySeconds() * 1000;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            tickets.forEach(ticket -> {
+                stringConnection.zAdd(PENDING_KEY, dueAt, ticket.receiptId());
+                stringConnection.hSet(TICKETS_KEY, ticket.receiptId(),
+                        orgId + ":" + ticket.notificationId() + ":" + now + ":" + ticket.token());
+            });
+            return null;
+        });
+
+        log.debug("푸시 티켓 등록: orgId={}, count={}", orgId, tickets.size());
+    }
+
+    /**
+     * 조회 시각이 지난 영수증을 배치로 조회합니다.
+     * 배치당 최대 1000개 (Expo getReceipts 제한)
+     * 처리 중 예외가 나면 선점한 영수증은 lease 만료 후 다시 조회
+     */
+    @Scheduled(fixedDelayString = "${notification.receipt.poll-interval-ms:60000}")
+    public void pollReceipts() {
+        NotificationProperties.Receipt config = notificationProperties.getReceipt();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < config.getMaxBatchesPerPoll(); i++) {
+                long leaseUntil = System.currentTimeMillis() + config.getLeaseSeconds() * 1000;
+                List<String> receiptIds = claimDueReceipts(config.getBatchSize(), leaseUntil);
+                if (receiptIds.isEmpty()) {
+                    break;
+                }
+
+                processBatch(receiptIds, leaseUntil);
+
+                if (receiptIds.size() < config.getBatchSize()) {
+                    break;  // 대기열 소진
+                }
+            }
+        } catch (Exception e) {
+            log.error("푸시 영수증 폴링 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 조회 시각이 지난 영수증 ID를 선점합니다 (Lua 스크립트로 원자적 claim).
+     *
+     * @param limit 최대 개수
+     * @param leaseUntil lease 만료 시각 (ms)
+     * @return 영수증 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> claimDueReceipts(int limit, long leaseUntil) {
+        List<String> ids = redisTemplate.execute(
+                CLAIM_DUE_SCRIPT,
+                List.of(PENDING_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(limit),
+                String.valueOf(leaseUntil)
+        );
+        return ids != null ? ids : List.of();
+    }
+
+    /**
+     * 영수증 배치를 처리합니다.
+     * 1. 티켓 정보 조회 (HMGET)
+     * 2. Expo getReceipts 호출
+     * 3. 실패 영수증을 조직/에러별로 묶어 push_status 일괄 반영
+     *    (알림 단위 집계: 성공 기기가 모두 실패로 바뀐 경우에만 상태 변경)
+     * 4. DeviceNotRegistered 토큰 일괄 비활성화 + 캐시 제거
+     * 5. 완료 영수증 정리, 미준비 영수증 재등록
+     *
+     * @param receiptIds 선점한 영수증 ID 목록
+     * @param leaseUntil 선점 lease 만료 시각 (ms)
+     */
+    private void processBatch(List<String> receiptIds, long leaseUntil) {
+        List<PendingTicket> tickets = fetchTickets(receiptIds);
+        if (tickets.size() < receiptIds.size()) {
+            // 티켓 정보가 없거나 손상된 영수증은 다시 선점해도 처리할 수 없음
+            Set<String> valid = tickets.stream().map(PendingTicket::receiptId).collect(Collectors.toSet());
+            ack(receiptIds.stream().filter(receiptId -> !valid.contains(receiptId)).toList(), leaseUntil);
+        }
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        JsonNode receipts;
+        try {
+            receipts = requestReceipts(tickets.stream().map(PendingTicket::receiptId).toList());
+        } catch (Exception e) {
+            log.warn("Expo 영수증 조회 실패, 재시도 예정: count={}, error={}", tickets.size(), e.getMessage());
+            requeueOrDrop(tickets, leaseUntil);
+            return;
+        }
+
+        List<PendingTicket> notReady = new ArrayList<>();
+        List<String> completed = new ArrayList<>();
+        // orgId → (push_status, error) → notificationId → 실패 기기 수
+        Map<Long, Map<ReceiptFailure, Map<Long, Integer>>> failures = new HashMap<>();
+        Set<String> deadTokens = new HashSet<>();
+
+        for (PendingTicket ticket : tickets) {
+            JsonNode receipt = receipts.get(ticket.receiptId());
+            if (receipt == null) {
+                notReady.add(ticket);
+                continue;
+            }
+
+            completed.add(ticket.receiptId());
+            String status = receipt.path("status").asString("");
+            if ("ok".equals(status)) {
+                meterRegistry.counter("notification.receipt.checked", "status", "ok").increment();
+                continue;
+            }
+
+            String error = receipt.path("details").path("error").asString("unknown");
+            meterRegistry.counter("notification.receipt.checked", "status", "error", "error", error).increment();
+
+            PushStatus pushStatus = PushStatus.ERROR;
+            if (ERROR_DEVICE_NOT_REGISTERED.equals(error)) {
+                pushStatus = PushStatus.INVALID_TOKEN;
+                deadTokens.add(ticket.token());
+            }
+
+            failures.computeIfAbsent(ticket.orgId(), k -> new HashMap<>())
+                    .computeIfAbsent(new ReceiptFailure(pushStatus, error), k -> new HashMap<>())
+                    .merge(ticket.notificationId(), 1, Integer::sum);
+        }
+
+        // 조직/에러 조합별 1회 batch UPDATE
+        failures.forEach((orgId, byFailure) -> byFailure.forEach((failure, failedCounts) ->
+                notificationsRepository.applyReceiptFailures(
+                        orgId, failedCounts, failure.status(), failure.error())));
+
+        deactivateTokens(deadTokens);
+
+        ack(completed, leaseUntil);
+        requeueOrDrop(notReady, leaseUntil);
+
+        log.debug("푸시 영수증 처리 완료: total={}, completed={}, notReady={}, deadTokens={}",
+                tickets.size(), completed.size(), notReady.size(), deadTokens.size());
+    }
+
+    /**
+     * 무효 토큰을 한 번의 UPDATE로 비활성화하고 Valkey Hash에서 제거합니다.
+     * 전송 티켓/영수증의 DeviceNotRegistered 처리에 공통 사용
+     *
+     * @param deadTokens DeviceNotRegistered 토큰 집합
+     */
+    public void deactivateTokens(Set<String> deadTokens) {
+        if (deadTokens.isEmpty()) {
+            return;
+        }
+
+        List<PushTokens> deactivated = pushTokensRepository.deactivateTokens(deadTokens);
+        Map<Long, Set<String>> tokensByUserId = deactivated.stream()
+                .collect(Collectors.groupingBy(
+                        PushTokens::getUserId,
+                        Collectors.mapping(PushTokens::getExpoPushToken, Collectors.toSet())
+                ));
+        valkeyCache.evictPushTokens(tokensByUserId);
+
+        meterRegistry.counter("notification.push.tokens.deactivated").increment(deactivated.size());
+        log.info("무효 Push Token 일괄 비활성화: count={}", deactivated.size());
+    }
+
+    /**
+     * 티켓 정보를 Hash에서 일괄 조회합니다.
+     * 정보가 없는(손상/만료) 영수증은 무시
+     *
+     * @param receiptIds 영수증 ID 목록
+     * @return 티켓 목록
+     */
+    private List<PendingTicket> fetchTickets(List<String> receiptIds) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(TICKETS_KEY, new ArrayList<>(receiptIds));
+        List<PendingTicket> tickets = new ArrayList<>(receiptIds.size());
+
+        for (int i = 0; i < receiptIds.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String[] parts = value.toString().split(":", 4);
+            if (parts.length < 4) {
+                log.warn("손상된 푸시 티켓 정보 무시: receiptId={}", receiptIds.get(i));
+                continue;
+            }
+            tickets.add(new PendingTicket(
+                    receiptIds.get(i),
+                    Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]),
+                    parts[3]
+            ));
+        }
+        return tickets;
+    }
+
+    /**
+     * Expo getReceipts API를 호출합니다.
+     *
+     * @param receiptIds 영수증 ID 목록 (최대 1000개)
+     * @return data 노드 (receiptId → 영수증)
+     */
+    private JsonNode requestReceipts(List<String> receiptIds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Accept", "application/json");
+
+        HttpEntity<Map<String, List<String>>> entity = new HttpEntity<>(Map.of("ids", receiptIds), headers);
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                notificationProperties.getExpo().getReceiptsUrl(), entity, String.class);
+
+        JsonNode data = objectMapper.readTree(response.getBody()).get("data");
+        if (data == null || !data.isObject()) {
+            throw new IllegalStateException("Expo 영수증 응답 형식 오류");
+        }
+        return data;
+    }
+
+    /**
+     * 미준비 영수증을 재조회 시각으로 되돌리고, 보관 기간이 지난 영수증은 폐기합니다.
+     *
+     * @param tickets 재처리 대상 티켓
+     * @param leaseUntil 선점 lease 만료 시각 (ms)
+     */
+    private void requeueOrDrop(List<PendingTicket> tickets, long leaseUntil) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        NotificationProperties.Receipt config = notificationProperties.getReceipt();
+        long now = System.currentTimeMillis();
+        long maxAgeMillis = config.getMaxAgeSeconds() * 1000;
+
+        List<String> retry = new ArrayList<>();
+        List<String> drop = new ArrayList<>();
+        for (PendingTicket ticket : tickets) {
+            if (now - ticket.issuedAt() < maxAgeMillis) {
+                retry.add(ticket.receiptId());
+            } else {
+                drop.add(ticket.receiptId());
+            }
+        }
+
+        if (!retry.isEmpty()) {
+            List<String> args = new ArrayList<>(retry.size() + 2);
+            args.add(String.valueOf(leaseUntil));
+            args.add(String.valueOf(now + config.getRetryDelaySeconds() * 1000));
+            args.addAll(retry);
+            redisTemplate.execute(RETRY_SCRIPT, List.of(PENDING_KEY), args.toArray());
+        }
+        ack(drop, leaseUntil);
+    }
+
+    /**
+     * 처리를 마친 영수증을 대기열과 티켓 Hash에서 제거합니다.
+     * lease가 만료되어 다른 노드가 다시 선점한 영수증은 그 노드가 정리
+     *
+     * @param receiptIds 영수증 ID 목록
+     * @param leaseUntil 선점 lease 만료 시각 (ms)
+     */
+    private void ack(List<String> receiptIds, long leaseUntil) {
+        if (receiptIds.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(receiptIds.size() + 1);
+        args.add(String.valueOf(leaseUntil));
+        args.addAll(receiptIds);
+        redisTemplate.execute(ACK_SCRIPT, List.of(PENDING_KEY, TICKETS_KEY), args.toArray());
+    }
+
+    /**
+     * 영수증 조회 대기 중인 티켓
+     */
+    private record PendingTicket(String receiptId, Long orgId, Long notificationId, long issuedAt, String token) {
+    }
+
+    /**
+     * 영수증 실패 분류 키 (push_status + 에러 메시지)
+     */
+    private record ReceiptFailure(PushStatus status, String error) {
+    }
+
+    /**
+     * Expo 전송 응답으로 발급된 티켓
+     *
+     * @param receiptId 영수증 ID
+     * @param notificationId 알림 ID
+     * @param token 전송한 Expo Push Token
+     */
+    public record IssuedTicket(String receiptId, Long notificationId, String token) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.PushStatusUpdate;
+import com.sungbok.community.repository.NotificationsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 푸시 상태 Write-behind 버퍼
+ * 알림 ID 단위로 상태 변경을 병합하고 주기적으로 jOOQ batch로 일괄 저장
+ *
+ * <p>효과:</p>
+ * <ul>
+ *   <li>기기 N대 사용자도 알림 1건당 UPDATE 1회</li>
+ *   <li>여러 알림의 UPDATE를 한 번의 JDBC batch 왕복으로 전송</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushStatusWriteBuffer {
+
+    private final NotificationsRepository notificationsRepository;
+    private final NotificationProperties notificationProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, PushStatusUpdate> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gaugeMapSize("notification.push.status.pending", List.of(), pending);
+    }
+
+    /**
+     * 푸시 상태 변경을 버퍼에 추가합니다.
+     * 같은 알림의 변경은 병합 (OK 우선)
+     * 버퍼가 가득 차면 호출 스레드에서 즉시 flush (backpressure)
+     * DB 장애로 보관 한도에 도달하면 새 알림의 변경은 버림 (이미 있는 알림은 계속 병합)
+     *
+     * @param update 푸시 상태 변경
+     */
+    public void submit(PushStatusUpdate update) {
+        if (pending.size() >= notificationProperties.getPushStatus().getMaxRetained()
+                && !pending.containsKey(update.notificationId())) {
+            meterRegistry.counter("notification.push.status.dropped").increment();
+            return;
+        }
+        pending.merge(update.notificationId(), update, PushStatusUpdate::merge);
+
+        if (pending.size() >= notificationProperties.getPushStatus().getMaxPending()) {
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 변경을 일괄 저장합니다.
+     * 동시에 하나의 flush만 실행 (진행 중이면 다음 주기로 미룸)
+     */
+    @Scheduled(fixedDelayString = "${notification.push-status.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+
+        List<PushStatusUpdate> batch = new ArrayList<>(pending.size());
+        try {
+            // 키 단위 remove: flush 중 들어온 변경은 다음 주기에 반영
+            for (Long notificationId : pending.keySet()) {
+                PushStatusUpdate update = pending.remove(notificationId);
+                if (update != null) {
+                    batch.add(update);
+                }
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            int affected = notificationsRepository.updatePushStatusBatch(batch);
+            meterRegistry.counter("notification.push.status.flushed").increment(batch.size());
+
+            log.debug("푸시 상태 일괄 저장: batch={}, affected={}", batch.size(), affected);
+        } catch (Exception e) {
+            // 실패 시 버퍼로 되돌려 다음 주기에 재시도
+            // merge의 기존 값은 flush 중 들어온 더 새로운 변경이므로 재시도 값 위에 덮어씀
+            // 보관 한도를 넘는 만큼은 버림 (DB 장애가 길어져도 힙이 무한히 늘지 않도록)
+            int maxRetained = notificationProperties.getPushStatus().getMaxRetained();
+            int dropped = 0;
+            for (PushStatusUpdate retry : batch) {
+                if (pending.size() >= maxRetained && !pending.containsKey(retry.notificationId())) {
+                    dropped++;
+                    continue;
+                }
+                pending.merge(retry.notificationId(), retry, (newer, failed) -> failed.merge(newer));
+            }
+            if (dropped > 0) {
+                meterRegistry.counter("notification.push.status.dropped").increment(dropped);
+            }
+            log.error("푸시 상태 일괄 저장 실패, 재시도 예정: batch={}, dropped={}, error={}",
+                    batch.size(), dropped, e.getMessage(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 변경 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("푸시 상태 버퍼 종료 flush: pending={}", pending.size());
+        flush();
+    }
+}
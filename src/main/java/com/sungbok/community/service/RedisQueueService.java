@@ -1,68 +1,158 @@
 package com.sungbok.community.service;
 
-import tools.jackson.databind.ObjectMapper;
+import com.sungbok.community.config.NotificationProperties;
 import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationLane;
+import com.sungbok.community.enums.NotificationQueueCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Redis Queue 서비스
  * Redis List를 사용한 알림 이벤트 메시지 큐 관리
+ *
+ * <p>우선순위 레인(NotificationLane)마다 List 1개를 사용하며,
+ * Worker가 가중치 순서로 레인을 골라 꺼냅니다 (공지 대량 발송이 댓글/승인 알림을 막지 않도록)</p>
+ *
+ * <p>페이로드는 레인별 형식(JSON/BINARY)으로 NotificationEventCodec이 인코딩하며,
+ * 꺼낼 때는 형식을 자동 판별합니다.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisQueueService {
 
-    private static final String NOTIFICATION_QUEUE_KEY = "notification:queue";
     private static final long DEQUEUE_TIMEOUT_SECONDS = 5;
+    private static final byte[][] BLOCKING_KEYS = Arrays.stream(NotificationLane.values())
+            .map(lane -> lane.getQueueKey().getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+
+    /**
+     * 주어진 순서대로 첫 번째로 비어있지 않은 레인에서 꺼냄 (레인 간 우선순위를 1회 왕복으로 처리)
+     * 반환: [레인 인덱스(1부터), payload] 또는 빈 배열
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_FIRST_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+                local payload = redis.call('LPOP', key)
+                if payload then
+                    return {tostring(i), payload}
+                end
+            end
+            return {}
+            """, List.class);
 
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final NotificationEventCodec codec;
+    private final NotificationProperties notificationProperties;
 
     /**
-     * 알림 이벤트를 큐에 추가합니다.
-     * Redis List의 오른쪽에 push (FIFO)
+     * 알림 이벤트를 타입의 기본 레인에 추가합니다.
      *
      * @param event 알림 이벤트
      */
     public void enqueue(NotificationEvent event) {
+        enqueue(event, event.getNotificationType().getDefaultLane());
+    }
+
+    /**
+     * 알림 이벤트를 지정한 레인에 추가합니다.
+     * Redis List의 오른쪽에 push (레인 내 FIFO)
+     *
+     * @param event 알림 이벤트
+     * @param lane 우선순위 레인
+     */
+    public void enqueue(NotificationEvent event, NotificationLane lane) {
         try {
-            String json = objectMapper.writeValueAsString(event);
-            redisTemplate.opsForList().rightPush(NOTIFICATION_QUEUE_KEY, json);
-            log.debug("알림 이벤트 큐에 추가: userId={}, type={}",
-                    event.getUserId(), event.getNotificationType());
+            event.setEnqueuedAt(System.currentTimeMillis());
+            byte[] payload = codec.encode(event, codecFor(lane));
+            rightPush(lane, payload);
+            log.debug("알림 이벤트 큐에 추가: userId={}, type={}, lane={}",
+                    event.getUserId(), event.getNotificationType(), lane);
         } catch (Exception e) {
             log.error("알림 이벤트 큐 추가 실패: {}", e.getMessage(), e);
             throw new RuntimeException("알림 이벤트 큐 추가 실패", e);
         }
     }
 
+    /**
+     * 여러 알림 이벤트를 한 번에 큐에 추가합니다 (레인별 RPUSH 1회).
+     *
+     * @param events 알림 이벤트 목록
+     */
+    public void enqueueAll(List<NotificationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            Map<NotificationLane, List<NotificationEvent>> byLane = events.stream()
+                    .peek(event -> event.setEnqueuedAt(now))
+                    .collect(Collectors.groupingBy(
+                            event -> event.getNotificationType().getDefaultLane(),
+                            () -> new EnumMap<>(NotificationLane.class),
+                            Collectors.toList()));
+
+            byLane.forEach((lane, laneEvents) -> {
+                NotificationQueueCodec laneCodec = codecFor(lane);
+                rightPush(lane, laneEvents.stream()
+                        .map(event -> codec.encode(event, laneCodec))
+                        .toArray(byte[][]::new));
+            });
+            log.debug("알림 이벤트 일괄 큐에 추가: {}건", events.size());
+        } catch (Exception e) {
+            log.error("알림 이벤트 일괄 큐 추가 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("알림 이벤트 큐 추가 실패", e);
+        }
+    }
+
     /**
      * 큐에서 알림 이벤트를 꺼냅니다.
-     * Redis List의 왼쪽에서 블로킹 pop (FIFO)
-     * 타임아웃: 5초
+     * 주어진 레인 순서대로 즉시 꺼낼 수 있는 이벤트를 찾고,
+     * 모든 레인이 비어있으면 전체 레인에 대해 블로킹 pop (BLPOP, 5초 타임아웃)
      *
-     * @return 알림 이벤트 (큐가 비어있으면 null)
+     * @param order 꺼낼 레인 순서 (앞쪽 우선)
+     * @return 꺼낸 이벤트와 레인 (큐가 비어있으면 null)
      */
-    public NotificationEvent dequeue() {
+    public DequeuedEvent dequeue(List<NotificationLane> order) {
         try {
-            // BLPOP: 블로킹 방식으로 큐에서 꺼내기 (5초 타임아웃)
-            String json = redisTemplate.opsForList()
-                    .leftPop(NOTIFICATION_QUEUE_KEY, DEQUEUE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            List<String> keys = order.stream().map(NotificationLane::getQueueKey).toList();
+            List<byte[]> popped = popFirst(keys);
 
-            if (json == null) {
-                return null;  // 큐가 비어있음
+            NotificationLane lane;
+            byte[] payload;
+            if (popped != null && popped.size() == 2) {
+                lane = order.get(Integer.parseInt(new String(popped.get(0), StandardCharsets.UTF_8)) - 1);
+                payload = popped.get(1);
+            } else {
+                // 전부 비어있음: 우선순위 순서로 BLPOP (먼저 도착한 레인부터 깨어남)
+                List<byte[]> result = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                        connection.listCommands().bLPop((int) DEQUEUE_TIMEOUT_SECONDS, BLOCKING_KEYS));
+                if (result == null || result.size() != 2) {
+                    return null;  // 큐가 비어있음
+                }
+                lane = NotificationLane.fromQueueKey(new String(result.get(0), StandardCharsets.UTF_8));
+                payload = result.get(1);
             }
 
-            NotificationEvent event = objectMapper.readValue(json, NotificationEvent.class);
-            log.debug("알림 이벤트 큐에서 꺼냄: userId={}, type={}",
-                    event.getUserId(), event.getNotificationType());
-            return event;
+            NotificationEvent event = codec.decode(payload);
+            log.debug("알림 이벤트 큐에서 꺼냄: userId={}, type={}, lane={}",
+                    event.getUserId(), event.getNotificationType(), lane);
+            return new DequeuedEvent(lane, event);
         } catch (Exception e) {
             log.error("알림 이벤트 큐에서 꺼내기 실패: {}", e.getMessage(), e);
             return null;  // 에러 발생 시 null 반환 (Worker는 계속 실행)
@@ -70,13 +160,72 @@ public class RedisQueueService {
     }
 
     /**
-     * 큐의 현재 길이를 조회합니다.
+     * 전체 레인의 현재 길이 합계를 조회합니다.
      * 모니터링용
      *
      * @return 큐에 있는 이벤트 개수
      */
     public long getQueueSize() {
-        Long size = redisTemplate.opsForList().size(NOTIFICATION_QUEUE_KEY);
+        return Arrays.stream(NotificationLane.values()).mapToLong(this::getQueueSize).sum();
+    }
+
+    /**
+     * 레인의 현재 길이를 조회합니다.
+     *
+     * @param lane 우선순위 레인
+     * @return 레인에 있는 이벤트 개수
+     */
+    public long getQueueSize(NotificationLane lane) {
+        Long size = redisTemplate.opsForList().size(lane.getQueueKey());
         return size != null ? size : 0;
     }
+
+    /**
+     * 레인에서 가장 오래 기다린 이벤트의 대기 시간(ms)을 조회합니다.
+     * 비어있거나 enqueuedAt이 없는 이벤트(배포 전 적재분)면 0
+     *
+     * @param lane 우선순위 레인
+     * @return 대기 시간 (ms)
+     */
+    public long getOldestAgeMillis(NotificationLane lane) {
+        try {
+            byte[] head = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.listCommands().lIndex(lane.getQueueKey().getBytes(StandardCharsets.UTF_8), 0));
+            if (head == null) {
+                return 0;
+            }
+            Long enqueuedAt = codec.decode(head).getEnqueuedAt();
+            return enqueuedAt != null ? Math.max(0, System.currentTimeMillis() - enqueuedAt) : 0;
+        } catch (Exception e) {
+            log.debug("레인 대기 시간 조회 실패: lane={}, {}", lane, e.getMessage());
+            return 0;
+        }
+    }
+
+    private NotificationQueueCodec codecFor(NotificationLane lane) {
+        return notificationProperties.getQueue().getCodecs().getOrDefault(lane, NotificationQueueCodec.JSON);
+    }
+
+    private void rightPush(NotificationLane lane, byte[]... payloads) {
+        byte[] key = lane.getQueueKey().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.listCommands().rPush(key, payloads));
+    }
+
+    /**
+     * POP_FIRST 스크립트 실행 (결과를 바이트 그대로 받음 - BINARY 페이로드가 문자열 변환으로 깨지지 않도록)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<byte[]> popFirst(List<String> keys) {
+        return (List<byte[]>) redisTemplate.execute(POP_FIRST_SCRIPT,
+                RedisSerializer.string(), (RedisSerializer) RedisSerializer.byteArray(), keys);
+    }
+
+    /**
+     * 큐에서 꺼낸 이벤트와 꺼낸 레인
+     *
+     * @param lane 우선순위 레인
+     * @param event 알림 이벤트
+     */
+    public record DequeuedEvent(NotificationLane lane, NotificationEvent event) {
+    }
 }
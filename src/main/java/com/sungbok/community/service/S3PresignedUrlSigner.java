@@ -0,0 +1,177 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.config.OciStorageProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+
+/**
+ * 다운로드용 Pre-signed URL 서명기 (SigV4 쿼리 서명, GET 전용)
+ *
+ * <p>S3Presigner는 URL마다 요청 객체를 만들고 서명 키(비밀 키 → 날짜 → 리전 → 서비스 HMAC 4회)를
+ * 다시 유도합니다. 서명 키는 날짜(UTC)가 바뀔 때만 달라지므로 하루 한 번만 유도해 재사용하고,
+ * URL마다 canonical request 해시와 HMAC 1회만 계산합니다.</p>
+ *
+ * <p>S3Presigner와 같은 형식(path-style, UNSIGNED-PAYLOAD, host 헤더만 서명)의 URL을 만듭니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Component
+public class S3PresignedUrlSigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String TERMINATOR = "aws4_request";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Duration MAX_EXPIRATION = Duration.ofDays(7);  // SigV4 최대 만료
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final HexFormat HEX = HexFormat.of();
+    private static final HexFormat HEX_UPPER = HexFormat.of().withUpperCase();
+
+    // Mac/MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(HMAC_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+    private final String host;
+    private final String origin;
+    private final String bucketPath;
+
+    private volatile SigningKey signingKey;
+
+    /**
+     * 날짜별 서명 키
+     */
+    private record SigningKey(String date, byte[] key) {
+    }
+
+    public S3PresignedUrlSigner(OciStorageProperties properties) {
+        URI endpoint = URI.create(properties.getEndpoint());
+        this.accessKey = properties.getAuth().getAccessKey();
+        this.secretKey = properties.getAuth().getSecretKey();
+        this.region = properties.getRegion();
+        this.host = endpoint.getPort() == -1 ? endpoint.getHost() : endpoint.getHost() + ":" + endpoint.getPort();
+        this.origin = endpoint.getScheme() + "://" + host;
+        this.bucketPath = "/" + uriEncode(properties.getBucketName(), false);
+    }
+
+    /**
+     * GetObject Pre-signed URL 생성
+     *
+     * @param objectKey Object Storage 키
+     * @param expiration 만료 시간 (1초 ~ 7일)
+     * @param signedAt 서명 시각 (URL은 이 시각부터 expiration 동안 유효)
+     * @return Pre-signed Download URL
+     * @throws IllegalArgumentException 만료 시간이 범위를 벗어난 경우
+     */
+    public String presignGetObject(String objectKey, Duration expiration, Instant signedAt) {
+        if (expiration.toSeconds() < 1 || expiration.compareTo(MAX_EXPIRATION) > 0) {
+            throw new IllegalArgumentException("expiration must be between 1 second and 7 days: " + expiration);
+        }
+
+        String date = DATE_FORMAT.format(signedAt);
+        String amzDate = DATE_TIME_FORMAT.format(signedAt);
+        String scope = date + "/" + region + "/" + SERVICE + "/" + TERMINATOR;
+
+        String canonicalUri = bucketPath + "/" + uriEncode(objectKey, true);
+        String canonicalQuery = "X-Amz-Algorithm=" + ALGORITHM
+                + "&X-Amz-Credential=" + uriEncode(accessKey + "/" + scope, false)
+                + "&X-Amz-Date=" + amzDate
+                + "&X-Amz-Expires=" + expiration.toSeconds()
+                + "&X-Amz-SignedHeaders=host";
+        String canonicalRequest = "GET\n"
+                + canonicalUri + "\n"
+                + canonicalQuery + "\n"
+                + "host:" + host + "\n"
+                + "\n"
+                + "host\n"
+                + "UNSIGNED-PAYLOAD";
+
+        String stringToSign = ALGORITHM + "\n"
+                + amzDate + "\n"
+                + scope + "\n"
+                + HEX.formatHex(sha256(canonicalRequest));
+        String signature = HEX.formatHex(hmac(signingKey(date), stringToSign));
+
+        return origin + canonicalUri + "?" + canonicalQuery + "&X-Amz-Signature=" + signature;
+    }
+
+    /**
+     * 날짜의 서명 키를 반환합니다 (날짜가 바뀔 때만 다시 유도).
+     */
+    private byte[] signingKey(String date) {
+        SigningKey current = signingKey;
+        if (current == null || !current.date().equals(date)) {
+            byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+            key = hmac(key, region);
+            key = hmac(key, SERVICE);
+            key = hmac(key, TERMINATOR);
+            current = new SigningKey(date, key);
+            signingKey = current;
+        }
+        return current.key();
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        Mac mac = HMAC.get();
+        try {
+            mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] sha256(String data) {
+        return SHA256.get().digest(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SigV4 URI 인코딩 (비예약 문자 외 모두 %XX, S3는 이중 인코딩 안 함)
+     *
+     * @param value 인코딩할 값
+     * @param keepSlash 경로 구분자(/) 유지 여부
+     */
+    private static String uriEncode(String value, boolean keepSlash) {
+        StringBuilder encoded = new StringBuilder(value.length() + 16);
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (keepSlash && c == '/')) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(HEX_UPPER.toHexDigits(b));
+            }
+        }
+        return encoded.toString();
+    }
+}
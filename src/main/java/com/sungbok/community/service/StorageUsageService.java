@@ -0,0 +1,242 @@
+package com.sungbok.community.service;
+
+import com.sungbok.community.common.exception.ResourceNotFoundException;
+import com.sungbok.community.common.exception.ValidationException;
+import com.sungbok.community.common.exception.code.ResourceErrorCode;
+import com.sungbok.community.common.exception.code.ValidationErrorCode;
+import com.sungbok.community.config.StorageQuotaProperties;
+import com.sungbok.community.dto.StorageUsageDTO;
+import com.sungbok.community.repository.OrgStorageUsageRepository;
+import com.sungbok.community.security.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.tables.pojos.OrgStorageUsage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 조직 저장 공간 사용량/한도 서비스
+ *
+ * <p>사용량은 files 트리거가 같은 트랜잭션에서 org_storage_usage에 증분 반영하고(생성, 검증/거부, 삭제),
+ * 업로드 URL 발급 시 한도 확인은 Valkey Hash에서 O(1)로 처리합니다.</p>
+ *
+ * <p>키 구조: org:storage:{orgId} - Hash (used, reserved, quota; quota가 빈 문자열이면 무제한, TTL 설정값)</p>
+ * <ul>
+ *   <li>확인과 예약을 Lua 스크립트 하나로 처리해 여러 노드의 동시 업로드도 한도를 넘지 않음</li>
+ *   <li>예약 후 롤백되거나 검증 거부/정리로 줄어든 사용량은 TTL 후 반영 (한도를 더 엄격하게 보는 방향)</li>
+ *   <li>사용자 삭제는 커밋 후 캐시를 지워 바로 반영</li>
+ *   <li>Valkey 장애 시 DB 카운터로 확인</li>
+ * </ul>
+ *
+ * <p>정기 재집계로 files 테이블 기준 실제 사용량과 카운터의 차이를 보정합니다.</p>
+ *
+ * @since 2.1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageUsageService {
+
+    private static final String USAGE_KEY_PREFIX = "org:storage:";
+
+    /**
+     * 한도 확인 후 예약
+     * ARGV: requestedBytes
+     * 반환: -1 (미로드), 0 (한도 초과), 1 (예약 완료)
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local usage = redis.call('HMGET', KEYS[1], 'used', 'reserved', 'quota')
+            if not usage[1] then
+                return -1
+            end
+            local requested = tonumber(ARGV[1])
+            if usage[3] ~= '' and tonumber(usage[1]) + tonumber(usage[2]) + requested > tonumber(usage[3]) then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'reserved', requested)
+            return 1
+            """, Long.class);
+
+    /**
+     * DB 카운터로 캐시 채우기 (이미 있으면 유지, 다른 노드의 예약을 덮어쓰지 않음)
+     * ARGV: used, reserved, quota, ttlSeconds
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'used', ARGV[1], 'reserved', ARGV[2], 'quota', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final OrgStorageUsageRepository orgStorageUsageRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final StorageQuotaProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 현재 조직의 저장 공간 한도를 확인하고 업로드할 크기만큼 예약합니다.
+     * 파일 레코드 생성 전에 호출 (DB 사용량은 레코드 생성 시 트리거가 반영)
+     *
+     * @param bytes 업로드할 파일 크기
+     * @throws ValidationException 한도를 초과하는 경우
+     */
+    public void reserve(long bytes) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Long orgId = TenantContext.getRequiredOrgId();
+
+        Long result;
+        try {
+            result = executeReserve(orgId, bytes);
+            if (result == -1) {
+                load(orgId, fetchUsage(orgId));
+                result = executeReserve(orgId, bytes);
+            }
+        } catch (Exception e) {
+            log.warn("저장 공간 캐시 확인 실패, DB 카운터로 확인: orgId={}", orgId, e);
+            StorageUsageDTO usage = fetchUsage(orgId);
+            result = usage.getQuotaBytes() == null
+                    || usage.getUsedBytes() + usage.getReservedBytes() + bytes <= usage.getQuotaBytes() ? 1L : 0L;
+        }
+
+        if (result == 0) {
+            log.info("저장 공간 한도 초과: orgId={}, requestedBytes={}", orgId, bytes);
+            meterRegistry.counter("storage.quota.rejected").increment();
+            throw new ValidationException(
+                    ValidationErrorCode.STORAGE_QUOTA_EXCEEDED,
+                    Map.of("requestedBytes", bytes, "reason", "조직 저장 공간 한도를 초과했습니다")
+            );
+        }
+    }
+
+    /**
+     * 현재 조직의 사용량 캐시를 커밋 후 무효화합니다 (사용자 삭제 등 사용량 감소를 바로 반영).
+     */
+    public void evictAfterCommit() {
+        Long orgId = TenantContext.getRequiredOrgId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(orgId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(orgId);
+            }
+        });
+    }
+
+    /**
+     * 현재 조직의 저장 공간 사용량 조회 (관리자용, DB 카운터 기준)
+     *
+     * @return 사용량 DTO
+     */
+    public StorageUsageDTO getUsage() {
+        return fetchUsage(TenantContext.getRequiredOrgId());
+    }
+
+    /**
+     * 전체 조직 사용량 재집계 (트리거 비활성화, 수동 SQL 등으로 생긴 차이 보정)
+     * 여러 노드가 동시에 실행해도 행 잠금 후 방금 재집계된 조직은 건너뜀
+     */
+    @Scheduled(cron = "${storage-quota.reconcile-cron:0 45 3 * * *}")
+    public void reconcile() {
+        if (!properties.isReconcileEnabled()) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> orgIds = orgStorageUsageRepository.fetchAllOrgIds();
+        int drifted = 0;
+        for (Long orgId : orgIds) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(orgId, startedAt)))) {
+                    drifted++;
+                    evict(orgId);
+                }
+            } catch (Exception e) {
+                log.error("저장 공간 재집계 실패: orgId={}", orgId, e);
+                meterRegistry.counter("storage.usage.reconcile.errors").increment();
+            }
+        }
+
+        log.info("저장 공간 재집계 완료: orgs={}, drifted={}", orgIds.size(), drifted);
+    }
+
+    /**
+     * 조직 하나 재집계 (카운터 행을 잠근 동안 트리거 갱신이 대기하므로 집계와 어긋나지 않음)
+     *
+     * @return 카운터가 실제와 달랐는지 여부
+     */
+    private boolean reconcile(Long orgId, LocalDateTime startedAt) {
+        OrgStorageUsage current = orgStorageUsageRepository.fetchForUpdate(orgId);
+        if (current.getReconciledAt() != null && current.getReconciledAt().isAfter(startedAt)) {
+            return false;  // 다른 노드가 이번 실행에서 이미 재집계
+        }
+
+        OrgStorageUsage actual = orgStorageUsageRepository.sumFiles(orgId);
+        orgStorageUsageRepository.overwrite(actual);
+
+        boolean drifted = !Objects.equals(current.getUsedBytes(), actual.getUsedBytes())
+                || !Objects.equals(current.getReservedBytes(), actual.getReservedBytes())
+                || !Objects.equals(current.getFileCount(), actual.getFileCount());
+        if (drifted) {
+            log.warn("저장 공간 사용량 보정: orgId={}, used={} -> {}, reserved={} -> {}, files={} -> {}",
+                    orgId, current.getUsedBytes(), actual.getUsedBytes(),
+                    current.getReservedBytes(), actual.getReservedBytes(),
+                    current.getFileCount(), actual.getFileCount());
+            meterRegistry.counter("storage.usage.drift").increment();
+            meterRegistry.counter("storage.usage.drift.bytes")
+                    .increment(Math.abs(actual.getUsedBytes() - current.getUsedBytes()));
+        }
+        return drifted;
+    }
+
+    private StorageUsageDTO fetchUsage(Long orgId) {
+        return orgStorageUsageRepository.fetchUsage(orgId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ResourceErrorCode.NOT_FOUND,
+                        Map.of("orgId", orgId)
+                ));
+    }
+
+    private Long executeReserve(Long orgId, long bytes) {
+        return redisTemplate.execute(RESERVE_SCRIPT, List.of(key(orgId)), String.valueOf(bytes));
+    }
+
+    private void load(Long orgId, StorageUsageDTO usage) {
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(orgId)),
+                String.valueOf(usage.getUsedBytes()),
+                String.valueOf(usage.getReservedBytes()),
+                usage.getQuotaBytes() != null ? String.valueOf(usage.getQuotaBytes()) : "",
+                String.valueOf(properties.getCacheTtlSeconds()));
+    }
+
+    private void evict(Long orgId) {
+        try {
+            redisTemplate.delete(key(orgId));
+        } catch (Exception e) {
+            log.warn("저장 공간 캐시 무효화 실패: orgId={}", orgId, e);
+        }
+    }
+
+    private static String key(Long orgId) {
+        return USAGE_KEY_PREFIX + orgId;
+    }
+}
@@ -2,19 +2,27 @@ package com.sungbok.community.service;
 
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
+import com.sungbok.community.enums.NotificationType;
 import com.sungbok.community.repository.NotificationSettingsRepository;
 import com.sungbok.community.repository.PushTokensRepository;
+import com.sungbok.community.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.generated.tables.pojos.NotificationSettings;
 import org.jooq.generated.tables.pojos.PushTokens;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -29,10 +37,99 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ValkeyNotificationCacheService {
 
-    private static final String SETTINGS_KEY_PREFIX = "user:settings:";
+    private static final String SETTINGS_KEY_PREFIX = "user:settings:v2:";  // Hash (구 String 키는 TTL로 자연 만료)
+    private static final String FIELD_PREFERENCES = "preferences";
+    private static final String FIELD_PUSH_MASK = "pushMask";
     private static final String TOKENS_KEY_PREFIX = "user:tokens:";
     private static final long CACHE_TTL_DAYS = 7;
     private static final long PUSH_TOKEN_TTL_DAYS = 30;  // 푸시 토큰 30일 TTL
+    private static final String NO_TOKENS_FIELD = "__none__";  // 토큰 없는 사용자 표식 (Negative caching)
+    private static final long NO_TOKENS_TTL_SECONDS = 600;  // 토큰 등록 시 즉시 제거되므로 짧게
+    private static final String UNREAD_KEY_PREFIX = "user:unread:";  // user:unread:{orgId}:{userId}
+    private static final long UNREAD_TTL_HOURS = 24;  // 누락된 증감이 있어도 하루 안에 DB 값으로 복구
+
+    /**
+     * 이미 초기화된 안 읽은 개수 카운터만 증가
+     * 카운터가 없는 사용자는 다음 조회 시 DB에서 계산 (없는 키를 1로 만들면 실제보다 작아짐)
+     */
+    private static final RedisScript<Long> INCR_EXISTING_SCRIPT = new DefaultRedisScript<>("""
+            local updated = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key) == 1 then
+                    redis.call('INCRBY', key, ARGV[1])
+                    updated = updated + 1
+                end
+            end
+            return updated
+            """, Long.class);
+
+    /**
+     * 초기화된 카운터만 감소 (0 미만으로 내려가지 않음)
+     * ARGV: 감소량
+     */
+    private static final RedisScript<Long> DECR_EXISTING_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(redis.call('GET', KEYS[1]))
+            if count and count > 0 then
+                return redis.call('DECRBY', KEYS[1], math.min(count, tonumber(ARGV[1])))
+            end
+            return count
+            """, Long.class);
+
+    /**
+     * Push Token 저장 (빈 표식 제거 + HSET + HEXPIRE)
+     * DB에서 채운 같은 토큰 필드(field = 토큰)는 기기 필드로 대체
+     * ARGV: deviceId, token, ttlSeconds, 빈 표식 필드
+     */
+    private static final RedisScript<Long> SAVE_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[1], ARGV[4])
+            if ARGV[1] ~= ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[2])
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 기기 필드를 삭제하고 삭제된 토큰을 반환
+     */
+    private static final RedisScript<String> REMOVE_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            local token = redis.call('HGET', KEYS[1], ARGV[1])
+            if token then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return token
+            """, String.class);
+
+    /**
+     * DB 조회 결과로 토큰 Hash 채움 (field = value = 토큰, 필드별 TTL)
+     * 토큰이 없으면 빈 표식 필드 (그 사이 등록된 토큰이 있으면 덮어쓰지 않음)
+     * Hash가 아닌 구 형식 키(List)는 삭제 후 재작성
+     */
+    private static final RedisScript<Long> FILL_TOKENS_SCRIPT = new DefaultRedisScript<>("""
+            local pos = 4
+            for _, key in ipairs(KEYS) do
+                local count = tonumber(ARGV[pos])
+                pos = pos + 1
+                if redis.call('TYPE', key).ok ~= 'hash' then
+                    redis.call('DEL', key)
+                end
+                if count == 0 then
+                    if redis.call('EXISTS', key) == 0 then
+                        redis.call('HSET', key, ARGV[3], '')
+                        redis.call('HEXPIRE', key, ARGV[2], 'FIELDS', 1, ARGV[3])
+                    end
+                else
+                    redis.call('HDEL', key, ARGV[3])
+                    for i = pos, pos + count - 1 do
+                        redis.call('HSET', key, ARGV[i], ARGV[i])
+                        redis.call('HEXPIRE', key, ARGV[1], 'FIELDS', 1, ARGV[i])
+                    end
+                end
+                pos = pos + count
+            end
+            return #KEYS
+            """, Long.class);
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
@@ -40,7 +137,7 @@ public class ValkeyNotificationCacheService {
     private final PushTokensRepository pushTokensRepository;
 
     /**
-     * 사용자의 알림 설정을 조회합니다.
+     * 사용자의 알림 설정을 조회합니다 (API 응답용).
      * Valkey 캐시 우선, 미스 시 DB 조회 후 캐싱
      *
      * @param userId 사용자 ID
@@ -48,129 +145,354 @@ public class ValkeyNotificationCacheService {
      */
     public Map<String, Boolean> getNotificationPreferences(Long userId) {
         String key = SETTINGS_KEY_PREFIX + userId;
-        String cached = redisTemplate.opsForValue().get(key);
+        Object cached = redisTemplate.opsForHash().get(key, FIELD_PREFERENCES);
 
         if (cached != null) {
             try {
                 log.debug("알림 설정 캐시 히트: userId={}", userId);
-                return objectMapper.readValue(cached, new TypeReference<Map<String, Boolean>>() {});
+                return objectMapper.readValue(cached.toString(), new TypeReference<Map<String, Boolean>>() {});
             } catch (Exception e) {
                 log.warn("알림 설정 캐시 역직렬화 실패, DB 조회: userId={}", userId, e);
                 redisTemplate.delete(key);  // 손상된 캐시 삭제
             }
         }
 
-        // DB 조회 후 캐싱
         log.debug("알림 설정 캐시 미스, DB 조회: userId={}", userId);
+        return loadSettings(userId).preferences();
+    }
+
+    /**
+     * 푸시 전송 대상 판별용 비트마스크를 조회합니다.
+     * 푸시 마스터 스위치가 꺼져 있으면 0 (모든 타입 비활성화)
+     * 판별은 NotificationType.isEnabledIn(mask) 비트 연산 1회
+     *
+     * @param userId 사용자 ID
+     * @return 알림 설정 비트마스크
+     */
+    public int getPushPreferenceMask(Long userId) {
+        String key = SETTINGS_KEY_PREFIX + userId;
+        Object cached = redisTemplate.opsForHash().get(key, FIELD_PUSH_MASK);
+
+        if (cached != null) {
+            try {
+                return Integer.parseInt(cached.toString());
+            } catch (NumberFormatException e) {
+                log.warn("알림 설정 마스크 캐시 손상, DB 조회: userId={}, value={}", userId, cached);
+                redisTemplate.delete(key);
+            }
+        }
+
+        return loadSettings(userId).pushMask();
+    }
+
+    /**
+     * DB에서 알림 설정을 조회하여 Valkey Hash에 캐싱합니다.
+     * preferences(JSON)와 pushMask 필드를 한 번에 저장 (HSET + EXPIRE 파이프라인)
+     *
+     * @param userId 사용자 ID
+     * @return 캐싱된 설정
+     */
+    private CachedSettings loadSettings(Long userId) {
         NotificationSettings settings = notificationSettingsRepository.fetchOrCreateByUserId(userId);
 
+        int preferenceMask = settings.getPreferenceMask() != null
+                ? settings.getPreferenceMask()
+                : NotificationType.ALL_MASK;
+        int pushMask = Boolean.FALSE.equals(settings.getEnablePushNotifications()) ? 0 : preferenceMask;
+
+        Map<String, Boolean> preferences;
         try {
             // JSONB → Map 변환
-            String jsonbValue = settings.getNotificationPreferences().data();
-            Map<String, Boolean> preferences = objectMapper.readValue(
-                    jsonbValue,
+            preferences = objectMapper.readValue(
+                    settings.getNotificationPreferences().data(),
                     new TypeReference<Map<String, Boolean>>() {}
             );
+        } catch (Exception e) {
+            log.error("알림 설정 역직렬화 실패: userId={}", userId, e);
+            // API 응답은 빈 Map, 푸시 판별은 DB 비트마스크 사용
+            return new CachedSettings(Map.of(), pushMask);
+        }
 
-            // Valkey 캐싱
+        try {
+            String key = SETTINGS_KEY_PREFIX + userId;
             String json = objectMapper.writeValueAsString(preferences);
-            redisTemplate.opsForValue().set(key, json, CACHE_TTL_DAYS, TimeUnit.DAYS);
-
-            return preferences;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.hMSet(key, Map.of(
+                        FIELD_PREFERENCES, json,
+                        FIELD_PUSH_MASK, String.valueOf(pushMask)
+                ));
+                stringConnection.expire(key, TimeUnit.DAYS.toSeconds(CACHE_TTL_DAYS));
+                return null;
+            });
         } catch (Exception e) {
             log.error("알림 설정 캐싱 실패: userId={}", userId, e);
-            // 에러 발생 시 빈 Map 반환 (모든 알림 비활성화)
-            return Map.of();
         }
+
+        return new CachedSettings(preferences, pushMask);
     }
 
     /**
      * 사용자의 활성 Push Token 목록을 조회합니다.
      * Valkey 9 Hash Field Expiration 사용 (기기별 독립적인 TTL)
-     * 하위 호환성을 위해 List도 함께 조회 (30일 후 자동 마이그레이션)
      *
      * @param userId 사용자 ID
      * @return Expo Push Token 리스트
      */
     public List<String> getActivePushTokens(Long userId) {
-        String key = TOKENS_KEY_PREFIX + userId;
-        List<String> tokens = new ArrayList<>();
+        return getActivePushTokens(List.of(userId)).getOrDefault(userId, List.of());
+    }
 
-        // 1. Hash에서 조회 (Valkey 9 방식)
-        Map<Object, Object> hashTokens = redisTemplate.opsForHash().entries(key);
-        if (!hashTokens.isEmpty()) {
-            tokens.addAll(hashTokens.values().stream()
-                .map(Object::toString)
-                .collect(Collectors.toList()));
-            log.debug("Push Token 캐시 히트 (Hash): userId={}, count={}", userId, tokens.size());
-            return tokens;
+    /**
+     * 여러 사용자의 활성 Push Token을 한 번에 조회합니다 (Read-through).
+     * HGETALL 파이프라인 1회 → 미스 사용자만 DB IN 조회 1회 → 스크립트 1회로 캐시 채움
+     * 토큰이 없는 사용자는 빈 표식 필드로 짧게 캐싱 (Negative caching, 매 알림마다 DB 조회 방지)
+     * org_id는 TenantContext에서 가져옴 (DB 조회 시)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 Expo Push Token 리스트 (토큰이 없으면 빈 리스트)
+     */
+    public Map<Long, List<String>> getActivePushTokens(Collection<Long> userIds) {
+        List<Long> ids = userIds.stream().distinct().toList();
+        Map<Long, List<String>> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        // 1. Hash 조회 (파이프라인)
+        List<Object> hashes;
+        try {
+            hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                ids.forEach(userId -> stringConnection.hGetAll(TOKENS_KEY_PREFIX + userId));
+                return null;
+            });
+        } catch (Exception e) {
+            // 타입이 다른 구 키(List) 등: 전부 DB 조회 후 캐시 재작성
+            log.warn("Push Token 캐시 조회 실패, DB 조회: users={}, {}", ids.size(), e.getMessage());
+            hashes = null;
         }
 
-        // 2. 하위 호환성: List에서 조회 (구 방식, 30일 후 자동 만료)
-        List<String> listTokens = redisTemplate.opsForList().range(key, 0, -1);
-        if (listTokens != null && !listTokens.isEmpty()) {
-            log.debug("Push Token 캐시 히트 (List, 구 방식): userId={}, count={}", userId, listTokens.size());
-            return listTokens;
+        for (int i = 0; i < ids.size(); i++) {
+            Long userId = ids.get(i);
+            if (hashes != null && hashes.get(i) instanceof Map<?, ?> entries && !entries.isEmpty()) {
+                result.put(userId, entries.entrySet().stream()
+                        .filter(entry -> !NO_TOKENS_FIELD.equals(String.valueOf(entry.getKey())))
+                        .map(entry -> String.valueOf(entry.getValue()))
+                        .distinct()
+                        .toList());
+            } else {
+                misses.add(userId);
+            }
         }
 
-        // 3. 캐시 미스: DB 조회 (Hash로 저장하지 않음, savePushToken 메서드에서 처리)
-        log.debug("Push Token 캐시 미스, DB 조회: userId={}", userId);
-        List<PushTokens> dbTokens = pushTokensRepository.fetchActiveByUserId(userId);
-        return dbTokens.stream()
-            .map(PushTokens::getExpoPushToken)
-            .collect(Collectors.toList());
+        if (misses.isEmpty()) {
+            log.debug("Push Token 캐시 히트: users={}", ids.size());
+            return result;
+        }
+
+        // 2. 캐시 미스: DB 조회 (IN 1회)
+        log.debug("Push Token 캐시 미스, DB 조회: users={}", misses.size());
+        Map<Long, List<String>> loaded = pushTokensRepository.fetchActiveByUserIds(misses).stream()
+                .collect(Collectors.groupingBy(PushTokens::getUserId,
+                        Collectors.mapping(PushTokens::getExpoPushToken, Collectors.toList())));
+        misses.forEach(userId -> result.put(userId, loaded.getOrDefault(userId, List.of())));
+
+        // 3. 캐시 채움 (스크립트 1회, 토큰 없는 사용자는 Negative 표식)
+        fillPushTokens(misses, result);
+        return result;
+    }
+
+    /**
+     * DB에서 읽은 토큰으로 캐시를 채웁니다.
+     * ARGV: fillTtl, negativeTtl, 빈 표식 필드, 이후 사용자별 [토큰 수, 토큰...]
+     */
+    private void fillPushTokens(List<Long> userIds, Map<Long, List<String>> tokensByUserId) {
+        try {
+            List<String> keys = new ArrayList<>(userIds.size());
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(TimeUnit.DAYS.toSeconds(CACHE_TTL_DAYS)));
+            args.add(String.valueOf(NO_TOKENS_TTL_SECONDS));
+            args.add(NO_TOKENS_FIELD);
+            for (Long userId : userIds) {
+                List<String> tokens = tokensByUserId.get(userId);
+                keys.add(TOKENS_KEY_PREFIX + userId);
+                args.add(String.valueOf(tokens.size()));
+                args.addAll(tokens);
+            }
+            redisTemplate.execute(FILL_TOKENS_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            // 캐싱 실패는 치명적이지 않음 (다음 조회 시 다시 DB 조회)
+            log.warn("Push Token 캐싱 실패: users={}", userIds.size(), e);
+        }
     }
 
     /**
-     * Push Token 저장 (Valkey 9 Hash Field Expiration 사용)
+     * Push Token 저장 (Write-through, Valkey 9 Hash Field Expiration 사용)
      * 기기별 독립적인 30일 TTL 설정
+     * 빈 표식 제거 + HSET + HEXPIRE를 스크립트 1회로 실행 (1 RTT)
      *
      * @param userId    사용자 ID
      * @param deviceId  기기 ID
      * @param token     Expo Push Token
      */
     public void savePushToken(Long userId, String deviceId, String token) {
-        String key = TOKENS_KEY_PREFIX + userId;
-
-        // Hash 필드에 저장
-        redisTemplate.opsForHash().put(key, deviceId, token);
-
-        // 해당 필드만 30일 TTL 설정 (Valkey 9 HEXPIRE)
-        // HEXPIRE key seconds FIELDS numfields field [field ...]
-        // HEXPIRE returns array of integers: 1 = TTL set, 0 = field doesn't exist, -2 = no expiration
-        Long ttlSeconds = PUSH_TOKEN_TTL_DAYS * 24 * 60 * 60;
-        redisTemplate.execute((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-            byte[] fieldBytes = deviceId.getBytes(StandardCharsets.UTF_8);
-            Object result = connection.execute("HEXPIRE",
-                keyBytes,
-                ttlSeconds.toString().getBytes(StandardCharsets.UTF_8),
-                "FIELDS".getBytes(StandardCharsets.UTF_8),
-                "1".getBytes(StandardCharsets.UTF_8),  // numfields
-                fieldBytes
-            );
-
-            // HEXPIRE returns List<Long> for multiple fields
-            if (result instanceof java.util.List) {
-                return ((java.util.List<?>) result).get(0);
-            }
-            return result;
-        });
+        redisTemplate.execute(SAVE_TOKEN_SCRIPT, List.of(TOKENS_KEY_PREFIX + userId),
+                deviceId, token, String.valueOf(TimeUnit.DAYS.toSeconds(PUSH_TOKEN_TTL_DAYS)), NO_TOKENS_FIELD);
 
         log.debug("Push Token 저장 완료 (Hash): userId={}, deviceId={}", userId, deviceId);
     }
 
     /**
      * Push Token 삭제 (특정 기기만)
-     * Valkey 9 Hash에서 특정 필드만 삭제
+     * Valkey 9 Hash에서 특정 필드만 삭제 (HGET + HDEL 스크립트 1회)
      *
      * @param userId    사용자 ID
      * @param deviceId  기기 ID
+     * @return 삭제된 토큰 (캐시에 없었으면 null, DB 삭제에 사용)
      */
-    public void removePushToken(Long userId, String deviceId) {
-        String key = TOKENS_KEY_PREFIX + userId;
-        redisTemplate.opsForHash().delete(key, deviceId);
+    public String removePushToken(Long userId, String deviceId) {
+        String removed = redisTemplate.execute(REMOVE_TOKEN_SCRIPT, List.of(TOKENS_KEY_PREFIX + userId), deviceId);
         log.debug("Push Token 삭제 완료: userId={}, deviceId={}", userId, deviceId);
+        return removed;
+    }
+
+    /**
+     * 무효화된 Push Token을 사용자별 Hash에서 제거합니다.
+     * Hash 필드는 deviceId이므로 값(토큰) 기준으로 필드를 찾아 삭제
+     * HGETALL, HDEL 모두 파이프라인으로 실행 (사용자 수와 무관하게 2 RTT)
+     *
+     * @param tokensByUserId 사용자 ID별 제거할 토큰 집합
+     */
+    public void evictPushTokens(Map<Long, Set<String>> tokensByUserId) {
+        if (tokensByUserId.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> userIds = new ArrayList<>(tokensByUserId.keySet());
+
+            // 1. 사용자별 Hash 전체 조회 (파이프라인)
+            List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                userIds.forEach(userId -> stringConnection.hGetAll(TOKENS_KEY_PREFIX + userId));
+                return null;
+            });
+
+            // 2. 토큰 값이 일치하는 deviceId 필드 수집
+            Map<String, List<String>> fieldsByKey = new HashMap<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                if (!(hashes.get(i) instanceof Map<?, ?> entries)) {
+                    continue;
+                }
+                Set<String> deadTokens = tokensByUserId.get(userIds.get(i));
+                String key = TOKENS_KEY_PREFIX + userIds.get(i);
+                entries.forEach((deviceId, token) -> {
+                    if (deadTokens.contains(String.valueOf(token))) {
+                        fieldsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(String.valueOf(deviceId));
+                    }
+                });
+            }
+
+            if (fieldsByKey.isEmpty()) {
+                return;
+            }
+
+            // 3. 필드 삭제 (파이프라인)
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                fieldsByKey.forEach((key, fields) -> stringConnection.hDel(key, fields.toArray(String[]::new)));
+                return null;
+            });
+
+            log.debug("무효 Push Token 캐시 제거: users={}, keys={}", userIds.size(), fieldsByKey.size());
+        } catch (Exception e) {
+            // 캐시 제거 실패는 치명적이지 않음 (DB는 이미 비활성화, TTL로 자연 만료)
+            log.warn("무효 Push Token 캐시 제거 실패: users={}", tokensByUserId.size(), e);
+        }
+    }
+
+    /**
+     * 안 읽은 알림 개수를 캐시에서 조회합니다.
+     * org_id는 TenantContext에서 가져옴
+     *
+     * @param userId 사용자 ID
+     * @return 안 읽은 개수 (캐시 미스 시 null)
+     */
+    public Integer getUnreadCount(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(unreadKey(TenantContext.getRequiredOrgId(), userId));
+            return cached != null ? Integer.valueOf(cached) : null;
+        } catch (Exception e) {
+            log.warn("안 읽은 개수 캐시 조회 실패, DB 조회: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 안 읽은 알림 개수를 캐시에 저장합니다 (캐시 미스 시 DB 계산 결과).
+     *
+     * @param userId 사용자 ID
+     * @param count 안 읽은 개수
+     */
+    public void setUnreadCount(Long userId, int count) {
+        try {
+            redisTemplate.opsForValue().set(unreadKey(TenantContext.getRequiredOrgId(), userId),
+                    String.valueOf(count), UNREAD_TTL_HOURS, TimeUnit.HOURS);
+        } catch (Exception e) {
+            log.warn("안 읽은 개수 캐시 저장 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 알림 삽입 후 안 읽은 개수 카운터를 증가시킵니다.
+     * 여러 사용자를 Lua 스크립트 1회로 처리 (공지 fan-out 청크 단위)
+     *
+     * @param orgId 조직 ID (명시적 전달)
+     * @param userIds 알림을 받은 사용자 ID 목록
+     */
+    public void incrementUnreadCounts(Long orgId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> keys = userIds.stream().map(userId -> unreadKey(orgId, userId)).toList();
+            redisTemplate.execute(INCR_EXISTING_SCRIPT, keys, "1");
+        } catch (Exception e) {
+            // 카운터 누락은 TTL 만료 후 DB 재계산으로 복구
+            log.warn("안 읽은 개수 카운터 증가 실패: orgId={}, users={}", orgId, userIds.size(), e);
+        }
+    }
+
+    /**
+     * 개별 읽음 처리 후 안 읽은 개수 카운터를 감소시킵니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void decrementUnreadCount(Long userId) {
+        decrementUnreadCount(userId, 1);
+    }
+
+    /**
+     * 모두 읽음 처리 후 새로 읽음 처리된 개수만큼 카운터를 감소시킵니다.
+     * 0으로 덮어쓰지 않으므로 동시에 도착한 새 알림의 증가분이 유지됨
+     *
+     * @param userId 사용자 ID
+     * @param count 감소량
+     */
+    public void decrementUnreadCount(Long userId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(DECR_EXISTING_SCRIPT, List.of(unreadKey(TenantContext.getRequiredOrgId(), userId)),
+                    String.valueOf(count));
+        } catch (Exception e) {
+            log.warn("안 읽은 개수 카운터 감소 실패: userId={}", userId, e);
+        }
+    }
+
+    private String unreadKey(Long orgId, Long userId) {
+        return UNREAD_KEY_PREFIX + orgId + ":" + userId;
     }
 
     /**
@@ -201,4 +523,10 @@ public class ValkeyNotificationCacheService {
         getActivePushTokens(userId);
         log.debug("사용자 캐시 워밍업 완료: userId={}", userId);
     }
+
+    /**
+     * 캐싱된 알림 설정 (API용 Map + 푸시 판별용 비트마스크)
+     */
+    private record CachedSettings(Map<String, Boolean> preferences, int pushMask) {
+    }
 }
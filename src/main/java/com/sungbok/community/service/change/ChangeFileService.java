@@ -2,6 +2,9 @@ package com.sungbok.community.service.change;
 
 import com.sungbok.community.dto.FileUploadRequest;
 import com.sungbok.community.dto.FileUploadResponse;
+import com.sungbok.community.dto.MultipartUploadResponse;
+
+import java.util.List;
 
 /**
  * 파일 변경 서비스 (CQRS - Command)
@@ -10,6 +13,8 @@ public interface ChangeFileService {
 
     /**
      * Pre-signed Upload URL 생성 및 DB에 PENDING 파일 레코드 생성
+     * contentSha256이 같은 검증된 파일이 조직에 있으면 업로드 없이 그 객체를 참조하는 VERIFIED 레코드 생성
+     * 조직 저장 공간 한도를 넘으면 거부 (STORAGE_QUOTA_EXCEEDED)
      *
      * @param request FileUploadRequest
      * @param userId 업로더 사용자 ID
@@ -19,7 +24,7 @@ public interface ChangeFileService {
 
     /**
      * 파일 업로드 완료 처리 (PENDING → ACTIVE)
-     * FileUploadedEvent 발행 (비동기 검증 트리거)
+     * 같은 트랜잭션에서 파일 검증 작업 등록 (커밋 후 Worker가 비동기 검증)
      *
      * @param fileId 파일 ID
      * @param userId 업로더 사용자 ID
@@ -27,7 +32,65 @@ public interface ChangeFileService {
     void markAsUploaded(Long fileId, Long userId);
 
     /**
-     * 파일 삭제 (소프트 삭제 + OCI 삭제)
+     * 멀티파트 업로드 시작 및 DB에 UPLOADING 파일 레코드 생성
+     * 파트 크기/수를 정하고 첫 파트들의 Upload URL을 함께 발급 (클라이언트는 파트를 병렬 업로드)
+     * 조직 저장 공간 한도를 넘으면 거부 (STORAGE_QUOTA_EXCEEDED)
+     *
+     * @param request FileUploadRequest
+     * @param userId 업로더 사용자 ID
+     * @return MultipartUploadResponse
+     */
+    MultipartUploadResponse createMultipartUpload(FileUploadRequest request, Long userId);
+
+    /**
+     * 멀티파트 업로드 재개 (완료 보고된 파트 목록 + 남은 파트 URL 발급)
+     *
+     * @param fileId 파일 ID
+     * @param userId 업로더 사용자 ID
+     * @return MultipartUploadResponse
+     */
+    MultipartUploadResponse resumeMultipartUpload(Long fileId, Long userId);
+
+    /**
+     * 지정한 파트들의 Upload URL 일괄 발급 (URL 만료 시)
+     *
+     * @param fileId 파일 ID
+     * @param partNumbers 파트 번호 목록
+     * @param userId 업로더 사용자 ID
+     * @return MultipartUploadResponse
+     */
+    MultipartUploadResponse presignMultipartParts(Long fileId, List<Integer> partNumbers, Long userId);
+
+    /**
+     * 파트 업로드 완료 기록 (ETag)
+     *
+     * @param fileId 파일 ID
+     * @param partNumber 파트 번호
+     * @param etag 파트 ETag
+     * @param userId 업로더 사용자 ID
+     */
+    void recordUploadedPart(Long fileId, int partNumber, String etag, Long userId);
+
+    /**
+     * 멀티파트 업로드 완료 (UPLOADING → ACTIVE)
+     * S3 파트의 누락/크기를 확인하고 합친 뒤 같은 트랜잭션에서 파일 검증 작업 등록
+     * S3에서 이미 완료된 업로드(이전 요청의 커밋 실패)면 DB 상태만 반영
+     *
+     * @param fileId 파일 ID
+     * @param userId 업로더 사용자 ID
+     */
+    void completeMultipartUpload(Long fileId, Long userId);
+
+    /**
+     * 멀티파트 업로드 취소 (UPLOADING → ABORTED, 업로드된 파트 삭제)
+     *
+     * @param fileId 파일 ID
+     * @param userId 업로더 사용자 ID
+     */
+    void abortMultipartUpload(Long fileId, Long userId);
+
+    /**
+     * 파일 삭제 (소프트 삭제, OCI 객체는 정리 작업에서 일괄 삭제)
      *
      * @param fileId 파일 ID
      * @param userId 삭제를 수행하는 사용자 ID
@@ -26,6 +26,15 @@ public interface ChangeNotificationService {
      */
     void markAllAsRead(Long userId);
 
+    /**
+     * 알림을 삭제합니다 (소프트 삭제)
+     * org_id 자동 필터링 (사용자 소유 확인)
+     *
+     * @param notificationId 알림 ID
+     * @param userId 사용자 ID (권한 확인용)
+     */
+    void deleteNotification(Long notificationId, Long userId);
+
     /**
      * Push Token을 등록합니다 (Upsert)
      * org_id 자동 설정, Valkey 캐시 갱신
@@ -12,7 +12,7 @@ import com.sungbok.community.repository.MembersRepository;
 import com.sungbok.community.repository.MembershipRolesRepository;
 import com.sungbok.community.repository.OrganizationsRepository;
 import com.sungbok.community.security.TenantContext;
-import com.sungbok.community.service.RedisQueueService;
+import com.sungbok.community.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.generated.tables.pojos.Memberships;
@@ -36,7 +36,7 @@ public class MembershipService {
     private final MembersRepository membersRepository;
     private final MembershipRolesRepository membershipRolesRepository;
     private final OrganizationsRepository organizationsRepository;
-    private final RedisQueueService queueService;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
      * 조직 가입 요청 (Guest JWT 사용자)
@@ -118,7 +118,7 @@ public class MembershipService {
         // 4. 기본 역할(성도, level=1) 자동 할당
         membershipRolesRepository.assignDefaultRole(membershipId, orgId, approverId);
 
-        // 5. 알림 발송 (MEMBERSHIP_APPROVED)
+        // 5. 알림 Outbox 기록 (MEMBERSHIP_APPROVED, 커밋 후 Relay가 큐로 전달)
         NotificationEvent event = NotificationEvent.builder()
                 .orgId(orgId)
                 .userId(membership.getUserId())
@@ -129,7 +129,7 @@ public class MembershipService {
                 .relatedEntityId(membershipId)
                 .data(Map.of("membershipId", membershipId, "orgId", orgId))
                 .build();
-        queueService.enqueue(event);
+        notificationOutboxService.publish(event);  // 같은 트랜잭션 (롤백 시 알림도 취소)
 
         log.info("멤버십 승인 완료: membershipId={}, approverId={}", membershipId, approverId);
     }
@@ -163,7 +163,7 @@ public class MembershipService {
             throw new IllegalStateException("멤버십 거절 실패: " + membershipId);
         }
 
-        // 4. 알림 발송 (MEMBERSHIP_REJECTED)
+        // 4. 알림 Outbox 기록 (MEMBERSHIP_REJECTED, 커밋 후 Relay가 큐로 전달)
         Long orgId = TenantContext.getRequiredOrgId();
         NotificationEvent event = NotificationEvent.builder()
                 .orgId(orgId)
@@ -175,7 +175,7 @@ public class MembershipService {
                 .relatedEntityId(membershipId)
                 .data(Map.of("membershipId", membershipId, "orgId", orgId))
                 .build();
-        queueService.enqueue(event);
+        notificationOutboxService.publish(event);  // 같은 트랜잭션 (롤백 시 알림도 취소)
 
         log.info("멤버십 거절 완료: membershipId={}, approverId={}", membershipId, approverId);
     }
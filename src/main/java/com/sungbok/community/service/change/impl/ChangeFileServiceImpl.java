@@ -9,23 +9,33 @@ import com.sungbok.community.common.exception.code.ValidationErrorCode;
 import com.sungbok.community.config.OciStorageProperties;
 import com.sungbok.community.dto.FileUploadRequest;
 import com.sungbok.community.dto.FileUploadResponse;
-import com.sungbok.community.dto.event.FileUploadedEvent;
+import com.sungbok.community.dto.MultipartPartUrl;
+import com.sungbok.community.dto.MultipartUploadResponse;
+import com.sungbok.community.repository.FileContentsRepository;
+import com.sungbok.community.repository.FileUploadPartsRepository;
 import com.sungbok.community.repository.FilesRepository;
 import com.sungbok.community.security.TenantContext;
+import com.sungbok.community.service.FileValidationJobService;
 import com.sungbok.community.service.FileValidationService;
 import com.sungbok.community.service.OciStorageService;
+import com.sungbok.community.service.StorageUsageService;
 import com.sungbok.community.service.change.ChangeFileService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.generated.tables.pojos.Files;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
 
 /**
  * 파일 변경 서비스 구현체 (CQRS - Command)
@@ -36,17 +46,25 @@ import java.util.concurrent.CompletableFuture;
 @Transactional
 public class ChangeFileServiceImpl implements ChangeFileService {
 
+    private static final int MAX_PARTS = 10_000;  // S3 멀티파트 최대 파트 수
+    private static final int MAX_REPORTED_PARTS = 100;
+
     private final FilesRepository filesRepository;
+    private final FileUploadPartsRepository fileUploadPartsRepository;
     private final OciStorageService ociStorageService;
     private final FileValidationService fileValidationService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final FileValidationJobService fileValidationJobService;
     private final OciStorageProperties ociStorageProperties;
+    private final FileContentsRepository fileContentsRepository;
+    private final StorageUsageService storageUsageService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public FileUploadResponse createPresignedUploadUrl(FileUploadRequest request, Long userId) {
-        // 1. 파일 메타데이터 검증 (MIME 타입, 파일 크기)
+        // 1. 파일 메타데이터 검증 (MIME 타입, 파일 크기) 및 조직 저장 공간 예약
         fileValidationService.validateMimeType(request.getMimeType(), null);
         fileValidationService.validateFileSize(request.getFileSize(), request.getMimeType(), null);
+        storageUsageService.reserve(request.getFileSize());
 
         // 2. 파일명 정제
         String sanitizedFilename = fileValidationService.sanitizeFilename(request.getOriginalFilename());
@@ -56,7 +74,16 @@ public class ChangeFileServiceImpl implements ChangeFileService {
         String objectKey = ociStorageService.buildObjectKey(
                 orgId, request.getRelatedEntityType(), sanitizedFilename);
 
-        // 4. DB에 PENDING 파일 레코드 생성
+        // 4. 같은 내용의 검증된 파일이 있으면 업로드/검증 없이 그 객체를 참조 (내용 주소 중복 제거)
+        String contentSha256 = normalizeSha256(request.getContentSha256());
+        if (contentSha256 != null) {
+            Optional<FileUploadResponse> deduplicated = deduplicate(request, userId, objectKey, contentSha256);
+            if (deduplicated.isPresent()) {
+                return deduplicated.get();
+            }
+        }
+
+        // 5. DB에 PENDING 파일 레코드 생성
         Files file = new Files();
         file.setRelatedEntityId(request.getRelatedEntityId());
         file.setRelatedEntityType(request.getRelatedEntityType());
@@ -67,17 +94,19 @@ public class ChangeFileServiceImpl implements ChangeFileService {
         file.setMimeType(request.getMimeType());
         file.setUploaderId(userId);
         file.setStatus("PENDING");
+        file.setContentSha256(contentSha256);  // 검증 단계에서 저장소 체크섬과 비교
         file.setCreatedAt(LocalDateTime.now());
         file.setModifiedAt(LocalDateTime.now());
 
         Files savedFile = filesRepository.insert(file);
 
-        // 5. Pre-signed Upload URL 생성
+        // 6. Pre-signed Upload URL 생성 (해시를 보냈으면 저장소가 PUT 시 내용과 비교)
         Duration expiration = Duration.ofSeconds(ociStorageProperties.getPresignedUrlExpiration());
         String uploadUrl = ociStorageService.generatePresignedUploadUrl(
                 objectKey,
                 request.getMimeType(),
                 request.getFileSize(),
+                contentSha256,
                 expiration
         );
 
@@ -89,6 +118,7 @@ public class ChangeFileServiceImpl implements ChangeFileService {
                 .objectKey(objectKey)
                 .expiresAt(LocalDateTime.now().plus(expiration))
                 .mimeType(request.getMimeType())  // 프론트엔드에 서명된 Content-Type 전달
+                .checksumSha256(contentSha256 != null ? OciStorageService.toChecksumHeader(contentSha256) : null)
                 .build();
     }
 
@@ -115,22 +145,184 @@ public class ChangeFileServiceImpl implements ChangeFileService {
             );
         }
 
-        // 3. FileUploadedEvent 발행 (비동기 검증 트리거)
-        FileUploadedEvent event = FileUploadedEvent.builder()
-                .orgId(TenantContext.getRequiredOrgId())
-                .fileId(fileId)
-                .objectKey(file.getFilePath())
-                .mimeType(file.getMimeType())
-                .build();
+        // 3. 검증 작업 등록 (같은 트랜잭션, 커밋 후 Worker가 비동기 검증)
+        fileValidationJobService.enqueue(file);
+
+        log.info("파일 업로드 완료 처리: fileId={}, 검증 작업 등록", fileId);
+    }
 
-        eventPublisher.publishEvent(event);
+    @Override
+    public MultipartUploadResponse createMultipartUpload(FileUploadRequest request, Long userId) {
+        // 1. 파일 메타데이터 검증 (MIME 타입, 파일 크기) 및 조직 저장 공간 예약
+        fileValidationService.validateMimeType(request.getMimeType(), null);
+        fileValidationService.validateFileSize(request.getFileSize(), request.getMimeType(), null);
+        storageUsageService.reserve(request.getFileSize());
+
+        // 2. 파일명 정제 및 Object Key 생성
+        String sanitizedFilename = fileValidationService.sanitizeFilename(request.getOriginalFilename());
+        Long orgId = TenantContext.getRequiredOrgId();
+        String objectKey = ociStorageService.buildObjectKey(
+                orgId, request.getRelatedEntityType(), sanitizedFilename);
+
+        // 3. 파트 크기/수 결정 (파트 수가 10,000을 넘지 않도록 파트 크기 조정)
+        long partSize = Math.max(
+                ociStorageProperties.getMultipart().getPartSize(),
+                Math.ceilDiv(request.getFileSize(), MAX_PARTS));
+        int partCount = (int) Math.ceilDiv(request.getFileSize(), partSize);
+
+        // 4. S3 멀티파트 업로드 시작
+        String uploadId = ociStorageService.createMultipartUpload(objectKey, request.getMimeType());
+
+        // 5. DB에 UPLOADING 파일 레코드 생성
+        Files file = new Files();
+        file.setRelatedEntityId(request.getRelatedEntityId());
+        file.setRelatedEntityType(request.getRelatedEntityType());
+        file.setOriginalFilename(request.getOriginalFilename());
+        file.setStoredFilename(objectKey.substring(objectKey.lastIndexOf('/') + 1));
+        file.setFilePath(objectKey);
+        file.setFileSize(request.getFileSize());
+        file.setMimeType(request.getMimeType());
+        file.setUploaderId(userId);
+        file.setStatus("UPLOADING");  // 멀티파트는 전체 내용 체크섬이 없어 중복 제거 대상 아님
+        file.setUploadId(uploadId);
+        file.setPartSize(partSize);
+        file.setPartCount(partCount);
+        file.setCreatedAt(LocalDateTime.now());
+        file.setModifiedAt(LocalDateTime.now());
+
+        Files savedFile;
+        try {
+            savedFile = filesRepository.insert(file);
+        } catch (RuntimeException e) {
+            ociStorageService.abortMultipartUpload(objectKey, uploadId);
+            throw e;
+        }
 
-        log.info("파일 업로드 완료 처리: fileId={}, event 발행", fileId);
+        log.info("멀티파트 업로드 시작: fileId={}, objectKey={}, partSize={}, partCount={}",
+                savedFile.getFileId(), objectKey, partSize, partCount);
+
+        // 6. 첫 파트들의 Upload URL 발급
+        return buildMultipartResponse(savedFile, List.of(), remainingParts(savedFile, Map.of()));
+    }
+
+    @Override
+    public MultipartUploadResponse resumeMultipartUpload(Long fileId, Long userId) {
+        Files file = fetchUploadingFile(fileId, userId);
+        Map<Integer, String> completed = fileUploadPartsRepository.fetchEtags(fileId);
+        filesRepository.touchUploading(fileId);
+
+        return buildMultipartResponse(file, new ArrayList<>(completed.keySet()), remainingParts(file, completed));
+    }
+
+    @Override
+    public MultipartUploadResponse presignMultipartParts(Long fileId, List<Integer> partNumbers, Long userId) {
+        Files file = fetchUploadingFile(fileId, userId);
+        validatePartNumbers(file, partNumbers);
+        int maxPresignParts = ociStorageProperties.getMultipart().getMaxPresignParts();
+        if (partNumbers.size() > maxPresignParts) {
+            throw new ValidationException(
+                    ValidationErrorCode.FAILED,
+                    Map.of("fileId", fileId, "reason", "한 번에 최대 " + maxPresignParts + "개 파트까지 발급할 수 있습니다")
+            );
+        }
+        filesRepository.touchUploading(fileId);
+
+        List<Integer> completed = new ArrayList<>(fileUploadPartsRepository.fetchEtags(fileId).keySet());
+        return buildMultipartResponse(file, completed, partNumbers);
+    }
+
+    @Override
+    public void recordUploadedPart(Long fileId, int partNumber, String etag, Long userId) {
+        Files file = fetchUploadingFile(fileId, userId);
+        validatePartNumbers(file, List.of(partNumber));
+
+        fileUploadPartsRepository.upsert(fileId, partNumber, etag);
+        filesRepository.touchUploading(fileId);
+    }
+
+    @Override
+    public void completeMultipartUpload(Long fileId, Long userId) {
+        // 1. 파일 조회 및 잠금 (완료/취소 동시 실행 방지)
+        Files file = filesRepository.fetchByIdForUpdate(fileId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ResourceErrorCode.NOT_FOUND,
+                        Map.of("fileId", fileId)
+                ));
+        validateUploading(file, userId);
+
+        // 2. S3 파트 목록 조회 (보고 누락 파트 포함 - 업로드 후 보고 전 앱 종료 등)
+        Map<Integer, OciStorageService.UploadedPart> uploaded =
+                ociStorageService.listUploadedParts(file.getFilePath(), file.getUploadId());
+        if (uploaded == null) {
+            // 업로드가 이미 종료됨: 이전 완료 요청이 S3 완료 후 DB 커밋에 실패했다면 객체가 있음
+            if (!ociStorageService.objectExists(file.getFilePath())) {
+                throw new ValidationException(
+                        ValidationErrorCode.FAILED,
+                        Map.of("fileId", fileId, "reason", "멀티파트 업로드가 이미 종료되었습니다")
+                );
+            }
+            log.warn("S3에서 이미 완료된 멀티파트 업로드, DB 상태만 반영: fileId={}", fileId);
+            markCompleted(file);
+            return;
+        }
+
+        List<Integer> missingParts = IntStream.rangeClosed(1, file.getPartCount())
+                .filter(partNumber -> !uploaded.containsKey(partNumber))
+                .limit(MAX_REPORTED_PARTS)
+                .boxed()
+                .toList();
+        if (!missingParts.isEmpty()) {
+            throw new ValidationException(
+                    ValidationErrorCode.FAILED,
+                    Map.of("fileId", fileId, "missingParts", missingParts, "reason", "업로드되지 않은 파트가 있습니다")
+            );
+        }
+
+        // 3. 파트 크기 확인 (마지막 파트 외에는 partSize, 합계는 예약한 file_size)
+        List<Integer> invalidParts = IntStream.rangeClosed(1, file.getPartCount())
+                .filter(partNumber -> uploaded.get(partNumber).size() != expectedPartSize(file, partNumber))
+                .limit(MAX_REPORTED_PARTS)
+                .boxed()
+                .toList();
+        if (!invalidParts.isEmpty()) {
+            throw new ValidationException(
+                    ValidationErrorCode.FAILED,
+                    Map.of("fileId", fileId, "invalidParts", invalidParts, "reason", "파트 크기가 업로드 요청과 다릅니다")
+            );
+        }
+
+        // 4. 파트 합치기 (S3) → ACTIVE
+        // S3 완료 후 커밋에 실패하면 행은 UPLOADING으로 남고, 재시도 시 2에서 이미 완료된 업로드로 처리됨
+        Map<Integer, String> etags = new TreeMap<>();
+        IntStream.rangeClosed(1, file.getPartCount())
+                .forEach(partNumber -> etags.put(partNumber, uploaded.get(partNumber).etag()));
+        ociStorageService.completeMultipartUpload(file.getFilePath(), file.getUploadId(), etags);
+        markCompleted(file);
+
+        log.info("멀티파트 업로드 완료: fileId={}, parts={}, 검증 작업 등록", fileId, etags.size());
+    }
+
+    @Override
+    public void abortMultipartUpload(Long fileId, Long userId) {
+        Files file = filesRepository.fetchByIdForUpdate(fileId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ResourceErrorCode.NOT_FOUND,
+                        Map.of("fileId", fileId)
+                ));
+        validateUploading(file, userId);
+
+        ociStorageService.abortMultipartUpload(file.getFilePath(), file.getUploadId());
+        filesRepository.markMultipartAborted(fileId);
+        fileUploadPartsRepository.deleteByFileId(fileId);
+        storageUsageService.evictAfterCommit();
+
+        log.info("멀티파트 업로드 취소: fileId={}", fileId);
     }
 
     @Override
     public void deleteFile(Long fileId, Long userId) {
-        // 1. 소프트 삭제 (권한 확인 포함)
+        // 소프트 삭제 (권한 확인 포함)
+        // OCI 객체(원본 + 파생본)는 FileSweeperService가 유예 시간 후 DeleteObjects로 일괄 삭제
         int affected = filesRepository.softDelete(fileId, userId);
 
         if (affected == 0) {
@@ -140,22 +332,156 @@ public class ChangeFileServiceImpl implements ChangeFileService {
             );
         }
 
-        // 2. OCI 파일 삭제 (비동기)
+        storageUsageService.evictAfterCommit();  // 줄어든 사용량을 한도 확인에 바로 반영
+        log.info("파일 삭제 완료: fileId={}", fileId);
+    }
+
+    /**
+     * 같은 내용의 검증된 파일 객체를 참조하는 VERIFIED 파일 레코드 생성
+     * 공유 객체가 없거나 크기가 다르거나, 그 사이 마지막 참조가 정리되었으면 빈 Optional (일반 업로드)
+     */
+    private Optional<FileUploadResponse> deduplicate(FileUploadRequest request, Long userId,
+                                                     String objectKey, String contentSha256) {
+        Optional<Files> source = fileContentsRepository.fetchObjectKey(contentSha256)
+                .flatMap(sharedKey -> filesRepository.fetchVerifiedByContent(contentSha256, sharedKey))
+                .filter(existing -> existing.getFileSize().equals(request.getFileSize()));
+        if (source.isEmpty()
+                || fileContentsRepository.incrementRefCount(contentSha256, source.get().getFilePath()) == 0) {
+            meterRegistry.counter("file.dedup.uploads", "result", "miss").increment();
+            return Optional.empty();
+        }
+
+        // 객체와 검증 결과(메타데이터, 파생본)는 공유, 파일명만 고유
+        Files existing = source.get();
+        Files file = new Files();
+        file.setRelatedEntityId(request.getRelatedEntityId());
+        file.setRelatedEntityType(request.getRelatedEntityType());
+        file.setOriginalFilename(request.getOriginalFilename());
+        file.setStoredFilename(objectKey.substring(objectKey.lastIndexOf('/') + 1));
+        file.setFilePath(existing.getFilePath());
+        file.setFileSize(existing.getFileSize());
+        file.setMimeType(existing.getMimeType());
+        file.setUploaderId(userId);
+        file.setStatus("VERIFIED");
+        file.setUploadedAt(LocalDateTime.now());
+        file.setDuration(existing.getDuration());
+        file.setResolution(existing.getResolution());
+        file.setCodec(existing.getCodec());
+        file.setWidth(existing.getWidth());
+        file.setHeight(existing.getHeight());
+        file.setBlurhash(existing.getBlurhash());
+        file.setVariants(existing.getVariants());
+        file.setContentSha256(contentSha256);
+        file.setCreatedAt(LocalDateTime.now());
+        file.setModifiedAt(LocalDateTime.now());
+
+        Files savedFile = filesRepository.insert(file);
+
+        meterRegistry.counter("file.dedup.uploads", "result", "hit").increment();
+        meterRegistry.counter("file.dedup.bytes.saved").increment(existing.getFileSize());
+        log.info("중복 업로드 생략: fileId={}, sourceFileId={}, objectKey={}",
+                savedFile.getFileId(), existing.getFileId(), existing.getFilePath());
+
+        return Optional.of(FileUploadResponse.builder()
+                .fileId(savedFile.getFileId())
+                .objectKey(existing.getFilePath())
+                .mimeType(existing.getMimeType())
+                .deduplicated(true)
+                .build());
+    }
+
+    private static String normalizeSha256(String contentSha256) {
+        return contentSha256 != null ? contentSha256.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * 업로더 본인의 UPLOADING 파일 조회
+     */
+    private Files fetchUploadingFile(Long fileId, Long userId) {
         Files file = filesRepository.fetchById(fileId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         ResourceErrorCode.NOT_FOUND,
                         Map.of("fileId", fileId)
                 ));
+        validateUploading(file, userId);
+        return file;
+    }
+
+    private void validateUploading(Files file, Long userId) {
+        if (!file.getUploaderId().equals(userId)) {
+            throw new AuthorizationException(AuthErrorCode.ACCESS_DENIED);
+        }
+        if (!"UPLOADING".equals(file.getStatus())) {
+            throw new ValidationException(
+                    ValidationErrorCode.FAILED,
+                    Map.of("fileId", file.getFileId(), "reason", "멀티파트 업로드 중인 파일이 아닙니다")
+            );
+        }
+    }
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                ociStorageService.deleteFile(file.getFilePath());
-                log.info("OCI 파일 삭제 완료: fileId={}, objectKey={}", fileId, file.getFilePath());
-            } catch (Exception e) {
-                log.error("OCI 파일 삭제 실패: fileId={}, objectKey={}", fileId, file.getFilePath(), e);
+    private void validatePartNumbers(Files file, List<Integer> partNumbers) {
+        for (Integer partNumber : partNumbers) {
+            if (partNumber < 1 || partNumber > file.getPartCount()) {
+                throw new ValidationException(
+                        ValidationErrorCode.FAILED,
+                        Map.of("fileId", file.getFileId(), "partNumber", partNumber,
+                                "reason", "파트 번호는 1~" + file.getPartCount() + " 사이여야 합니다")
+                );
             }
-        });
+        }
+    }
 
-        log.info("파일 삭제 완료: fileId={}", fileId);
+    /**
+     * 완료되지 않은 파트 번호 (최대 max-presign-parts개)
+     */
+    private List<Integer> remainingParts(Files file, Map<Integer, String> completed) {
+        return IntStream.rangeClosed(1, file.getPartCount())
+                .filter(partNumber -> !completed.containsKey(partNumber))
+                .limit(ociStorageProperties.getMultipart().getMaxPresignParts())
+                .boxed()
+                .toList();
+    }
+
+    /**
+     * 파트 번호별 예상 크기 (마지막 파트는 나머지)
+     */
+    private static long expectedPartSize(Files file, int partNumber) {
+        if (partNumber < file.getPartCount()) {
+            return file.getPartSize();
+        }
+        return file.getFileSize() - file.getPartSize() * (file.getPartCount() - 1);
+    }
+
+    /**
+     * 멀티파트 업로드 완료 반영 (UPLOADING → ACTIVE) 및 검증 작업 등록
+     * 같은 트랜잭션, 커밋 후 Worker가 비동기 검증
+     */
+    private void markCompleted(Files file) {
+        filesRepository.markMultipartCompleted(file.getFileId());
+        fileUploadPartsRepository.deleteByFileId(file.getFileId());
+        fileValidationJobService.enqueue(file);
+    }
+
+    private MultipartUploadResponse buildMultipartResponse(Files file, List<Integer> completedParts,
+                                                           List<Integer> partNumbers) {
+        Duration expiration = Duration.ofSeconds(ociStorageProperties.getPresignedUrlExpiration());
+        List<MultipartPartUrl> parts = partNumbers.isEmpty()
+                ? List.of()
+                : ociStorageService.generatePresignedUploadPartUrls(
+                                file.getFilePath(), file.getUploadId(), partNumbers, expiration)
+                        .entrySet().stream()
+                        .map(entry -> new MultipartPartUrl(entry.getKey(), entry.getValue()))
+                        .toList();
+
+        return MultipartUploadResponse.builder()
+                .fileId(file.getFileId())
+                .objectKey(file.getFilePath())
+                .mimeType(file.getMimeType())
+                .partSize(file.getPartSize())
+                .partCount(file.getPartCount())
+                .completedParts(completedParts)
+                .parts(parts)
+                .expiresAt(LocalDateTime.now().plus(expiration))
+                .build();
     }
 }
@@ -3,18 +3,26 @@ package com.sungbok.community.service.change.impl;
 import tools.jackson.databind.ObjectMapper;
 import com.sungbok.community.dto.NotificationSettingsDTO;
 import com.sungbok.community.dto.PushTokenRequest;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.repository.NotificationReadStateRepository;
 import com.sungbok.community.repository.NotificationSettingsRepository;
 import com.sungbok.community.repository.NotificationsRepository;
 import com.sungbok.community.repository.PushTokensRepository;
+import com.sungbok.community.security.TenantContext;
+import com.sungbok.community.service.NotificationInboxCacheService;
+import com.sungbok.community.service.NotificationStreamService;
 import com.sungbok.community.service.ValkeyNotificationCacheService;
 import com.sungbok.community.service.change.ChangeNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.JSONB;
 import org.jooq.generated.tables.pojos.NotificationSettings;
+import org.jooq.generated.tables.pojos.Notifications;
 import org.jooq.generated.tables.pojos.PushTokens;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
@@ -28,16 +36,26 @@ import java.time.LocalDateTime;
 public class ChangeNotificationServiceImpl implements ChangeNotificationService {
 
     private final NotificationsRepository notificationsRepository;
+    private final NotificationReadStateRepository notificationReadStateRepository;
     private final PushTokensRepository pushTokensRepository;
     private final NotificationSettingsRepository notificationSettingsRepository;
     private final ValkeyNotificationCacheService valkeyCache;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationInboxCacheService notificationInboxCacheService;
     private final ObjectMapper objectMapper;
 
     @Override
     public void markAsRead(Long notificationId, Long userId) {
-        int affected = notificationsRepository.markAsRead(notificationId, userId);
-
-        if (affected == 0) {
+        // 공유 잠금: 동시 모두 읽음과 같은 알림을 이중 감소하지 않도록
+        long watermark = notificationReadStateRepository.lockWatermark(userId, false);
+        int affected = notificationsRepository.markAsRead(notificationId, userId, watermark);
+
+        if (affected == 1) {
+            // 워터마크 이후의 안 읽은 알림 → 커밋 후 카운터 감소
+            Long orgId = TenantContext.getRequiredOrgId();
+            notificationInboxCacheService.markRead(orgId, userId, notificationId, LocalDateTime.now());
+            decrementUnreadCountAfterCommit(orgId, userId, 1);
+        } else if (!notificationsRepository.existsByIdAndUserId(notificationId, userId)) {
             log.warn("알림 읽음 처리 실패: notificationId={}, userId={}", notificationId, userId);
             throw new IllegalArgumentException("알림을 찾을 수 없거나 권한이 없습니다");
         }
@@ -47,8 +65,45 @@ public class ChangeNotificationServiceImpl implements ChangeNotificationService
 
     @Override
     public void markAllAsRead(Long userId) {
-        int affected = notificationsRepository.markAllAsRead(userId);
-        log.debug("모든 알림 읽음 처리: userId={}, count={}", userId, affected);
+        // 최신 알림 ID를 워터마크로 (알림 행은 갱신하지 않음, 1행 쓰기)
+        // 배타 잠금으로 진행 중인 개별 읽음/삭제를 기다린 뒤 새로 읽음 처리되는 개수만큼 감소
+        // (0으로 덮어쓰면 그 사이 도착한 새 알림의 증가분이 사라짐)
+        Long orgId = TenantContext.getRequiredOrgId();
+        long previous = notificationReadStateRepository.lockWatermark(userId, true);
+        long latestId = notificationsRepository.fetchLatestIdByUserId(userId);
+        int newlyRead = 0;
+        if (latestId > previous) {
+            LocalDateTime readAt = LocalDateTime.now();
+            newlyRead = notificationsRepository.countUnreadBetween(userId, previous, latestId);
+            notificationReadStateRepository.advanceWatermark(userId, latestId, readAt);
+            notificationInboxCacheService.markAllRead(orgId, userId, latestId, readAt);
+        }
+        decrementUnreadCountAfterCommit(orgId, userId, newlyRead);
+
+        log.debug("모든 알림 읽음 처리: userId={}, watermark={}", userId, Math.max(previous, latestId));
+    }
+
+    @Override
+    public void deleteNotification(Long notificationId, Long userId) {
+        Notifications notification = notificationsRepository.fetchById(notificationId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없거나 권한이 없습니다"));
+
+        // 공유 잠금: 동시 모두 읽음과 같은 알림을 이중 감소하지 않도록 삭제 전에 잠금
+        long watermark = notificationReadStateRepository.lockWatermark(userId, false);
+        if (notificationsRepository.softDelete(notificationId, userId) == 0) {
+            return;  // 동시 삭제
+        }
+
+        Long orgId = TenantContext.getRequiredOrgId();
+        notificationInboxCacheService.remove(orgId, userId, notificationId);
+
+        // 안 읽은 알림 삭제 → 커밋 후 카운터 감소
+        if (!Boolean.TRUE.equals(notification.getIsRead()) && notificationId > watermark) {
+            decrementUnreadCountAfterCommit(orgId, userId, 1);
+        }
+
+        log.debug("알림 삭제: notificationId={}, userId={}", notificationId, userId);
     }
 
     @Override
@@ -56,6 +111,7 @@ public class ChangeNotificationServiceImpl implements ChangeNotificationService
         PushTokens pushToken = new PushTokens();
         pushToken.setUserId(userId);
         pushToken.setExpoPushToken(request.getExpoPushToken());
+        pushToken.setDeviceId(request.getDeviceId());
         pushToken.setDeviceType(request.getDeviceType());
         pushToken.setDeviceName(request.getDeviceName());
         pushToken.setAppVersion(request.getAppVersion());
@@ -74,7 +130,15 @@ public class ChangeNotificationServiceImpl implements ChangeNotificationService
     @Override
     public void unregisterPushToken(Long userId, String deviceId) {
         // Valkey Hash에서 특정 기기만 삭제 (Valkey 9)
-        valkeyCache.removePushToken(userId, deviceId);
+        // Read-through로 채운 Hash(field = 토큰)나 TTL 만료 후에는 기기 ID로 찾을 수 없어 null일 수 있음
+        String token = valkeyCache.removePushToken(userId, deviceId);
+
+        // DB에서도 삭제 (캐시 미스 시 DB에서 다시 채우므로 함께 지워야 함)
+        // 기기 ID로 삭제하고, 캐시에서 찾은 토큰은 기기 ID가 없는 이전 등록분까지 삭제
+        pushTokensRepository.softDeleteByDeviceId(userId, deviceId);
+        if (token != null) {
+            pushTokensRepository.softDelete(userId, token);
+        }
 
         // 전체 캐시 무효화 (DB와 캐시 일관성 유지)
         valkeyCache.invalidateUserCache(userId);
@@ -92,6 +156,7 @@ public class ChangeNotificationServiceImpl implements ChangeNotificationService
             // 기존 설정 조회 또는 생성
             NotificationSettings settings = notificationSettingsRepository.fetchOrCreateByUserId(userId);
             settings.setNotificationPreferences(jsonb);
+            settings.setPreferenceMask(NotificationType.toPreferenceMask(settingsDTO.getNotificationPreferences()));
             settings.setEnablePushNotifications(settingsDTO.getEnablePushNotifications());
             settings.setModifiedAt(LocalDateTime.now());
 
@@ -109,6 +174,35 @@ public class ChangeNotificationServiceImpl implements ChangeNotificationService
         }
     }
 
+    /**
+     * 커밋 후 안 읽은 개수 카운터를 감소시키고 다른 기기/탭의 SSE 연결에 개수를 동기화합니다.
+     * 커밋 전에 감소시키면 롤백 시 카운터가 DB의 안 읽은 개수보다 작아짐
+     *
+     * @param orgId 조직 ID
+     * @param userId 사용자 ID
+     * @param count 감소량 (0이면 개수 동기화만)
+     */
+    private void decrementUnreadCountAfterCommit(Long orgId, Long userId, int count) {
+        Runnable action = () -> {
+            valkeyCache.decrementUnreadCount(userId, count);
+            Integer unreadCount = valkeyCache.getUnreadCount(userId);
+            if (unreadCount != null) {
+                notificationStreamService.publishUnreadCount(orgId, userId, unreadCount);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     /**
      * 토큰의 일부를 마스킹합니다 (로그 출력용)
      *
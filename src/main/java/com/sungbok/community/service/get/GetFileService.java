@@ -25,4 +25,21 @@ public interface GetFileService {
      * @return FilesDTO 리스트
      */
     List<FilesDTO> getFilesByEntity(Long relatedEntityId, String relatedEntityType);
+
+    /**
+     * 파일 ID 목록으로 조회 (URL 일괄 발급)
+     * 조회할 수 없는 파일(다른 조직, 삭제됨)은 제외
+     *
+     * @param fileIds 파일 ID 목록
+     * @return FilesDTO 리스트 (요청 순서)
+     */
+    List<FilesDTO> getFilesByIds(List<Long> fileIds);
+
+    /**
+     * 조회된 파일 목록에 CDN/Download URL과 파생본 URL을 채웁니다.
+     * 게시글 멀티셋 조회처럼 Repository에서 바로 DTO로 매핑한 경우 사용
+     *
+     * @param files FilesDTO 리스트 (null 허용)
+     */
+    void attachUrls(List<FilesDTO> files);
 }
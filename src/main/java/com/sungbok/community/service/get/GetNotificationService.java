@@ -13,7 +13,8 @@ public interface GetNotificationService {
 
     /**
      * 사용자의 알림 목록을 조회합니다 (페이징)
-     * org_id 자동 필터링, 생성일시 역순 정렬
+     * org_id 자동 필터링, 최신순 정렬
+     * 첫 페이지는 Inbox 캐시 우선
      *
      * @param userId 사용자 ID
      * @param page 페이지 번호 (0부터 시작)
@@ -22,6 +23,28 @@ public interface GetNotificationService {
      */
     List<NotificationDTO> getNotifications(Long userId, int page, int size);
 
+    /**
+     * 특정 알림 이전의 알림을 조회합니다 (keyset 페이징)
+     * org_id 자동 필터링, 알림 ID 역순
+     *
+     * @param userId 사용자 ID
+     * @param beforeNotificationId 이전 페이지의 마지막 알림 ID
+     * @param size 페이지 크기
+     * @return 알림 DTO 리스트
+     */
+    List<NotificationDTO> getNotificationsBefore(Long userId, Long beforeNotificationId, int size);
+
+    /**
+     * 특정 알림 이후의 알림을 조회합니다 (SSE Last-Event-ID 재개)
+     * org_id 자동 필터링, 알림 ID 오름차순
+     *
+     * @param userId 사용자 ID
+     * @param afterNotificationId 마지막으로 받은 알림 ID
+     * @param limit 최대 개수
+     * @return 알림 DTO 리스트
+     */
+    List<NotificationDTO> getNotificationsAfter(Long userId, Long afterNotificationId, int limit);
+
     /**
      * 사용자의 읽지 않은 알림 개수를 조회합니다
      * org_id 자동 필터링
@@ -4,6 +4,7 @@ import com.sungbok.community.common.exception.ResourceNotFoundException;
 import com.sungbok.community.common.exception.code.ResourceErrorCode;
 import com.sungbok.community.config.OciStorageProperties;
 import com.sungbok.community.dto.FilesDTO;
+import com.sungbok.community.dto.ImageVariantDTO;
 import com.sungbok.community.repository.FilesRepository;
 import com.sungbok.community.service.OciStorageService;
 import com.sungbok.community.service.get.GetFileService;
@@ -12,10 +13,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.jooq.generated.tables.pojos.Files;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +38,7 @@ public class GetFileServiceImpl implements GetFileService {
     private final FilesRepository filesRepository;
     private final OciStorageService ociStorageService;
     private final OciStorageProperties ociStorageProperties;
+    private final ObjectMapper objectMapper;
 
     @Override
     public FilesDTO getFileById(Long fileId) {
@@ -39,23 +48,87 @@ public class GetFileServiceImpl implements GetFileService {
                         Map.of("fileId", fileId)
                 ));
 
-        return toDTO(file);
+        FilesDTO dto = toDTO(file);
+        attachUrls(List.of(dto));
+        return dto;
     }
 
     @Override
     public List<FilesDTO> getFilesByEntity(Long relatedEntityId, String relatedEntityType) {
         List<Files> files = filesRepository.fetchByEntityIdAndType(relatedEntityId, relatedEntityType);
 
-        return files.stream()
+        List<FilesDTO> dtos = files.stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
+        attachUrls(dtos);
+        return dtos;
+    }
+
+    @Override
+    public List<FilesDTO> getFilesByIds(List<Long> fileIds) {
+        Map<Long, Files> filesById = filesRepository.fetchByIds(fileIds).stream()
+                .collect(Collectors.toMap(Files::getFileId, Function.identity()));
+
+        List<FilesDTO> dtos = fileIds.stream()
+                .distinct()
+                .map(filesById::get)
+                .filter(Objects::nonNull)
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+        attachUrls(dtos);
+        return dtos;
+    }
+
+    @Override
+    public void attachUrls(List<FilesDTO> files) {
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        // 1. 파생본 파싱 후 CDN URL이 없는 키(원본 + 파생본)를 모아 한 번에 서명
+        List<Map<String, ImageVariantDTO>> storedVariants = new ArrayList<>(files.size());
+        List<String> presignKeys = new ArrayList<>();
+        for (FilesDTO file : files) {
+            Map<String, ImageVariantDTO> variants = parseVariants(file.getFileId(), file.getVariantsJson());
+            storedVariants.add(variants);
+            if (ociStorageService.buildCdnUrl(file.getFilePath()) == null) {
+                presignKeys.add(file.getFilePath());
+                if (variants != null) {
+                    variants.values().forEach(variant -> presignKeys.add(variant.objectKey()));
+                }
+            }
+        }
+        Map<String, String> presignedUrls = presignKeys.isEmpty()
+                ? Map.of()
+                : ociStorageService.generatePresignedDownloadUrls(presignKeys, Duration.ofMinutes(
+                        ociStorageProperties.getDownloadUrl().getExpirationMinutes()));
+
+        // 2. 파일/파생본에 URL 채우기
+        for (int i = 0; i < files.size(); i++) {
+            FilesDTO file = files.get(i);
+            String cdnUrl = ociStorageService.buildCdnUrl(file.getFilePath());
+            Map<String, ImageVariantDTO> variants = storedVariants.get(i);
+
+            Map<String, ImageVariantDTO> resolved = null;
+            if (variants != null) {
+                resolved = new LinkedHashMap<>();
+                for (Map.Entry<String, ImageVariantDTO> variant : variants.entrySet()) {
+                    String variantCdnUrl = ociStorageService.buildCdnUrl(variant.getValue().objectKey());
+                    resolved.put(variant.getKey(), variant.getValue().withUrl(variantCdnUrl != null
+                            ? variantCdnUrl
+                            : presignedUrls.get(variant.getValue().objectKey())));
+                }
+            }
+
+            file.attachUrls(cdnUrl, cdnUrl == null ? presignedUrls.get(file.getFilePath()) : null, resolved);
+        }
     }
 
     /**
-     * POJO를 DTO로 변환 (CDN URL 또는 Download URL 추가)
+     * POJO를 DTO로 변환 (URL은 attachUrls에서 일괄로 채움)
      */
     private FilesDTO toDTO(Files file) {
-        FilesDTO.FilesDTOBuilder builder = FilesDTO.builder()
+        return FilesDTO.builder()
                 .fileId(file.getFileId())
                 .relatedEntityId(file.getRelatedEntityId())
                 .relatedEntityType(file.getRelatedEntityType())
@@ -70,18 +143,28 @@ public class GetFileServiceImpl implements GetFileService {
                 .duration(file.getDuration())
                 .resolution(file.getResolution())
                 .codec(file.getCodec())
-                .isDeleted(file.getIsDeleted());
-
-        // CDN URL 또는 Download URL 추가
-        String cdnUrl = ociStorageService.buildCdnUrl(file.getFilePath());
-        if (cdnUrl != null) {
-            builder.cdnUrl(cdnUrl);
-        } else {
-            // Pre-signed Download URL (1시간 만료)
-            builder.downloadUrl(ociStorageService.generatePresignedDownloadUrl(
-                    file.getFilePath(), Duration.ofHours(1)));
+                .width(file.getWidth())
+                .height(file.getHeight())
+                .blurhash(file.getBlurhash())
+                .variantsJson(file.getVariants() != null ? file.getVariants().data() : null)
+                .isDeleted(file.getIsDeleted())
+                .build();
+    }
+
+    /**
+     * 파생본 JSON을 파싱합니다.
+     * 파싱 실패 시 원본 URL만 제공 (null)
+     */
+    private Map<String, ImageVariantDTO> parseVariants(Long fileId, String variantsJson) {
+        if (variantsJson == null || variantsJson.isEmpty()) {
+            return null;
         }
 
-        return builder.build();
+        try {
+            return objectMapper.readValue(variantsJson, new TypeReference<Map<String, ImageVariantDTO>>() {});
+        } catch (JacksonException e) {
+            log.warn("파생본 정보 파싱 실패: fileId={}", fileId, e);
+            return null;
+        }
     }
 }
@@ -2,15 +2,20 @@ package com.sungbok.community.service.get.impl;
 
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
+import com.sungbok.community.config.NotificationProperties;
 import com.sungbok.community.dto.NotificationDTO;
 import com.sungbok.community.dto.NotificationSettingsDTO;
 import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.repository.NotificationReadStateRepository;
 import com.sungbok.community.repository.NotificationSettingsRepository;
 import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.security.TenantContext;
+import com.sungbok.community.service.NotificationInboxCacheService;
 import com.sungbok.community.service.ValkeyNotificationCacheService;
 import com.sungbok.community.service.get.GetNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.generated.tables.pojos.NotificationReadState;
 import org.jooq.generated.tables.pojos.NotificationSettings;
 import org.jooq.generated.tables.pojos.Notifications;
 import org.springframework.stereotype.Service;
@@ -18,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -30,23 +36,62 @@ import java.util.stream.Collectors;
 public class GetNotificationServiceImpl implements GetNotificationService {
 
     private final NotificationsRepository notificationsRepository;
+    private final NotificationReadStateRepository notificationReadStateRepository;
     private final NotificationSettingsRepository notificationSettingsRepository;
     private final ValkeyNotificationCacheService valkeyCache;
+    private final NotificationInboxCacheService notificationInboxCacheService;
+    private final NotificationProperties notificationProperties;
     private final ObjectMapper objectMapper;
 
     @Override
     public List<NotificationDTO> getNotifications(Long userId, int page, int size) {
+        if (page == 0) {
+            return getFirstPage(userId, size);
+        }
+
         int offset = page * size;
         List<Notifications> notifications = notificationsRepository.fetchByUserId(userId, size, offset);
+        NotificationReadState readState = fetchReadState(userId);
+
+        return notifications.stream()
+                .map(notification -> toDTO(notification, readState))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<NotificationDTO> getNotificationsBefore(Long userId, Long beforeNotificationId, int size) {
+        List<Notifications> notifications = notificationsRepository.fetchByUserIdBefore(userId, beforeNotificationId, size);
+        NotificationReadState readState = fetchReadState(userId);
 
         return notifications.stream()
-                .map(this::toDTO)
+                .map(notification -> toDTO(notification, readState))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<NotificationDTO> getNotificationsAfter(Long userId, Long afterNotificationId, int limit) {
+        List<Notifications> notifications = notificationsRepository.fetchByUserIdAfter(userId, afterNotificationId, limit);
+        NotificationReadState readState = fetchReadState(userId);
+
+        return notifications.stream()
+                .map(notification -> toDTO(notification, readState))
                 .collect(Collectors.toList());
     }
 
     @Override
     public int getUnreadCount(Long userId) {
-        return notificationsRepository.countUnreadByUserId(userId);
+        // Valkey 카운터 우선 (삽입 시 증가, 읽음/삭제 시 감소)
+        Integer cached = valkeyCache.getUnreadCount(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 캐시 미스: 워터마크 이후 알림만 세어 캐싱
+        long watermark = notificationReadStateRepository.fetchWatermark(userId);
+        int count = notificationsRepository.countUnreadByUserId(userId, watermark);
+        valkeyCache.setUnreadCount(userId, count);
+
+        return count;
     }
 
     @Override
@@ -63,13 +108,57 @@ public class GetNotificationServiceImpl implements GetNotificationService {
                 .build();
     }
 
+    /**
+     * 첫 페이지를 Inbox 캐시에서 조회합니다.
+     * 캐시 미스 시 Inbox 크기만큼 DB에서 읽어 캐시를 채운 뒤 요청 크기만 반환
+     * (DB 조회 전에 읽은 버전 이후 쓰기가 있었으면 캐시는 채우지 않음)
+     *
+     * @param userId 사용자 ID
+     * @param size 페이지 크기
+     * @return 알림 DTO 리스트
+     */
+    private List<NotificationDTO> getFirstPage(Long userId, int size) {
+        Long orgId = TenantContext.getRequiredOrgId();
+        Optional<List<NotificationDTO>> cached = notificationInboxCacheService.getFirstPage(orgId, userId, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        int inboxSize = notificationProperties.getInbox().getMaxSize();
+        long version = notificationInboxCacheService.readVersion(orgId, userId);
+        NotificationReadState readState = fetchReadState(userId);
+        List<NotificationDTO> latest = notificationsRepository.fetchByUserId(userId, Math.max(size, inboxSize), 0).stream()
+                .map(notification -> toDTO(notification, readState))
+                .collect(Collectors.toList());
+
+        notificationInboxCacheService.load(orgId, userId, version,
+                latest.subList(0, Math.min(latest.size(), inboxSize)),
+                readState.getLastReadNotificationId(), readState.getLastReadAt());
+
+        return latest.subList(0, Math.min(latest.size(), size));
+    }
+
+    /**
+     * 사용자의 읽음 상태를 조회합니다 (모두 읽음을 한 적 없으면 워터마크 0).
+     */
+    private NotificationReadState fetchReadState(Long userId) {
+        return notificationReadStateRepository.fetchReadState(userId).orElseGet(() -> {
+            NotificationReadState none = new NotificationReadState();
+            none.setLastReadNotificationId(0L);
+            return none;
+        });
+    }
+
     /**
      * Notifications POJO를 NotificationDTO로 변환합니다
+     * 워터마크 이하 알림은 is_read와 무관하게 읽음 (개별 읽음 시각이 없으면 모두 읽음 시각)
      *
      * @param notification Notifications POJO
+     * @param readState 읽음 워터마크와 모두 읽음 시각
      * @return NotificationDTO
      */
-    private NotificationDTO toDTO(Notifications notification) {
+    private NotificationDTO toDTO(Notifications notification, NotificationReadState readState) {
+        boolean belowWatermark = notification.getNotificationId() <= readState.getLastReadNotificationId();
         Map<String, Object> metadata = null;
 
         // JSONB → Map 변환
@@ -89,8 +178,10 @@ public class GetNotificationServiceImpl implements GetNotificationService {
                 .body(notification.getBody())
                 .relatedEntityType(notification.getRelatedEntityType())
                 .relatedEntityId(notification.getRelatedEntityId())
-                .isRead(notification.getIsRead())
-                .readAt(notification.getReadAt())
+                .isRead(Boolean.TRUE.equals(notification.getIsRead()) || belowWatermark)
+                .readAt(notification.getReadAt() == null && belowWatermark
+                        ? readState.getLastReadAt()
+                        : notification.getReadAt())
                 .createdAt(notification.getCreatedAt())
                 .metadata(metadata)
                 .build();
@@ -4,6 +4,7 @@ import com.sungbok.community.dto.GetPostResponseDTO;
 import com.sungbok.community.dto.GetPostsPageResponseDTO;
 import com.sungbok.community.dto.PostSearchVO;
 import com.sungbok.community.repository.PostsRepository;
+import com.sungbok.community.service.get.GetFileService;
 import com.sungbok.community.service.get.GetPostsService;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +19,18 @@ import org.springframework.web.server.ResponseStatusException;
 public class GetPostsServiceImpl implements GetPostsService {
 
     private final PostsRepository postsRepository;
+    private final GetFileService getFileService;
 
     @Override
     public GetPostsPageResponseDTO getPostList(PostSearchVO searchVO) {
 
         //카테고리 체크
 
-        return postsRepository.fetchAllPosts(searchVO);
+        GetPostsPageResponseDTO page = postsRepository.fetchAllPosts(searchVO);
+
+        // 첨부 파일 URL (피드 카드는 파생본 URL 사용)
+        page.getData().forEach(post -> getFileService.attachUrls(post.getFiles()));
+        return page;
     }
 
     @Override
@@ -44,6 +50,7 @@ public class GetPostsServiceImpl implements GetPostsService {
             post.viewCount();
         }
 
+        getFileService.attachUrls(post.getFiles());
         return post;
     }
 }
@@ -0,0 +1,148 @@
+package com.sungbok.community.util;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 인코더 (https://blurha.sh)
+ * 이미지를 20~30자 문자열로 요약해 원본/썸네일이 오기 전 흐린 플레이스홀더로 표시
+ * (예: 4x3 성분 → 28자, 클라이언트는 react-native-blurhash 등으로 디코딩)
+ *
+ * <p>픽셀 수에 비례해 계산하므로 32px 이하로 줄인 이미지를 넘겨야 합니다.</p>
+ *
+ * @since 2.1.0
+ */
+public final class BlurHash {
+
+    private static final String BASE83_CHARS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private BlurHash() {
+    }
+
+    /**
+     * 이미지를 BlurHash 문자열로 인코딩합니다.
+     *
+     * @param image 작게 줄인 이미지 (32px 이하 권장)
+     * @param componentsX 가로 성분 수 (1~9)
+     * @param componentsY 세로 성분 수 (1~9)
+     * @return BlurHash 문자열 (길이 4 + 2 * componentsX * componentsY)
+     * @throws IllegalArgumentException 성분 수가 범위를 벗어난 경우
+     */
+    public static String encode(BufferedImage image, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash 성분 수는 1~9 사이여야 합니다");
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // sRGB → Linear 변환은 픽셀당 한 번만
+        float[] linear = new float[pixels.length * 3];
+        for (int p = 0; p < pixels.length; p++) {
+            linear[p * 3] = srgbToLinear((pixels[p] >> 16) & 0xFF);
+            linear[p * 3 + 1] = srgbToLinear((pixels[p] >> 8) & 0xFF);
+            linear[p * 3 + 2] = srgbToLinear(pixels[p] & 0xFF);
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                factors[j * componentsX + i] = multiplyBasis(linear, width, height, i, j);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder(4 + 2 * factors.length);
+        encodeBase83((componentsX - 1) + (componentsY - 1) * 9, 1, hash);
+
+        double maximumValue = 1;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int f = 1; f < factors.length; f++) {
+                for (double value : factors[f]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(value));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            encodeBase83(quantisedMaximum, 1, hash);
+        } else {
+            encodeBase83(0, 1, hash);
+        }
+
+        encodeBase83(encodeDc(factors[0]), 4, hash);
+        for (int f = 1; f < factors.length; f++) {
+            encodeBase83(encodeAc(factors[f], maximumValue), 2, hash);
+        }
+        return hash.toString();
+    }
+
+    /**
+     * (i, j) 코사인 기저에 대한 RGB 성분
+     */
+    private static double[] multiplyBasis(float[] linear, int width, int height, int i, int j) {
+        double[] cosX = new double[width];
+        for (int x = 0; x < width; x++) {
+            cosX[x] = Math.cos(Math.PI * i * x / width);
+        }
+
+        double r = 0;
+        double g = 0;
+        double b = 0;
+        for (int y = 0; y < height; y++) {
+            double cosY = Math.cos(Math.PI * j * y / height);
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                double basis = cosX[x] * cosY;
+                int p = (row + x) * 3;
+                r += basis * linear[p];
+                g += basis * linear[p + 1];
+                b += basis * linear[p + 2];
+            }
+        }
+
+        double scale = (i == 0 && j == 0 ? 1.0 : 2.0) / (width * height);
+        return new double[]{r * scale, g * scale, b * scale};
+    }
+
+    private static int encodeDc(double[] value) {
+        return (linearToSrgb(value[0]) << 16) + (linearToSrgb(value[1]) << 8) + linearToSrgb(value[2]);
+    }
+
+    private static int encodeAc(double[] value, double maximumValue) {
+        int quantR = quantiseAc(value[0], maximumValue);
+        int quantG = quantiseAc(value[1], maximumValue);
+        int quantB = quantiseAc(value[2], maximumValue);
+        return quantR * 19 * 19 + quantG * 19 + quantB;
+    }
+
+    private static int quantiseAc(double value, double maximumValue) {
+        double normalized = value / maximumValue;
+        double signPow = Math.copySign(Math.sqrt(Math.abs(normalized)), normalized);
+        return (int) Math.max(0, Math.min(18, Math.floor(signPow * 9 + 9.5)));
+    }
+
+    private static float srgbToLinear(int value) {
+        double v = value / 255.0;
+        return (float) (v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4));
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        if (v <= 0.0031308) {
+            return (int) (v * 12.92 * 255 + 0.5);
+        }
+        return (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encodeBase83(int value, int length, StringBuilder target) {
+        int divisor = 1;
+        for (int i = 1; i < length; i++) {
+            divisor *= 83;
+        }
+        for (int i = 0; i < length; i++) {
+            target.append(BASE83_CHARS.charAt((value / divisor) % 83));
+            divisor /= 83;
+        }
+    }
+}
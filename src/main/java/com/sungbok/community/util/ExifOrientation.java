@@ -0,0 +1,128 @@
+package com.sungbok.community.util;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * EXIF Orientation(0x0112) 해석/적용
+ * 휴대폰 카메라는 센서 방향 그대로 저장하고 회전은 EXIF 태그로만 기록하므로,
+ * 태그를 적용하지 않으면 세로 사진의 파생본/크기/BlurHash가 옆으로 누움
+ *
+ * <p>값 1~8: 1 그대로, 2 좌우 반전, 3 180°, 4 상하 반전, 5 전치, 6 시계 90°, 7 역전치, 8 반시계 90°</p>
+ *
+ * @since 2.1.0
+ */
+public final class ExifOrientation {
+
+    public static final int NORMAL = 1;
+
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TIFF_OFFSET = 6;  // "Exif\0\0" 이후
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG APP1 세그먼트 데이터에서 Orientation 값을 읽습니다.
+     *
+     * @param app1 APP1 세그먼트 데이터 ("Exif\0\0" + TIFF 헤더 + IFD0)
+     * @return Orientation (EXIF가 아니거나 태그가 없거나 손상된 경우 1)
+     */
+    public static int parse(byte[] app1) {
+        if (app1 == null || app1.length < TIFF_OFFSET + 8
+                || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f'
+                || app1[4] != 0 || app1[5] != 0) {
+            return NORMAL;
+        }
+
+        boolean littleEndian;
+        if (app1[TIFF_OFFSET] == 'I' && app1[TIFF_OFFSET + 1] == 'I') {
+            littleEndian = true;
+        } else if (app1[TIFF_OFFSET] == 'M' && app1[TIFF_OFFSET + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return NORMAL;
+        }
+        if (readShort(app1, TIFF_OFFSET + 2, littleEndian) != 42) {
+            return NORMAL;
+        }
+
+        long ifdOffset = readInt(app1, TIFF_OFFSET + 4, littleEndian);
+        if (ifdOffset < 8 || TIFF_OFFSET + ifdOffset + 2 > app1.length) {
+            return NORMAL;
+        }
+        int ifd = (int) (TIFF_OFFSET + ifdOffset);
+        int entries = readShort(app1, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > app1.length) {
+                return NORMAL;
+            }
+            if (readShort(app1, entry, littleEndian) == TAG_ORIENTATION) {
+                int value = readShort(app1, entry + 8, littleEndian);  // SHORT 1개는 값 필드 앞 2바이트
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 적용하면 가로/세로가 바뀌는지 여부 (5~8)
+     *
+     * @param orientation Orientation 값
+     * @return 가로/세로 교환 여부
+     */
+    public static boolean swapsDimensions(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * Orientation을 적용해 보이는 방향의 이미지로 변환합니다.
+     *
+     * @param image 저장된 방향의 이미지 (TYPE_CUSTOM이 아닌 타입)
+     * @param orientation Orientation 값
+     * @return 보이는 방향의 이미지 (1이거나 범위 밖이면 원본 그대로)
+     */
+    public static BufferedImage apply(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00·x + m01·y + m02, y' = m10·x + m11·y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean swap = swapsDimensions(orientation);
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, image.getType());
+        Graphics2D graphics = oriented.createGraphics();
+        graphics.drawImage(image, transform, null);
+        graphics.dispose();
+        return oriented;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean littleEndian) {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = data[offset + (littleEndian ? 3 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+}
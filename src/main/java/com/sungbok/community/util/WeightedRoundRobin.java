@@ -0,0 +1,62 @@
+package com.sungbok.community.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smooth Weighted Round-Robin 선택기
+ * 가중치 비율대로 항목을 고르되 같은 항목이 연속으로 몰리지 않도록 분산
+ * (예: 가중치 HIGH=6, NORMAL=3, BULK=1 → 10회 중 6/3/1회, BULK도 반드시 순서가 옴)
+ *
+ * @param <T> 선택 대상 타입
+ * @since 2.1.0
+ */
+public class WeightedRoundRobin<T> {
+
+    private final List<T> items;
+    private final int[] weights;
+    private final int[] current;
+    private final int totalWeight;
+
+    /**
+     * 가중치 Map으로 선택기 생성 (0 이하 가중치 항목은 제외)
+     *
+     * @param weights 항목별 가중치 (순서 유지 Map 권장)
+     * @throws IllegalArgumentException 양수 가중치 항목이 없는 경우
+     */
+    public WeightedRoundRobin(Map<T, Integer> weights) {
+        this.items = new ArrayList<>();
+        List<Integer> positive = new ArrayList<>();
+        weights.forEach((item, weight) -> {
+            if (weight != null && weight > 0) {
+                items.add(item);
+                positive.add(weight);
+            }
+        });
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("양수 가중치 항목이 하나 이상 필요합니다");
+        }
+
+        this.weights = positive.stream().mapToInt(Integer::intValue).toArray();
+        this.current = new int[this.weights.length];
+        this.totalWeight = positive.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 다음 항목을 선택합니다.
+     *
+     * @return 선택된 항목
+     */
+    public synchronized T next() {
+        int best = 0;
+        for (int i = 0; i < weights.length; i++) {
+            current[i] += weights[i];
+            if (current[i] > current[best]) {
+                best = i;
+            }
+        }
+        current[best] -= totalWeight;
+        return items.get(best);
+    }
+}
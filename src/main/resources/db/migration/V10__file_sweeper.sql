@@ -0,0 +1,11 @@
+-- ============================================
+-- FILE SWEEPER
+-- ============================================
+
+-- 삭제된 파일 정리용 (FileSweeperService, 만료된 PENDING은 idx_files_status 사용)
+CREATE INDEX idx_files_deleted ON files (modified_at) WHERE is_deleted = TRUE;
+
+-- 파일 행을 영구 삭제하면 남은 검증 작업도 함께 삭제
+ALTER TABLE file_validation_jobs DROP CONSTRAINT fk_file_validation_jobs_file;
+ALTER TABLE file_validation_jobs ADD CONSTRAINT fk_file_validation_jobs_file
+    FOREIGN KEY (org_id, file_id) REFERENCES files(org_id, file_id) ON DELETE CASCADE;
@@ -0,0 +1,25 @@
+-- ============================================
+-- FILE CONTENT DEDUPLICATION
+-- ============================================
+
+-- 파일 내용 SHA-256 (클라이언트가 보낸 값, 검증 후 불일치면 NULL)
+ALTER TABLE files ADD COLUMN content_sha256 CHAR(64);
+
+COMMENT ON COLUMN files.content_sha256 IS '파일 내용 SHA-256 (hex, 업로드 후 검증에서 불일치하면 NULL)';
+
+-- 같은 내용의 검증된 파일 조회용
+CREATE INDEX idx_files_content ON files (org_id, content_sha256) WHERE content_sha256 IS NOT NULL;
+
+-- file_contents 테이블 (조직별 내용 주소 → 공유 객체, 참조하는 files 행 수)
+CREATE TABLE file_contents (
+    org_id BIGINT NOT NULL,
+    content_sha256 CHAR(64) NOT NULL,
+    object_key VARCHAR(1024) NOT NULL,
+    ref_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (org_id, content_sha256),
+    CONSTRAINT fk_file_contents_org FOREIGN KEY (org_id) REFERENCES organizations(org_id),
+    CONSTRAINT file_contents_ref_count_check CHECK (ref_count > 0)
+);
+
+COMMENT ON TABLE file_contents IS '내용 주소 파일 - 검증된 파일 등록 시 ref_count=1, 중복 업로드마다 +1, 행 영구 삭제마다 -1 (0이 되면 객체와 함께 삭제)';
@@ -0,0 +1,92 @@
+-- ============================================
+-- ORGANIZATION STORAGE USAGE
+-- ============================================
+
+-- org_storage_usage 테이블 (조직별 저장 공간 사용량 카운터, files 트리거로 증분 갱신)
+CREATE TABLE org_storage_usage (
+    org_id BIGINT PRIMARY KEY,
+    used_bytes BIGINT NOT NULL DEFAULT 0,      -- VERIFIED 파일
+    reserved_bytes BIGINT NOT NULL DEFAULT 0,  -- 업로드/검증 중인 파일 (PENDING, UPLOADING, ACTIVE)
+    file_count BIGINT NOT NULL DEFAULT 0,      -- VERIFIED 파일 수
+    reconciled_at TIMESTAMP,
+    modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_org_storage_usage_org FOREIGN KEY (org_id) REFERENCES organizations(org_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE org_storage_usage IS '조직별 저장 공간 사용량 - files 변경 트리거로 같은 트랜잭션에서 갱신, 정기 재집계로 보정';
+COMMENT ON COLUMN org_storage_usage.used_bytes IS '검증 완료(VERIFIED)된 미삭제 파일 크기 합 (중복 제거된 파일도 각각 포함)';
+COMMENT ON COLUMN org_storage_usage.reserved_bytes IS '업로드/검증 중인 미삭제 파일 크기 합 (Pre-signed URL 발급 시 예약)';
+COMMENT ON COLUMN org_storage_usage.reconciled_at IS '마지막 재집계 시각';
+
+-- 저장 공간 한도 (조직 값이 앱 타입 값보다 우선, 둘 다 NULL이면 무제한)
+ALTER TABLE app_types ADD COLUMN storage_quota_bytes BIGINT;
+ALTER TABLE app_types ADD CONSTRAINT chk_app_types_storage_quota_positive
+    CHECK (storage_quota_bytes IS NULL OR storage_quota_bytes > 0);
+COMMENT ON COLUMN app_types.storage_quota_bytes IS '앱 타입 기본 저장 공간 한도 (바이트, NULL이면 무제한)';
+
+ALTER TABLE organizations ADD COLUMN storage_quota_bytes BIGINT;
+ALTER TABLE organizations ADD CONSTRAINT chk_organizations_storage_quota_positive
+    CHECK (storage_quota_bytes IS NULL OR storage_quota_bytes > 0);
+COMMENT ON COLUMN organizations.storage_quota_bytes IS '조직 저장 공간 한도 (바이트, NULL이면 앱 타입 한도)';
+
+-- 파일 행 변경(생성, 검증/거부, 삭제) 시 이전 행의 몫을 빼고 새 행의 몫을 더함
+-- 상태별 몫: VERIFIED → used, PENDING/UPLOADING/ACTIVE → reserved, 그 외(REJECTED, ABORTED)와 소프트 삭제 → 없음
+CREATE FUNCTION apply_files_storage_usage() RETURNS trigger AS $$
+DECLARE
+    target_org_id BIGINT;
+    used_delta BIGINT := 0;
+    reserved_delta BIGINT := 0;
+    count_delta BIGINT := 0;
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND NOT COALESCE(OLD.is_deleted, FALSE) THEN
+        target_org_id := OLD.org_id;
+        IF OLD.status = 'VERIFIED' THEN
+            used_delta := used_delta - COALESCE(OLD.file_size, 0);
+            count_delta := count_delta - 1;
+        ELSIF OLD.status IN ('PENDING', 'UPLOADING', 'ACTIVE') THEN
+            reserved_delta := reserved_delta - COALESCE(OLD.file_size, 0);
+        END IF;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NOT COALESCE(NEW.is_deleted, FALSE) THEN
+        target_org_id := NEW.org_id;
+        IF NEW.status = 'VERIFIED' THEN
+            used_delta := used_delta + COALESCE(NEW.file_size, 0);
+            count_delta := count_delta + 1;
+        ELSIF NEW.status IN ('PENDING', 'UPLOADING', 'ACTIVE') THEN
+            reserved_delta := reserved_delta + COALESCE(NEW.file_size, 0);
+        END IF;
+    END IF;
+
+    IF used_delta <> 0 OR reserved_delta <> 0 OR count_delta <> 0 THEN
+        INSERT INTO org_storage_usage (org_id, used_bytes, reserved_bytes, file_count)
+        VALUES (target_org_id, used_delta, reserved_delta, count_delta)
+        ON CONFLICT (org_id) DO UPDATE SET
+            used_bytes = org_storage_usage.used_bytes + EXCLUDED.used_bytes,
+            reserved_bytes = org_storage_usage.reserved_bytes + EXCLUDED.reserved_bytes,
+            file_count = org_storage_usage.file_count + EXCLUDED.file_count,
+            modified_at = CURRENT_TIMESTAMP;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_files_storage_usage
+    AFTER INSERT OR DELETE OR UPDATE OF status, is_deleted, file_size ON files
+    FOR EACH ROW
+    EXECUTE FUNCTION apply_files_storage_usage();
+
+-- 기존 파일 집계
+INSERT INTO org_storage_usage (org_id, used_bytes, reserved_bytes, file_count, reconciled_at)
+SELECT org_id,
+       COALESCE(SUM(file_size) FILTER (WHERE status = 'VERIFIED'), 0),
+       COALESCE(SUM(file_size) FILTER (WHERE status IN ('PENDING', 'UPLOADING', 'ACTIVE')), 0),
+       COUNT(*) FILTER (WHERE status = 'VERIFIED'),
+       CURRENT_TIMESTAMP
+FROM files
+WHERE NOT COALESCE(is_deleted, FALSE)
+GROUP BY org_id;
+
+-- 저장 공간 사용량 조회 권한 (마을장)
+INSERT INTO role_permissions (role_id, resource, action, allowed) VALUES
+(3, 'storage', 'read', TRUE);
@@ -0,0 +1,9 @@
+-- ============================================
+-- PUSH TOKEN DEVICE
+-- ============================================
+
+-- 기기 ID (캐시에 토큰이 없어도 기기 단위로 등록 해제하기 위함, 기존 행은 NULL)
+ALTER TABLE push_tokens ADD COLUMN device_id VARCHAR(255);
+COMMENT ON COLUMN push_tokens.device_id IS '클라이언트 기기 ID (Push Token 등록 해제 기준, 이전에 등록된 토큰은 NULL)';
+
+CREATE INDEX idx_push_tokens_user_device ON push_tokens (org_id, user_id, device_id) WHERE is_deleted = FALSE;
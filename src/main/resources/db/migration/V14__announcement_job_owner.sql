@@ -0,0 +1,11 @@
+-- ============================================
+-- ANNOUNCEMENT JOB OWNERSHIP
+-- ============================================
+
+-- 실행 소유자 (선점할 때마다 새로 발급, 커서/heartbeat 갱신은 소유자가 일치할 때만 반영)
+ALTER TABLE announcement_jobs ADD COLUMN owner_id VARCHAR(36);
+COMMENT ON COLUMN announcement_jobs.owner_id IS '현재 실행 소유자 (선점 시 발급, 다른 노드가 재선점하면 이전 소유자의 갱신은 무시됨)';
+
+-- 실행 횟수 (실패한 작업은 이 횟수가 한도 미만일 때만 자동 재개)
+ALTER TABLE announcement_jobs ADD COLUMN run_count INT NOT NULL DEFAULT 0;
+COMMENT ON COLUMN announcement_jobs.run_count IS '선점(실행) 횟수 - FAILED 작업 자동 재개 한도 확인용';
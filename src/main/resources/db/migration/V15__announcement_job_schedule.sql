@@ -0,0 +1,8 @@
+-- ============================================
+-- ANNOUNCEMENT JOB SCHEDULE IDEMPOTENCY
+-- ============================================
+
+-- 예약 공지의 예약 ID (스케줄러 lease 만료 후 재선점되어도 작업은 1개만 생성)
+ALTER TABLE announcement_jobs ADD COLUMN schedule_id VARCHAR(36);
+ALTER TABLE announcement_jobs ADD CONSTRAINT uq_announcement_jobs_schedule UNIQUE (schedule_id);
+COMMENT ON COLUMN announcement_jobs.schedule_id IS '예약 공지의 예약 ID (멱등 키, 즉시 발송 공지는 NULL)';
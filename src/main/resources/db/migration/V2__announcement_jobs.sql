@@ -0,0 +1,47 @@
+-- ============================================
+-- ANNOUNCEMENT FAN-OUT JOBS
+-- ============================================
+
+-- announcement_jobs 테이블 (조직 전체 공지 발송 작업)
+CREATE TABLE announcement_jobs (
+    job_id BIGSERIAL PRIMARY KEY,
+    org_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    metadata JSONB,  -- 푸시 data (딥링크 등)
+
+    -- 진행 상태
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',  -- PENDING, RUNNING, COMPLETED, FAILED
+    inserted_through_user_id BIGINT NOT NULL DEFAULT 0,  -- 알림 INSERT 완료 커서 (user_id 오름차순)
+    pushed_through_user_id BIGINT NOT NULL DEFAULT 0,  -- 푸시 전송 완료 커서
+    inserted_count INT NOT NULL DEFAULT 0,
+    pushed_count INT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    heartbeat_at TIMESTAMP,  -- 실행 노드 생존 확인 (오래되면 다른 노드가 재개)
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    -- 감사 필드
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by BIGINT,
+
+    CONSTRAINT fk_announcement_jobs_org FOREIGN KEY (org_id) REFERENCES organizations(org_id),
+    CONSTRAINT chk_announcement_job_status_valid CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_announcement_jobs_org_created ON announcement_jobs(org_id, created_at DESC);
+CREATE INDEX idx_announcement_jobs_status ON announcement_jobs(status, heartbeat_at);
+
+COMMENT ON TABLE announcement_jobs IS '조직 전체 공지 발송 작업 - user_id 커서로 진행 상황 기록 (재시작 시 이어서 발송)';
+COMMENT ON COLUMN announcement_jobs.inserted_through_user_id IS '이 user_id까지 notifications INSERT 완료 (INSERT와 같은 트랜잭션에서 갱신)';
+COMMENT ON COLUMN announcement_jobs.pushed_through_user_id IS '이 user_id까지 푸시 전송 완료';
+
+-- 공지 작업별 알림 조회 (재개 시 미전송 구간 푸시)
+CREATE INDEX idx_notifications_org_related ON notifications(org_id, related_entity_type, related_entity_id, user_id);
+
+-- 공지 발송 권한 (마을장)
+INSERT INTO role_permissions (role_id, resource, action, allowed) VALUES
+(3, 'announcements', 'create', TRUE),
+(3, 'announcements', 'read', TRUE);
@@ -0,0 +1,18 @@
+-- ============================================
+-- NOTIFICATION PREFERENCE BITMASK
+-- ============================================
+
+-- 알림 타입별 고정 비트 (NotificationType과 동일, 변경 금지)
+-- bit 0: MEMBERSHIP_APPROVED, bit 1: MEMBERSHIP_REJECTED, bit 2: POST_COMMENT,
+-- bit 3: POST_LIKE, bit 4: ADMIN_ANNOUNCEMENT
+ALTER TABLE notification_settings ADD COLUMN preference_mask INT NOT NULL DEFAULT 31;
+
+-- 기존 JSONB 설정에서 비트마스크 계산 (키가 없으면 활성화)
+UPDATE notification_settings SET preference_mask =
+      (CASE WHEN COALESCE((notification_preferences->>'membership_approved')::boolean, TRUE) THEN 1 ELSE 0 END)
+    | (CASE WHEN COALESCE((notification_preferences->>'membership_rejected')::boolean, TRUE) THEN 2 ELSE 0 END)
+    | (CASE WHEN COALESCE((notification_preferences->>'post_comment')::boolean, TRUE) THEN 4 ELSE 0 END)
+    | (CASE WHEN COALESCE((notification_preferences->>'post_like')::boolean, TRUE) THEN 8 ELSE 0 END)
+    | (CASE WHEN COALESCE((notification_preferences->>'admin_announcement')::boolean, TRUE) THEN 16 ELSE 0 END);
+
+COMMENT ON COLUMN notification_settings.preference_mask IS '알림 타입별 활성화 비트마스크 (notification_preferences에서 파생, 푸시 대상 필터링용)';
@@ -0,0 +1,35 @@
+-- ============================================
+-- NOTIFICATION READ WATERMARK
+-- ============================================
+
+-- notification_read_state 테이블 (사용자별 읽음 워터마크)
+-- notification_id <= last_read_notification_id 인 알림은 모두 읽음으로 간주
+-- 워터마크보다 큰 알림의 개별 읽음은 notifications.is_read로 기록 (희소)
+CREATE TABLE notification_read_state (
+    id BIGSERIAL PRIMARY KEY,
+    org_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    last_read_notification_id BIGINT NOT NULL DEFAULT 0,
+    last_read_at TIMESTAMP,
+
+    -- 감사 필드
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_notification_read_state_org FOREIGN KEY (org_id) REFERENCES organizations(org_id),
+    CONSTRAINT fk_notification_read_state_user FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT notification_read_state_org_user_unique UNIQUE (org_id, user_id)
+);
+
+COMMENT ON TABLE notification_read_state IS '사용자별 알림 읽음 워터마크 - 모두 읽음 처리는 이 행 1개만 갱신';
+
+-- 최신 알림 ID 조회, 워터마크 이후 안 읽은 개수 계산 (인덱스 범위 스캔)
+CREATE INDEX idx_notifications_org_user_id ON notifications(org_id, user_id, notification_id DESC);
+
+-- 기존 읽음 데이터 이관: 안 읽은 알림이 없는 사용자는 최신 ID를 워터마크로
+INSERT INTO notification_read_state (org_id, user_id, last_read_notification_id, last_read_at)
+SELECT org_id, user_id, MAX(notification_id), CURRENT_TIMESTAMP
+FROM notifications
+WHERE is_deleted = FALSE
+GROUP BY org_id, user_id
+HAVING BOOL_AND(is_read);
@@ -0,0 +1,26 @@
+-- ============================================
+-- NOTIFICATION OUTBOX
+-- ============================================
+
+-- notification_outbox 테이블 (도메인 트랜잭션과 함께 커밋되는 알림 이벤트)
+CREATE TABLE notification_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    org_id BIGINT NOT NULL,
+    payload JSONB NOT NULL,  -- NotificationEvent JSON
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE notification_outbox IS '알림 Outbox - 도메인 변경과 같은 트랜잭션에서 INSERT, Relay가 큐로 옮긴 뒤 DELETE';
+
+-- INSERT 커밋 시 Relay 깨우기 (NOTIFY는 커밋될 때만 전달, 롤백되면 버려짐)
+CREATE FUNCTION notify_notification_outbox() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('notification_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_notification_outbox_notify
+    AFTER INSERT ON notification_outbox
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_notification_outbox();
@@ -0,0 +1,102 @@
+-- ============================================
+-- NOTIFICATIONS MONTHLY PARTITIONS
+-- ============================================
+
+-- 기존 테이블을 옮겨두고 created_at 월 단위 RANGE 파티션 테이블로 재생성
+-- 이후 파티션 생성/만료 삭제는 애플리케이션(NotificationPartitionService)이 관리
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+ALTER INDEX notifications_pkey RENAME TO notifications_unpartitioned_pkey;
+DROP INDEX idx_notifications_org_user;
+DROP INDEX idx_notifications_org_user_read;
+DROP INDEX idx_notifications_org_created;
+DROP INDEX idx_notifications_org_related;
+DROP INDEX idx_notifications_org_user_id;
+
+CREATE TABLE notifications (
+    notification_id BIGINT NOT NULL DEFAULT nextval('notifications_notification_id_seq'),
+    org_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    notification_type VARCHAR(50) NOT NULL,  -- POST_COMMENT, POST_LIKE, MEMBERSHIP_APPROVED, MEMBERSHIP_REJECTED, ADMIN_ANNOUNCEMENT
+    title VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+
+    -- 관련 엔티티
+    related_entity_type VARCHAR(50),  -- post, comment, membership, announcement
+    related_entity_id BIGINT,
+
+    -- 읽음 상태 (알림 히스토리용)
+    is_read BOOLEAN DEFAULT FALSE,
+    read_at TIMESTAMP,
+
+    -- 푸시 전송 상태
+    push_sent BOOLEAN DEFAULT FALSE,
+    push_sent_at TIMESTAMP,
+    push_status push_status,
+    push_error_message TEXT,
+
+    -- 메타데이터
+    metadata JSONB,
+
+    -- 감사 필드
+    is_deleted BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 파티션 키
+    created_by BIGINT,
+    modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by BIGINT,
+
+    CONSTRAINT notifications_pkey PRIMARY KEY (notification_id, created_at),
+    CONSTRAINT fk_notifications_org FOREIGN KEY (org_id) REFERENCES organizations(org_id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT chk_notification_type_valid CHECK (notification_type IN (
+        'MEMBERSHIP_APPROVED', 'MEMBERSHIP_REJECTED',
+        'POST_COMMENT', 'POST_LIKE', 'ADMIN_ANNOUNCEMENT'
+    )),
+    CONSTRAINT chk_push_status_valid CHECK (push_status IN ('OK', 'ERROR', 'INVALID_TOKEN'))
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE notifications_notification_id_seq OWNED BY notifications.notification_id;
+
+-- 기존 데이터 구간 ~ 3개월 후까지 월 파티션 생성 (notifications_pYYYYMM)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(COALESCE(created_at, modified_at)) FROM notifications_unpartitioned), CURRENT_TIMESTAMP))::DATE;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::DATE;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       'notifications_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + INTERVAL '1 month')::DATE);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO notifications (
+    notification_id, org_id, user_id, notification_type, title, body,
+    related_entity_type, related_entity_id, is_read, read_at,
+    push_sent, push_sent_at, push_status, push_error_message, metadata,
+    is_deleted, created_at, created_by, modified_at, modified_by)
+SELECT
+    notification_id, org_id, user_id, notification_type, title, body,
+    related_entity_type, related_entity_id, is_read, read_at,
+    push_sent, push_sent_at, push_status, push_error_message, metadata,
+    is_deleted, COALESCE(created_at, modified_at, CURRENT_TIMESTAMP), created_by, modified_at, modified_by
+FROM notifications_unpartitioned;
+
+DROP TABLE notifications_unpartitioned;
+
+-- 파티션별로 생성되는 인덱스 (파티션이 작게 유지되어 인덱스/VACUUM 비용이 보존 기간에만 비례)
+-- (org_id, user_id)와 (org_id, user_id, is_read)는 아래 id 인덱스의 선두 컬럼으로 대체
+CREATE INDEX idx_notifications_org_user_id ON notifications(org_id, user_id, notification_id DESC);
+CREATE INDEX idx_notifications_org_created ON notifications(org_id, created_at DESC);
+CREATE INDEX idx_notifications_org_related ON notifications(org_id, related_entity_type, related_entity_id, user_id);
+
+COMMENT ON COLUMN notifications.is_read IS '사용자가 읽었는지 여부 (앱 알림함용)';
+COMMENT ON COLUMN notifications.read_at IS '읽은 시각';
+COMMENT ON TABLE notifications IS '알림 이력 - 이벤트 발생 시점에 즉시 INSERT (created_at 월 단위 파티션, 보존 기간 지나면 파티션 삭제)';
+
+-- 조직별 알림 보존 기간 (NULL이면 notification.partition.default-retention-months)
+ALTER TABLE organizations ADD COLUMN notification_retention_months INT;
+ALTER TABLE organizations ADD CONSTRAINT chk_notification_retention_positive
+    CHECK (notification_retention_months IS NULL OR notification_retention_months > 0);
+COMMENT ON COLUMN organizations.notification_retention_months IS '알림 보존 기간 (개월, NULL이면 기본값)';
@@ -0,0 +1,41 @@
+-- ============================================
+-- FILE VALIDATION JOBS
+-- ============================================
+
+-- file_validation_jobs 테이블 (업로드 완료와 같은 트랜잭션에서 INSERT, 재시작해도 유실되지 않는 검증 작업 큐)
+CREATE TABLE file_validation_jobs (
+    job_id BIGSERIAL PRIMARY KEY,
+    org_id BIGINT NOT NULL,
+    file_id BIGINT NOT NULL,
+    object_key VARCHAR(1024) NOT NULL,
+    mime_type VARCHAR(100) NOT NULL,
+    file_size BIGINT NOT NULL,
+    priority INT NOT NULL,  -- 0: 이미지, 1: 문서, 2: 동영상 (작을수록 먼저)
+    attempts INT NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 다음 실행 가능 시각 (선점 시 lease 만료 시각)
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_file_validation_jobs_file FOREIGN KEY (org_id, file_id) REFERENCES files(org_id, file_id),
+    CONSTRAINT file_validation_jobs_file_unique UNIQUE (file_id)
+);
+
+COMMENT ON TABLE file_validation_jobs IS '파일 검증 작업 큐 - Worker가 FOR UPDATE SKIP LOCKED로 선점, 완료 시 DELETE';
+COMMENT ON COLUMN file_validation_jobs.available_at IS '실행 가능 시각: 대기 중이면 재시도 시각, 선점되면 lease 만료 시각 (노드 장애 시 재선점)';
+
+CREATE INDEX idx_file_validation_jobs_ready ON file_validation_jobs (priority, available_at);
+
+-- 업로드 완료(ACTIVE) 후 검증되지 않은 기존 파일을 작업으로 등록 (@Async 이벤트 유실분 복구)
+INSERT INTO file_validation_jobs (org_id, file_id, object_key, mime_type, file_size, priority)
+SELECT org_id,
+       file_id,
+       file_path,
+       mime_type,
+       file_size,
+       CASE
+           WHEN mime_type LIKE 'image/%' THEN 0
+           WHEN mime_type LIKE 'video/%' THEN 2
+           ELSE 1
+       END
+FROM files
+WHERE status = 'ACTIVE'
+  AND is_deleted = FALSE;
@@ -0,0 +1,15 @@
+-- ============================================
+-- FILE IMAGE DERIVATIVES
+-- ============================================
+
+-- 이미지 검증 단계에서 생성한 파생본(썸네일/WebP)과 플레이스홀더 정보
+ALTER TABLE files
+    ADD COLUMN width INT,
+    ADD COLUMN height INT,
+    ADD COLUMN blurhash VARCHAR(100),
+    ADD COLUMN variants JSONB;
+
+COMMENT ON COLUMN files.width IS '이미지 원본 너비 (px)';
+COMMENT ON COLUMN files.height IS '이미지 원본 높이 (px)';
+COMMENT ON COLUMN files.blurhash IS '로딩 전 표시할 BlurHash 플레이스홀더';
+COMMENT ON COLUMN files.variants IS '파생본 목록. 예: {"thumb": {"objectKey": "1/post/2025/12/uuid_thumb.webp", "width": 320, "height": 240, "mimeType": "image/webp", "size": 18234}}';
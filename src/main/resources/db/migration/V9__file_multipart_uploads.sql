@@ -0,0 +1,35 @@
+-- ============================================
+-- FILE MULTIPART UPLOADS
+-- ============================================
+
+-- 멀티파트 업로드 상태 추가
+-- UPLOADING: 멀티파트 업로드 진행 중 (완료 시 ACTIVE)
+-- ABORTED: 취소되었거나 오래 방치되어 정리됨 (is_deleted = TRUE)
+ALTER TABLE files DROP CONSTRAINT files_status_check;
+ALTER TABLE files ADD CONSTRAINT files_status_check
+    CHECK (status IN ('PENDING', 'UPLOADING', 'ACTIVE', 'VERIFIED', 'REJECTED', 'ABORTED'));
+
+ALTER TABLE files
+    ADD COLUMN upload_id VARCHAR(1024),
+    ADD COLUMN part_size BIGINT,
+    ADD COLUMN part_count INT;
+
+COMMENT ON COLUMN files.upload_id IS 'S3 멀티파트 업로드 ID (UPLOADING 상태에서만 존재)';
+COMMENT ON COLUMN files.part_size IS '멀티파트 파트 크기 (바이트, 마지막 파트는 더 작을 수 있음)';
+COMMENT ON COLUMN files.part_count IS '멀티파트 전체 파트 수';
+
+-- 방치된 멀티파트 업로드 정리용 (MultipartUploadCleanupService)
+CREATE INDEX idx_files_uploading ON files (modified_at) WHERE status = 'UPLOADING';
+
+-- file_upload_parts 테이블 (클라이언트가 보고한 완료 파트, 재개 시 남은 파트 계산)
+CREATE TABLE file_upload_parts (
+    org_id BIGINT NOT NULL,
+    file_id BIGINT NOT NULL,
+    part_number INT NOT NULL,  -- 1부터 시작
+    etag VARCHAR(255) NOT NULL,
+    uploaded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (file_id, part_number),
+    CONSTRAINT fk_file_upload_parts_file FOREIGN KEY (org_id, file_id) REFERENCES files(org_id, file_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE file_upload_parts IS '멀티파트 업로드 완료 파트 - 업로드 완료/취소 시 삭제';
@@ -0,0 +1,385 @@
+package com.sungbok.community.integration.file;
+
+import com.sungbok.community.config.FileSweeperProperties;
+import com.sungbok.community.dto.FileUploadRequest;
+import com.sungbok.community.dto.FileValidationResult;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.FileContentsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.service.FFmpegService;
+import com.sungbok.community.service.FileSweeperService;
+import com.sungbok.community.service.FileTypeDetector;
+import com.sungbok.community.service.FileValidator;
+import com.sungbok.community.service.ImageDerivativeService;
+import com.sungbok.community.service.OciStorageService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.jooq.generated.tables.pojos.Files;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.jooq.generated.Tables.FILES;
+import static org.jooq.generated.Tables.FILE_CONTENTS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 업로드 내용 중복 제거 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 같은 내용/크기의 검증된 파일이 있으면 업로드 URL 없이 공유 객체를 참조하는 VERIFIED 파일 생성
+ * - 처음 보는 내용이면 체크섬을 서명한 업로드 URL 발급, 해시는 PENDING 파일에 기록
+ * - 검증 단계에서 저장소 체크섬과 해시가 일치하면 내용 등록 (본문 다운로드 없음, 동영상 포함)
+ * - 저장소 체크섬과 다르면 해시 삭제, 등록하지 않음
+ * - 정리 작업은 다른 파일이 참조 중인 공유 객체를 삭제하지 않음
+ *
+ * @since 2.1.0
+ */
+@DisplayName("업로드 중복 제거 통합 테스트")
+public class FileDedupIntegrationTest extends BaseIntegrationTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";  // "test"
+    private static final String SHA256_BASE64 = "n4bQgYhMfWWaL+qgxVrQFaO/TxsrC4Is0V1sFbDwCgg=";
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private FileContentsRepository fileContentsRepository;
+
+    @Autowired
+    private FileSweeperService fileSweeperService;
+
+    @Autowired
+    private FileValidator fileValidator;
+
+    @Autowired
+    private FileSweeperProperties fileSweeperProperties;
+
+    @MockitoBean
+    private OciStorageService ociStorageService;
+
+    @MockitoBean
+    private FileTypeDetector fileTypeDetector;
+
+    @MockitoBean
+    private ImageDerivativeService imageDerivativeService;
+
+    @MockitoBean
+    private FFmpegService ffmpegService;
+
+    private UserMemberDTO testUser;
+    private String accessToken;
+    private Long testOrgId;
+    private long originalDeletedGraceMinutes;
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+
+        testUser = UserFixture.builder()
+                .email("dedup@test.com")
+                .name("중복 제거 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+        accessToken = jwtTokenProvider.generateAccessToken(testUser);
+
+        when(ociStorageService.generatePresignedUploadUrl(anyString(), anyString(), anyLong(), any(), any()))
+                .thenReturn("https://objectstorage.ap-seoul-1.oraclecloud.com/p/mock-presigned-url");
+        when(ociStorageService.buildObjectKey(anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> String.format("orgs/%d/%s/%s",
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        when(ociStorageService.deleteFiles(anyCollection())).thenReturn(Set.of());
+        when(ociStorageService.fetchObjectSize(anyString())).thenReturn(2048L);
+        when(fileTypeDetector.detect(any(FileTypeDetector.RangeSource.class))).thenReturn("image/jpeg");
+
+        originalDeletedGraceMinutes = fileSweeperProperties.getDeletedGraceMinutes();
+    }
+
+    @AfterEach
+    void restore() {
+        fileSweeperProperties.setDeletedGraceMinutes(originalDeletedGraceMinutes);
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 검증 완료되고 내용이 등록된 파일 생성 헬퍼
+     */
+    private Files createRegisteredFile(String filename) {
+        Files file = new Files();
+        file.setOrgId(testOrgId);
+        file.setRelatedEntityId(1L);
+        file.setRelatedEntityType("post");
+        file.setOriginalFilename(filename);
+        file.setStoredFilename(filename);
+        file.setFilePath("orgs/" + testOrgId + "/post/" + filename);
+        file.setFileSize(2048L);
+        file.setMimeType("image/jpeg");
+        file.setUploaderId(testUser.getUserId());
+        file.setStatus("VERIFIED");
+        file.setIsDeleted(false);
+        file.setContentSha256(SHA256);
+        file.setCreatedAt(LocalDateTime.now());
+        file.setModifiedAt(LocalDateTime.now());
+
+        Files inserted = filesRepository.insert(file);
+        fileContentsRepository.register(SHA256, inserted.getFilePath());
+        return inserted;
+    }
+
+    /**
+     * 업로드 완료(ACTIVE)된 검증 대기 파일 생성 헬퍼
+     */
+    private Files createUploadedFile(String filename, String mimeType, String contentSha256) {
+        Files file = new Files();
+        file.setOrgId(testOrgId);
+        file.setRelatedEntityId(2L);
+        file.setRelatedEntityType("post");
+        file.setOriginalFilename(filename);
+        file.setStoredFilename(filename);
+        file.setFilePath("orgs/" + testOrgId + "/post/" + filename);
+        file.setFileSize(2048L);
+        file.setMimeType(mimeType);
+        file.setUploaderId(testUser.getUserId());
+        file.setStatus("ACTIVE");
+        file.setIsDeleted(false);
+        file.setContentSha256(contentSha256);
+        file.setCreatedAt(LocalDateTime.now());
+        file.setModifiedAt(LocalDateTime.now());
+
+        return filesRepository.insert(file);
+    }
+
+    private FileValidationJobs jobFor(Files file) {
+        FileValidationJobs job = new FileValidationJobs();
+        job.setOrgId(testOrgId);
+        job.setFileId(file.getFileId());
+        job.setObjectKey(file.getFilePath());
+        job.setMimeType(file.getMimeType());
+        job.setFileSize(file.getFileSize());
+        job.setAttempts(1);
+        return job;
+    }
+
+    private FileUploadRequest createRequest(String filename, String contentSha256) {
+        return createRequest(filename, contentSha256, 2048L);
+    }
+
+    private FileUploadRequest createRequest(String filename, String contentSha256, long fileSize) {
+        return FileUploadRequest.builder()
+                .originalFilename(filename)
+                .mimeType("image/jpeg")
+                .fileSize(fileSize)
+                .relatedEntityId(2L)
+                .relatedEntityType("post")
+                .contentSha256(contentSha256)
+                .build();
+    }
+
+    private Integer refCount() {
+        return dsl.select(FILE_CONTENTS.REF_COUNT)
+                .from(FILE_CONTENTS)
+                .where(FILE_CONTENTS.ORG_ID.eq(testOrgId))
+                .and(FILE_CONTENTS.CONTENT_SHA256.eq(SHA256))
+                .fetchOne(FILE_CONTENTS.REF_COUNT);
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("POST /files/upload-presigned - 같은 내용의 검증된 파일 존재 - 업로드 URL 없이 공유 객체 참조")
+    void testCreatePresignedUploadUrl_DuplicateContent_ShouldSkipUpload() throws Exception {
+        // Given
+        Files original = createRegisteredFile("original.jpg");
+
+        // When
+        MvcResult result = mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("copy.jpg", SHA256.toUpperCase()))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deduplicated").value(true))
+                .andExpect(jsonPath("$.uploadUrl").doesNotExist())
+                .andExpect(jsonPath("$.objectKey").value(original.getFilePath()))
+                .andReturn();
+
+        // Then: 공유 객체를 참조하는 VERIFIED 파일, 참조 수 증가, 업로드 URL 미발급
+        Long fileId = objectMapper.readTree(result.getResponse().getContentAsString()).get("fileId").asLong();
+        Files deduplicated = filesRepository.fetchById(fileId).orElseThrow();
+        assertEquals("VERIFIED", deduplicated.getStatus());
+        assertEquals(original.getFilePath(), deduplicated.getFilePath());
+        assertEquals("copy.jpg", deduplicated.getOriginalFilename());
+        assertEquals(2, refCount());
+        verify(ociStorageService, never()).generatePresignedUploadUrl(anyString(), anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /files/upload-presigned - 같은 해시, 다른 크기 - 참조하지 않고 업로드 URL 발급")
+    void testCreatePresignedUploadUrl_SizeMismatch_ShouldReturnUploadUrl() throws Exception {
+        // Given
+        createRegisteredFile("original.jpg");
+
+        // When & Then
+        mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("other.jpg", SHA256, 4096L))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deduplicated").value(false))
+                .andExpect(jsonPath("$.uploadUrl").value(containsString("objectstorage")));
+        assertEquals(1, refCount());
+    }
+
+    @Test
+    @DisplayName("POST /files/upload-presigned - 등록된 내용 없음 - 체크섬을 서명한 업로드 URL 발급 및 해시 기록")
+    void testCreatePresignedUploadUrl_NewContent_ShouldSignChecksum() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("new.jpg", SHA256))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uploadUrl").value(containsString("objectstorage")))
+                .andExpect(jsonPath("$.checksumSha256").value(SHA256_BASE64))
+                .andReturn();
+
+        // Then: PENDING 파일에 해시 기록 (검증 후 등록), 저장소가 PUT 시 내용과 비교하도록 서명
+        Long fileId = objectMapper.readTree(result.getResponse().getContentAsString()).get("fileId").asLong();
+        Files pending = filesRepository.fetchById(fileId).orElseThrow();
+        assertEquals("PENDING", pending.getStatus());
+        assertEquals(SHA256, pending.getContentSha256());
+        assertNull(refCount());
+        verify(ociStorageService).generatePresignedUploadUrl(
+                eq(pending.getFilePath()), eq("image/jpeg"), eq(2048L), eq(SHA256), any());
+    }
+
+    @Test
+    @DisplayName("검증 - 저장소 체크섬 일치 - 본문 다운로드 없이 내용 등록")
+    void testValidate_ChecksumMatches_ShouldRegisterContent() {
+        // Given
+        Files uploaded = createUploadedFile("new.jpg", "image/jpeg", SHA256);
+        when(ociStorageService.fetchChecksumSha256(uploaded.getFilePath())).thenReturn(SHA256);
+
+        // When
+        fileValidator.validate(jobFor(uploaded));
+
+        // Then
+        assertEquals(SHA256, filesRepository.fetchById(uploaded.getFileId()).orElseThrow().getContentSha256());
+        assertEquals(1, refCount());
+        assertEquals(uploaded.getFilePath(), fileContentsRepository.fetchObjectKey(SHA256).orElseThrow());
+        verify(ociStorageService, never()).downloadFull(anyString());
+    }
+
+    @Test
+    @DisplayName("검증 - 저장소 체크섬 불일치/없음 - 해시 삭제, 등록하지 않음")
+    void testValidate_ChecksumMismatch_ShouldClearHash() {
+        // Given: 체크섬 헤더 없이 업로드된 객체
+        Files uploaded = createUploadedFile("forged.jpg", "image/jpeg", SHA256);
+        when(ociStorageService.fetchChecksumSha256(uploaded.getFilePath())).thenReturn(null);
+
+        // When
+        fileValidator.validate(jobFor(uploaded));
+
+        // Then
+        assertNull(filesRepository.fetchById(uploaded.getFileId()).orElseThrow().getContentSha256());
+        assertNull(refCount());
+        verify(imageDerivativeService).generate(any());
+    }
+
+    @Test
+    @DisplayName("검증 - 동영상 - 전체 다운로드 없이 체크섬 확인 후 내용 등록")
+    void testValidate_Video_ShouldRegisterWithoutDownload() {
+        // Given
+        when(fileTypeDetector.detect(any(FileTypeDetector.RangeSource.class))).thenReturn("video/mp4");
+        when(ffmpegService.extractVideoMetadata(anyString())).thenReturn(FileValidationResult.builder()
+                .valid(true)
+                .duration(10.0)
+                .resolution("1280x720")
+                .codec("h264")
+                .build());
+        Files uploaded = createUploadedFile("clip.mp4", "video/mp4", SHA256);
+        when(ociStorageService.fetchChecksumSha256(uploaded.getFilePath())).thenReturn(SHA256);
+
+        // When
+        fileValidator.validate(jobFor(uploaded));
+
+        // Then
+        Files validated = filesRepository.fetchById(uploaded.getFileId()).orElseThrow();
+        assertEquals("VERIFIED", validated.getStatus());
+        assertEquals(SHA256, validated.getContentSha256());
+        assertEquals(1, refCount());
+        verify(ociStorageService, never()).downloadFull(anyString());
+    }
+
+    @Test
+    @DisplayName("POST /files/upload-presigned - 잘못된 해시 형식 - 400 Bad Request")
+    void testCreatePresignedUploadUrl_InvalidHash_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("bad.jpg", "not-a-sha256"))))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("정리 작업 - 공유 객체는 마지막 참조가 삭제될 때만 삭제")
+    void testSweep_SharedObject_ShouldDeleteOnLastReference() {
+        // Given: 같은 객체를 참조하는 파일 2개 중 하나 삭제
+        Files original = createRegisteredFile("shared.jpg");
+        fileContentsRepository.incrementRefCount(SHA256, original.getFilePath());
+        Files copy = new Files();
+        copy.setOrgId(testOrgId);
+        copy.setRelatedEntityId(2L);
+        copy.setRelatedEntityType("post");
+        copy.setOriginalFilename("shared-copy.jpg");
+        copy.setStoredFilename("shared-copy.jpg");
+        copy.setFilePath(original.getFilePath());
+        copy.setFileSize(2048L);
+        copy.setMimeType("image/jpeg");
+        copy.setUploaderId(testUser.getUserId());
+        copy.setStatus("VERIFIED");
+        copy.setIsDeleted(true);
+        copy.setContentSha256(SHA256);
+        copy.setCreatedAt(LocalDateTime.now().minusDays(1));
+        copy.setModifiedAt(LocalDateTime.now().minusDays(1));
+        copy = filesRepository.insert(copy);
+
+        // When
+        fileSweeperService.sweep();
+
+        // Then: 행만 삭제, 객체 유지, 참조 수 1
+        assertFalse(dsl.fetchExists(FILES, FILES.FILE_ID.eq(copy.getFileId())));
+        verify(ociStorageService, never()).deleteFiles(anyCollection());
+        assertEquals(1, refCount());
+
+        // When: 마지막 참조 삭제 (방금 삭제한 파일도 정리되도록 유예 시간 제거)
+        filesRepository.softDelete(original.getFileId(), testUser.getUserId());
+        fileSweeperProperties.setDeletedGraceMinutes(-1);
+        fileSweeperService.sweep();
+
+        // Then: 객체 삭제, 내용 행 삭제
+        verify(ociStorageService).deleteFiles(argThat(keys -> keys.contains(original.getFilePath())));
+        assertFalse(dsl.fetchExists(FILES, FILES.FILE_ID.eq(original.getFileId())));
+        assertNull(refCount());
+    }
+}
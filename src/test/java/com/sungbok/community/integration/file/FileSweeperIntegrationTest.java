@@ -0,0 +1,150 @@
+package com.sungbok.community.integration.file;
+
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.service.FileSweeperService;
+import com.sungbok.community.service.OciStorageService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.jooq.JSONB;
+import org.jooq.generated.tables.pojos.Files;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.jooq.generated.Tables.FILES;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 파일 정리(Sweeper) 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 만료된 PENDING / 삭제된 파일의 객체(원본 + 파생본) 일괄 삭제 후 행 영구 삭제
+ * - 유예 시간이 지난 REJECTED 파일의 객체와 행 삭제
+ * - 유예 시간 전 파일은 유지
+ * - 객체 삭제 실패 시 행 유지 (다음 실행에서 재시도)
+ *
+ * @since 2.1.0
+ */
+@DisplayName("파일 정리 통합 테스트")
+public class FileSweeperIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private FileSweeperService fileSweeperService;
+
+    @MockitoBean
+    private OciStorageService ociStorageService;
+
+    private UserMemberDTO testUser;
+
+    @BeforeEach
+    void setup() {
+        testUser = UserFixture.builder()
+                .email("sweeper@test.com")
+                .name("정리 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+
+        when(ociStorageService.deleteFiles(anyCollection())).thenReturn(Set.of());
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 파일 레코드 생성 헬퍼 (생성/수정 시각 지정)
+     */
+    private Files createFile(String filename, String status, boolean deleted, LocalDateTime at, String variantsJson) {
+        Files file = new Files();
+        file.setRelatedEntityId(1L);
+        file.setRelatedEntityType("post");
+        file.setOriginalFilename(filename);
+        file.setStoredFilename(filename);
+        file.setFilePath("orgs/post/" + filename);
+        file.setFileSize(1000L);
+        file.setMimeType("image/jpeg");
+        file.setUploaderId(testUser.getUserId());
+        file.setStatus(status);
+        file.setIsDeleted(deleted);
+        file.setVariants(variantsJson != null ? JSONB.valueOf(variantsJson) : null);
+        file.setCreatedAt(at);
+        file.setModifiedAt(at);
+
+        return filesRepository.insert(file);
+    }
+
+    private boolean exists(Files file) {
+        return dsl.fetchExists(FILES, FILES.FILE_ID.eq(file.getFileId()));
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("만료된 PENDING과 삭제된 파일 - 객체(원본 + 파생본) 일괄 삭제 및 행 영구 삭제")
+    void testSweep_ExpiredAndDeleted_ShouldRemoveObjectsAndRows() {
+        // Given
+        LocalDateTime old = LocalDateTime.now().minusDays(2);
+        Files expiredPending = createFile("expired.jpg", "PENDING", false, old, null);
+        Files deleted = createFile("deleted.jpg", "VERIFIED", true, old,
+                "{\"thumb\": {\"objectKey\": \"orgs/post/deleted_thumb.webp\", \"width\": 320, \"height\": 240,"
+                        + " \"mimeType\": \"image/webp\", \"size\": 200}}");
+        Files recentPending = createFile("recent.jpg", "PENDING", false, LocalDateTime.now(), null);
+        Files active = createFile("active.jpg", "VERIFIED", false, old, null);
+
+        // When
+        fileSweeperService.sweep();
+
+        // Then
+        verify(ociStorageService).deleteFiles(argThat((Collection<String> keys) -> keys.contains("orgs/post/expired.jpg")));
+        verify(ociStorageService).deleteFiles(argThat((Collection<String> keys) ->
+                keys.containsAll(Set.of("orgs/post/deleted.jpg", "orgs/post/deleted_thumb.webp"))));
+        assertFalse(exists(expiredPending));
+        assertFalse(exists(deleted));
+        assertTrue(exists(recentPending));
+        assertTrue(exists(active));
+    }
+
+    @Test
+    @DisplayName("거부된 파일 - 유예 시간이 지나면 객체(원본 + 파생본)와 행 삭제")
+    void testSweep_Rejected_ShouldRemoveAfterGrace() {
+        // Given
+        Files oldRejected = createFile("rejected.jpg", "REJECTED", false, LocalDateTime.now().minusDays(1),
+                "{\"thumb\": {\"objectKey\": \"orgs/post/rejected_thumb.webp\", \"width\": 320, \"height\": 240,"
+                        + " \"mimeType\": \"image/webp\", \"size\": 200}}");
+        Files recentRejected = createFile("rejected-recent.jpg", "REJECTED", false, LocalDateTime.now(), null);
+
+        // When
+        fileSweeperService.sweep();
+
+        // Then
+        verify(ociStorageService).deleteFiles(argThat((Collection<String> keys) ->
+                keys.containsAll(Set.of("orgs/post/rejected.jpg", "orgs/post/rejected_thumb.webp"))));
+        verify(ociStorageService, never()).deleteFiles(argThat((Collection<String> keys) ->
+                keys.contains("orgs/post/rejected-recent.jpg")));
+        assertFalse(exists(oldRejected));
+        assertTrue(exists(recentRejected));
+    }
+
+    @Test
+    @DisplayName("객체 삭제 실패 - 행 유지")
+    void testSweep_DeleteFailed_ShouldKeepRow() {
+        // Given
+        Files deleted = createFile("fail.jpg", "VERIFIED", true, LocalDateTime.now().minusDays(1), null);
+        when(ociStorageService.deleteFiles(anyCollection())).thenReturn(Set.of("orgs/post/fail.jpg"));
+
+        // When
+        fileSweeperService.sweep();
+
+        // Then
+        assertTrue(exists(deleted));
+    }
+}
@@ -1,5 +1,6 @@
 package com.sungbok.community.integration.file;
 
+import com.sungbok.community.dto.FileDownloadUrlsRequest;
 import com.sungbok.community.dto.FileUploadRequest;
 import com.sungbok.community.dto.FileUploadResponse;
 import com.sungbok.community.dto.FilesDTO;
@@ -7,7 +8,7 @@ import com.sungbok.community.dto.UserMemberDTO;
 import com.sungbok.community.dto.event.NotificationEvent;
 import com.sungbok.community.fixture.UserFixture;
 import com.sungbok.community.repository.FilesRepository;
-import com.sungbok.community.service.FileValidationListener;
+import com.sungbok.community.service.FileValidator;
 import com.sungbok.community.service.OciStorageService;
 import com.sungbok.community.support.BaseIntegrationTest;
 import org.jooq.generated.tables.pojos.Files;
@@ -20,7 +21,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
@@ -56,7 +60,7 @@ public class FileUploadIntegrationTest extends BaseIntegrationTest {
     private OciStorageService ociStorageService;
 
     @MockitoBean
-    private FileValidationListener fileValidationListener;
+    private FileValidator fileValidator;
 
     private UserMemberDTO testUser;
     private String accessToken;
@@ -77,7 +81,7 @@ public class FileUploadIntegrationTest extends BaseIntegrationTest {
         accessToken = jwtTokenProvider.generateAccessToken(testUser);
 
         // 4. OCI Storage Mock 설정
-        when(ociStorageService.generatePresignedUploadUrl(anyString(), anyString(), anyLong(), any()))
+        when(ociStorageService.generatePresignedUploadUrl(anyString(), anyString(), anyLong(), any(), any()))
                 .thenReturn("https://objectstorage.ap-seoul-1.oraclecloud.com/p/mock-presigned-url");
 
         when(ociStorageService.buildObjectKey(anyLong(), anyString(), anyString()))
@@ -88,11 +92,17 @@ public class FileUploadIntegrationTest extends BaseIntegrationTest {
                     return String.format("orgs/%d/%s/%s", orgId, entityType, filename);
                 });
 
-        when(ociStorageService.generatePresignedDownloadUrl(anyString(), any()))
-                .thenReturn("https://objectstorage.ap-seoul-1.oraclecloud.com/p/download-url");
+        when(ociStorageService.generatePresignedDownloadUrls(anyCollection(), any()))
+                .thenAnswer(invocation -> {
+                    Collection<String> objectKeys = invocation.getArgument(0);
+                    Map<String, String> urls = new LinkedHashMap<>();
+                    objectKeys.forEach(objectKey ->
+                            urls.put(objectKey, "https://objectstorage.ap-seoul-1.oraclecloud.com/p/download-url"));
+                    return urls;
+                });
 
-        // 5. FileValidationListener Mock 설정 (비동기 검증 안 함)
-        doNothing().when(fileValidationListener).handleFileUploadedEvent(any());
+        // 5. FileValidator Mock 설정 (비동기 검증 안 함)
+        doNothing().when(fileValidator).validate(any());
     }
 
     // ========== Helper Methods ==========
@@ -253,6 +263,33 @@ public class FileUploadIntegrationTest extends BaseIntegrationTest {
         // createdAt이 null일 수 있으므로 정렬 검증은 생략
     }
 
+    @Test
+    @DisplayName("POST /files/download-urls - 파일 2개 + 없는 파일 - 200 OK 및 요청 순서로 URL 일괄 발급")
+    void testGetDownloadUrls_ShouldPresignInOneBatch() throws Exception {
+        // Given
+        Files file1 = createVerifiedFile(testUser.getUserId(), "gallery1.jpg", "image/jpeg");
+        Files file2 = createVerifiedFile(testUser.getUserId(), "gallery2.jpg", "image/jpeg");
+        FileDownloadUrlsRequest request = new FileDownloadUrlsRequest(
+                List.of(file2.getFileId(), 99999L, file1.getFileId()));
+
+        // When
+        mockMvc.perform(post("/files/download-urls")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].fileId").value(file2.getFileId()))
+                .andExpect(jsonPath("$[1].fileId").value(file1.getFileId()))
+                .andExpect(jsonPath("$[0].downloadUrl").exists())
+                .andExpect(jsonPath("$[1].downloadUrl").exists());
+
+        // Then: 서명은 한 번에
+        verify(ociStorageService, times(1)).generatePresignedDownloadUrls(
+                argThat(objectKeys -> objectKeys.size() == 2), any());
+    }
+
     @Test
     @DisplayName("DELETE /files/{fileId} - 존재하지 않는 파일 - 404 Not Found")
     void testDeleteFile_NotFound_ShouldReturn404() throws Exception {
@@ -0,0 +1,298 @@
+package com.sungbok.community.integration.file;
+
+import com.sungbok.community.dto.FileUploadRequest;
+import com.sungbok.community.dto.MultipartPartCompleteRequest;
+import com.sungbok.community.dto.MultipartUploadResponse;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.service.FileValidator;
+import com.sungbok.community.service.OciStorageService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 멀티파트 업로드 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 업로드 시작 (파트 크기/수, 파트 URL 발급)
+ * - 파트 보고 후 완료 / 누락 파트가 있으면 400
+ * - 파트 크기가 업로드 요청과 다르면 400 (S3 완료 안 함)
+ * - S3에서 이미 완료된 업로드 재시도 시 DB 상태만 반영
+ * - 재개 시 완료 파트 제외
+ * - 취소
+ *
+ * @since 2.1.0
+ */
+@DisplayName("멀티파트 업로드 통합 테스트")
+public class MultipartUploadIntegrationTest extends BaseIntegrationTest {
+
+    private static final long PART_SIZE = 8 * 1024 * 1024;
+    private static final long LAST_PART_SIZE = 4 * 1024 * 1024;
+
+    @MockitoBean
+    private OciStorageService ociStorageService;
+
+    @MockitoBean
+    private FileValidator fileValidator;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setup() {
+        UserMemberDTO testUser = UserFixture.builder()
+                .email("multipart@test.com")
+                .name("멀티파트 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+        accessToken = jwtTokenProvider.generateAccessToken(testUser);
+
+        when(ociStorageService.buildObjectKey(anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    Long orgId = invocation.getArgument(0);
+                    String entityType = invocation.getArgument(1);
+                    String filename = invocation.getArgument(2);
+                    return String.format("orgs/%d/%s/%s", orgId, entityType, filename);
+                });
+
+        when(ociStorageService.createMultipartUpload(anyString(), anyString()))
+                .thenReturn("mock-upload-id");
+
+        when(ociStorageService.generatePresignedUploadPartUrls(anyString(), anyString(), anyList(), any()))
+                .thenAnswer(invocation -> {
+                    List<Integer> partNumbers = invocation.getArgument(2);
+                    Map<Integer, String> urls = new LinkedHashMap<>();
+                    partNumbers.forEach(partNumber ->
+                            urls.put(partNumber, "https://objectstorage.ap-seoul-1.oraclecloud.com/p/part-" + partNumber));
+                    return urls;
+                });
+
+        when(ociStorageService.listUploadedParts(anyString(), anyString()))
+                .thenReturn(Map.of());
+
+        doNothing().when(fileValidator).validate(any());
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * 멀티파트 업로드 시작 헬퍼 (20MB 동영상 → 8MB 파트 3개)
+     */
+    private MultipartUploadResponse startUpload(String filename) throws Exception {
+        FileUploadRequest request = FileUploadRequest.builder()
+                .originalFilename(filename)
+                .mimeType("video/mp4")
+                .fileSize(20L * 1024 * 1024)
+                .relatedEntityId(1L)
+                .relatedEntityType("post")
+                .build();
+
+        MvcResult result = mockMvc.perform(post("/files/multipart")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), MultipartUploadResponse.class);
+    }
+
+    /**
+     * S3에 업로드된 파트 목록 스텁 (파트 번호 순 크기)
+     */
+    private void stubUploadedParts(long... sizes) {
+        Map<Integer, OciStorageService.UploadedPart> parts = new TreeMap<>();
+        for (int i = 0; i < sizes.length; i++) {
+            int partNumber = i + 1;
+            parts.put(partNumber, new OciStorageService.UploadedPart(partNumber, "\"etag-" + partNumber + "\"", sizes[i]));
+        }
+        when(ociStorageService.listUploadedParts(anyString(), anyString())).thenReturn(parts);
+    }
+
+    private void reportPart(Long fileId, int partNumber) throws Exception {
+        mockMvc.perform(put("/files/" + fileId + "/multipart/parts/" + partNumber)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MultipartPartCompleteRequest("\"etag-" + partNumber + "\""))))
+                .andExpect(status().isNoContent());
+    }
+
+    // ========== Success Cases ==========
+
+    @Test
+    @DisplayName("POST /files/multipart - 20MB 동영상 - 200 OK 및 파트 3개 URL 반환")
+    void testCreateMultipartUpload_ShouldReturnPartUrls() throws Exception {
+        // Given
+        FileUploadRequest request = FileUploadRequest.builder()
+                .originalFilename("large.mp4")
+                .mimeType("video/mp4")
+                .fileSize(20L * 1024 * 1024)
+                .relatedEntityId(1L)
+                .relatedEntityType("post")
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/files/multipart")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fileId").isNumber())
+                .andExpect(jsonPath("$.partSize").value(PART_SIZE))
+                .andExpect(jsonPath("$.partCount").value(3))
+                .andExpect(jsonPath("$.parts.length()").value(3))
+                .andExpect(jsonPath("$.parts[0].partNumber").value(1))
+                .andExpect(jsonPath("$.parts[0].uploadUrl").value(containsString("part-1")));
+
+        verify(ociStorageService).createMultipartUpload(contains("large.mp4"), eq("video/mp4"));
+    }
+
+    @Test
+    @DisplayName("POST /files/{fileId}/multipart/resume - 파트 1개 완료 - 남은 파트만 URL 발급")
+    void testResumeMultipartUpload_ShouldSkipCompletedParts() throws Exception {
+        // Given
+        MultipartUploadResponse upload = startUpload("resume.mp4");
+        reportPart(upload.getFileId(), 1);
+
+        // When & Then
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/resume")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completedParts.length()").value(1))
+                .andExpect(jsonPath("$.completedParts[0]").value(1))
+                .andExpect(jsonPath("$.parts.length()").value(2))
+                .andExpect(jsonPath("$.parts[0].partNumber").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /files/{fileId}/multipart/complete - 전체 파트 보고 - 204 No Content 및 파트 합치기")
+    void testCompleteMultipartUpload_AllPartsReported_ShouldComplete() throws Exception {
+        // Given
+        MultipartUploadResponse upload = startUpload("complete.mp4");
+        for (int partNumber = 1; partNumber <= 3; partNumber++) {
+            reportPart(upload.getFileId(), partNumber);
+        }
+        stubUploadedParts(PART_SIZE, PART_SIZE, LAST_PART_SIZE);
+
+        // When
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/complete")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        // Then
+        verify(ociStorageService).completeMultipartUpload(
+                eq(upload.getObjectKey()), eq("mock-upload-id"), argThat(etags -> etags.size() == 3));
+        verify(ociStorageService).listUploadedParts(upload.getObjectKey(), "mock-upload-id");  // 크기 확인
+    }
+
+    @Test
+    @DisplayName("POST /files/{fileId}/multipart/complete - S3에서 이미 완료 (커밋 실패 후 재시도) - 204 No Content 및 ACTIVE 반영")
+    void testCompleteMultipartUpload_AlreadyCompleted_ShouldMarkActive() throws Exception {
+        // Given: 업로드는 S3에 없고 합쳐진 객체만 있음
+        MultipartUploadResponse upload = startUpload("retry.mp4");
+        when(ociStorageService.listUploadedParts(anyString(), anyString())).thenReturn(null);
+        when(ociStorageService.objectExists(upload.getObjectKey())).thenReturn(true);
+
+        // When
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/complete")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        // Then: S3 완료를 다시 호출하지 않고, 더 이상 업로드 중이 아님
+        verify(ociStorageService, never()).completeMultipartUpload(anyString(), anyString(), anyMap());
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/resume")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("DELETE /files/{fileId}/multipart - 업로드 중 - 204 No Content 및 S3 취소")
+    void testAbortMultipartUpload_ShouldAbort() throws Exception {
+        // Given
+        MultipartUploadResponse upload = startUpload("abort.mp4");
+
+        // When
+        mockMvc.perform(delete("/files/" + upload.getFileId() + "/multipart")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        // Then: 취소된 파일은 조회되지 않음
+        verify(ociStorageService).abortMultipartUpload(upload.getObjectKey(), "mock-upload-id");
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/resume")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNotFound());
+    }
+
+    // ========== Error Cases ==========
+
+    @Test
+    @DisplayName("POST /files/{fileId}/multipart/complete - 누락 파트 - 400 Bad Request")
+    void testCompleteMultipartUpload_MissingParts_ShouldReturn400() throws Exception {
+        // Given: 파트 3개 중 1개만 보고 (S3에도 없음)
+        MultipartUploadResponse upload = startUpload("missing.mp4");
+        reportPart(upload.getFileId(), 1);
+
+        // When & Then
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/complete")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        verify(ociStorageService).listUploadedParts(upload.getObjectKey(), "mock-upload-id");
+        verify(ociStorageService, never()).completeMultipartUpload(anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("POST /files/{fileId}/multipart/complete - 파트 크기 불일치 - 400 Bad Request")
+    void testCompleteMultipartUpload_PartSizeMismatch_ShouldReturn400() throws Exception {
+        // Given: 마지막 파트가 예약한 file_size보다 큼
+        MultipartUploadResponse upload = startUpload("oversized.mp4");
+        stubUploadedParts(PART_SIZE, PART_SIZE, PART_SIZE);
+
+        // When & Then
+        mockMvc.perform(post("/files/" + upload.getFileId() + "/multipart/complete")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        verify(ociStorageService, never()).completeMultipartUpload(anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("PUT /files/{fileId}/multipart/parts/{partNumber} - 범위 밖 파트 번호 - 400 Bad Request")
+    void testRecordUploadedPart_OutOfRange_ShouldReturn400() throws Exception {
+        // Given
+        MultipartUploadResponse upload = startUpload("range.mp4");
+
+        // When & Then
+        mockMvc.perform(put("/files/" + upload.getFileId() + "/multipart/parts/4")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MultipartPartCompleteRequest("\"etag\""))))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,300 @@
+package com.sungbok.community.integration.file;
+
+import com.sungbok.community.dto.FileUploadRequest;
+import com.sungbok.community.dto.StorageUsageDTO;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.repository.OrgStorageUsageRepository;
+import com.sungbok.community.repository.OrganizationsRepository;
+import com.sungbok.community.repository.RolePermissionsRepository;
+import com.sungbok.community.repository.RolesRepository;
+import com.sungbok.community.service.FileValidator;
+import com.sungbok.community.service.OciStorageService;
+import com.sungbok.community.service.StorageUsageService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.jooq.generated.tables.pojos.Files;
+import org.jooq.generated.tables.pojos.OrgStorageUsage;
+import org.jooq.generated.tables.pojos.RolePermissions;
+import org.jooq.generated.tables.pojos.Roles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조직 저장 공간 사용량/한도 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 파일 생성/검증/삭제 시 트리거로 사용량 증분 반영
+ * - 검증에서 파일 크기를 보정하면 예약도 실제 크기로 조정
+ * - Pre-signed URL 발급 시 한도 확인 (예약 포함)
+ * - 관리자 사용량 조회 권한
+ * - 재집계로 카운터 보정
+ *
+ * @since 2.1.0
+ */
+@DisplayName("저장 공간 한도 통합 테스트")
+public class StorageQuotaIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private StorageUsageService storageUsageService;
+
+    @Autowired
+    private OrganizationsRepository organizationsRepository;
+
+    @Autowired
+    private OrgStorageUsageRepository orgStorageUsageRepository;
+
+    @Autowired
+    private RolesRepository rolesRepository;
+
+    @Autowired
+    private RolePermissionsRepository rolePermissionsRepository;
+
+    @MockitoBean
+    private OciStorageService ociStorageService;
+
+    @MockitoBean
+    private FileValidator fileValidator;
+
+    private UserMemberDTO testUser;
+    private String accessToken;
+    private Long testOrgId;
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+        redisTemplate.delete("org:storage:" + testOrgId);
+
+        testUser = UserFixture.builder()
+                .email("quota@test.com")
+                .name("한도 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+        accessToken = jwtTokenProvider.generateAccessToken(testUser);
+
+        when(ociStorageService.generatePresignedUploadUrl(anyString(), anyString(), anyLong(), any(), any()))
+                .thenReturn("https://objectstorage.ap-seoul-1.oraclecloud.com/p/mock-presigned-url");
+        when(ociStorageService.buildObjectKey(anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> String.format("orgs/%d/%s/%s",
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        doNothing().when(fileValidator).validate(any());
+    }
+
+    @AfterEach
+    void cleanupUsageCache() {
+        // 사용량 캐시는 테스트 트랜잭션 롤백과 무관하므로 직접 정리
+        redisTemplate.delete("org:storage:" + testOrgId);
+    }
+
+    // ========== Helper Methods ==========
+
+    private Files createFile(String filename, String status, long fileSize) {
+        Files file = new Files();
+        file.setOrgId(testOrgId);
+        file.setRelatedEntityId(1L);
+        file.setRelatedEntityType("post");
+        file.setOriginalFilename(filename);
+        file.setStoredFilename(filename);
+        file.setFilePath("orgs/" + testOrgId + "/post/" + filename);
+        file.setFileSize(fileSize);
+        file.setMimeType("image/jpeg");
+        file.setUploaderId(testUser.getUserId());
+        file.setStatus(status);
+        file.setIsDeleted(false);
+        file.setCreatedAt(LocalDateTime.now());
+        file.setModifiedAt(LocalDateTime.now());
+
+        return filesRepository.insert(file);
+    }
+
+    private void setOrgQuota(Long quotaBytes) {
+        organizationsRepository.updateStorageQuota(testOrgId, quotaBytes);
+    }
+
+    private FileUploadRequest createRequest(String filename, long fileSize) {
+        return FileUploadRequest.builder()
+                .originalFilename(filename)
+                .mimeType("image/jpeg")
+                .fileSize(fileSize)
+                .relatedEntityId(1L)
+                .relatedEntityType("post")
+                .build();
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("파일 생성 → 검증 → 삭제 - 예약/사용량 증분 반영")
+    void testUsage_FileTransitions_ShouldUpdateCounter() {
+        // Given
+        StorageUsageDTO before = storageUsageService.getUsage();
+
+        // When: 업로드 대기 (예약)
+        Files file = createFile("usage.jpg", "PENDING", 1500L);
+        StorageUsageDTO pending = storageUsageService.getUsage();
+
+        // When: 검증 완료 (예약 → 사용)
+        filesRepository.updateStatus(file.getFileId(), "VERIFIED");
+        StorageUsageDTO verified = storageUsageService.getUsage();
+
+        // When: 삭제
+        filesRepository.softDelete(file.getFileId(), testUser.getUserId());
+        StorageUsageDTO deleted = storageUsageService.getUsage();
+
+        // Then
+        assertEquals(before.getReservedBytes() + 1500, pending.getReservedBytes());
+        assertEquals(before.getUsedBytes(), pending.getUsedBytes());
+        assertEquals(before.getReservedBytes(), verified.getReservedBytes());
+        assertEquals(before.getUsedBytes() + 1500, verified.getUsedBytes());
+        assertEquals(before.getFileCount() + 1, verified.getFileCount());
+        assertEquals(before.getUsedBytes(), deleted.getUsedBytes());
+        assertEquals(before.getFileCount(), deleted.getFileCount());
+    }
+
+    @Test
+    @DisplayName("파일 크기 보정 - 선언보다 작게 업로드되면 예약이 실제 크기로 줄어듦")
+    void testUsage_FileSizeCorrected_ShouldAdjustReservation() {
+        // Given
+        StorageUsageDTO before = storageUsageService.getUsage();
+        Files file = createFile("smaller.jpg", "ACTIVE", 5000L);
+
+        // When: 검증에서 실제 객체 크기로 보정
+        filesRepository.updateFileSize(file.getFileId(), 1200L);
+        StorageUsageDTO corrected = storageUsageService.getUsage();
+        filesRepository.updateStatus(file.getFileId(), "VERIFIED");
+        StorageUsageDTO verified = storageUsageService.getUsage();
+
+        // Then
+        assertEquals(before.getReservedBytes() + 1200, corrected.getReservedBytes());
+        assertEquals(before.getReservedBytes(), verified.getReservedBytes());
+        assertEquals(before.getUsedBytes() + 1200, verified.getUsedBytes());
+    }
+
+    @Test
+    @DisplayName("POST /files/upload-presigned - 한도 내 첫 업로드 성공, 예약 후 한도 초과 업로드 - 400 Bad Request")
+    void testCreatePresignedUploadUrl_QuotaExceeded_ShouldReturnBadRequest() throws Exception {
+        // Given: 현재 사용량 + 3000바이트 한도
+        StorageUsageDTO usage = storageUsageService.getUsage();
+        setOrgQuota(usage.getUsedBytes() + usage.getReservedBytes() + 3000);
+
+        // When & Then: 2000바이트 예약 성공
+        mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("first.jpg", 2000L))))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // When & Then: 남은 1000바이트를 넘는 업로드 거부
+        mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("second.jpg", 2000L))))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VAL_006"));
+    }
+
+    @Test
+    @DisplayName("POST /files/upload-presigned - 한도 없음 - 200 OK")
+    void testCreatePresignedUploadUrl_NoQuota_ShouldSucceed() throws Exception {
+        // Given
+        setOrgQuota(null);
+
+        // When & Then
+        mockMvc.perform(post("/files/upload-presigned")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("unlimited.jpg", 5_000_000L))))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /files/storage-usage - storage 조회 권한 - 200 OK 및 사용량 반환")
+    void testGetStorageUsage_Admin_ShouldReturnUsage() throws Exception {
+        // Given: storage 조회 권한이 있는 관리자
+        Roles role = new Roles();
+        role.setOrgId(testOrgId);
+        role.setName("storage-admin");
+        role.setLevel(10);
+        role.setDescription("저장 공간 관리자");
+        Long adminRoleId = rolesRepository.insert(role).getId();
+
+        RolePermissions permission = new RolePermissions();
+        permission.setRoleId(adminRoleId);
+        permission.setResource("storage");
+        permission.setAction("read");
+        permission.setAllowed(true);
+        rolePermissionsRepository.insert(permission);
+        UserMemberDTO admin = UserFixture.builder()
+                .email("quota-admin@test.com")
+                .name("저장 공간 관리자")
+                .roleIds(List.of(adminRoleId))
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+
+        createFile("admin.jpg", "VERIFIED", 4096L);
+        setOrgQuota(1_000_000L);
+
+        // When & Then
+        mockMvc.perform(get("/files/storage-usage")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(admin)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orgId").value(testOrgId))
+                .andExpect(jsonPath("$.usedBytes").isNumber())
+                .andExpect(jsonPath("$.quotaBytes").value(1_000_000L))
+                .andExpect(jsonPath("$.remainingBytes").isNumber());
+    }
+
+    @Test
+    @DisplayName("GET /files/storage-usage - 권한 없음 - 403 Forbidden")
+    void testGetStorageUsage_NoPermission_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/files/storage-usage")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("재집계 - 어긋난 카운터를 files 기준으로 보정")
+    void testReconcile_DriftedCounter_ShouldCorrect() {
+        // Given: 파일 생성 후 카운터를 임의로 어긋나게 함
+        createFile("drift.jpg", "VERIFIED", 2048L);
+        StorageUsageDTO expected = storageUsageService.getUsage();
+        OrgStorageUsage drifted = new OrgStorageUsage();
+        drifted.setOrgId(testOrgId);
+        drifted.setUsedBytes(999_999L);
+        drifted.setReservedBytes(expected.getReservedBytes());
+        drifted.setFileCount(0L);
+        orgStorageUsageRepository.overwrite(drifted);
+
+        // When
+        storageUsageService.reconcile();
+
+        // Then
+        StorageUsageDTO reconciled = storageUsageService.getUsage();
+        assertEquals(expected.getUsedBytes(), reconciled.getUsedBytes());
+        assertEquals(expected.getFileCount(), reconciled.getFileCount());
+        assertNotNull(reconciled.getReconciledAt());
+    }
+}
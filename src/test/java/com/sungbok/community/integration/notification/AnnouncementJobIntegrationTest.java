@@ -0,0 +1,183 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.enums.AnnouncementJobStatus;
+import com.sungbok.community.repository.AnnouncementJobsRepository;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.jooq.generated.tables.pojos.AnnouncementJobs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 공지 발송 작업 선점/재개/커서 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 실행 중인 작업은 다른 노드가 선점할 수 없고, heartbeat가 끊기면 재선점 가능
+ * - 재선점 후 이전 소유자의 커서/heartbeat/종료 갱신은 무시됨
+ * - 실패한 작업은 실행 횟수 한도 안에서만 재개 대상
+ *
+ * @since 2.1.0
+ */
+@DisplayName("공지 발송 작업 통합 테스트")
+public class AnnouncementJobIntegrationTest extends BaseIntegrationTest {
+
+    private static final int MAX_RUNS = 3;
+
+    @Autowired
+    private AnnouncementJobsRepository announcementJobsRepository;
+
+    private Long testOrgId;
+    private Duration elapsed;
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+        elapsed = Duration.ZERO;
+    }
+
+    // ========== Helper Methods ==========
+
+    private AnnouncementJobs createJob() {
+        AnnouncementJobs job = new AnnouncementJobs();
+        job.setTitle("공지");
+        job.setBody("본문");
+        job.setInsertedThroughUserId(0L);
+        job.setPushedThroughUserId(0L);
+        job.setInsertedCount(0);
+        job.setPushedCount(0);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setModifiedAt(LocalDateTime.now());
+        return announcementJobsRepository.insert(job);
+    }
+
+    /**
+     * 중단 판단 기준 시각 (heartbeat/재시도 간격 2분, elapseStaleInterval 이후면 그만큼 뒤의 시점)
+     */
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().plus(elapsed).minusMinutes(2);
+    }
+
+    /**
+     * heartbeat/재시도 간격이 지난 시점으로 기준 시각을 옮깁니다 (행을 직접 수정하지 않음).
+     */
+    private void elapseStaleInterval() {
+        elapsed = elapsed.plusMinutes(10);
+    }
+
+    private Optional<AnnouncementJobs> claim(Long jobId, String ownerId) {
+        return announcementJobsRepository.claim(testOrgId, jobId, ownerId, staleBefore(), MAX_RUNS);
+    }
+
+    private List<Long> resumableJobIds() {
+        return announcementJobsRepository.fetchResumable(staleBefore(), MAX_RUNS, 100)
+                .stream().map(AnnouncementJobs::getJobId).toList();
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("선점 - 실행 중인 작업은 다른 소유자가 선점 불가, heartbeat가 끊기면 재선점")
+    void testClaim_RunningJob_ShouldBeExclusiveUntilStale() {
+        // Given
+        AnnouncementJobs job = createJob();
+
+        // When
+        Optional<AnnouncementJobs> first = claim(job.getJobId(), "owner-a");
+        Optional<AnnouncementJobs> second = claim(job.getJobId(), "owner-b");
+        elapseStaleInterval();
+        Optional<AnnouncementJobs> takeover = claim(job.getJobId(), "owner-b");
+
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals(AnnouncementJobStatus.RUNNING.name(), first.get().getStatus());
+        assertEquals(1, first.get().getRunCount());
+        assertTrue(second.isEmpty());
+        assertTrue(takeover.isPresent());
+        assertEquals("owner-b", takeover.get().getOwnerId());
+        assertEquals(2, takeover.get().getRunCount());
+    }
+
+    @Test
+    @DisplayName("커서 - 재선점 후 이전 소유자의 커서/heartbeat/종료 갱신 무시")
+    void testCursor_PreviousOwner_ShouldBeFenced() {
+        // Given: owner-a가 실행 중 heartbeat가 끊겨 owner-b가 재선점
+        AnnouncementJobs job = createJob();
+        claim(job.getJobId(), "owner-a");
+        assertEquals(1, announcementJobsRepository.advanceInsertCursor(testOrgId, job.getJobId(), "owner-a", 10L, 10));
+        elapseStaleInterval();
+        claim(job.getJobId(), "owner-b");
+
+        // When
+        int staleInsert = announcementJobsRepository.advanceInsertCursor(testOrgId, job.getJobId(), "owner-a", 20L, 10);
+        int stalePush = announcementJobsRepository.advancePushCursor(testOrgId, job.getJobId(), "owner-a", 20L, 10);
+        int staleHeartbeat = announcementJobsRepository.heartbeat(testOrgId, job.getJobId(), "owner-a");
+        int staleFinish = announcementJobsRepository.updateFinished(
+                testOrgId, job.getJobId(), "owner-a", AnnouncementJobStatus.FAILED, "stale");
+        int push = announcementJobsRepository.advancePushCursor(testOrgId, job.getJobId(), "owner-b", 10L, 7);
+
+        // Then: owner-b의 갱신만 반영
+        assertEquals(0, staleInsert);
+        assertEquals(0, stalePush);
+        assertEquals(0, staleHeartbeat);
+        assertEquals(0, staleFinish);
+        assertEquals(1, push);
+
+        AnnouncementJobs current = announcementJobsRepository.fetchById(job.getJobId()).orElseThrow();
+        assertEquals(AnnouncementJobStatus.RUNNING.name(), current.getStatus());
+        assertEquals(10L, current.getInsertedThroughUserId());
+        assertEquals(10, current.getInsertedCount());
+        assertEquals(10L, current.getPushedThroughUserId());
+        assertEquals(7, current.getPushedCount());
+    }
+
+    @Test
+    @DisplayName("재개 - 실패한 작업은 재시도 간격 후 실행 횟수 한도 안에서만 재개 대상")
+    void testResume_FailedJob_ShouldRespectRunBudget() {
+        // Given: 한 번 실행 후 실패
+        AnnouncementJobs job = createJob();
+        claim(job.getJobId(), "owner-a");
+        announcementJobsRepository.updateFinished(testOrgId, job.getJobId(), "owner-a", AnnouncementJobStatus.FAILED, "error");
+
+        // Then: 방금 실패한 작업은 재시도 간격 전이라 제외
+        assertFalse(resumableJobIds().contains(job.getJobId()));
+
+        // When: 재시도 간격 경과
+        elapseStaleInterval();
+
+        // Then: 재개 대상, 같은 커서에서 다시 선점
+        assertTrue(resumableJobIds().contains(job.getJobId()));
+        assertTrue(claim(job.getJobId(), "owner-b").isPresent());
+
+        // When: 한도까지 실패
+        announcementJobsRepository.updateFinished(testOrgId, job.getJobId(), "owner-b", AnnouncementJobStatus.FAILED, "error");
+        assertTrue(claim(job.getJobId(), "owner-c").isPresent());
+        announcementJobsRepository.updateFinished(testOrgId, job.getJobId(), "owner-c", AnnouncementJobStatus.FAILED, "error");
+        elapseStaleInterval();
+
+        // Then: 더 이상 재개/선점 불가
+        assertFalse(resumableJobIds().contains(job.getJobId()));
+        assertTrue(claim(job.getJobId(), "owner-d").isEmpty());
+    }
+
+    @Test
+    @DisplayName("재개 - 완료된 작업은 재개/선점 불가")
+    void testResume_CompletedJob_ShouldNotBeClaimed() {
+        // Given
+        AnnouncementJobs job = createJob();
+        claim(job.getJobId(), "owner-a");
+        announcementJobsRepository.updateFinished(testOrgId, job.getJobId(), "owner-a", AnnouncementJobStatus.COMPLETED, null);
+        elapseStaleInterval();
+
+        // Then
+        assertFalse(resumableJobIds().contains(job.getJobId()));
+        assertTrue(claim(job.getJobId(), "owner-b").isEmpty());
+    }
+}
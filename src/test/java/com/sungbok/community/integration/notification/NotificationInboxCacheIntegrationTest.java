@@ -0,0 +1,179 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.dto.NotificationDTO;
+import com.sungbok.community.service.NotificationInboxCacheService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 Inbox 캐시 채우기 경합 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - DB 조회(버전 읽기)와 로드 사이에 추가/읽음/삭제가 있으면 로드하지 않음
+ * - 로드 후 쓰기는 그대로 반영
+ * - 트랜잭션 안의 쓰기는 커밋 후 반영, 롤백되면 반영하지 않음
+ *
+ * 쓰기는 커밋 후 반영되므로 테스트 트랜잭션을 일시 중단하고 실행 (outside)
+ *
+ * @since 2.1.0
+ */
+@DisplayName("알림 Inbox 캐시 통합 테스트")
+public class NotificationInboxCacheIntegrationTest extends BaseIntegrationTest {
+
+    private static final Long ORG_ID = 999_001L;
+    private static final Long USER_ID = 999_002L;
+
+    @Autowired
+    private NotificationInboxCacheService inboxCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate outside;
+    private TransactionTemplate requiresNew;
+
+    @BeforeEach
+    void setup() {
+        cleanupInbox();
+        outside = new TransactionTemplate(transactionManager);
+        outside.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @AfterEach
+    void cleanupInbox() {
+        redisTemplate.delete(List.of(
+                "user:inbox:" + ORG_ID + ":" + USER_ID,
+                "user:inbox:data:" + ORG_ID + ":" + USER_ID,
+                "user:inbox:ver:" + ORG_ID + ":" + USER_ID));
+    }
+
+    // ========== Helper Methods ==========
+
+    private NotificationDTO notification(long id) {
+        return NotificationDTO.builder()
+                .notificationId(id)
+                .title("알림 " + id)
+                .body("본문")
+                .isRead(false)
+                .build();
+    }
+
+    /**
+     * 테스트 트랜잭션 밖에서 쓰기 실행 (종료 시 바로 반영)
+     */
+    private void write(Runnable action) {
+        outside.executeWithoutResult(status -> action.run());
+    }
+
+    private List<Long> firstPageIds(int size) {
+        return inboxCache.getFirstPage(ORG_ID, USER_ID, size).orElseThrow().stream()
+                .map(NotificationDTO::getNotificationId)
+                .toList();
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("로드 - 조회와 로드 사이에 새 알림 추가 - 로드 생략 후 다음 조회에서 새 알림 포함")
+    void testLoad_AddDuringLoad_ShouldSkipStaleLoad() {
+        // Given: DB 조회 전 버전, DB 결과에는 알림 1, 2만 있음
+        long version = inboxCache.readVersion(ORG_ID, USER_ID);
+
+        // When: 로드 전에 알림 3 추가 (로드되지 않은 Inbox라 버전만 증가)
+        write(() -> inboxCache.add(ORG_ID, USER_ID, notification(3)));
+        boolean loaded = inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(2), notification(1)), 0, null);
+
+        // Then: 이전 결과로 채우지 않음
+        assertFalse(loaded);
+        assertTrue(inboxCache.getFirstPage(ORG_ID, USER_ID, 10).isEmpty());
+
+        // When: 다시 조회하여 로드
+        long retryVersion = inboxCache.readVersion(ORG_ID, USER_ID);
+        assertTrue(inboxCache.load(ORG_ID, USER_ID, retryVersion,
+                List.of(notification(3), notification(2), notification(1)), 0, null));
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), firstPageIds(10));
+    }
+
+    @Test
+    @DisplayName("로드 - 조회와 로드 사이에 읽음/모두 읽음/삭제 - 로드 생략")
+    void testLoad_WritesDuringLoad_ShouldSkipStaleLoad() {
+        long version = inboxCache.readVersion(ORG_ID, USER_ID);
+        write(() -> inboxCache.markRead(ORG_ID, USER_ID, 1L, LocalDateTime.now()));
+        assertFalse(inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(1)), 0, null));
+
+        version = inboxCache.readVersion(ORG_ID, USER_ID);
+        write(() -> inboxCache.markAllRead(ORG_ID, USER_ID, 1L, LocalDateTime.now()));
+        assertFalse(inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(1)), 0, null));
+
+        version = inboxCache.readVersion(ORG_ID, USER_ID);
+        write(() -> inboxCache.remove(ORG_ID, USER_ID, 1L));
+        assertFalse(inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(1)), 0, null));
+
+        version = inboxCache.readVersion(ORG_ID, USER_ID);
+        write(() -> inboxCache.evict(ORG_ID, List.of(USER_ID)));
+        assertFalse(inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(1)), 0, null));
+    }
+
+    @Test
+    @DisplayName("로드 후 쓰기 - 추가/읽음 오버레이/삭제 반영")
+    void testWritesAfterLoad_ShouldApply() {
+        // Given
+        long version = inboxCache.readVersion(ORG_ID, USER_ID);
+        assertTrue(inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(2), notification(1)), 0, null));
+
+        // When
+        write(() -> inboxCache.add(ORG_ID, USER_ID, notification(3)));
+        write(() -> inboxCache.markRead(ORG_ID, USER_ID, 2L, LocalDateTime.now()));
+        write(() -> inboxCache.remove(ORG_ID, USER_ID, 1L));
+
+        // Then
+        List<NotificationDTO> page = inboxCache.getFirstPage(ORG_ID, USER_ID, 10).orElseThrow();
+        assertEquals(List.of(3L, 2L), page.stream().map(NotificationDTO::getNotificationId).toList());
+        assertFalse(page.get(0).getIsRead());
+        assertTrue(page.get(1).getIsRead());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 쓰기 - 커밋 후 반영, 롤백 시 미반영")
+    void testWriteInTransaction_ShouldApplyAfterCommit() {
+        // Given
+        long version = inboxCache.readVersion(ORG_ID, USER_ID);
+        assertTrue(inboxCache.load(ORG_ID, USER_ID, version, List.of(notification(1)), 0, null));
+
+        // When: 커밋 전에는 반영되지 않음
+        requiresNew.executeWithoutResult(status -> {
+            inboxCache.add(ORG_ID, USER_ID, notification(2));
+            assertEquals(List.of(1L), firstPageIds(10));
+        });
+
+        // Then: 커밋 후 반영
+        assertEquals(List.of(2L, 1L), firstPageIds(10));
+
+        // When: 롤백
+        requiresNew.executeWithoutResult(status -> {
+            inboxCache.add(ORG_ID, USER_ID, notification(3));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        Optional<List<NotificationDTO>> page = inboxCache.getFirstPage(ORG_ID, USER_ID, 10);
+        assertEquals(List.of(2L, 1L), page.orElseThrow().stream().map(NotificationDTO::getNotificationId).toList());
+    }
+}
@@ -0,0 +1,200 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.NotificationPartitionRepository;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.repository.OrganizationsRepository;
+import com.sungbok.community.service.NotificationPartitionService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.generated.tables.pojos.Notifications;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.jooq.generated.Tables.NOTIFICATIONS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 파티션 유지보수 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 전체 보존 기간보다 짧게 설정한 조직의 만료 알림만 행 단위 삭제
+ * - 소프트 삭제 후 기간이 지난 알림 물리 삭제
+ * - 전체 보존 기간보다 오래된 파티션 DETACH (dropExpired=false면 테이블 보존)
+ * - 미리 만든 파티션 개월 수 확인
+ *
+ * DDL(파티션 생성/분리)도 테스트 트랜잭션 안에서 실행되어 롤백됨
+ *
+ * @since 2.1.0
+ */
+@DisplayName("알림 파티션 유지보수 통합 테스트")
+public class NotificationPartitionIntegrationTest extends BaseIntegrationTest {
+
+    private static final String LOCK_KEY = "notification:partition:lock";
+
+    @Autowired
+    private NotificationPartitionService partitionService;
+
+    @Autowired
+    private NotificationPartitionRepository partitionRepository;
+
+    @Autowired
+    private NotificationsRepository notificationsRepository;
+
+    @Autowired
+    private OrganizationsRepository organizationsRepository;
+
+    @Autowired
+    private NotificationProperties notificationProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UserMemberDTO testUser;
+    private Long testOrgId;
+    private boolean originalDropExpired;
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+        testUser = UserFixture.builder()
+                .email("partition@test.com")
+                .name("파티션 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+
+        // 전체 보존 기간 = 기본값이 되도록 조직 설정 초기화 (롤백됨)
+        organizationsRepository.fetchNotificationRetentions()
+                .forEach(org -> organizationsRepository.updateNotificationRetention(org.getOrgId(), null));
+
+        originalDropExpired = notificationProperties.getPartition().isDropExpired();
+        redisTemplate.delete(LOCK_KEY);
+    }
+
+    @AfterEach
+    void restore() {
+        notificationProperties.getPartition().setDropExpired(originalDropExpired);
+        redisTemplate.delete(LOCK_KEY);
+    }
+
+    // ========== Helper Methods ==========
+
+    private Notifications createNotification(LocalDateTime createdAt, boolean deleted) {
+        partitionRepository.createPartition(YearMonth.from(createdAt));
+
+        Notifications notification = new Notifications();
+        notification.setUserId(testUser.getUserId());
+        notification.setNotificationType("POST_COMMENT");
+        notification.setTitle("파티션 테스트");
+        notification.setBody("본문");
+        notification.setIsRead(false);
+        notification.setIsDeleted(deleted);
+        notification.setCreatedAt(createdAt);
+        notification.setModifiedAt(createdAt);
+        return notificationsRepository.insert(notification);
+    }
+
+    private boolean exists(Notifications notification) {
+        return dsl.fetchExists(dsl.selectFrom(NOTIFICATIONS)
+                .where(NOTIFICATIONS.NOTIFICATION_ID.eq(notification.getNotificationId())));
+    }
+
+    private boolean tableExists(YearMonth month) {
+        String name = "notifications_p" + month.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        return dsl.fetchValue("SELECT to_regclass({0}) IS NOT NULL", DSL.inline(name), Boolean.class);
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("조직 보존 기간 - 짧게 설정한 조직의 만료 알림만 삭제")
+    void testMaintain_OrgRetention_ShouldPurgeExpiredRows() {
+        // Given: 테스트 조직만 1개월 보존
+        organizationsRepository.updateNotificationRetention(testOrgId, 1);
+        Notifications expired = createNotification(LocalDateTime.now().minusMonths(3), false);
+        Notifications recent = createNotification(LocalDateTime.now(), false);
+
+        // When
+        partitionService.maintain();
+
+        // Then
+        assertFalse(exists(expired));
+        assertTrue(exists(recent));
+    }
+
+    @Test
+    @DisplayName("소프트 삭제 - 기간이 지난 알림만 물리 삭제")
+    void testMaintain_SoftDeleted_ShouldPurgeOldRows() {
+        // Given
+        int retentionDays = notificationProperties.getPartition().getSoftDeletedRetentionDays();
+        Notifications oldDeleted = createNotification(LocalDateTime.now().minusDays(retentionDays + 5), true);
+        Notifications newDeleted = createNotification(LocalDateTime.now(), true);
+        Notifications oldActive = createNotification(LocalDateTime.now().minusDays(retentionDays + 5), false);
+
+        // When
+        partitionService.maintain();
+
+        // Then
+        assertFalse(exists(oldDeleted));
+        assertTrue(exists(newDeleted));
+        assertTrue(exists(oldActive));
+    }
+
+    @Test
+    @DisplayName("만료 파티션 - dropExpired=false면 DETACH만 하고 테이블은 보존")
+    void testMaintain_ExpiredPartition_ShouldDetach() {
+        // Given: 전체 보존 기간보다 오래된 월 파티션
+        notificationProperties.getPartition().setDropExpired(false);
+        int retention = notificationProperties.getPartition().getDefaultRetentionMonths();
+        LocalDateTime expiredAt = LocalDateTime.now().minusMonths(retention + 2);
+        YearMonth expiredMonth = YearMonth.from(expiredAt);
+        createNotification(expiredAt, false);
+        YearMonth keptMonth = YearMonth.now().minusMonths(retention - 1);
+        partitionRepository.createPartition(keptMonth);
+
+        // When
+        partitionService.maintain();
+
+        // Then
+        assertFalse(partitionRepository.fetchPartitionMonths().contains(expiredMonth));
+        assertTrue(partitionRepository.fetchPartitionMonths().contains(keptMonth));
+        assertTrue(tableExists(expiredMonth));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락 보유 - 유지보수 생략")
+    void testMaintain_LockHeld_ShouldSkip() {
+        // Given
+        organizationsRepository.updateNotificationRetention(testOrgId, 1);
+        Notifications expired = createNotification(LocalDateTime.now().minusMonths(3), false);
+        redisTemplate.opsForValue().set(LOCK_KEY, "other-node");
+
+        // When
+        partitionService.maintain();
+
+        // Then
+        assertTrue(exists(expired));
+        assertEquals("other-node", redisTemplate.opsForValue().get(LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("파티션 확인 - 현재 월부터 premakeMonths까지 준비됨")
+    void testCheckPartitions_AfterMaintain_ShouldReportMonthsAhead() {
+        // When
+        partitionService.maintain();
+
+        // Then
+        int premake = notificationProperties.getPartition().getPremakeMonths();
+        double monthsAhead = meterRegistry.get("notification.partition.months.ahead").gauge().value();
+        assertTrue(monthsAhead >= premake);
+    }
+}
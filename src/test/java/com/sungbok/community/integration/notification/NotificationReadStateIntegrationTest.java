@@ -0,0 +1,193 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.dto.NotificationDTO;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.service.ValkeyNotificationCacheService;
+import com.sungbok.community.service.change.ChangeNotificationService;
+import com.sungbok.community.service.get.GetNotificationService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.jooq.generated.tables.pojos.Notifications;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.jooq.generated.Tables.NOTIFICATION_READ_STATE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 읽음 워터마크 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 모두 읽음은 새로 읽음 처리된 개수만큼만 카운터 감소 (동시에 도착한 새 알림 증가분 유지)
+ * - 워터마크가 그대로면 다시 모두 읽음해도 카운터 유지
+ * - 워터마크로 읽은 알림의 readAt은 모두 읽음 시각, 개별 읽음은 자신의 시각
+ * - 워터마크 이하 알림의 개별 읽음은 카운터를 감소시키지 않음
+ * - 카운터는 커밋 후에만 감소 (롤백되면 유지)
+ *
+ * @since 2.1.0
+ */
+@DisplayName("알림 읽음 워터마크 통합 테스트")
+public class NotificationReadStateIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ChangeNotificationService changeNotificationService;
+
+    @Autowired
+    private GetNotificationService getNotificationService;
+
+    @Autowired
+    private NotificationsRepository notificationsRepository;
+
+    @Autowired
+    private ValkeyNotificationCacheService valkeyCache;
+
+    private UserMemberDTO testUser;
+    private Long testOrgId;
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+        testUser = UserFixture.builder()
+                .email("readstate@test.com")
+                .name("읽음 워터마크 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+    }
+
+    @AfterEach
+    void cleanupUnreadCache() {
+        // 카운터/Inbox 캐시는 테스트 트랜잭션 롤백과 무관하므로 직접 정리
+        redisTemplate.delete(List.of(
+                "user:unread:" + testOrgId + ":" + testUser.getUserId(),
+                "user:inbox:" + testOrgId + ":" + testUser.getUserId(),
+                "user:inbox:data:" + testOrgId + ":" + testUser.getUserId(),
+                "user:inbox:ver:" + testOrgId + ":" + testUser.getUserId()));
+    }
+
+    // ========== Helper Methods ==========
+
+    private Notifications createNotification(String title) {
+        Notifications notification = new Notifications();
+        notification.setUserId(testUser.getUserId());
+        notification.setNotificationType("POST_COMMENT");
+        notification.setTitle(title);
+        notification.setBody("본문");
+        notification.setIsRead(false);
+        notification.setIsDeleted(false);
+        return notificationsRepository.insert(notification);
+    }
+
+    /**
+     * 서비스 호출 중 등록된 커밋 후 작업을 실행합니다 (테스트 트랜잭션은 롤백되므로 커밋을 흉내 냄).
+     */
+    private void committed(Runnable action) {
+        List<TransactionSynchronization> before = TransactionSynchronizationManager.getSynchronizations();
+        action.run();
+        TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(synchronization -> !before.contains(synchronization))
+                .forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private Map<Long, NotificationDTO> fetchAll() {
+        return getNotificationService.getNotificationsBefore(testUser.getUserId(), Long.MAX_VALUE, 50).stream()
+                .collect(Collectors.toMap(NotificationDTO::getNotificationId, Function.identity()));
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("모두 읽음 - 새로 읽음 처리된 개수만큼 감소, 동시에 도착한 새 알림 증가분 유지")
+    void testMarkAllAsRead_ConcurrentIncrement_ShouldKeepIncrement() {
+        // Given: 안 읽은 알림 2건 (카운터 2)
+        createNotification("첫 알림");
+        createNotification("둘째 알림");
+        assertEquals(2, getNotificationService.getUnreadCount(testUser.getUserId()));
+
+        // Given: 아직 커밋되지 않은 새 알림의 카운터 증가
+        valkeyCache.incrementUnreadCounts(testOrgId, List.of(testUser.getUserId()));
+
+        // When
+        committed(() -> changeNotificationService.markAllAsRead(testUser.getUserId()));
+
+        // Then
+        assertEquals(1, valkeyCache.getUnreadCount(testUser.getUserId()));
+
+        // When: 새 알림 없이 다시 모두 읽음
+        committed(() -> changeNotificationService.markAllAsRead(testUser.getUserId()));
+
+        // Then
+        assertEquals(1, valkeyCache.getUnreadCount(testUser.getUserId()));
+    }
+
+    @Test
+    @DisplayName("모두 읽음 - 워터마크로 읽은 알림의 readAt은 모두 읽음 시각")
+    void testMarkAllAsRead_ShouldDeriveReadAtFromWatermark() {
+        // Given: 1건은 개별 읽음
+        Notifications individually = createNotification("개별 읽음");
+        Notifications byWatermark = createNotification("모두 읽음");
+        committed(() -> changeNotificationService.markAsRead(individually.getNotificationId(), testUser.getUserId()));
+
+        // When
+        committed(() -> changeNotificationService.markAllAsRead(testUser.getUserId()));
+
+        // Then
+        LocalDateTime lastReadAt = dsl.select(NOTIFICATION_READ_STATE.LAST_READ_AT)
+                .from(NOTIFICATION_READ_STATE)
+                .where(NOTIFICATION_READ_STATE.ORG_ID.eq(testOrgId))
+                .and(NOTIFICATION_READ_STATE.USER_ID.eq(testUser.getUserId()))
+                .fetchOne(NOTIFICATION_READ_STATE.LAST_READ_AT);
+        Map<Long, NotificationDTO> notifications = fetchAll();
+
+        NotificationDTO watermarkRead = notifications.get(byWatermark.getNotificationId());
+        assertTrue(watermarkRead.getIsRead());
+        assertEquals(lastReadAt, watermarkRead.getReadAt());
+
+        NotificationDTO individuallyRead = notifications.get(individually.getNotificationId());
+        assertTrue(individuallyRead.getIsRead());
+        assertNotNull(individuallyRead.getReadAt());
+        assertFalse(individuallyRead.getReadAt().isAfter(lastReadAt));
+    }
+
+    @Test
+    @DisplayName("개별 읽음 - 워터마크 이하 알림 - 카운터 유지")
+    void testMarkAsRead_BelowWatermark_ShouldNotDecrement() {
+        // Given
+        Notifications old = createNotification("이전 알림");
+        committed(() -> changeNotificationService.markAllAsRead(testUser.getUserId()));
+        createNotification("새 알림");
+        assertEquals(1, getNotificationService.getUnreadCount(testUser.getUserId()));
+
+        // When
+        committed(() -> changeNotificationService.markAsRead(old.getNotificationId(), testUser.getUserId()));
+
+        // Then
+        assertEquals(1, valkeyCache.getUnreadCount(testUser.getUserId()));
+    }
+
+    @Test
+    @DisplayName("개별 읽음/삭제 - 커밋 전(롤백)에는 카운터 유지")
+    void testMarkAsRead_BeforeCommit_ShouldKeepCounter() {
+        // Given
+        Notifications read = createNotification("읽을 알림");
+        Notifications deleted = createNotification("삭제할 알림");
+        assertEquals(2, getNotificationService.getUnreadCount(testUser.getUserId()));
+
+        // When: 커밋 후 작업을 실행하지 않음 (테스트 트랜잭션은 롤백됨)
+        changeNotificationService.markAsRead(read.getNotificationId(), testUser.getUserId());
+        changeNotificationService.deleteNotification(deleted.getNotificationId(), testUser.getUserId());
+
+        // Then
+        assertEquals(2, valkeyCache.getUnreadCount(testUser.getUserId()));
+    }
+}
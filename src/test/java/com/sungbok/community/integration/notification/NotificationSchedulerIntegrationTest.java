@@ -0,0 +1,136 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.dto.AnnouncementJobDTO;
+import com.sungbok.community.dto.AnnouncementRequest;
+import com.sungbok.community.dto.ScheduleNotificationRequest;
+import com.sungbok.community.dto.ScheduledNotificationDTO;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.service.AnnouncementFanoutService;
+import com.sungbok.community.service.NotificationSchedulerService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.jooq.generated.Tables.ANNOUNCEMENT_JOBS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 알림 저장/공지 작업 멱등성 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 예약 저장 시 항목, 조직 인덱스, 발송 대기열에 같은 발송 시각으로 함께 기록
+ * - 취소하면 세 키에서 모두 제거
+ * - 같은 예약 ID로 공지 작업을 다시 생성해도 작업은 1개 (lease 만료 후 재선점)
+ *
+ * @since 2.1.0
+ */
+@DisplayName("예약 알림 스케줄러 통합 테스트")
+public class NotificationSchedulerIntegrationTest extends BaseIntegrationTest {
+
+    private static final String SCHEDULE_KEY = "notification:scheduled";
+    private static final String ITEMS_KEY = "notification:scheduled:items";
+    private static final String ORG_INDEX_KEY_PREFIX = "notification:scheduled:org:";
+
+    @Autowired
+    private NotificationSchedulerService schedulerService;
+
+    @Autowired
+    private AnnouncementFanoutService announcementFanoutService;
+
+    private UserMemberDTO testUser;
+    private Long testOrgId;
+    private final List<String> scheduleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+        testUser = UserFixture.builder()
+                .email("scheduler@test.com")
+                .name("예약 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+    }
+
+    @AfterEach
+    void cleanupSchedules() {
+        // 예약은 테스트 트랜잭션 롤백과 무관하므로 직접 정리
+        for (String scheduleId : scheduleIds) {
+            redisTemplate.opsForZSet().remove(SCHEDULE_KEY, scheduleId);
+            redisTemplate.opsForZSet().remove(orgIndexKey(), scheduleId);
+            redisTemplate.opsForHash().delete(ITEMS_KEY, scheduleId);
+        }
+        scheduleIds.clear();
+    }
+
+    // ========== Helper Methods ==========
+
+    private ScheduledNotificationDTO scheduleAnnouncement() {
+        // 테스트 중 mover가 선점하지 않도록 충분히 먼 시각
+        ScheduleNotificationRequest request = new ScheduleNotificationRequest(
+                "예약 공지", "본문", null, null, LocalDateTime.now().plusDays(1));
+        ScheduledNotificationDTO scheduled = schedulerService.schedule(testUser.getUserId(), request);
+        scheduleIds.add(scheduled.getScheduleId());
+        return scheduled;
+    }
+
+    private String orgIndexKey() {
+        return ORG_INDEX_KEY_PREFIX + testOrgId;
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("예약 저장 - 항목, 조직 인덱스, 발송 대기열에 같은 발송 시각으로 기록")
+    void testSchedule_ShouldWriteAllKeys() {
+        // When
+        ScheduledNotificationDTO scheduled = scheduleAnnouncement();
+
+        // Then
+        String scheduleId = scheduled.getScheduleId();
+        assertNotNull(redisTemplate.opsForHash().get(ITEMS_KEY, scheduleId));
+        Double dueAt = redisTemplate.opsForZSet().score(SCHEDULE_KEY, scheduleId);
+        assertNotNull(dueAt);
+        assertEquals(dueAt, redisTemplate.opsForZSet().score(orgIndexKey(), scheduleId));
+        assertTrue(schedulerService.getPending().stream()
+                .anyMatch(item -> item.getScheduleId().equals(scheduleId) && item.isAnnouncement()));
+    }
+
+    @Test
+    @DisplayName("예약 취소 - 세 키에서 모두 제거")
+    void testCancel_ShouldRemoveAllKeys() {
+        // Given
+        String scheduleId = scheduleAnnouncement().getScheduleId();
+
+        // When
+        schedulerService.cancel(scheduleId);
+
+        // Then
+        assertNull(redisTemplate.opsForHash().get(ITEMS_KEY, scheduleId));
+        assertNull(redisTemplate.opsForZSet().score(SCHEDULE_KEY, scheduleId));
+        assertNull(redisTemplate.opsForZSet().score(orgIndexKey(), scheduleId));
+    }
+
+    @Test
+    @DisplayName("예약 공지 - 같은 예약 ID로 다시 생성해도 작업은 1개")
+    void testCreateScheduledJob_SameScheduleId_ShouldCreateOnce() {
+        // Given
+        String scheduleId = UUID.randomUUID().toString();
+        AnnouncementRequest request = new AnnouncementRequest("예약 공지", "본문", null);
+
+        // When: lease 만료 후 다른 노드가 같은 예약을 다시 발송
+        AnnouncementJobDTO first = announcementFanoutService.createScheduledJob(testUser.getUserId(), scheduleId, request);
+        AnnouncementJobDTO second = announcementFanoutService.createScheduledJob(testUser.getUserId(), scheduleId, request);
+
+        // Then
+        assertEquals(first.getJobId(), second.getJobId());
+        assertEquals(1, dsl.fetchCount(ANNOUNCEMENT_JOBS, ANNOUNCEMENT_JOBS.SCHEDULE_ID.eq(scheduleId)));
+    }
+}
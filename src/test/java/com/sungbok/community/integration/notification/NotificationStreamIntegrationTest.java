@@ -0,0 +1,219 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.dto.NotificationDTO;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.service.NotificationStreamService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.jooq.generated.tables.pojos.Notifications;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 실시간 알림 스트림(SSE) 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - Last-Event-ID로 재접속하면 그 이후 알림만 ID 순으로 재전송한 뒤 안 읽은 개수 전송
+ * - Last-Event-ID 없이 접속하면 안 읽은 개수만 전송
+ * - 사용자 알림은 Valkey pub/sub를 거쳐 해당 사용자의 모든 연결로만 전달
+ * - 조직 공지는 조직의 모든 연결로 전달
+ * - 같은 사용자에게 연속 발행한 알림은 발행 순서대로 전달
+ *
+ * @since 2.1.0
+ */
+@DisplayName("실시간 알림 스트림 통합 테스트")
+public class NotificationStreamIntegrationTest extends BaseIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private NotificationsRepository notificationsRepository;
+
+    private UserMemberDTO testUser;
+    private UserMemberDTO otherUser;
+    private Long testOrgId;
+
+    @BeforeEach
+    void setup() {
+        testOrgId = testDataManager.getTestOrgId();
+        testUser = UserFixture.builder()
+                .email("stream@test.com")
+                .name("스트림 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+        otherUser = UserFixture.builder()
+                .email("stream-other@test.com")
+                .name("스트림 다른 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+    }
+
+    @AfterEach
+    void cleanup() {
+        // SSE 연결과 안 읽은 개수 카운터는 테스트 트랜잭션 롤백과 무관하므로 직접 정리
+        notificationStreamService.closeAll();
+        redisTemplate.delete(List.of(
+                "user:unread:" + testOrgId + ":" + testUser.getUserId(),
+                "user:unread:" + testOrgId + ":" + otherUser.getUserId()));
+    }
+
+    // ========== Helper Methods ==========
+
+    private Notifications createNotification(String title) {
+        Notifications notification = new Notifications();
+        notification.setUserId(testUser.getUserId());
+        notification.setNotificationType("POST_COMMENT");
+        notification.setTitle(title);
+        notification.setBody("본문");
+        notification.setIsRead(false);
+        notification.setIsDeleted(false);
+        return notificationsRepository.insert(notification);
+    }
+
+    private MvcResult connect(UserMemberDTO user, Long lastEventId) throws Exception {
+        String accessToken = jwtTokenProvider.generateAccessToken(user);
+        MockHttpServletRequestBuilder builder = get("/notifications/stream")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String content(MvcResult stream) throws Exception {
+        return stream.getResponse().getContentAsString();
+    }
+
+    private static String eventId(Long notificationId) {
+        return "id:" + notificationId + "\n";
+    }
+
+    /**
+     * pub/sub로 전달된 이벤트가 연결에 기록될 때까지 대기합니다.
+     *
+     * @return 제한 시간 내에 기록됐으면 true
+     */
+    private boolean await(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!content(stream).contains(expected)) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("Last-Event-ID 재접속 - 이후 알림만 ID 순으로 재전송 후 안 읽은 개수")
+    void testStream_WithLastEventId_ShouldReplayMissedNotifications() throws Exception {
+        // Given
+        Notifications seen = createNotification("받은 알림");
+        Notifications missed1 = createNotification("놓친 알림 1");
+        Notifications missed2 = createNotification("놓친 알림 2");
+
+        // When
+        MvcResult stream = connect(testUser, seen.getNotificationId());
+
+        // Then
+        String body = content(stream);
+        assertFalse(body.contains(eventId(seen.getNotificationId())));
+        int first = body.indexOf(eventId(missed1.getNotificationId()));
+        int second = body.indexOf(eventId(missed2.getNotificationId()));
+        int unread = body.indexOf("event:" + NotificationStreamService.EVENT_UNREAD_COUNT);
+        assertTrue(first >= 0 && first < second && second < unread);
+    }
+
+    @Test
+    @DisplayName("신규 접속 - 알림 재전송 없이 안 읽은 개수만 전송")
+    void testStream_WithoutLastEventId_ShouldSendUnreadCountOnly() throws Exception {
+        // Given
+        createNotification("기존 알림");
+
+        // When
+        MvcResult stream = connect(testUser, null);
+
+        // Then
+        String body = content(stream);
+        assertFalse(body.contains("event:" + NotificationStreamService.EVENT_NOTIFICATION + "\n"));
+        assertTrue(body.contains("event:" + NotificationStreamService.EVENT_UNREAD_COUNT));
+    }
+
+    @Test
+    @DisplayName("pub/sub 전달 - 사용자 알림은 그 사용자의 모든 연결로, 공지는 조직 전체 연결로")
+    void testStream_PublishedEvents_ShouldFanOutToLocalConnections() throws Exception {
+        // Given: 같은 사용자 2개 기기 + 다른 사용자 1개
+        MvcResult phone = connect(testUser, null);
+        MvcResult tablet = connect(testUser, null);
+        MvcResult other = connect(otherUser, null);
+
+        NotificationDTO notification = NotificationDTO.builder()
+                .notificationId(987_654L)
+                .notificationType(NotificationType.POST_COMMENT)
+                .title("새 댓글")
+                .build();
+
+        // When: 사용자 알림 발행 후 조직 공지 발행 (같은 채널이라 순서 보장)
+        notificationStreamService.publishNotification(testOrgId, testUser.getUserId(), notification);
+        notificationStreamService.publishAnnouncement(testOrgId, Map.of("jobId", 1, "title", "공지"));
+
+        // Then
+        String announcement = "event:" + NotificationStreamService.EVENT_ANNOUNCEMENT;
+        assertTrue(await(phone, eventId(987_654L)));
+        assertTrue(await(tablet, eventId(987_654L)));
+        assertTrue(await(phone, announcement));
+        assertTrue(await(other, announcement));
+        assertFalse(content(other).contains(eventId(987_654L)));
+    }
+
+    @Test
+    @DisplayName("pub/sub 전달 - 연속 발행한 알림은 발행 순서대로 전달")
+    void testStream_ConsecutiveEvents_ShouldKeepPublishOrder() throws Exception {
+        // Given
+        MvcResult stream = connect(testUser, null);
+        List<Long> notificationIds = LongStream.rangeClosed(1, 50).map(i -> 900_000L + i).boxed().toList();
+
+        // When
+        for (Long notificationId : notificationIds) {
+            notificationStreamService.publishNotification(testOrgId, testUser.getUserId(), NotificationDTO.builder()
+                    .notificationId(notificationId)
+                    .notificationType(NotificationType.POST_COMMENT)
+                    .title("순서 " + notificationId)
+                    .build());
+        }
+
+        // Then
+        assertTrue(await(stream, eventId(notificationIds.getLast())));
+        String body = content(stream);
+        int previous = -1;
+        for (Long notificationId : notificationIds) {
+            int index = body.indexOf(eventId(notificationId));
+            assertTrue(index > previous, "순서가 바뀐 알림: " + notificationId);
+            previous = index;
+        }
+    }
+}
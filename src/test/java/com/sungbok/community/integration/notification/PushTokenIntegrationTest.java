@@ -0,0 +1,135 @@
+package com.sungbok.community.integration.notification;
+
+import com.sungbok.community.dto.PushTokenRequest;
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.service.ValkeyNotificationCacheService;
+import com.sungbok.community.support.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.jooq.generated.Tables.PUSH_TOKENS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Push Token 등록/해제 통합 테스트
+ *
+ * 테스트 시나리오:
+ * - 등록 직후(Write-through 캐시) 해제
+ * - Read-through로 채운 캐시(field = 토큰) 또는 캐시 만료 후 해제
+ *
+ * @since 2.1.0
+ */
+@DisplayName("Push Token 통합 테스트")
+public class PushTokenIntegrationTest extends BaseIntegrationTest {
+
+    private static final String DEVICE_ID = "device-1";
+    private static final String TOKEN = "ExponentPushToken[integration-test-token]";
+
+    @Autowired
+    private ValkeyNotificationCacheService valkeyCache;
+
+    private UserMemberDTO testUser;
+    private String accessToken;
+
+    @BeforeEach
+    void setup() {
+        testUser = UserFixture.builder()
+                .email("pushtoken@test.com")
+                .name("푸시 토큰 테스트 사용자")
+                .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+        accessToken = jwtTokenProvider.generateAccessToken(testUser);
+    }
+
+    @AfterEach
+    void cleanupTokenCache() {
+        // 토큰 캐시는 테스트 트랜잭션 롤백과 무관하므로 직접 정리
+        redisTemplate.delete("user:tokens:" + testUser.getUserId());
+    }
+
+    // ========== Helper Methods ==========
+
+    private void register() throws Exception {
+        PushTokenRequest request = new PushTokenRequest(DEVICE_ID, TOKEN, "ios", "iPhone", "1.0.0");
+
+        mockMvc.perform(post("/notifications/push-tokens")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+    }
+
+    private void unregister() throws Exception {
+        mockMvc.perform(delete("/notifications/push-tokens")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("deviceId", DEVICE_ID))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+    }
+
+    private boolean isDeletedInDb() {
+        return dsl.select(PUSH_TOKENS.IS_DELETED)
+                .from(PUSH_TOKENS)
+                .where(PUSH_TOKENS.USER_ID.eq(testUser.getUserId()))
+                .and(PUSH_TOKENS.EXPO_PUSH_TOKEN.eq(TOKEN))
+                .fetchOne(PUSH_TOKENS.IS_DELETED);
+    }
+
+    // ========== Test Cases ==========
+
+    @Test
+    @DisplayName("DELETE /notifications/push-tokens - 등록 직후 - DB 삭제 및 더 이상 조회되지 않음")
+    void testUnregister_AfterRegister_ShouldDelete() throws Exception {
+        // Given
+        register();
+
+        // When
+        unregister();
+
+        // Then
+        assertTrue(isDeletedInDb());
+        assertEquals(List.of(), valkeyCache.getActivePushTokens(testUser.getUserId()));
+    }
+
+    @Test
+    @DisplayName("DELETE /notifications/push-tokens - Read-through로 채운 캐시 - 기기 ID로 DB 삭제")
+    void testUnregister_AfterReadThroughFill_ShouldDelete() throws Exception {
+        // Given: 캐시 만료 후 Read-through로 다시 채움 (field = value = 토큰, 기기 ID 필드 없음)
+        register();
+        redisTemplate.delete("user:tokens:" + testUser.getUserId());
+        assertEquals(List.of(TOKEN), valkeyCache.getActivePushTokens(testUser.getUserId()));
+
+        // When
+        unregister();
+
+        // Then: 다음 Read-through에서도 다시 캐싱되지 않음
+        assertTrue(isDeletedInDb());
+        assertEquals(List.of(), valkeyCache.getActivePushTokens(testUser.getUserId()));
+    }
+
+    @Test
+    @DisplayName("DELETE /notifications/push-tokens - 캐시 없음 - 기기 ID로 DB 삭제")
+    void testUnregister_AfterCacheExpired_ShouldDelete() throws Exception {
+        // Given
+        register();
+        redisTemplate.delete("user:tokens:" + testUser.getUserId());
+
+        // When
+        unregister();
+
+        // Then
+        assertTrue(isDeletedInDb());
+        assertEquals(List.of(), valkeyCache.getActivePushTokens(testUser.getUserId()));
+    }
+}
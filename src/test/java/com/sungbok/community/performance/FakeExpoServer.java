@@ -0,0 +1,185 @@
+package com.sungbok.community.performance;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 가짜 Expo Push 서버 (JDK HttpServer, 요청마다 Virtual Thread)
+ * 응답 지연(고정 + 지터)과 HTTP 5xx 오류율을 설정할 수 있음
+ *
+ * <p>이벤트 data에 담긴 순번/enqueue 시각으로 이벤트별 도착 시각을 기록합니다 (첫 도착만).
+ * 같은 JVM이므로 System.nanoTime()을 그대로 비교</p>
+ */
+public class FakeExpoServer implements AutoCloseable {
+
+    public static final String DATA_SEQUENCE = "loadTestSeq";
+    public static final String DATA_ENQUEUED_AT_NANOS = "loadTestEnqueuedAtNanos";
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+    private final Random random;
+
+    private final ConcurrentHashMap<Long, Long> latencyNanosBySequence = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong lastArrivalNanos = new AtomicLong();
+
+    private FakeExpoServer(long latencyMillis, long jitterMillis, double errorRate, long seed) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        this.random = new Random(seed);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/push/send", this::handleSend);
+        server.createContext("/push/getReceipts", exchange -> respond(exchange, 200, "{\"data\":{}}"));
+        server.start();
+    }
+
+    /**
+     * 서버를 임의 포트로 시작합니다.
+     *
+     * @param latencyMillis 고정 응답 지연 (ms)
+     * @param jitterMillis 추가 지연 최댓값 (ms, 균등 분포)
+     * @param errorRate HTTP 500 응답 비율 (0.0 ~ 1.0)
+     * @param seed 난수 시드 (실행 간 비교용)
+     * @return 시작된 서버
+     */
+    public static FakeExpoServer start(long latencyMillis, long jitterMillis, double errorRate, long seed) {
+        try {
+            return new FakeExpoServer(latencyMillis, jitterMillis, errorRate, seed);
+        } catch (IOException e) {
+            throw new IllegalStateException("가짜 Expo 서버 시작 실패", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 도착한 이벤트 수 (오류 응답 포함, 이벤트당 1회)
+     */
+    public int arrivals() {
+        return latencyNanosBySequence.size();
+    }
+
+    /**
+     * 이벤트별 enqueue → Expo 도착 지연 (ns)
+     */
+    public List<Long> latenciesNanos() {
+        return new ArrayList<>(latencyNanosBySequence.values());
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    public long lastArrivalNanos() {
+        return lastArrivalNanos.get();
+    }
+
+    /**
+     * 측정값 초기화 (워밍업 후 호출)
+     */
+    public void reset() {
+        latencyNanosBySequence.clear();
+        requests.set(0);
+        errors.set(0);
+        lastArrivalNanos.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleSend(HttpExchange exchange) throws IOException {
+        long arrivedAt = System.nanoTime();
+        requests.incrementAndGet();
+
+        JsonNode request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = objectMapper.readTree(body.readAllBytes());
+        }
+        record(request.path("data"), arrivedAt);
+
+        long delay;
+        boolean fail;
+        synchronized (random) {
+            delay = latencyMillis + (jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0);
+            fail = random.nextDouble() < errorRate;
+        }
+        sleep(delay);
+
+        if (fail) {
+            errors.incrementAndGet();
+            respond(exchange, 500, "{\"errors\":[{\"code\":\"INTERNAL_SERVER_ERROR\"}]}");
+            return;
+        }
+
+        // 토큰마다 성공 티켓 1개
+        StringBuilder response = new StringBuilder("{\"data\":[");
+        JsonNode tokens = request.path("to");
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append("{\"status\":\"ok\",\"id\":\"").append(requests.get()).append('-').append(i).append("\"}");
+        }
+        response.append("]}");
+        respond(exchange, 200, response.toString());
+    }
+
+    private void record(JsonNode data, long arrivedAt) {
+        JsonNode sequence = data.get(DATA_SEQUENCE);
+        JsonNode enqueuedAt = data.get(DATA_ENQUEUED_AT_NANOS);
+        if (sequence == null || enqueuedAt == null) {
+            return;
+        }
+        latencyNanosBySequence.putIfAbsent(sequence.asLong(), arrivedAt - enqueuedAt.asLong());
+        lastArrivalNanos.accumulateAndGet(arrivedAt, Math::max);
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.sungbok.community.performance;
+
+import com.sungbok.community.service.FileTypeDetector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.tika.Tika;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Magic Number 검증 성능 테스트
+ * 기존 방식(1MB Range + 파일마다 new Tika) vs FileTypeDetector(4KB~ 적응형 Range + 공유 Detector)
+ * 파일당 다운로드 바이트와 감지 시간 측정 (Range GET은 메모리 복사로 대체, Spring 컨텍스트 없음)
+ */
+@DisplayName("Magic Number 검증 성능 테스트")
+public class FileTypeDetectorPerformanceTest {
+
+    private static final int FILE_SIZE = 5 * 1024 * 1024;
+    private static final int LEGACY_PREFIX_BYTES = 1024 * 1024;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int TEST_ITERATIONS = 1000;
+
+    private final FileTypeDetector detector = new FileTypeDetector(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("주요 업로드 타입 (JPEG, PNG, WebP, PDF, MP4)")
+    void testCommonTypes() {
+        Map<String, byte[]> samples = new LinkedHashMap<>();
+        samples.put("image/jpeg", sample(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0,
+                0x00, 0x10, 'J', 'F', 'I', 'F', 0x00}));
+        samples.put("image/png", sample(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A,
+                0x00, 0x00, 0x00, 0x0D, 'I', 'H', 'D', 'R'}));
+        samples.put("image/webp", sample(ascii("RIFF\u0000\u0000P\u0000WEBPVP8 ")));
+        samples.put("application/pdf", sample(ascii("%PDF-1.7\n%âãÏÓ\n")));
+        samples.put("video/mp4", sample(new byte[]{0x00, 0x00, 0x00, 0x20, 'f', 't', 'y', 'p',
+                'i', 's', 'o', 'm', 0x00, 0x00, 0x02, 0x00, 'i', 's', 'o', 'm', 'i', 's', 'o', '2'}));
+
+        System.out.println("📊 Magic Number 검증 성능 테스트 (파일 크기 " + FILE_SIZE / 1024 / 1024 + "MB)");
+        for (Map.Entry<String, byte[]> sample : samples.entrySet()) {
+            byte[] file = sample.getValue();
+
+            String legacyType = legacyDetect(file, new long[1]);
+            String detectedType = detector.detect(source(file, new long[1]));
+            assertEquals(sample.getKey(), detectedType);
+            assertEquals(legacyType, detectedType);
+
+            long legacyNanos = measure(() -> legacyDetect(file, new long[1]));
+            long newNanos = measure(() -> detector.detect(source(file, new long[1])));
+
+            long[] legacyBytes = new long[1];
+            long[] newBytes = new long[1];
+            legacyDetect(file, legacyBytes);
+            detector.detect(source(file, newBytes));
+
+            System.out.printf("""
+
+                    === %s ===
+                    기존: %,d bytes/파일, %,d ns/op (P50)
+                    신규: %,d bytes/파일, %,d ns/op (P50)
+                    """, sample.getKey(), legacyBytes[0], legacyNanos, newBytes[0], newNanos);
+
+            assertTrue(newBytes[0] * 100 <= legacyBytes[0]);
+        }
+    }
+
+    /**
+     * 기존 방식 (1MB Range + 파일마다 new Tika)
+     */
+    private String legacyDetect(byte[] file, long[] fetchedBytes) {
+        try (InputStream in = source(file, fetchedBytes).open(0, LEGACY_PREFIX_BYTES - 1)) {
+            return new Tika().detect(in);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long measure(Runnable detection) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            detection.run();
+        }
+
+        List<Long> timings = new ArrayList<>(TEST_ITERATIONS);
+        for (int i = 0; i < TEST_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            detection.run();
+            timings.add(System.nanoTime() - start);
+        }
+        timings.sort(Long::compareTo);
+        return timings.get(timings.size() / 2);
+    }
+
+    /**
+     * Range GET 흉내: 요청 구간을 복사하고 전송 바이트를 누적
+     */
+    private FileTypeDetector.RangeSource source(byte[] file, long[] fetchedBytes) {
+        return (startByte, endByte) -> {
+            int from = (int) Math.min(startByte, file.length);
+            int to = (int) Math.min(endByte + 1, file.length);
+            byte[] range = new byte[to - from];
+            System.arraycopy(file, from, range, 0, range.length);
+            fetchedBytes[0] += range.length;
+            return new ByteArrayInputStream(range);
+        };
+    }
+
+    private byte[] sample(byte[] header) {
+        byte[] file = new byte[FILE_SIZE];
+        new Random(42).nextBytes(file);
+        System.arraycopy(header, 0, file, 0, header.length);
+        return file;
+    }
+
+    private byte[] ascii(String header) {
+        return header.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
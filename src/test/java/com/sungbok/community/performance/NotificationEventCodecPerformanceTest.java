@@ -0,0 +1,115 @@
+package com.sungbok.community.performance;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationQueueCodec;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.service.NotificationEventCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 알림 큐 페이로드 코덱 성능 테스트
+ * JSON vs BINARY: 이벤트당 바이트, 인코딩/디코딩 ns/op 측정 (Spring 컨텍스트 없음)
+ */
+@DisplayName("알림 큐 페이로드 코덱 성능 테스트")
+public class NotificationEventCodecPerformanceTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int TEST_ITERATIONS = 200_000;
+
+    private final NotificationEventCodec codec =
+            new NotificationEventCodec(new ObjectMapper(), new NotificationProperties());
+
+    @Test
+    @DisplayName("공지 팬아웃 이벤트 (작은 data)")
+    void testAnnouncementEvent() {
+        NotificationEvent event = event(NotificationType.ADMIN_ANNOUNCEMENT, Map.of(
+                "announcementId", 987,
+                "deepLink", "app://announcements/987"));
+
+        long jsonBytes = measure("JSON", event, NotificationQueueCodec.JSON);
+        long binaryBytes = measure("BINARY", event, NotificationQueueCodec.BINARY);
+
+        assertTrue(binaryBytes < jsonBytes);
+    }
+
+    @Test
+    @DisplayName("병합 좋아요 이벤트 (큰 data, deflate 적용)")
+    void testCoalescedEventWithLargeData() {
+        NotificationEvent event = event(NotificationType.POST_LIKE, Map.of(
+                "postId", 123,
+                "actorName", "홍길동",
+                "coalescedCount", 43,
+                "preview", "이번 주 수련회 사진을 공유합니다. ".repeat(20)));
+
+        long jsonBytes = measure("JSON", event, NotificationQueueCodec.JSON);
+        long binaryBytes = measure("BINARY", event, NotificationQueueCodec.BINARY);
+
+        assertTrue(binaryBytes < jsonBytes);
+    }
+
+    private long measure(String name, NotificationEvent event, NotificationQueueCodec type) {
+        byte[] payload = codec.encode(event, type);
+
+        // JVM 워밍업 (JIT 컴파일)
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += codec.encode(event, type).length;
+            sink += codec.decode(payload).getUserId();
+        }
+
+        List<Long> encodeTimings = new ArrayList<>(TEST_ITERATIONS / 1000);
+        List<Long> decodeTimings = new ArrayList<>(TEST_ITERATIONS / 1000);
+        for (int batch = 0; batch < TEST_ITERATIONS / 1000; batch++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 1000; i++) {
+                sink += codec.encode(event, type).length;
+            }
+            encodeTimings.add((System.nanoTime() - start) / 1000);
+
+            start = System.nanoTime();
+            for (int i = 0; i < 1000; i++) {
+                sink += codec.decode(payload).getUserId();
+            }
+            decodeTimings.add((System.nanoTime() - start) / 1000);
+        }
+
+        System.out.printf("""
+
+                === %s ===
+                이벤트당 바이트: %d
+                인코딩: %d ns/op (P50)
+                디코딩: %d ns/op (P50)
+                (sink=%d)
+                """, name, payload.length, p50(encodeTimings), p50(decodeTimings), sink);
+        return payload.length;
+    }
+
+    private long p50(List<Long> timings) {
+        timings.sort(Long::compareTo);
+        return timings.get(timings.size() / 2);
+    }
+
+    private NotificationEvent event(NotificationType type, Map<String, Object> data) {
+        NotificationEvent event = NotificationEvent.builder()
+                .orgId(12L)
+                .userId(184_223L)
+                .notificationType(type)
+                .title("주일 예배 안내")
+                .body("이번 주 예배는 11시에 본당에서 시작합니다")
+                .relatedEntityType("announcement")
+                .relatedEntityId(987L)
+                .data(data)
+                .build();
+        event.setEnqueuedAt(System.currentTimeMillis());
+        return event;
+    }
+}
@@ -0,0 +1,333 @@
+package com.sungbok.community.performance;
+
+import com.sungbok.community.dto.UserMemberDTO;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.fixture.UserFixture;
+import com.sungbok.community.repository.MembersRepository;
+import com.sungbok.community.repository.MembershipRolesRepository;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.repository.UserRepository;
+import com.sungbok.community.security.TenantContext;
+import com.sungbok.community.service.RedisQueueService;
+import com.sungbok.community.service.ValkeyNotificationCacheService;
+import com.sungbok.community.support.TestDataManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 알림 파이프라인 End-to-End 부하 테스트
+ * RedisQueueService → NotificationWorkerService → PushNotificationService → (가짜) Expo
+ *
+ * <p>로컬 Postgres/Valkey가 필요하며 기본 test 태스크에서는 제외됩니다 ("load" 태그).</p>
+ * <pre>
+ * ./gradlew loadTest -Dload.events=20000 -Dload.rate=2000 -Dload.mix=POST_LIKE:5,ADMIN_ANNOUNCEMENT:5
+ * </pre>
+ *
+ * <p>설정 (시스템 프로퍼티, 괄호는 기본값):</p>
+ * <ul>
+ *   <li>load.events (5000) / load.warmup-events (500) / load.users (200)</li>
+ *   <li>load.rate: 초당 enqueue 수 (0 = 최대 속도)</li>
+ *   <li>load.mix: 타입:가중치 목록 (POST_LIKE:5,POST_COMMENT:3,ADMIN_ANNOUNCEMENT:2)</li>
+ *   <li>load.expo.latency-ms (50) / load.expo.jitter-ms (20) / load.expo.error-rate (0.0)</li>
+ *   <li>load.seed (42) / load.timeout-seconds (300)</li>
+ * </ul>
+ *
+ * <p>측정: 처리량(첫 enqueue → 마지막 Expo 도착), enqueue → Expo 도착 지연 P50/P99,
+ * DB 커넥션 대기 시간 (HikariCP hikaricp.connections.acquire).
+ * 결과는 커밋 해시와 설정을 포함해 build/load-test/notification-pipeline.jsonl에 한 줄씩 추가되어
+ * 커밋 간 비교 가능</p>
+ *
+ * <p>병합(Coalescing)은 이벤트 수를 바꾸므로 비활성화하고 측정합니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("load")
+@DisplayName("알림 파이프라인 부하 테스트")
+public class NotificationPipelineLoadTest {
+
+    private static final int EVENTS = Integer.getInteger("load.events", 5000);
+    private static final int WARMUP_EVENTS = Integer.getInteger("load.warmup-events", 500);
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int RATE = Integer.getInteger("load.rate", 0);
+    private static final String MIX = System.getProperty("load.mix", "POST_LIKE:5,POST_COMMENT:3,ADMIN_ANNOUNCEMENT:2");
+    private static final long EXPO_LATENCY_MS = Long.getLong("load.expo.latency-ms", 50);
+    private static final long EXPO_JITTER_MS = Long.getLong("load.expo.jitter-ms", 20);
+    private static final double EXPO_ERROR_RATE = Double.parseDouble(System.getProperty("load.expo.error-rate", "0"));
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final long TIMEOUT_SECONDS = Long.getLong("load.timeout-seconds", 300);
+
+    private static final Path RESULT_FILE = Path.of("build", "load-test", "notification-pipeline.jsonl");
+
+    private static final FakeExpoServer EXPO = FakeExpoServer.start(
+            EXPO_LATENCY_MS, EXPO_JITTER_MS, EXPO_ERROR_RATE, SEED);
+
+    @Autowired
+    private RedisQueueService queueService;
+
+    @Autowired
+    private ValkeyNotificationCacheService valkeyCache;
+
+    @Autowired
+    private TestDataManager testDataManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MembersRepository membersRepository;
+
+    @Autowired
+    private MembershipRolesRepository membershipRolesRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private NotificationsRepository notificationsRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long sequence;
+
+    @DynamicPropertySource
+    static void pipelineProperties(DynamicPropertyRegistry registry) {
+        registry.add("notification.expo.push-url", () -> EXPO.baseUrl() + "/push/send");
+        registry.add("notification.expo.receipts-url", () -> EXPO.baseUrl() + "/push/getReceipts");
+        registry.add("notification.coalesce.enabled", () -> false);
+    }
+
+    @AfterAll
+    static void stopExpo() {
+        EXPO.close();
+    }
+
+    @AfterEach
+    void cleanup() {
+        TenantContext.clear();
+        testDataManager.clearTestData();
+    }
+
+    @Test
+    @DisplayName("이벤트 혼합 부하 → 처리량, 지연 P50/P99, DB 커넥션 대기 측정")
+    void testPipelineThroughput() throws Exception {
+        Long orgId = testDataManager.ensureTestDataExists();
+        TenantContext.setOrgId(orgId);
+        List<Long> userIds = prepareUsers();
+        List<NotificationType> mix = parseMix(MIX);
+        Random random = new Random(SEED);
+
+        // 실행 간 테이블 크기 차이가 결과에 섞이지 않도록 이전 실행 알림 삭제
+        notificationsRepository.deleteByUserIds(userIds);
+
+        // 워밍업 (JIT, 커넥션 풀, 캐시)
+        System.out.println("=== 워밍업: " + WARMUP_EVENTS + "건 ===");
+        drive(orgId, userIds, mix, random, WARMUP_EVENTS);
+        await(WARMUP_EVENTS);
+        EXPO.reset();
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        long acquireCountBefore = acquire != null ? acquire.count() : 0;
+        double acquireTotalBefore = acquire != null ? acquire.totalTime(TimeUnit.MILLISECONDS) : 0;
+
+        System.out.println("=== 측정: " + EVENTS + "건, rate=" + (RATE > 0 ? RATE + "/s" : "max") + " ===");
+        long start = System.nanoTime();
+        drive(orgId, userIds, mix, random, EVENTS);
+        long enqueueElapsed = System.nanoTime() - start;
+        boolean completed = await(EVENTS);
+        long elapsed = EXPO.lastArrivalNanos() - start;
+
+        List<Long> latencies = EXPO.latenciesNanos();
+        latencies.sort(Long::compareTo);
+        long acquireCount = acquire != null ? acquire.count() - acquireCountBefore : 0;
+        double acquireTotal = acquire != null ? acquire.totalTime(TimeUnit.MILLISECONDS) - acquireTotalBefore : 0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", Instant.now().toString());
+        result.put("commit", gitCommit());
+        result.put("events", EVENTS);
+        result.put("users", USERS);
+        result.put("rate", RATE);
+        result.put("mix", MIX);
+        result.put("expoLatencyMs", EXPO_LATENCY_MS);
+        result.put("expoJitterMs", EXPO_JITTER_MS);
+        result.put("expoErrorRate", EXPO_ERROR_RATE);
+        result.put("seed", SEED);
+        result.put("completed", completed);
+        result.put("delivered", latencies.size());
+        result.put("expoRequests", EXPO.requests());
+        result.put("expoErrors", EXPO.errors());
+        result.put("enqueuePerSec", round(EVENTS / (enqueueElapsed / 1e9)));
+        result.put("throughputPerSec", round(latencies.size() / (elapsed / 1e9)));
+        result.put("latencyP50Ms", percentileMillis(latencies, 0.50));
+        result.put("latencyP99Ms", percentileMillis(latencies, 0.99));
+        result.put("latencyMaxMs", percentileMillis(latencies, 1.0));
+        result.put("dbAcquireCount", acquireCount);
+        result.put("dbAcquireMeanMs", acquireCount > 0 ? round(acquireTotal / acquireCount) : 0);
+        result.put("dbAcquireMaxMs", acquire != null ? round(acquire.max(TimeUnit.MILLISECONDS)) : 0);
+
+        String line = objectMapper.writeValueAsString(result);
+        Files.createDirectories(RESULT_FILE.getParent());
+        Files.writeString(RESULT_FILE, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        System.out.printf("""
+
+                📊 알림 파이프라인 부하 테스트 결과
+                처리량: %s건/s (enqueue %s건/s)
+                지연 P50: %sms, P99: %sms, 최대: %sms
+                Expo 요청: %d (오류 %d), 도착 이벤트: %d/%d
+                DB 커넥션 대기: 평균 %sms, 최대 %sms (%d회)
+                결과 파일: %s
+                """,
+                result.get("throughputPerSec"), result.get("enqueuePerSec"),
+                result.get("latencyP50Ms"), result.get("latencyP99Ms"), result.get("latencyMaxMs"),
+                EXPO.requests(), EXPO.errors(), latencies.size(), EVENTS,
+                result.get("dbAcquireMeanMs"), result.get("dbAcquireMaxMs"), acquireCount,
+                RESULT_FILE.toAbsolutePath());
+
+        // 모든 이벤트가 Expo까지 도달해야 측정값이 유효
+        assertEquals(EVENTS, latencies.size());
+    }
+
+    /**
+     * 부하 테스트 사용자 준비 (실행 간 재사용) + Push Token / 알림 설정 캐시 워밍업
+     */
+    private List<Long> prepareUsers() {
+        List<Long> userIds = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            UserMemberDTO user = UserFixture.builder()
+                    .email("loadtest-" + i + "@test.com")
+                    .name("부하테스트" + i)
+                    .build(userRepository, membersRepository, membershipRolesRepository, passwordEncoder);
+            userIds.add(user.getUserId());
+            valkeyCache.savePushToken(user.getUserId(), "loadtest-device", "ExponentPushToken[loadtest-" + i + "]");
+            valkeyCache.getPushPreferenceMask(user.getUserId());
+        }
+        return userIds;
+    }
+
+    /**
+     * 설정한 속도로 이벤트를 enqueue합니다 (rate 0이면 최대 속도).
+     */
+    private void drive(Long orgId, List<Long> userIds, List<NotificationType> mix, Random random, int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (RATE > 0) {
+                long due = start + (long) i * 1_000_000_000L / RATE;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+
+            NotificationType type = mix.get(random.nextInt(mix.size()));
+            long seq = sequence++;
+
+            Map<String, Object> data = new HashMap<>();
+            data.put(FakeExpoServer.DATA_SEQUENCE, seq);
+            data.put(FakeExpoServer.DATA_ENQUEUED_AT_NANOS, System.nanoTime());
+
+            queueService.enqueue(NotificationEvent.builder()
+                    .orgId(orgId)
+                    .userId(userIds.get(random.nextInt(userIds.size())))
+                    .notificationType(type)
+                    .title("부하 테스트")
+                    .body("부하 테스트 알림 " + seq)
+                    .relatedEntityType("load_test")
+                    .relatedEntityId(seq)
+                    .data(data)
+                    .build());
+        }
+    }
+
+    /**
+     * 모든 이벤트가 Expo에 도착할 때까지 대기합니다.
+     *
+     * @return 제한 시간 내에 모두 도착했으면 true
+     */
+    private boolean await(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (EXPO.arrivals() < expected) {
+            if (System.nanoTime() > deadline) {
+                System.out.printf("⚠️ 제한 시간 초과: %d/%d 도착%n", EXPO.arrivals(), expected);
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    /**
+     * "TYPE:가중치,..." 형식의 혼합 비율을 가중치만큼 반복한 목록으로 변환
+     */
+    private List<NotificationType> parseMix(String mix) {
+        List<NotificationType> types = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            NotificationType type = NotificationType.valueOf(parts[0].trim());
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private double percentileMillis(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return round(sortedNanos.get(Math.max(0, index)) / 1e6);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            String commit = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? commit : "unknown";
+        } catch (IOException | InterruptedException e) {
+            return "unknown";
+        }
+    }
+}
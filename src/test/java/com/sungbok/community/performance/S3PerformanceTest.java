@@ -2,210 +2,171 @@ package com.sungbok.community.performance;
 
 import com.sungbok.community.config.OciStorageProperties;
 import com.sungbok.community.service.OciStorageService;
-import org.junit.jupiter.api.BeforeEach;
+import com.sungbok.community.service.S3PresignedUrlSigner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
-
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * OCI Storage 성능 테스트
- * Pre-signed URL 생성 속도 측정 (Netty vs Apache HTTP Client)
+ * 다운로드 Pre-signed URL 생성 벤치마크
+ * S3Presigner 단건(기존) vs 서명기 단건 vs 일괄(서명 키 재사용) vs 일괄 캐시 적중
+ * 갤러리 1페이지(50개) 기준 URL당 시간과 처리량 측정 (서명은 로컬 계산이라 네트워크/Spring 컨텍스트 없음)
  */
-@SpringBootTest
-@ActiveProfiles("test")
-@DisplayName("S3 Pre-signed URL 생성 성능 테스트")
+@DisplayName("S3 Pre-signed URL 생성 벤치마크")
 public class S3PerformanceTest {
 
-    @Autowired
-    private OciStorageService ociStorageService;
-
-    @Autowired
-    private OciStorageProperties ociStorageProperties;
-
-    private static final int WARMUP_ITERATIONS = 100;
-    private static final int TEST_ITERATIONS = 1000;
-
-    @BeforeEach
-    void warmup() {
-        // JVM 워밍업 (JIT 컴파일)
-        System.out.println("=== JVM 워밍업 시작 ===");
-        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
-            String objectKey = "warmup/" + UUID.randomUUID() + ".jpg";
-            ociStorageService.generatePresignedUploadUrl(
-                    objectKey,
-                    "image/jpeg",
-                    1024L,
-                    Duration.ofMinutes(15)
-            );
-        }
-        System.out.println("=== JVM 워밍업 완료 ===\n");
+    private static final String ENDPOINT = "https://benchmark.compat.objectstorage.ap-seoul-1.oraclecloud.com";
+    private static final String REGION = "ap-seoul-1";
+    private static final Duration EXPIRATION = Duration.ofHours(1);
+
+    private static final int GALLERY_SIZE = 50;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int TEST_ROUNDS = 1000;
+
+    private final OciStorageProperties properties = properties();
+    private final S3Presigner s3Presigner = S3Presigner.builder()
+            .region(Region.of(REGION))
+            .endpointOverride(URI.create(ENDPOINT))
+            .credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key")))
+            .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+            .build();
+    private final OciStorageService ociStorageService = new OciStorageService(
+            null, s3Presigner, properties, new S3PresignedUrlSigner(properties), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
     }
 
     @Test
-    @DisplayName("Pre-signed Upload URL 생성 성능 측정 (1000회)")
-    void testPresignedUploadUrlPerformance() {
-        List<Long> timings = new ArrayList<>();
-
-        System.out.println("📊 Pre-signed Upload URL 성능 테스트 시작");
-        System.out.println("반복 횟수: " + TEST_ITERATIONS + "회\n");
+    @DisplayName("갤러리 50개 다운로드 URL: 단건 vs 일괄")
+    void testGalleryPresignThroughput() {
+        List<String> galleryKeys = galleryKeys();
 
-        // 1000회 반복 측정
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String objectKey = String.format("test/%d/%s.jpg", i, UUID.randomUUID());
+        System.out.println("📊 다운로드 URL 생성 벤치마크 (갤러리 " + GALLERY_SIZE + "개, "
+                + TEST_ROUNDS + "회 반복)");
 
-            long startNano = System.nanoTime();
-            String uploadUrl = ociStorageService.generatePresignedUploadUrl(
-                    objectKey,
-                    "image/jpeg",
-                    5_242_880L,
-                    Duration.ofMinutes(15)
-            );
-            long endNano = System.nanoTime();
-
-            assertNotNull(uploadUrl);
-            timings.add(endNano - startNano);
-
-            // 진행률 표시 (매 100회)
-            if ((i + 1) % 100 == 0) {
-                System.out.printf("진행: %d/%d 완료\n", i + 1, TEST_ITERATIONS);
+        // 1. 기존: 파일마다 S3Presigner 호출 (요청 객체 생성 + 서명 키 유도)
+        long sdkNanos = measure(() -> {
+            for (String objectKey : galleryKeys()) {
+                assertNotNull(sdkPresign(objectKey));
             }
-        }
+        });
 
-        printStatistics("Upload URL", timings);
+        // 2. 서명기 단건 호출 (캐시 미적중)
+        long singleNanos = measure(() -> {
+            for (String objectKey : galleryKeys()) {
+                assertNotNull(ociStorageService.generatePresignedDownloadUrl(objectKey, EXPIRATION));
+            }
+        });
+
+        // 3. 일괄 호출 (캐시 미적중, 서명 키 재사용)
+        long batchNanos = measure(() -> {
+            Map<String, String> urls = ociStorageService.generatePresignedDownloadUrls(galleryKeys(), EXPIRATION);
+            assertEquals(GALLERY_SIZE, urls.size());
+        });
+
+        // 4. 일괄 호출 (같은 갤러리 재조회, 캐시 적중)
+        long cachedNanos = measure(() -> {
+            Map<String, String> urls = ociStorageService.generatePresignedDownloadUrls(galleryKeys, EXPIRATION);
+            assertEquals(GALLERY_SIZE, urls.size());
+        });
+
+        printStatistics("S3Presigner 단건 (기존)", sdkNanos);
+        printStatistics("서명기 단건", singleNanos);
+        printStatistics("일괄 (캐시 미적중)", batchNanos);
+        printStatistics("일괄 (캐시 적중)", cachedNanos);
+
+        assertTrue(batchNanos < sdkNanos, "일괄 서명이 S3Presigner 단건보다 느림");
+        assertTrue(cachedNanos < batchNanos, "캐시 적중이 새 서명보다 느림");
     }
 
-    @Test
-    @DisplayName("Pre-signed Download URL 생성 성능 측정 (1000회)")
-    void testPresignedDownloadUrlPerformance() {
-        List<Long> timings = new ArrayList<>();
-
-        System.out.println("📊 Pre-signed Download URL 성능 테스트 시작");
-        System.out.println("반복 횟수: " + TEST_ITERATIONS + "회\n");
-
-        // 1000회 반복 측정
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String objectKey = String.format("test/%d/%s.jpg", i, UUID.randomUUID());
+    /**
+     * 라운드(갤러리 1회 조회)별 시간을 재고 P50을 반환합니다 (워밍업 후).
+     */
+    private long measure(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
 
+        List<Long> timings = new ArrayList<>(TEST_ROUNDS);
+        for (int i = 0; i < TEST_ROUNDS; i++) {
             long startNano = System.nanoTime();
-            String downloadUrl = ociStorageService.generatePresignedDownloadUrl(
-                    objectKey,
-                    Duration.ofMinutes(15)
-            );
-            long endNano = System.nanoTime();
-
-            assertNotNull(downloadUrl);
-            timings.add(endNano - startNano);
-
-            // 진행률 표시 (매 100회)
-            if ((i + 1) % 100 == 0) {
-                System.out.printf("진행: %d/%d 완료\n", i + 1, TEST_ITERATIONS);
-            }
+            round.run();
+            timings.add(System.nanoTime() - startNano);
         }
-
-        printStatistics("Download URL", timings);
+        timings.sort(Long::compareTo);
+        return timings.get(timings.size() / 2);
     }
 
-    @Test
-    @DisplayName("혼합 워크로드 성능 측정 (Upload 500 + Download 500)")
-    void testMixedWorkloadPerformance() {
-        List<Long> uploadTimings = new ArrayList<>();
-        List<Long> downloadTimings = new ArrayList<>();
-
-        System.out.println("📊 혼합 워크로드 성능 테스트 시작");
-        System.out.println("Upload: 500회, Download: 500회\n");
-
-        for (int i = 0; i < 500; i++) {
-            String objectKey = String.format("test/%d/%s.jpg", i, UUID.randomUUID());
+    private String sdkPresign(String objectKey) {
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(properties.getBucketName())
+                        .key(objectKey)
+                        .build())
+                .signatureDuration(EXPIRATION)
+                .build();
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
 
-            // Upload URL 생성
-            long startNano = System.nanoTime();
-            ociStorageService.generatePresignedUploadUrl(
-                    objectKey,
-                    "image/jpeg",
-                    5_242_880L,
-                    Duration.ofMinutes(15)
-            );
-            long endNano = System.nanoTime();
-            uploadTimings.add(endNano - startNano);
-
-            // Download URL 생성
-            startNano = System.nanoTime();
-            ociStorageService.generatePresignedDownloadUrl(
-                    objectKey,
-                    Duration.ofMinutes(15)
-            );
-            endNano = System.nanoTime();
-            downloadTimings.add(endNano - startNano);
-
-            // 진행률 표시 (매 100회)
-            if ((i + 1) % 100 == 0) {
-                System.out.printf("진행: %d/500 완료\n", i + 1);
-            }
+    private static List<String> galleryKeys() {
+        List<String> keys = new ArrayList<>(GALLERY_SIZE);
+        for (int i = 0; i < GALLERY_SIZE; i++) {
+            keys.add(String.format("1/post/2025/12/%s.jpg", UUID.randomUUID()));
         }
-
-        System.out.println("\n=== Upload URL 통계 ===");
-        printStatistics("Upload URL", uploadTimings);
-
-        System.out.println("\n=== Download URL 통계 ===");
-        printStatistics("Download URL", downloadTimings);
+        return keys;
     }
 
-    private void printStatistics(String operation, List<Long> timingsNano) {
-        timingsNano.sort(Long::compareTo);
-
-        double avgNano = timingsNano.stream().mapToLong(Long::longValue).average().orElse(0);
-        long minNano = timingsNano.get(0);
-        long maxNano = timingsNano.get(timingsNano.size() - 1);
-        long p50Nano = timingsNano.get(timingsNano.size() / 2);
-        long p95Nano = timingsNano.get((int) (timingsNano.size() * 0.95));
-        long p99Nano = timingsNano.get((int) (timingsNano.size() * 0.99));
+    private void printStatistics(String operation, long roundNanos) {
+        double perUrlMicros = roundNanos / 1_000.0 / GALLERY_SIZE;
 
         String report = String.format("""
 
-                ╔══════════════════════════════════════════╗
-                ║  %s 성능 통계 (1000회)         ║
-                ╠══════════════════════════════════════════╣
-                ║  평균:      %8.2f ms                 ║
-                ║  최소:      %8.2f ms                 ║
-                ║  최대:      %8.2f ms                 ║
-                ║  P50:       %8.2f ms                 ║
-                ║  P95:       %8.2f ms                 ║
-                ║  P99:       %8.2f ms                 ║
-                ╚══════════════════════════════════════════╝
-
-                ⚡ 처리량: %.2f requests/sec
+                === %s ===
+                갤러리 1회 (P50): %8.3f ms
+                URL당:            %8.2f µs
+                ⚡ 처리량: %,.0f URLs/sec
                 """,
                 operation,
-                avgNano / 1_000_000.0,
-                minNano / 1_000_000.0,
-                maxNano / 1_000_000.0,
-                p50Nano / 1_000_000.0,
-                p95Nano / 1_000_000.0,
-                p99Nano / 1_000_000.0,
-                1000.0 / (avgNano / 1_000_000_000.0)
+                roundNanos / 1_000_000.0,
+                perUrlMicros,
+                1_000_000.0 / perUrlMicros
         );
 
         System.out.println(report);
+    }
 
-        // 파일로도 저장
-        try {
-            java.nio.file.Files.write(
-                    java.nio.file.Paths.get("performance-result.txt"),
-                    report.getBytes(),
-                    java.nio.file.StandardOpenOption.CREATE,
-                    java.nio.file.StandardOpenOption.APPEND
-            );
-        } catch (Exception e) {
-            // 무시
-        }
+    private static OciStorageProperties properties() {
+        OciStorageProperties.Auth auth = new OciStorageProperties.Auth();
+        auth.setAccessKey("benchmark-access-key");
+        auth.setSecretKey("benchmark-secret-key");
+
+        OciStorageProperties properties = new OciStorageProperties();
+        properties.setEndpoint(ENDPOINT);
+        properties.setBucketName("benchmark-bucket");
+        properties.setRegion(REGION);
+        properties.setAuth(auth);
+        return properties;
     }
 }
@@ -0,0 +1,63 @@
+package com.sungbok.community.unit.enums;
+
+import com.sungbok.community.enums.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationTypeTest {
+
+  @Test
+  @DisplayName("타입별 비트는 서로 겹치지 않음")
+  void mask_shouldBeUniquePerType() {
+    // When
+    int combined = Arrays.stream(NotificationType.values())
+        .mapToInt(NotificationType::getMask)
+        .reduce(0, (a, b) -> {
+          assertEquals(0, a & b);
+          return a | b;
+        });
+
+    // Then
+    assertEquals(NotificationType.ALL_MASK, combined);
+  }
+
+  @Test
+  @DisplayName("비활성화한 타입만 비트가 꺼짐")
+  void toPreferenceMask_withDisabledType_shouldClearOnlyThatBit() {
+    // Given
+    Map<String, Boolean> preferences = Map.of(
+        "post_comment", false,
+        "post_like", true
+    );
+
+    // When
+    int mask = NotificationType.toPreferenceMask(preferences);
+
+    // Then
+    assertFalse(NotificationType.POST_COMMENT.isEnabledIn(mask));
+    assertTrue(NotificationType.POST_LIKE.isEnabledIn(mask));
+    assertTrue(NotificationType.ADMIN_ANNOUNCEMENT.isEnabledIn(mask));  // 키 없음 → 활성화
+  }
+
+  @Test
+  @DisplayName("설정이 없으면 모든 타입 활성화")
+  void toPreferenceMask_withNull_shouldEnableAll() {
+    // When
+    int mask = NotificationType.toPreferenceMask(null);
+
+    // Then
+    assertEquals(NotificationType.ALL_MASK, mask);
+  }
+
+  @Test
+  @DisplayName("JSONB 키는 타입 이름의 소문자")
+  void preferenceKey_shouldBeLowerSnakeCase() {
+    assertEquals("post_comment", NotificationType.POST_COMMENT.getPreferenceKey());
+    assertEquals("admin_announcement", NotificationType.ADMIN_ANNOUNCEMENT.getPreferenceKey());
+  }
+}
@@ -0,0 +1,145 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.common.exception.SystemException;
+import com.sungbok.community.common.exception.code.SystemErrorCode;
+import com.sungbok.community.dto.FileValidationResult;
+import com.sungbok.community.service.FFmpegService;
+import com.sungbok.community.service.FFprobeExecutor;
+import com.sungbok.community.service.OciStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FFmpegServiceTest {
+
+  private static final String OBJECT_KEY = "orgs/1/post/video.mp4";
+  private static final String PROBE_JSON = """
+      {"format": {"duration": "12.5"},
+       "streams": [{"codec_name": "h264", "width": 1920, "height": 1080}]}
+      """;
+
+  private final OciStorageService ociStorageService = mock(OciStorageService.class);
+  private final FFprobeExecutor ffprobeExecutor = mock(FFprobeExecutor.class);
+  private final FFmpegService service = new FFmpegService(ociStorageService, ffprobeExecutor);
+
+  @BeforeEach
+  void setUp() {
+    when(ociStorageService.generatePresignedDownloadUrl(anyString(), any(Duration.class)))
+        .thenReturn("https://objectstorage.example.com/p/video.mp4");
+    when(ociStorageService.downloadFull(anyString()))
+        .thenAnswer(invocation -> new ByteArrayInputStream(new byte[]{0, 0, 0, 0}));
+  }
+
+  private static FFprobeExecutor.ProbeResult failed(String stderr) {
+    return new FFprobeExecutor.ProbeResult(1, "", stderr, false);
+  }
+
+  private static String protocolWhitelist(List<String> args) {
+    return args.get(args.indexOf("-protocol_whitelist") + 1);
+  }
+
+  @Test
+  @DisplayName("URL 분석 성공 - 메타데이터 추출, 전체 다운로드 없음")
+  void extract_urlProbeSucceeds() {
+    // Given
+    when(ffprobeExecutor.run(anyList())).thenReturn(new FFprobeExecutor.ProbeResult(0, PROBE_JSON, "", false));
+
+    // When
+    FileValidationResult result = service.extractVideoMetadata(OBJECT_KEY);
+
+    // Then
+    assertTrue(result.isValid());
+    assertEquals(12.5, result.getDuration());
+    assertEquals("1920x1080", result.getResolution());
+    assertEquals("h264", result.getCodec());
+    verify(ociStorageService, never()).downloadFull(anyString());
+  }
+
+  @Test
+  @DisplayName("URL 읽기 실패 (HTTP 오류) - 전체 다운로드 후 재시도")
+  void extract_transportErrorFallsBackToDownload() {
+    // Given
+    when(ffprobeExecutor.run(anyList()))
+        .thenReturn(failed("https://...: Server returned 403 Forbidden (access denied)"))
+        .thenReturn(new FFprobeExecutor.ProbeResult(0, PROBE_JSON, "", false));
+
+    // When
+    FileValidationResult result = service.extractVideoMetadata(OBJECT_KEY);
+
+    // Then: URL 분석은 네트워크 프로토콜만, 임시 파일 분석은 file만 허용
+    assertTrue(result.isValid());
+    verify(ociStorageService).downloadFull(OBJECT_KEY);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+    verify(ffprobeExecutor, times(2)).run(args.capture());
+    assertEquals("https,http,tls,tcp", protocolWhitelist(args.getAllValues().get(0)));
+    assertEquals("file", protocolWhitelist(args.getAllValues().get(1)));
+  }
+
+  @Test
+  @DisplayName("형식 오류 - 전체 다운로드 없이 거부")
+  void extract_invalidDataRejectsWithoutDownload() {
+    // Given
+    when(ffprobeExecutor.run(anyList()))
+        .thenReturn(failed("https://...: Invalid data found when processing input"));
+
+    // When
+    FileValidationResult result = service.extractVideoMetadata(OBJECT_KEY);
+
+    // Then
+    assertFalse(result.isValid());
+    verify(ociStorageService, never()).downloadFull(anyString());
+    verify(ffprobeExecutor, times(1)).run(anyList());
+  }
+
+  @Test
+  @DisplayName("분석 시간 초과 - 전체 다운로드 없이 거부")
+  void extract_timeoutRejectsWithoutDownload() {
+    // Given
+    when(ffprobeExecutor.run(anyList())).thenReturn(new FFprobeExecutor.ProbeResult(-1, "", "", true));
+
+    // When
+    FileValidationResult result = service.extractVideoMetadata(OBJECT_KEY);
+
+    // Then
+    assertFalse(result.isValid());
+    verify(ociStorageService, never()).downloadFull(anyString());
+  }
+
+  @Test
+  @DisplayName("출력 파싱 실패 - 전체 다운로드 없이 거부")
+  void extract_unparseableOutputRejectsWithoutDownload() {
+    // Given
+    when(ffprobeExecutor.run(anyList())).thenReturn(new FFprobeExecutor.ProbeResult(0, "{not json", "", false));
+
+    // When
+    FileValidationResult result = service.extractVideoMetadata(OBJECT_KEY);
+
+    // Then
+    assertFalse(result.isValid());
+    verify(ociStorageService, never()).downloadFull(anyString());
+  }
+
+  @Test
+  @DisplayName("대기열 가득 참 - 예외 전파 (작업 큐가 재시도)")
+  void extract_busyPropagates() {
+    // Given
+    when(ffprobeExecutor.run(anyList())).thenThrow(new SystemException(SystemErrorCode.VIDEO_PROBE_BUSY));
+
+    // When & Then
+    SystemException e = assertThrows(SystemException.class, () -> service.extractVideoMetadata(OBJECT_KEY));
+    assertEquals(SystemErrorCode.VIDEO_PROBE_BUSY, e.getErrorCode());
+    verify(ociStorageService, never()).downloadFull(anyString());
+  }
+}
@@ -0,0 +1,107 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.service.FileTypeDetector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileTypeDetectorTest {
+
+  private final FileTypeDetector detector = new FileTypeDetector(new SimpleMeterRegistry());
+
+  @Test
+  @DisplayName("JPEG는 첫 4KB 구간 1회만 요청")
+  void detect_jpegWithSingleSmallRange() {
+    // Given
+    byte[] file = withPadding(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0,
+        0x00, 0x10, 'J', 'F', 'I', 'F', 0x00}, 5 * 1024 * 1024);
+    RecordingSource source = new RecordingSource(file);
+
+    // When
+    String detected = detector.detect(source);
+
+    // Then
+    assertEquals("image/jpeg", detected);
+    assertEquals(List.of("0-4095"), source.ranges);
+  }
+
+  @Test
+  @DisplayName("PDF 감지")
+  void detect_pdf() {
+    // Given
+    byte[] file = withPadding("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), 200_000);
+
+    // When
+    String detected = detector.detect(new RecordingSource(file));
+
+    // Then
+    assertEquals("application/pdf", detected);
+  }
+
+  @Test
+  @DisplayName("판단하지 못하면 이미 받은 구간 뒤만 이어 받음")
+  void detect_extendsWithoutRefetching() {
+    // Given: 시그니처 없는 바이너리
+    byte[] file = new byte[300_000];
+    Arrays.fill(file, (byte) 0x01);
+    RecordingSource source = new RecordingSource(file);
+
+    // When
+    String detected = detector.detect(source);
+
+    // Then
+    assertEquals("application/octet-stream", detected);
+    assertEquals("0-4095", source.ranges.get(0));
+    assertEquals("4096-8191", source.ranges.get(1));
+    assertTrue(source.ranges.size() > 2);
+  }
+
+  @Test
+  @DisplayName("파일이 첫 구간보다 작으면 이어 받지 않음")
+  void detect_smallFileSingleRange() {
+    // Given
+    byte[] file = new byte[100];
+    RecordingSource source = new RecordingSource(file);
+
+    // When
+    detector.detect(source);
+
+    // Then
+    assertEquals(1, source.ranges.size());
+  }
+
+  private static byte[] withPadding(byte[] header, int size) {
+    byte[] file = new byte[size];
+    System.arraycopy(header, 0, file, 0, header.length);
+    return file;
+  }
+
+  /**
+   * Range GET 흉내 (요청 구간 기록)
+   */
+  private static class RecordingSource implements FileTypeDetector.RangeSource {
+
+    private final byte[] file;
+    private final List<String> ranges = new ArrayList<>();
+
+    RecordingSource(byte[] file) {
+      this.file = file;
+    }
+
+    @Override
+    public ByteArrayInputStream open(long startByte, long endByte) {
+      ranges.add(startByte + "-" + endByte);
+      int from = (int) Math.min(startByte, file.length);
+      int to = (int) Math.min(endByte + 1, file.length);
+      return new ByteArrayInputStream(file, from, to - from);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.common.exception.SystemException;
+import com.sungbok.community.common.exception.code.SystemErrorCode;
+import com.sungbok.community.config.FileValidationProperties;
+import com.sungbok.community.repository.FileValidationJobsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.service.FileValidationJobService;
+import com.sungbok.community.service.FileValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.SQLDialect;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FileValidationJobServiceTest {
+
+  private static final long JOB_ID = 10L;
+  private static final long FILE_ID = 20L;
+
+  private final FileValidationJobsRepository jobsRepository = mock(FileValidationJobsRepository.class);
+  private final FilesRepository filesRepository = mock(FilesRepository.class);
+  private final FileValidator fileValidator = mock(FileValidator.class);
+  private final FileValidationProperties properties = new FileValidationProperties();
+  private FileValidationJobService service;
+
+  @BeforeEach
+  void setUp() {
+    properties.setMaxConcurrency(4);
+    properties.setBatchSize(2);
+    properties.setPollIntervalMs(50);
+    properties.setMaxAttempts(3);
+    when(jobsRepository.fetchReadyStats(any())).thenReturn(
+        DSL.using(SQLDialect.POSTGRES)
+            .newRecord(DSL.field("ready", Integer.class), DSL.field("oldest", LocalDateTime.class))
+            .values(0, null));
+    service = new FileValidationJobService(
+        jobsRepository, filesRepository, fileValidator, properties, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.stop();
+  }
+
+  @Test
+  @DisplayName("선점 - 빈 슬롯과 배치 크기 중 작은 만큼 선점 후 검증 완료 시 작업 삭제")
+  void claim_dispatchesAndDeletesCompletedJob() {
+    // Given
+    claimOnce(job(1));
+
+    // When
+    service.start();
+
+    // Then
+    verify(fileValidator, timeout(2000)).validate(argThat(job -> job.getJobId() == JOB_ID));
+    verify(jobsRepository, timeout(2000)).delete(JOB_ID);
+    verify(jobsRepository, atLeastOnce()).claimReady(any(), any(), eq(2));
+    verify(jobsRepository, never()).reschedule(anyLong(), any(), anyString());
+  }
+
+  @Test
+  @DisplayName("일시적 실패 - 시도 횟수에 따른 지수 백오프로 재시도")
+  void failure_reschedulesWithExponentialBackoff() {
+    // Given: 두 번째 시도 실패 → base(10초) * 2
+    claimOnce(job(2));
+    doThrow(new IllegalStateException("OCI timeout")).when(fileValidator).validate(any());
+
+    // When
+    LocalDateTime before = LocalDateTime.now();
+    service.start();
+
+    // Then
+    ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(jobsRepository, timeout(2000)).reschedule(eq(JOB_ID), retryAt.capture(), contains("OCI timeout"));
+    Duration delay = Duration.between(before, retryAt.getValue());
+    assertTrue(delay.compareTo(Duration.ofSeconds(20)) >= 0 && delay.compareTo(Duration.ofSeconds(22)) < 0,
+        "delay=" + delay);
+    verify(filesRepository, never()).updateStatus(anyLong(), anyString());
+  }
+
+  @Test
+  @DisplayName("최대 시도 초과 - REJECTED 후 작업 삭제")
+  void failure_atMaxAttempts_rejects() {
+    // Given
+    claimOnce(job(3));
+    doThrow(new IllegalStateException("OCI timeout")).when(fileValidator).validate(any());
+
+    // When
+    service.start();
+
+    // Then
+    verify(filesRepository, timeout(2000)).updateStatus(FILE_ID, "REJECTED");
+    verify(jobsRepository, timeout(2000)).delete(JOB_ID);
+    verify(jobsRepository, never()).reschedule(anyLong(), any(), anyString());
+  }
+
+  @Test
+  @DisplayName("동영상 검증 대기열 포화 - 최대 시도여도 시도 횟수를 쓰지 않고 재시도")
+  void probeBusy_defersWithoutConsumingAttempt() {
+    // Given
+    claimOnce(job(3));
+    doThrow(new SystemException(SystemErrorCode.VIDEO_PROBE_BUSY)).when(fileValidator).validate(any());
+
+    // When
+    service.start();
+
+    // Then
+    verify(jobsRepository, timeout(2000)).defer(eq(JOB_ID), any());
+    verify(filesRepository, never()).updateStatus(anyLong(), anyString());
+    verify(jobsRepository, never()).delete(anyLong());
+    verify(jobsRepository, never()).reschedule(anyLong(), any(), anyString());
+  }
+
+  private void claimOnce(FileValidationJobs job) {
+    when(jobsRepository.claimReady(any(), any(), anyInt()))
+        .thenReturn(List.of(job))
+        .thenReturn(List.of());
+  }
+
+  private FileValidationJobs job(int attempts) {
+    FileValidationJobs job = new FileValidationJobs();
+    job.setJobId(JOB_ID);
+    job.setOrgId(1L);
+    job.setFileId(FILE_ID);
+    job.setObjectKey("orgs/1/post/video.mp4");
+    job.setMimeType("video/mp4");
+    job.setFileSize(1024L);
+    job.setPriority(2);
+    job.setAttempts(attempts);
+    job.setAvailableAt(LocalDateTime.now());
+    return job;
+  }
+}
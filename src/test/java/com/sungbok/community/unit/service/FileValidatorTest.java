@@ -0,0 +1,116 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.repository.FileContentsRepository;
+import com.sungbok.community.repository.FilesRepository;
+import com.sungbok.community.service.FFmpegService;
+import com.sungbok.community.service.FileTypeDetector;
+import com.sungbok.community.service.FileValidator;
+import com.sungbok.community.service.ImageDerivativeService;
+import com.sungbok.community.service.OciStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.generated.tables.pojos.FileValidationJobs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class FileValidatorTest {
+
+  private static final long FILE_ID = 20L;
+  private static final String OBJECT_KEY = "orgs/1/post/doc.pdf";
+
+  private final FilesRepository filesRepository = mock(FilesRepository.class);
+  private final OciStorageService ociStorageService = mock(OciStorageService.class);
+  private final FileTypeDetector fileTypeDetector = mock(FileTypeDetector.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private FileValidator validator;
+
+  @BeforeEach
+  void setUp() {
+    validator = new FileValidator(
+        mock(FFmpegService.class), filesRepository, ociStorageService, fileTypeDetector,
+        mock(ImageDerivativeService.class), mock(FileContentsRepository.class), meterRegistry);
+    when(fileTypeDetector.detect(any())).thenReturn("application/pdf");
+    when(filesRepository.fetchById(FILE_ID)).thenReturn(Optional.empty());
+  }
+
+  @Test
+  @DisplayName("선언보다 큰 객체 - 내용 검증 없이 REJECTED (예약하지 않은 크기)")
+  void validate_withLargerObject_shouldReject() {
+    // Given
+    FileValidationJobs job = job(1000L);
+    when(ociStorageService.fetchObjectSize(OBJECT_KEY)).thenReturn(1001L);
+
+    // When
+    validator.validate(job);
+
+    // Then
+    verify(filesRepository).updateStatus(FILE_ID, "REJECTED");
+    verify(filesRepository, never()).updateFileSize(anyLong(), anyLong());
+    verify(fileTypeDetector, never()).detect(any());
+  }
+
+  @Test
+  @DisplayName("선언보다 작은 객체 - file_size를 실제 크기로 보정 후 검증 계속")
+  void validate_withSmallerObject_shouldCorrectFileSize() {
+    // Given
+    FileValidationJobs job = job(1000L);
+    when(ociStorageService.fetchObjectSize(OBJECT_KEY)).thenReturn(400L);
+
+    // When
+    validator.validate(job);
+
+    // Then
+    verify(filesRepository).updateFileSize(FILE_ID, 400L);
+    verify(filesRepository).updateStatus(FILE_ID, "VERIFIED");
+    assertEquals(400L, job.getFileSize());
+    assertEquals(1.0, meterRegistry.counter("file.validation.size", "result", "smaller").count());
+  }
+
+  @Test
+  @DisplayName("선언과 같은 크기 - 보정 없이 검증")
+  void validate_withDeclaredSize_shouldNotUpdateFileSize() {
+    // Given
+    FileValidationJobs job = job(1000L);
+    when(ociStorageService.fetchObjectSize(OBJECT_KEY)).thenReturn(1000L);
+
+    // When
+    validator.validate(job);
+
+    // Then
+    verify(filesRepository, never()).updateFileSize(anyLong(), anyLong());
+    verify(filesRepository).updateStatus(FILE_ID, "VERIFIED");
+  }
+
+  @Test
+  @DisplayName("객체 없음 - REJECTED")
+  void validate_withMissingObject_shouldReject() {
+    // Given
+    when(ociStorageService.fetchObjectSize(OBJECT_KEY)).thenReturn(null);
+
+    // When
+    validator.validate(job(1000L));
+
+    // Then
+    verify(filesRepository).updateStatus(FILE_ID, "REJECTED");
+    verify(fileTypeDetector, never()).detect(any());
+  }
+
+  private FileValidationJobs job(long fileSize) {
+    FileValidationJobs job = new FileValidationJobs();
+    job.setJobId(10L);
+    job.setOrgId(1L);
+    job.setFileId(FILE_ID);
+    job.setObjectKey(OBJECT_KEY);
+    job.setMimeType("application/pdf");
+    job.setFileSize(fileSize);
+    job.setAttempts(1);
+    return job;
+  }
+}
@@ -0,0 +1,180 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.service.NotificationCoalescingService;
+import com.sungbok.community.service.NotificationCoalescingService.DueWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationCoalescingServiceTest {
+
+  private static final String PROCESSING_KEY = "notification:coalesce:processing";
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final NotificationProperties properties = new NotificationProperties();
+  private NotificationCoalescingService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new NotificationCoalescingService(redisTemplate, objectMapper, properties, new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("병합 - 행위자 이름이 있으면 '홍길동님 외 N명', 원본 data는 유지하고 병합 건수 추가")
+  void merge_withActorName_shouldSummarizeOthers() {
+    // Given
+    Map<String, Object> data = new HashMap<>(Map.of("postId", 7, "actorName", "홍길동"));
+    NotificationEvent last = like(data);
+
+    // When
+    NotificationEvent merged = service.merge(last, 3);
+
+    // Then
+    assertEquals("홍길동님 외 2명이 회원님의 게시글을 좋아합니다", merged.getBody());
+    assertEquals(3, merged.getData().get(NotificationCoalescingService.DATA_COALESCED_COUNT));
+    assertEquals(7, merged.getData().get("postId"));
+    assertFalse(last.getData().containsKey(NotificationCoalescingService.DATA_COALESCED_COUNT));
+    assertEquals(last.getUserId(), merged.getUserId());
+    assertEquals(last.getRelatedEntityId(), merged.getRelatedEntityId());
+    assertEquals(last.getTitle(), merged.getTitle());
+  }
+
+  @Test
+  @DisplayName("병합 - 행위자 이름과 data가 없으면 'N명이'")
+  void merge_withoutActorName_shouldCountAll() {
+    // Given
+    NotificationEvent last = NotificationEvent.builder()
+        .orgId(1L)
+        .userId(42L)
+        .notificationType(NotificationType.POST_COMMENT)
+        .title("새 댓글")
+        .relatedEntityType("post")
+        .relatedEntityId(7L)
+        .build();
+
+    // When
+    NotificationEvent merged = service.merge(last, 5);
+
+    // Then
+    assertEquals("5명이 회원님의 게시글에 댓글을 남겼습니다", merged.getBody());
+    assertEquals(5, merged.getData().get(NotificationCoalescingService.DATA_COALESCED_COUNT));
+  }
+
+  @Test
+  @DisplayName("선점 - 1건 창은 원본, 2건 이상은 병합 이벤트, 처리 중 키와 lease 반환")
+  void pollDue_shouldReturnClaimedWindows() throws Exception {
+    // Given
+    NotificationEvent single = like(Map.of("actorName", "김철수"));
+    NotificationEvent last = like(Map.of("actorName", "홍길동"));
+    stubClaim(List.of(
+        PROCESSING_KEY + ":1", "1", objectMapper.writeValueAsString(single),
+        PROCESSING_KEY + ":2", "4", objectMapper.writeValueAsString(last)));
+
+    // When
+    List<DueWindow> windows = service.pollDue(10);
+
+    // Then
+    assertEquals(2, windows.size());
+    assertEquals(PROCESSING_KEY + ":1", windows.get(0).processingKey());
+    assertEquals(single.getBody(), windows.get(0).event().getBody());
+    assertEquals("홍길동님 외 3명이 회원님의 게시글을 좋아합니다", windows.get(1).event().getBody());
+    assertTrue(windows.get(1).leaseUntil() > System.currentTimeMillis());
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+  }
+
+  @Test
+  @DisplayName("선점 - 빈 슬롯 수와 maxFlushBatch 중 작은 만큼, 빈 슬롯이 없으면 Valkey 호출 생략")
+  void pollDue_shouldLimitToFreeSlots() {
+    // Given
+    properties.getCoalesce().setMaxFlushBatch(3);
+    stubClaim(List.of());
+
+    // When
+    service.pollDue(10);
+    service.pollDue(2);
+    List<DueWindow> none = service.pollDue(0);
+
+    // Then
+    assertTrue(none.isEmpty());
+    verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString(), eq("3"), anyString());
+    verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString(), anyString(), eq("2"), anyString());
+  }
+
+  @Test
+  @DisplayName("선점 - 역직렬화할 수 없는 창은 재선점되지 않도록 바로 ack")
+  void pollDue_withCorruptWindow_shouldAckAndSkip() {
+    // Given
+    stubClaim(List.of(PROCESSING_KEY + ":1", "2", "{not json"));
+    stubAck(1L);
+
+    // When
+    List<DueWindow> windows = service.pollDue(10);
+
+    // Then
+    assertTrue(windows.isEmpty());
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PROCESSING_KEY, PROCESSING_KEY + ":1")), anyString());
+  }
+
+  @Test
+  @DisplayName("ack - 선점한 lease로 처리 중 키 삭제, Valkey 오류는 전파하지 않음")
+  void ack_shouldPassLeaseAndSwallowErrors() {
+    // Given
+    DueWindow window = new DueWindow(PROCESSING_KEY + ":9", 1_760_000_000_000L, like(Map.of()));
+    stubAck(1L);
+
+    // When
+    service.ack(window);
+
+    // Then
+    verify(redisTemplate).execute(any(RedisScript.class),
+        eq(List.of(PROCESSING_KEY, PROCESSING_KEY + ":9")), eq("1760000000000"));
+
+    // When: Valkey 오류 (lease 만료 후 재발송)
+    doThrow(new IllegalStateException("connection reset"))
+        .when(redisTemplate).execute(any(RedisScript.class), anyList(), anyString());
+
+    // Then
+    assertDoesNotThrow(() -> service.ack(window));
+  }
+
+  private void stubClaim(List<String> result) {
+    doReturn(result).when(redisTemplate)
+        .execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString());
+  }
+
+  private void stubAck(Long result) {
+    doReturn(result).when(redisTemplate).execute(any(RedisScript.class), anyList(), anyString());
+  }
+
+  private NotificationEvent like(Map<String, Object> data) {
+    return NotificationEvent.builder()
+        .orgId(1L)
+        .userId(42L)
+        .notificationType(NotificationType.POST_LIKE)
+        .title("좋아요")
+        .body("회원님의 게시글을 좋아합니다")
+        .relatedEntityType("post")
+        .relatedEntityId(7L)
+        .data(data)
+        .build();
+  }
+}
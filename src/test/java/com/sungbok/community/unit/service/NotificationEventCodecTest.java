@@ -0,0 +1,106 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationQueueCodec;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.service.NotificationEventCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationEventCodecTest {
+
+  private final NotificationEventCodec codec =
+      new NotificationEventCodec(new ObjectMapper(), new NotificationProperties());
+
+  @Test
+  @DisplayName("BINARY 인코딩 후 디코딩하면 모든 필드가 유지됨")
+  void binary_shouldRoundTrip() {
+    // Given
+    NotificationEvent event = sampleEvent(Map.of("postId", 123, "actorName", "홍길동"));
+
+    // When
+    NotificationEvent decoded = codec.decode(codec.encode(event, NotificationQueueCodec.BINARY));
+
+    // Then
+    assertSameEvent(event, decoded);
+  }
+
+  @Test
+  @DisplayName("압축 기준을 넘는 data도 BINARY 왕복 후 동일")
+  void binary_shouldRoundTripDeflatedData() {
+    // Given
+    NotificationEvent event = sampleEvent(Map.of("preview", "공지 미리보기 ".repeat(100)));
+
+    // When
+    NotificationEvent decoded = codec.decode(codec.encode(event, NotificationQueueCodec.BINARY));
+
+    // Then
+    assertSameEvent(event, decoded);
+  }
+
+  @Test
+  @DisplayName("기존 JSON 페이로드도 그대로 디코딩 (롤링 배포 호환)")
+  void decode_shouldReadLegacyJson() {
+    // Given
+    byte[] legacy = """
+        {"orgId":1,"userId":42,"notificationType":"POST_LIKE","title":"좋아요","body":"본문"}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    // When
+    NotificationEvent decoded = codec.decode(legacy);
+
+    // Then
+    assertEquals(42L, decoded.getUserId());
+    assertEquals(NotificationType.POST_LIKE, decoded.getNotificationType());
+    assertNull(decoded.getEnqueuedAt());
+  }
+
+  @Test
+  @DisplayName("BINARY가 JSON보다 작음")
+  void binary_shouldBeSmallerThanJson() {
+    // Given
+    NotificationEvent event = sampleEvent(Map.of("postId", 123));
+
+    // When
+    int json = codec.encode(event, NotificationQueueCodec.JSON).length;
+    int binary = codec.encode(event, NotificationQueueCodec.BINARY).length;
+
+    // Then
+    assertTrue(binary < json, "binary=" + binary + ", json=" + json);
+  }
+
+  private NotificationEvent sampleEvent(Map<String, Object> data) {
+    NotificationEvent event = NotificationEvent.builder()
+        .orgId(1L)
+        .userId(123_456L)
+        .notificationType(NotificationType.ADMIN_ANNOUNCEMENT)
+        .title("주일 예배 안내")
+        .body("이번 주 예배는 11시에 시작합니다")
+        .relatedEntityType("announcement")
+        .relatedEntityId(987L)
+        .data(data)
+        .build();
+    event.setEnqueuedAt(1_760_000_000_000L);
+    return event;
+  }
+
+  private void assertSameEvent(NotificationEvent expected, NotificationEvent actual) {
+    assertEquals(expected.getOrgId(), actual.getOrgId());
+    assertEquals(expected.getUserId(), actual.getUserId());
+    assertEquals(expected.getNotificationType(), actual.getNotificationType());
+    assertEquals(expected.getTitle(), actual.getTitle());
+    assertEquals(expected.getBody(), actual.getBody());
+    assertEquals(expected.getRelatedEntityType(), actual.getRelatedEntityType());
+    assertEquals(expected.getRelatedEntityId(), actual.getRelatedEntityId());
+    assertEquals(expected.getData(), actual.getData());
+    assertEquals(expected.getScheduledAt(), actual.getScheduledAt());
+    assertEquals(expected.getEnqueuedAt(), actual.getEnqueuedAt());
+  }
+}
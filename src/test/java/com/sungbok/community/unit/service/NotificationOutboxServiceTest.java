@@ -0,0 +1,145 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.event.NotificationEvent;
+import com.sungbok.community.enums.NotificationType;
+import com.sungbok.community.repository.NotificationOutboxRepository;
+import com.sungbok.community.service.NotificationOutboxService;
+import com.sungbok.community.service.RedisQueueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.JSONB;
+import org.jooq.generated.tables.pojos.NotificationOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxServiceTest {
+
+  private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+  private final RedisQueueService queueService = mock(RedisQueueService.class);
+  private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  private final DataSource dataSource = mock(DataSource.class);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final NotificationProperties properties = new NotificationProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private NotificationOutboxService service;
+
+  @BeforeEach
+  void setUp() {
+    properties.getOutbox().setBatchSize(2);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    service = new NotificationOutboxService(
+        outboxRepository, queueService, transactionTemplate, objectMapper, properties, meterRegistry, dataSource);
+  }
+
+  @Test
+  @DisplayName("전달 - 배치가 가득 차면 대기 없이 다음 배치, 큐 적재 후 같은 트랜잭션에서 삭제")
+  void relayPending_shouldEnqueueThenDeleteUntilBatchIsNotFull() {
+    // Given
+    when(outboxRepository.lockBatch(2))
+        .thenReturn(List.of(row(1L, 101L), row(2L, 102L)))
+        .thenReturn(List.of(row(3L, 103L)));
+
+    // When
+    int relayed = service.relayPending();
+
+    // Then
+    assertEquals(3, relayed);
+    verify(outboxRepository, times(2)).lockBatch(2);
+    ArgumentCaptor<List<NotificationEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(queueService, times(2)).enqueueAll(events.capture());
+    assertEquals(List.of(101L, 102L), events.getAllValues().get(0).stream().map(NotificationEvent::getUserId).toList());
+    assertEquals(List.of(103L), events.getAllValues().get(1).stream().map(NotificationEvent::getUserId).toList());
+    verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+    verify(outboxRepository).deleteByIds(List.of(3L));
+    assertEquals(3.0, meterRegistry.counter("notification.outbox.relayed").count());
+  }
+
+  @Test
+  @DisplayName("재시도 - 큐 적재 실패 시 삭제하지 않고 예외 전파 (롤백되어 다음 주기에 다시 선점)")
+  void relayPending_whenEnqueueFails_shouldKeepRowsForRetry() {
+    // Given
+    when(outboxRepository.lockBatch(2)).thenReturn(List.of(row(1L, 101L)));
+    doThrow(new IllegalStateException("Valkey down"))
+        .doNothing()
+        .when(queueService).enqueueAll(anyList());
+
+    // When & Then: 첫 시도 실패
+    assertThrows(IllegalStateException.class, () -> service.relayPending());
+    verify(outboxRepository, never()).deleteByIds(anyList());
+
+    // When: 다음 주기
+    int relayed = service.relayPending();
+
+    // Then
+    assertEquals(1, relayed);
+    verify(queueService, times(2)).enqueueAll(anyList());
+    verify(outboxRepository).deleteByIds(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("역직렬화 불가 행 - 큐에 넣지 않고 함께 삭제 (배치가 막히지 않도록)")
+  void relayPending_withCorruptRow_shouldDiscardIt() {
+    // Given
+    NotificationOutbox corrupt = row(2L, 102L);
+    corrupt.setPayload(JSONB.valueOf("{\"notificationType\": \"UNKNOWN_TYPE\"}"));
+    when(outboxRepository.lockBatch(2)).thenReturn(List.of(row(1L, 101L), corrupt)).thenReturn(List.of());
+
+    // When
+    service.relayPending();
+
+    // Then
+    ArgumentCaptor<List<NotificationEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(queueService).enqueueAll(events.capture());
+    assertEquals(1, events.getValue().size());
+    verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("비활성화 - relayEnabled=false면 Relay 스레드와 LISTEN 커넥션을 만들지 않음")
+  void startRelay_whenDisabled_shouldNotStart() throws Exception {
+    // Given
+    properties.getOutbox().setRelayEnabled(false);
+
+    // When
+    service.startRelay();
+    service.stopRelay();
+
+    // Then
+    verify(outboxRepository, never()).lockBatch(anyInt());
+    verify(dataSource, never()).getConnection();
+  }
+
+  private NotificationOutbox row(Long outboxId, Long userId) {
+    NotificationEvent event = NotificationEvent.builder()
+        .orgId(1L)
+        .userId(userId)
+        .notificationType(NotificationType.MEMBERSHIP_APPROVED)
+        .title("가입 승인")
+        .body("가입이 승인되었습니다")
+        .build();
+
+    NotificationOutbox outbox = new NotificationOutbox();
+    outbox.setOutboxId(outboxId);
+    outbox.setOrgId(1L);
+    outbox.setPayload(JSONB.valueOf(objectMapper.writeValueAsString(event)));
+    outbox.setCreatedAt(LocalDateTime.now());
+    return outbox;
+  }
+}
@@ -0,0 +1,124 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.repository.PushTokensRepository;
+import com.sungbok.community.service.PushReceiptService;
+import com.sungbok.community.service.ValkeyNotificationCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PushReceiptServiceTest {
+
+  private static final String PENDING_KEY = "notification:receipts:pending";
+  private static final String TICKETS_KEY = "notification:receipts:tickets";
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  @SuppressWarnings("unchecked")
+  private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+  private final RestTemplate restTemplate = mock(RestTemplate.class);
+  private final NotificationsRepository notificationsRepository = mock(NotificationsRepository.class);
+  private final NotificationProperties properties = new NotificationProperties();
+  private PushReceiptService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new PushReceiptService(redisTemplate, restTemplate, new ObjectMapper(), notificationsRepository,
+        mock(PushTokensRepository.class), mock(ValkeyNotificationCacheService.class), properties,
+        new SimpleMeterRegistry());
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+  }
+
+  @Test
+  @DisplayName("선점 - lease 점수로 바꿔 두고, 완료 영수증은 같은 lease로 삭제, 미준비 영수증은 재조회 시각으로")
+  void pollReceipts_shouldLeaseThenAckAfterProcessing() {
+    // Given: r1 완료, r2 미준비
+    stubClaim("r1", "r2");
+    stubTickets("1:10:" + System.currentTimeMillis() + ":tokenA", "1:11:" + System.currentTimeMillis() + ":tokenB");
+    stubReceipts("{\"data\":{\"r1\":{\"status\":\"ok\"}}}");
+
+    // When
+    service.pollReceipts();
+
+    // Then
+    ArgumentCaptor<Object> claimArgs = ArgumentCaptor.forClass(Object.class);
+    verify(redisTemplate, atLeastOnce()).execute(any(RedisScript.class), eq(List.of(PENDING_KEY)),
+        claimArgs.capture(), claimArgs.capture(), claimArgs.capture());
+    String leaseUntil = claimArgs.getAllValues().get(2).toString();
+    assertTrue(Long.parseLong(leaseUntil) > System.currentTimeMillis());
+
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PENDING_KEY, TICKETS_KEY)),
+        eq(leaseUntil), eq("r1"));
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PENDING_KEY)),
+        eq(leaseUntil), anyString(), eq("r2"));
+  }
+
+  @Test
+  @DisplayName("처리 중 예외 - 선점한 영수증과 티켓을 지우지 않음 (lease 만료 후 재선점)")
+  void pollReceipts_whenProcessingFails_shouldKeepLeasedReceipts() {
+    // Given
+    stubClaim("r1");
+    stubTickets("1:10:" + System.currentTimeMillis() + ":tokenA");
+    stubReceipts("{\"data\":{\"r1\":{\"status\":\"error\",\"details\":{\"error\":\"MessageTooBig\"}}}}");
+    doThrow(new IllegalStateException("DB down"))
+        .when(notificationsRepository).applyReceiptFailures(anyLong(), anyMap(), any(), anyString());
+
+    // When
+    service.pollReceipts();
+
+    // Then
+    verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(PENDING_KEY, TICKETS_KEY)),
+        anyString(), eq("r1"));
+    verify(hashOperations, never()).delete(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("티켓 정보 없는 영수증 - 다시 선점되지 않도록 바로 삭제")
+  void pollReceipts_withMissingTicket_shouldAck() {
+    // Given
+    stubClaim("r1");
+    stubTickets((String) null);
+
+    // When
+    service.pollReceipts();
+
+    // Then
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PENDING_KEY, TICKETS_KEY)),
+        anyString(), eq("r1"));
+    verifyNoInteractions(restTemplate);
+  }
+
+  private void stubClaim(String... receiptIds) {
+    doReturn(List.of(receiptIds)).doReturn(List.of()).when(redisTemplate)
+        .execute(any(RedisScript.class), eq(List.of(PENDING_KEY)), anyString(), anyString(), anyString());
+  }
+
+  private void stubTickets(String... values) {
+    when(hashOperations.multiGet(eq(TICKETS_KEY), anyList())).thenReturn(Arrays.asList((Object[]) values));
+  }
+
+  private void stubReceipts(String body) {
+    when(restTemplate.postForEntity(anyString(), any(), eq(String.class))).thenReturn(ResponseEntity.ok(body));
+  }
+}
@@ -0,0 +1,114 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.config.NotificationProperties;
+import com.sungbok.community.dto.PushStatusUpdate;
+import com.sungbok.community.repository.NotificationsRepository;
+import com.sungbok.community.service.PushStatusWriteBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.generated.enums.PushStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PushStatusWriteBufferTest {
+
+  private final NotificationsRepository repository = mock(NotificationsRepository.class);
+  private final NotificationProperties properties = new NotificationProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private PushStatusWriteBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    buffer = new PushStatusWriteBuffer(repository, properties, meterRegistry);
+    buffer.registerMetrics();
+  }
+
+  @Test
+  @DisplayName("같은 알림의 변경은 병합되어 UPDATE 1건 (OK 우선, 상세는 최신)")
+  void flush_coalescesUpdatesPerNotification() {
+    // Given
+    buffer.submit(update(1L, PushStatus.OK, "{\"d\":1}", 1));
+    buffer.submit(update(1L, PushStatus.ERROR, "{\"d\":2}", 2));
+    buffer.submit(update(2L, PushStatus.ERROR, null, 1));
+
+    // When
+    buffer.flush();
+
+    // Then
+    List<PushStatusUpdate> batch = captureBatches(1).get(0);
+    assertEquals(2, batch.size());
+    PushStatusUpdate merged = find(batch, 1L);
+    assertEquals(PushStatus.OK, merged.status());
+    assertEquals("{\"d\":2}", merged.pushDetailJson());
+    assertEquals(at(2), merged.sentAt());
+  }
+
+  @Test
+  @DisplayName("저장 실패 시 flush 중 들어온 새 변경이 재시도 값보다 우선")
+  void flush_onFailure_newerUpdateWins() {
+    // Given: 첫 저장 중 같은 알림의 새 변경이 들어오고 저장 실패
+    buffer.submit(update(1L, PushStatus.ERROR, "{\"d\":\"old\"}", 1));
+    doAnswer(invocation -> {
+      buffer.submit(update(1L, PushStatus.INVALID_TOKEN, "{\"d\":\"new\"}", 2));
+      throw new IllegalStateException("DB down");
+    }).doReturn(1).when(repository).updatePushStatusBatch(anyList());
+
+    // When
+    buffer.flush();
+    buffer.flush();
+
+    // Then: 재시도 배치는 새 변경 기준
+    PushStatusUpdate retried = captureBatches(2).get(1).get(0);
+    assertEquals(PushStatus.INVALID_TOKEN, retried.status());
+    assertEquals("{\"d\":\"new\"}", retried.pushDetailJson());
+    assertEquals(at(2), retried.sentAt());
+  }
+
+  @Test
+  @DisplayName("DB 장애가 계속되면 보관 한도를 넘는 변경은 버림")
+  void submit_whileDbDown_capsPending() {
+    // Given
+    properties.getPushStatus().setMaxPending(1_000);
+    properties.getPushStatus().setMaxRetained(3);
+    when(repository.updatePushStatusBatch(anyList())).thenThrow(new IllegalStateException("DB down"));
+
+    // When
+    for (long id = 1; id <= 5; id++) {
+      buffer.submit(update(id, PushStatus.OK, null, 1));
+    }
+    buffer.flush();
+    buffer.submit(update(1L, PushStatus.OK, null, 2));  // 이미 있는 알림은 병합
+
+    // Then
+    assertEquals(3.0, meterRegistry.get("notification.push.status.pending").gauge().value(), 0.0);
+    assertEquals(2.0, meterRegistry.get("notification.push.status.dropped").counter().count(), 0.0);
+  }
+
+  private List<List<PushStatusUpdate>> captureBatches(int times) {
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<PushStatusUpdate>> captor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(times)).updatePushStatusBatch(captor.capture());
+    return new ArrayList<>(captor.getAllValues());
+  }
+
+  private static PushStatusUpdate find(List<PushStatusUpdate> batch, Long notificationId) {
+    return batch.stream().filter(u -> u.notificationId().equals(notificationId)).findFirst().orElseThrow();
+  }
+
+  private static PushStatusUpdate update(Long notificationId, PushStatus status, String detail, int minute) {
+    return new PushStatusUpdate(1L, notificationId, status, status == PushStatus.OK ? null : "error", detail, at(minute));
+  }
+
+  private static LocalDateTime at(int minute) {
+    return LocalDateTime.of(2025, 12, 1, 9, minute);
+  }
+}
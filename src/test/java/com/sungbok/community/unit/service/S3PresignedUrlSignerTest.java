@@ -0,0 +1,128 @@
+package com.sungbok.community.unit.service;
+
+import com.sungbok.community.config.OciStorageProperties;
+import com.sungbok.community.service.S3PresignedUrlSigner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3PresignedUrlSignerTest {
+
+  private static final String ENDPOINT = "https://testns.compat.objectstorage.ap-seoul-1.oraclecloud.com";
+  private static final String BUCKET = "dev-sungbok-files";
+  private static final String REGION = "ap-seoul-1";
+  private static final String ACCESS_KEY = "test-access-key";
+  private static final String SECRET_KEY = "test-secret-key";
+
+  private final S3PresignedUrlSigner signer = new S3PresignedUrlSigner(properties());
+  private final S3Presigner sdkPresigner = S3Presigner.builder()
+      .region(Region.of(REGION))
+      .endpointOverride(URI.create(ENDPOINT))
+      .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+      .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+      .build();
+
+  @AfterEach
+  void tearDown() {
+    sdkPresigner.close();
+  }
+
+  @Test
+  @DisplayName("S3Presigner와 같은 URL 생성")
+  void presignGetObject_matchesSdk() {
+    assertMatchesSdk("1/post/2025/12/550e8400-e29b-41d4-a716-446655440000.jpg");
+  }
+
+  @Test
+  @DisplayName("공백/한글/특수문자 키도 S3Presigner와 같게 인코딩")
+  void presignGetObject_encodesLikeSdk() {
+    assertMatchesSdk("1/post/2025/12/사진 (1)+a~b=c.jpg");
+  }
+
+  @Test
+  @DisplayName("같은 입력은 같은 URL, 날짜가 바뀌면 다른 서명")
+  void presignGetObject_reusesSigningKeyPerDay() {
+    // Given
+    String objectKey = "1/post/2025/12/a.jpg";
+    Instant day1 = Instant.parse("2025-12-01T23:59:59Z");
+    Instant day2 = Instant.parse("2025-12-02T00:00:00Z");
+
+    // When
+    String first = signer.presignGetObject(objectKey, Duration.ofHours(1), day1);
+    String second = signer.presignGetObject(objectKey, Duration.ofHours(1), day1);
+    String nextDay = signer.presignGetObject(objectKey, Duration.ofHours(1), day2);
+
+    // Then
+    assertEquals(first, second);
+    assertNotEquals(query(first).get("X-Amz-Signature"), query(nextDay).get("X-Amz-Signature"));
+    assertTrue(nextDay.contains("20251202%2Fap-seoul-1%2Fs3%2Faws4_request"));
+  }
+
+  @Test
+  @DisplayName("만료 시간이 1초 ~ 7일 범위를 벗어나면 예외")
+  void presignGetObject_invalidExpiration() {
+    Instant now = Instant.now();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> signer.presignGetObject("a.jpg", Duration.ZERO, now));
+    assertThrows(IllegalArgumentException.class,
+        () -> signer.presignGetObject("a.jpg", Duration.ofDays(8), now));
+  }
+
+  private void assertMatchesSdk(String objectKey) {
+    // Given: SDK가 서명한 시각으로 같은 키 서명
+    String sdkUrl = sdkPresigner.presignGetObject(GetObjectPresignRequest.builder()
+            .getObjectRequest(GetObjectRequest.builder().bucket(BUCKET).key(objectKey).build())
+            .signatureDuration(Duration.ofHours(1))
+            .build())
+        .url().toString();
+    Instant signedAt = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC)
+        .parse(query(sdkUrl).get("X-Amz-Date"), Instant::from);
+
+    // When
+    String url = signer.presignGetObject(objectKey, Duration.ofHours(1), signedAt);
+
+    // Then: 경로와 쿼리 파라미터(서명 포함)가 같음 (파라미터 순서만 다를 수 있음)
+    assertEquals(sdkUrl.substring(0, sdkUrl.indexOf('?')), url.substring(0, url.indexOf('?')));
+    assertEquals(query(sdkUrl), query(url));
+  }
+
+  private static Map<String, String> query(String url) {
+    Map<String, String> params = new TreeMap<>();
+    for (String param : url.substring(url.indexOf('?') + 1).split("&")) {
+      int eq = param.indexOf('=');
+      params.put(param.substring(0, eq), param.substring(eq + 1));
+    }
+    return params;
+  }
+
+  private static OciStorageProperties properties() {
+    OciStorageProperties.Auth auth = new OciStorageProperties.Auth();
+    auth.setAccessKey(ACCESS_KEY);
+    auth.setSecretKey(SECRET_KEY);
+
+    OciStorageProperties properties = new OciStorageProperties();
+    properties.setEndpoint(ENDPOINT);
+    properties.setBucketName(BUCKET);
+    properties.setRegion(REGION);
+    properties.setAuth(auth);
+    return properties;
+  }
+}
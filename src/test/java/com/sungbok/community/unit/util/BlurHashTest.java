@@ -0,0 +1,86 @@
+package com.sungbok.community.unit.util;
+
+import com.sungbok.community.util.BlurHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlurHashTest {
+
+  @Test
+  @DisplayName("단색 이미지는 DC 성분에 색상이 그대로 인코딩됨")
+  void encode_withSolidColor_shouldEncodeAverageColor() {
+    // Given & When & Then
+    assertEquals("00TSUA", BlurHash.encode(solid(Color.WHITE), 1, 1));
+    assertEquals("000000", BlurHash.encode(solid(Color.BLACK), 1, 1));
+    assertEquals("00TI:j", BlurHash.encode(solid(Color.RED), 1, 1));
+  }
+
+  @Test
+  @DisplayName("4x3 성분은 28자 (크기 플래그 L)")
+  void encode_with4x3Components_shouldReturn28Characters() {
+    // Given
+    BufferedImage image = halfFilled(true);
+
+    // When
+    String hash = BlurHash.encode(image, 4, 3);
+
+    // Then
+    assertEquals(28, hash.length());
+    assertEquals('L', hash.charAt(0));
+  }
+
+  @Test
+  @DisplayName("색 배치가 다르면 다른 해시")
+  void encode_withDifferentLayout_shouldDiffer() {
+    // Given
+    BufferedImage leftRed = halfFilled(true);
+    BufferedImage topRed = halfFilled(false);
+
+    // When
+    String leftHash = BlurHash.encode(leftRed, 4, 3);
+    String topHash = BlurHash.encode(topRed, 4, 3);
+
+    // Then
+    assertNotEquals(leftHash, topHash);
+    assertEquals(leftHash.substring(2, 6), topHash.substring(2, 6));  // 평균 색상은 같음
+  }
+
+  @Test
+  @DisplayName("성분 수가 1~9를 벗어나면 예외")
+  void encode_withInvalidComponents_shouldThrow() {
+    // Given
+    BufferedImage image = solid(Color.WHITE);
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> BlurHash.encode(image, 0, 3));
+    assertThrows(IllegalArgumentException.class, () -> BlurHash.encode(image, 4, 10));
+  }
+
+  private BufferedImage solid(Color color) {
+    BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(color);
+    graphics.fillRect(0, 0, 8, 8);
+    graphics.dispose();
+    return image;
+  }
+
+  private BufferedImage halfFilled(boolean vertical) {
+    BufferedImage image = solid(Color.WHITE);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.RED);
+    if (vertical) {
+      graphics.fillRect(0, 0, 4, 8);
+    } else {
+      graphics.fillRect(0, 0, 8, 4);
+    }
+    graphics.dispose();
+    return image;
+  }
+}
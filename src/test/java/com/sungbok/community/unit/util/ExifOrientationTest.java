@@ -0,0 +1,130 @@
+package com.sungbok.community.unit.util;
+
+import com.sungbok.community.util.ExifOrientation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExifOrientationTest {
+
+  private static final int A = 0xFF0000;
+  private static final int B = 0x0000FF;
+
+  @Test
+  @DisplayName("리틀/빅 엔디언 TIFF 모두 Orientation 태그를 읽음")
+  void parse_withBothByteOrders_shouldReadOrientation() {
+    // Given & When & Then
+    assertEquals(6, ExifOrientation.parse(app1(true, 6)));
+    assertEquals(8, ExifOrientation.parse(app1(false, 8)));
+  }
+
+  @Test
+  @DisplayName("EXIF가 아니거나 잘린 데이터, 범위 밖 값은 1")
+  void parse_withInvalidData_shouldReturnNormal() {
+    // Given
+    byte[] truncated = new byte[20];
+    System.arraycopy(app1(true, 6), 0, truncated, 0, truncated.length);
+
+    // When & Then
+    assertEquals(1, ExifOrientation.parse(null));
+    assertEquals(1, ExifOrientation.parse("http://ns.adobe.com/xap/1.0/".getBytes()));
+    assertEquals(1, ExifOrientation.parse(truncated));
+    assertEquals(1, ExifOrientation.parse(app1(true, 9)));
+  }
+
+  @Test
+  @DisplayName("6(시계 90°) - 가로 2x1이 세로 1x2가 되고 왼쪽 픽셀이 위로")
+  void apply_withRotate90_shouldSwapDimensions() {
+    // Given
+    BufferedImage image = twoPixels();
+
+    // When
+    BufferedImage oriented = ExifOrientation.apply(image, 6);
+
+    // Then
+    assertEquals(1, oriented.getWidth());
+    assertEquals(2, oriented.getHeight());
+    assertEquals(A, rgb(oriented, 0, 0));
+    assertEquals(B, rgb(oriented, 0, 1));
+    assertTrue(ExifOrientation.swapsDimensions(6));
+  }
+
+  @Test
+  @DisplayName("8(반시계 90°), 3(180°), 2(좌우 반전) 픽셀 배치")
+  void apply_withOtherOrientations_shouldMovePixels() {
+    // Given
+    BufferedImage image = twoPixels();
+
+    // When
+    BufferedImage rotated270 = ExifOrientation.apply(image, 8);
+    BufferedImage rotated180 = ExifOrientation.apply(image, 3);
+    BufferedImage mirrored = ExifOrientation.apply(image, 2);
+
+    // Then
+    assertEquals(B, rgb(rotated270, 0, 0));
+    assertEquals(A, rgb(rotated270, 0, 1));
+    assertEquals(B, rgb(rotated180, 0, 0));
+    assertEquals(A, rgb(rotated180, 1, 0));
+    assertEquals(B, rgb(mirrored, 0, 0));
+    assertEquals(A, rgb(mirrored, 1, 0));
+    assertFalse(ExifOrientation.swapsDimensions(3));
+  }
+
+  @Test
+  @DisplayName("1은 원본 그대로")
+  void apply_withNormal_shouldReturnSameImage() {
+    // Given
+    BufferedImage image = twoPixels();
+
+    // When & Then
+    assertSame(image, ExifOrientation.apply(image, 1));
+  }
+
+  private BufferedImage twoPixels() {
+    BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+    image.setRGB(0, 0, A);
+    image.setRGB(1, 0, B);
+    return image;
+  }
+
+  private int rgb(BufferedImage image, int x, int y) {
+    return image.getRGB(x, y) & 0xFFFFFF;
+  }
+
+  /**
+   * "Exif\0\0" + TIFF 헤더 + IFD0 (엔트리 2개: ImageWidth, Orientation)
+   */
+  private byte[] app1(boolean littleEndian, int orientation) {
+    byte[] data = new byte[6 + 8 + 2 + 12 * 2 + 4];
+    System.arraycopy(new byte[] {'E', 'x', 'i', 'f', 0, 0}, 0, data, 0, 6);
+    data[6] = data[7] = (byte) (littleEndian ? 'I' : 'M');
+    putShort(data, 8, 42, littleEndian);
+    putInt(data, 10, 8, littleEndian);
+    putShort(data, 14, 2, littleEndian);
+    // ImageWidth (0x0100, LONG)
+    putShort(data, 16, 0x0100, littleEndian);
+    putShort(data, 18, 4, littleEndian);
+    putInt(data, 20, 1, littleEndian);
+    putInt(data, 24, 4032, littleEndian);
+    // Orientation (0x0112, SHORT)
+    putShort(data, 28, 0x0112, littleEndian);
+    putShort(data, 30, 3, littleEndian);
+    putInt(data, 32, 1, littleEndian);
+    putShort(data, 36, orientation, littleEndian);
+    return data;
+  }
+
+  private void putShort(byte[] data, int offset, int value, boolean littleEndian) {
+    data[offset + (littleEndian ? 0 : 1)] = (byte) value;
+    data[offset + (littleEndian ? 1 : 0)] = (byte) (value >> 8);
+  }
+
+  private void putInt(byte[] data, int offset, int value, boolean littleEndian) {
+    for (int i = 0; i < 4; i++) {
+      data[offset + (littleEndian ? i : 3 - i)] = (byte) (value >> (8 * i));
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.sungbok.community.unit.util;
+
+import com.sungbok.community.util.WeightedRoundRobin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedRoundRobinTest {
+
+  private enum Lane { HIGH, NORMAL, BULK }
+
+  @Test
+  @DisplayName("한 주기 동안 가중치 비율대로 선택")
+  void next_shouldFollowWeightsPerCycle() {
+    // Given
+    WeightedRoundRobin<Lane> selector = new WeightedRoundRobin<>(weights(6, 3, 1));
+    Map<Lane, Integer> counts = new EnumMap<>(Lane.class);
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      counts.merge(selector.next(), 1, Integer::sum);
+    }
+
+    // Then
+    assertEquals(6, counts.get(Lane.HIGH));
+    assertEquals(3, counts.get(Lane.NORMAL));
+    assertEquals(1, counts.get(Lane.BULK));  // 가장 낮은 가중치도 굶지 않음
+  }
+
+  @Test
+  @DisplayName("가중치 0 항목은 선택되지 않음")
+  void next_withZeroWeight_shouldSkipItem() {
+    // Given
+    WeightedRoundRobin<Lane> selector = new WeightedRoundRobin<>(weights(1, 0, 1));
+
+    // When & Then
+    for (int i = 0; i < 10; i++) {
+      assertNotEquals(Lane.NORMAL, selector.next());
+    }
+  }
+
+  @Test
+  @DisplayName("양수 가중치가 없으면 예외")
+  void constructor_withoutPositiveWeight_shouldThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new WeightedRoundRobin<>(weights(0, 0, 0)));
+  }
+
+  private Map<Lane, Integer> weights(int high, int normal, int bulk) {
+    Map<Lane, Integer> weights = new LinkedHashMap<>();
+    weights.put(Lane.HIGH, high);
+    weights.put(Lane.NORMAL, normal);
+    weights.put(Lane.BULK, bulk);
+    return weights;
+  }
+}